@@ -0,0 +1,60 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.config.CitrusSpringConfig;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base benchmark state loading the default Citrus Spring configuration once per benchmark trial. Subclasses
+ * get a test context with all default functions, validation matchers and message validators registered.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public abstract class AbstractCitrusBenchmark {
+
+    /** Citrus Spring application context */
+    protected AnnotationConfigApplicationContext applicationContext;
+
+    /** Test context factory and context used in benchmarks */
+    protected TestContextFactory testContextFactory;
+    protected TestContext context;
+
+    @Setup(Level.Trial)
+    public void setupContext() {
+        applicationContext = new AnnotationConfigApplicationContext(CitrusSpringConfig.class);
+        testContextFactory = TestContextFactory.newInstance(applicationContext);
+        context = testContextFactory.getObject();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeContext() {
+        applicationContext.close();
+    }
+}
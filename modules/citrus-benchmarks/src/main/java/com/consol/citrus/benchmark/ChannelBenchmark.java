@@ -0,0 +1,104 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.channel.*;
+import com.consol.citrus.channel.selector.HeaderMatchingMessageSelector;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.messaging.SelectiveConsumer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.integration.support.MessageBuilder;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmarks selective receive on message selecting queue channel and the request reply loop through channel endpoint adapter.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ChannelBenchmark extends AbstractCitrusBenchmark {
+
+    /** Number of non matching messages waiting in the queue */
+    @Param({ "0", "100" })
+    private int queued;
+
+    private MessageSelectingQueueChannel selectingChannel;
+    private HeaderMatchingMessageSelector selector;
+
+    private ChannelEndpointAdapter endpointAdapter;
+    private ExecutorService responder;
+    private volatile boolean running;
+
+    @Setup(Level.Trial)
+    public void setupChannels() {
+        selectingChannel = new MessageSelectingQueueChannel();
+        for (int i = 0; i < queued; i++) {
+            selectingChannel.send(MessageBuilder.withPayload("other").setHeader("operation", "other").build());
+        }
+        selector = new HeaderMatchingMessageSelector("operation", "sayHello", context);
+
+        ChannelSyncEndpointConfiguration endpointConfiguration = new ChannelSyncEndpointConfiguration();
+        endpointConfiguration.setChannel(new MessageSelectingQueueChannel());
+        endpointConfiguration.setTimeout(5000L);
+        endpointAdapter = new ChannelEndpointAdapter(endpointConfiguration);
+        endpointAdapter.setTestContextFactory(testContextFactory);
+
+        running = true;
+        responder = Executors.newSingleThreadExecutor();
+        responder.execute(this::respond);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownResponder() throws InterruptedException {
+        running = false;
+        responder.shutdownNow();
+        responder.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Benchmark
+    public Object selectiveReceive() {
+        selectingChannel.send(MessageBuilder.withPayload("Hello").setHeader("operation", "sayHello").build());
+        return selectingChannel.receive(selector);
+    }
+
+    @Benchmark
+    public Message requestReply() {
+        return endpointAdapter.handleMessage(new DefaultMessage("<TestRequest><Message>Hello Citrus!</Message></TestRequest>"));
+    }
+
+    /**
+     * Consumes requests on the adapter endpoint and sends back static reply. Responder thread uses its own test context
+     * as test contexts are not thread safe.
+     */
+    private void respond() {
+        TestContext responderContext = testContextFactory.getObject();
+        Endpoint endpoint = endpointAdapter.getEndpoint();
+        SelectiveConsumer consumer = (SelectiveConsumer) endpoint.createConsumer();
+        while (running) {
+            try {
+                consumer.receive(responderContext, 1000L);
+                endpoint.createProducer().send(new DefaultMessage("<TestResponse><Message>Hello!</Message></TestResponse>"), responderContext);
+            } catch (RuntimeException e) {
+                // timeout while waiting for next request
+            }
+        }
+    }
+}
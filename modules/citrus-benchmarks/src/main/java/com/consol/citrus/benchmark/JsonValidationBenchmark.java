@@ -0,0 +1,94 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.json.JsonMessageValidationContext;
+import com.consol.citrus.validation.json.JsonTextMessageValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+
+/**
+ * Benchmarks JSON text validation on arrays with growing number of elements.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JsonValidationBenchmark extends AbstractCitrusBenchmark {
+
+    @Param({ "10", "1000", "10000" })
+    private int elements;
+
+    private JsonTextMessageValidator validator;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+    private Message matcherControlMessage;
+
+    private JsonMessageValidationContext validationContext;
+    private JsonMessageValidationContext ignoreValidationContext;
+
+    @Setup(Level.Trial)
+    public void setupValidation() {
+        validator = new JsonTextMessageValidator();
+        validator.setApplicationContext(applicationContext);
+
+        receivedMessage = new DefaultMessage(createPayload("\"value\"", "\"2018-09-20\""));
+        controlMessage = new DefaultMessage(createPayload("\"value\"", "\"2018-09-20\""));
+        matcherControlMessage = new DefaultMessage(createPayload("\"@ignore@\"", "\"@matchesDatePattern('yyyy-MM-dd')@\""));
+
+        validationContext = new JsonMessageValidationContext();
+        validationContext.setSchemaValidation(false);
+
+        ignoreValidationContext = new JsonMessageValidationContext();
+        ignoreValidationContext.setSchemaValidation(false);
+        ignoreValidationContext.setIgnoreExpressions(Collections.singleton("$.items[*].id"));
+    }
+
+    @Benchmark
+    public void validateJson() {
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Benchmark
+    public void validateJsonWithMatchers() {
+        validator.validateMessage(receivedMessage, matcherControlMessage, context, validationContext);
+    }
+
+    @Benchmark
+    public void validateJsonWithIgnoreExpressions() {
+        validator.validateMessage(receivedMessage, controlMessage, context, ignoreValidationContext);
+    }
+
+    private String createPayload(String name, String date) {
+        StringBuilder payload = new StringBuilder();
+        payload.append("{\"customer\":\"Citrus\",\"items\":[");
+        for (int i = 0; i < elements; i++) {
+            if (i > 0) {
+                payload.append(",");
+            }
+            payload.append("{\"id\":").append(i)
+                    .append(",\"name\":").append(name)
+                    .append(",\"date\":").append(date)
+                    .append("}");
+        }
+        payload.append("]}");
+        return payload.toString();
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.ftp.message.FtpMarshaller;
+import com.consol.citrus.ftp.message.FtpMessage;
+import com.consol.citrus.http.model.Control;
+import com.consol.citrus.http.model.FormData;
+import com.consol.citrus.http.model.FormMarshaller;
+import com.consol.citrus.jdbc.model.JdbcMarshaller;
+import com.consol.citrus.jdbc.message.JdbcMessage;
+import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.jmx.model.JmxMarshaller;
+import com.consol.citrus.mail.message.MailMessage;
+import com.consol.citrus.mail.model.MailMarshaller;
+import com.consol.citrus.message.MessageType;
+import com.consol.citrus.rmi.message.RmiMessage;
+import com.consol.citrus.rmi.model.RmiMarshaller;
+import com.consol.citrus.ssh.model.SshMarshaller;
+import com.consol.citrus.ssh.model.SshRequest;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks message marshalling in the module specific JAXB marshallers. Each operation creates a new module message, renders its
+ * payload and reads the payload back with a new marshaller instance, just like message converters and servers do per message.
+ * Result is the number of messages per second for each module.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MarshallerBenchmark {
+
+    private FormData formData;
+
+    @Setup(Level.Trial)
+    public void setupMarshallers() {
+        System.setProperty("citrus.jdbc.marshaller.type", MessageType.XML.name());
+
+        formData = new FormData();
+        formData.setContentType("application/x-www-form-urlencoded");
+        formData.setAction("/form-test");
+
+        Control control = new Control();
+        control.setName("message");
+        control.setValue("Hello Citrus!");
+        formData.addControl(control);
+    }
+
+    @TearDown(Level.Trial)
+    public void resetMarshallers() {
+        System.clearProperty("citrus.jdbc.marshaller.type");
+    }
+
+    @Benchmark
+    public Object ftp() {
+        return new FtpMarshaller().unmarshal(new StringSource(FtpMessage.list("/home/citrus").getPayload(String.class)));
+    }
+
+    @Benchmark
+    public Object jdbc() {
+        return new JdbcMarshaller().unmarshal(new StringSource(JdbcMessage.execute("SELECT 1").getPayload(String.class)));
+    }
+
+    @Benchmark
+    public Object mail() {
+        return new MailMarshaller().unmarshal(new StringSource(MailMessage.request("foo@example.com", "bar@example.com", "Hello")
+                .body("Hello Citrus!")
+                .getPayload(String.class)));
+    }
+
+    @Benchmark
+    public Object jmx() {
+        return new JmxMarshaller().unmarshal(new StringSource(JmxMessage.invocation("java.lang:type=Memory")
+                .attribute("Verbose")
+                .getPayload(String.class)));
+    }
+
+    @Benchmark
+    public Object rmi() {
+        return new RmiMarshaller().unmarshal(new StringSource(RmiMessage.invocation("getName")
+                .argument("Citrus")
+                .getPayload(String.class)));
+    }
+
+    @Benchmark
+    public Object ssh() {
+        StringResult result = new StringResult();
+        new SshMarshaller().marshal(new SshRequest("echo", "Hello Citrus!"), result);
+        return new SshMarshaller().unmarshal(new StringSource(result.toString()));
+    }
+
+    @Benchmark
+    public Object form() {
+        StringResult result = new StringResult();
+        new FormMarshaller().marshal(formData, result);
+        return new FormMarshaller().unmarshal(new StringSource(result.toString()));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks default message construction and copy.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class MessageBenchmark {
+
+    private String payload;
+    private Map<String, Object> headers;
+    private Message message;
+
+    @Setup(Level.Trial)
+    public void setupMessage() {
+        payload = "<TestRequest><Message>Hello Citrus!</Message></TestRequest>";
+
+        headers = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            headers.put("header" + i, "value" + i);
+        }
+
+        message = new DefaultMessage(payload, headers);
+        message.addHeaderData("<HeaderData>Citrus</HeaderData>");
+    }
+
+    @Benchmark
+    public Message construct() {
+        return new DefaultMessage(payload, headers);
+    }
+
+    @Benchmark
+    public Message copy() {
+        return new DefaultMessage(message);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.message.Message;
+import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
+import com.consol.citrus.ws.message.SoapMessage;
+import com.consol.citrus.ws.message.converter.SoapMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.ws.WebServiceMessage;
+import org.springframework.ws.soap.saaj.SaajSoapMessageFactory;
+
+/**
+ * Benchmarks SOAP request/reply conversion. Each operation converts an outbound Citrus message with SOAP action and header fragment
+ * to a SAAJ SOAP message and converts that SOAP message back to an inbound Citrus message.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SoapBenchmark extends AbstractCitrusBenchmark {
+
+    private SoapMessageConverter messageConverter;
+    private WebServiceEndpointConfiguration endpointConfiguration;
+
+    @Setup(Level.Trial)
+    public void setupConverter() throws Exception {
+        SaajSoapMessageFactory messageFactory = new SaajSoapMessageFactory();
+        messageFactory.afterPropertiesSet();
+
+        endpointConfiguration = new WebServiceEndpointConfiguration();
+        endpointConfiguration.setMessageFactory(messageFactory);
+
+        messageConverter = new SoapMessageConverter();
+    }
+
+    @Benchmark
+    public Message requestReply() {
+        SoapMessage request = new SoapMessage("<TestRequest xmlns=\"http://citrusframework.org/test\"><Message>Hello Citrus!</Message></TestRequest>")
+                .soapAction("sayHello")
+                .addHeaderData("<TestHeader xmlns=\"http://citrusframework.org/test\"><Operation>sayHello</Operation></TestHeader>");
+
+        WebServiceMessage soapRequest = messageConverter.convertOutbound(request, endpointConfiguration, context);
+        return messageConverter.convertInbound(soapRequest, endpointConfiguration, context);
+    }
+}
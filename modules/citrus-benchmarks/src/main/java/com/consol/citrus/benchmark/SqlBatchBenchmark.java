@@ -0,0 +1,103 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.actions.ExecuteSQLAction;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Benchmarks SQL action executing a seed script of insert statements on an in memory database. Compares statement by statement
+ * execution with JDBC batch execution of plain statements and parameterized statements.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SqlBatchBenchmark extends AbstractCitrusBenchmark {
+
+    @Param({ "1000" })
+    private int rows;
+
+    @Param({ "100" })
+    private int batchSize;
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    private List<String> statements;
+
+    @Setup(Level.Trial)
+    public void setupDatabase() {
+        dataSource = new SingleConnectionDataSource("jdbc:hsqldb:mem:citrus-benchmark", "sa", "", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("create table items (ID integer, NAME varchar(50))");
+        transactionManager = new DataSourceTransactionManager(dataSource);
+
+        statements = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            statements.add("insert into items (ID, NAME) values (" + i + ", 'item_" + i + "');");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownDatabase() {
+        jdbcTemplate.execute("shutdown");
+        dataSource.destroy();
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearTable() {
+        jdbcTemplate.execute("delete from items");
+    }
+
+    @Benchmark
+    public void executeStatements() {
+        createAction().execute(context);
+    }
+
+    @Benchmark
+    public void executeBatch() {
+        createAction().setBatchSize(batchSize).execute(context);
+    }
+
+    @Benchmark
+    public void executeParameterizedBatch() {
+        ExecuteSQLAction action = new ExecuteSQLAction().setBatchSize(batchSize);
+        action.setJdbcTemplate(jdbcTemplate);
+        action.setTransactionManager(transactionManager);
+        action.getStatements().add("insert into items (ID, NAME) values (?, ?)");
+        for (int i = 0; i < rows; i++) {
+            action.addBatchArguments("insert into items (ID, NAME) values (?, ?)", i, "item_" + i);
+        }
+
+        action.execute(context);
+    }
+
+    private ExecuteSQLAction createAction() {
+        ExecuteSQLAction action = new ExecuteSQLAction();
+        action.setJdbcTemplate(jdbcTemplate);
+        action.setTransactionManager(transactionManager);
+        action.setStatements(statements);
+        return action;
+    }
+}
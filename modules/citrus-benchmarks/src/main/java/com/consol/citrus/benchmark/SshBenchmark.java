@@ -0,0 +1,106 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.endpoint.adapter.StaticResponseEndpointAdapter;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.ssh.client.SshClient;
+import com.consol.citrus.ssh.client.SshClientBuilder;
+import com.consol.citrus.ssh.model.SshMarshaller;
+import com.consol.citrus.ssh.model.SshRequest;
+import com.consol.citrus.ssh.model.SshResponse;
+import com.consol.citrus.ssh.server.SshServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.SocketUtils;
+import org.springframework.xml.transform.StringResult;
+
+/**
+ * Benchmarks SSH client sending commands to the embedded SSH server. Compares commands sharing a reused session
+ * with a new session connected for each command.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class SshBenchmark extends AbstractCitrusBenchmark {
+
+    private SshServer server;
+
+    private SshClient reusedSessionClient;
+    private SshClient newSessionClient;
+
+    private String requestPayload;
+
+    @Setup(Level.Trial)
+    public void setupServer() {
+        int port = SocketUtils.findAvailableTcpPort();
+        SshMarshaller marshaller = new SshMarshaller();
+
+        StringResult response = new StringResult();
+        marshaller.marshal(new SshResponse("Hello Citrus!", "", 0), response);
+
+        StaticResponseEndpointAdapter endpointAdapter = new StaticResponseEndpointAdapter();
+        endpointAdapter.setTestContextFactory(testContextFactory);
+        endpointAdapter.setMessagePayload(response.toString());
+
+        server = new SshServer();
+        server.setPort(port);
+        server.setUser("citrus");
+        server.setPassword("admin");
+        server.setEndpointAdapter(endpointAdapter);
+        server.start();
+
+        reusedSessionClient = createClient(port, true);
+        newSessionClient = createClient(port, false);
+
+        StringResult request = new StringResult();
+        marshaller.marshal(new SshRequest("echo", "Hello Citrus!"), request);
+        requestPayload = request.toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdownServer() {
+        reusedSessionClient.destroy();
+        newSessionClient.destroy();
+        server.stop();
+    }
+
+    @Benchmark
+    public Message sendReusedSession() {
+        return send(reusedSessionClient);
+    }
+
+    @Benchmark
+    public Message sendNewSession() {
+        return send(newSessionClient);
+    }
+
+    private Message send(SshClient client) {
+        client.send(new DefaultMessage(requestPayload), context);
+        return client.receive(context);
+    }
+
+    private SshClient createClient(int port, boolean reuseSession) {
+        return new SshClientBuilder()
+                .host("localhost")
+                .port(port)
+                .user("citrus")
+                .password("admin")
+                .reuseSession(reuseSession)
+                .build();
+    }
+}
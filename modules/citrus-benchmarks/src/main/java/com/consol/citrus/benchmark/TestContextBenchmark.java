@@ -0,0 +1,57 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.functions.FunctionUtils;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Benchmarks variable and function replacement in test context.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestContextBenchmark extends AbstractCitrusBenchmark {
+
+    private static final String TEMPLATE = "<TestRequest xmlns=\"http://citrusframework.org/test\">" +
+                "<MessageId>${messageId}</MessageId>" +
+                "<CorrelationId>${correlationId}</CorrelationId>" +
+                "<User>${user}</User>" +
+                "<Text>citrus:concat('Hello ', ${user}, '!')</Text>" +
+                "<Length>citrus:stringLength(${user})</Length>" +
+                "<Upper>citrus:upperCase(${user})</Upper>" +
+            "</TestRequest>";
+
+    private static final String FUNCTIONS = "citrus:concat('Hello ', 'Citrus', '!') and citrus:upperCase('foo') and citrus:substring('Hello Citrus', 6)";
+
+    @Setup(Level.Trial)
+    public void setupVariables() {
+        context.setVariable("messageId", "4bc6a5fd-7f1b-4d1b-9d2f-0a1c2ee2a8e4");
+        context.setVariable("correlationId", "c0f41b6e-9d17-4c1e-8d2b-6e53b3b6d7a0");
+        context.setVariable("user", "Christoph");
+    }
+
+    @Benchmark
+    public String replaceDynamicContentInString() {
+        return context.replaceDynamicContentInString(TEMPLATE);
+    }
+
+    @Benchmark
+    public String replaceFunctionsInString() {
+        return FunctionUtils.replaceFunctionsInString(FUNCTIONS, context);
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks validation matcher expression resolving with regular expression and date based matchers.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ValidationMatcherBenchmark extends AbstractCitrusBenchmark {
+
+    @Benchmark
+    public void matches() {
+        ValidationMatcherUtils.resolveValidationMatcher("id", "citrus-4711", "@matches('[a-z]+-[0-9]{4}')@", context);
+    }
+
+    @Benchmark
+    public void matchesDatePattern() {
+        ValidationMatcherUtils.resolveValidationMatcher("date", "2018-09-20", "@matchesDatePattern('yyyy-MM-dd')@", context);
+    }
+
+    @Benchmark
+    public void dateRange() {
+        ValidationMatcherUtils.resolveValidationMatcher("date", "2018-09-20", "@dateRange('2018-01-01', '2018-12-31', 'yyyy-MM-dd')@", context);
+    }
+
+    @Benchmark
+    public void equalsIgnoreCase() {
+        ValidationMatcherUtils.resolveValidationMatcher("name", "Citrus", "@equalsIgnoreCase('citrus')@", context);
+    }
+}
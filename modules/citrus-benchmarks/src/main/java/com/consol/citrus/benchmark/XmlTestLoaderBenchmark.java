@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.common.XmlTestLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+
+/**
+ * Benchmarks loading XML test cases with the XML test loader.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlTestLoaderBenchmark extends AbstractCitrusBenchmark {
+
+    @Benchmark
+    public TestCase loadXmlTest() {
+        return new XmlTestLoader(XmlTestLoaderBenchmark.class, "XmlBenchmarkIT", "com.consol.citrus.benchmark", applicationContext).load();
+    }
+}
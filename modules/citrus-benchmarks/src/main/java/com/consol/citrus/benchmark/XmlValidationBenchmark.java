@@ -0,0 +1,99 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.benchmark;
+
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.validation.xml.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+
+/**
+ * Benchmarks XML tree comparison and XPath validation on messages with growing number of elements.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlValidationBenchmark extends AbstractCitrusBenchmark {
+
+    @Param({ "10", "1000" })
+    private int elements;
+
+    private DomXmlMessageValidator domXmlMessageValidator;
+    private XpathMessageValidator xpathMessageValidator;
+
+    private Message receivedMessage;
+    private Message controlMessage;
+
+    private XmlMessageValidationContext validationContext;
+    private XmlMessageValidationContext ignoreValidationContext;
+    private XpathMessageValidationContext xpathValidationContext;
+
+    @Setup(Level.Trial)
+    public void setupValidation() {
+        domXmlMessageValidator = new DomXmlMessageValidator();
+        domXmlMessageValidator.setApplicationContext(applicationContext);
+        xpathMessageValidator = new XpathMessageValidator();
+
+        receivedMessage = new DefaultMessage(createPayload("value", "2018-09-20"));
+        controlMessage = new DefaultMessage(createPayload("@ignore@", "@matchesDatePattern('yyyy-MM-dd')@"));
+
+        validationContext = new XmlMessageValidationContext();
+        validationContext.setSchemaValidation(false);
+
+        ignoreValidationContext = new XmlMessageValidationContext();
+        ignoreValidationContext.setSchemaValidation(false);
+        ignoreValidationContext.setIgnoreExpressions(new HashSet<>(Arrays.asList("//item[1]/name", "//item[2]/@id", "/order/customer")));
+
+        Map<String, Object> xpathExpressions = new HashMap<>();
+        xpathExpressions.put("/order/customer", "Citrus");
+        xpathExpressions.put("//item[1]/@id", "0");
+        xpathExpressions.put("//item[last()]/name", "value");
+        xpathValidationContext = new XpathMessageValidationContext();
+        xpathValidationContext.setSchemaValidation(false);
+        xpathValidationContext.setXpathExpressions(xpathExpressions);
+    }
+
+    @Benchmark
+    public void validateXmlTree() {
+        domXmlMessageValidator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Benchmark
+    public void validateXmlTreeWithIgnoreExpressions() {
+        domXmlMessageValidator.validateMessage(receivedMessage, controlMessage, context, ignoreValidationContext);
+    }
+
+    @Benchmark
+    public void validateXpath() {
+        xpathMessageValidator.validateMessage(receivedMessage, controlMessage, context, xpathValidationContext);
+    }
+
+    private String createPayload(String name, String date) {
+        StringBuilder payload = new StringBuilder();
+        payload.append("<order><customer>Citrus</customer><items>");
+        for (int i = 0; i < elements; i++) {
+            payload.append("<item id=\"").append(i).append("\">")
+                    .append("<name>").append(name).append("</name>")
+                    .append("<date>").append(date).append("</date>")
+                    .append("</item>");
+        }
+        payload.append("</items></order>");
+        return payload.toString();
+    }
+}
@@ -219,6 +219,31 @@ public final class Citrus {
     public static final String CITRUS_FILE_ENCODING = System.getProperty(CITRUS_FILE_ENCODING_PROPERTY, System.getenv(CITRUS_FILE_ENCODING_ENV) != null ?
             System.getenv(CITRUS_FILE_ENCODING_ENV) : Charset.defaultCharset().displayName());
 
+    /** File resource content cache size in bytes, zero disables the cache */
+    public static final String CITRUS_FILE_CACHE_SIZE_PROPERTY = "citrus.file.cache.size";
+    public static final String CITRUS_FILE_CACHE_SIZE_ENV = "CITRUS_FILE_CACHE_SIZE";
+    public static final long CITRUS_FILE_CACHE_SIZE_DEFAULT = 32 * 1024 * 1024L;
+    public static final String CITRUS_FILE_CACHE_SIZE = System.getProperty(CITRUS_FILE_CACHE_SIZE_PROPERTY, System.getenv(CITRUS_FILE_CACHE_SIZE_ENV) != null ?
+            System.getenv(CITRUS_FILE_CACHE_SIZE_ENV) : String.valueOf(CITRUS_FILE_CACHE_SIZE_DEFAULT));
+
+    /** Maximum number of messages held in memory by test context message store, zero means unbounded */
+    public static final String CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY = "citrus.message.store.max.entries";
+    public static final String CITRUS_MESSAGE_STORE_MAX_ENTRIES_ENV = "CITRUS_MESSAGE_STORE_MAX_ENTRIES";
+    public static final String CITRUS_MESSAGE_STORE_MAX_ENTRIES = System.getProperty(CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY, System.getenv(CITRUS_MESSAGE_STORE_MAX_ENTRIES_ENV) != null ?
+            System.getenv(CITRUS_MESSAGE_STORE_MAX_ENTRIES_ENV) : "0");
+
+    /** Maximum amount of message payload bytes held in memory by test context message store, zero means unbounded */
+    public static final String CITRUS_MESSAGE_STORE_MAX_SIZE_PROPERTY = "citrus.message.store.max.size";
+    public static final String CITRUS_MESSAGE_STORE_MAX_SIZE_ENV = "CITRUS_MESSAGE_STORE_MAX_SIZE";
+    public static final String CITRUS_MESSAGE_STORE_MAX_SIZE = System.getProperty(CITRUS_MESSAGE_STORE_MAX_SIZE_PROPERTY, System.getenv(CITRUS_MESSAGE_STORE_MAX_SIZE_ENV) != null ?
+            System.getenv(CITRUS_MESSAGE_STORE_MAX_SIZE_ENV) : "0");
+
+    /** Spill messages evicted from bounded message store to temporary file */
+    public static final String CITRUS_MESSAGE_STORE_SPILL_PROPERTY = "citrus.message.store.spill";
+    public static final String CITRUS_MESSAGE_STORE_SPILL_ENV = "CITRUS_MESSAGE_STORE_SPILL";
+    public static final String CITRUS_MESSAGE_STORE_SPILL = System.getProperty(CITRUS_MESSAGE_STORE_SPILL_PROPERTY, System.getenv(CITRUS_MESSAGE_STORE_SPILL_ENV) != null ?
+            System.getenv(CITRUS_MESSAGE_STORE_SPILL_ENV) : Boolean.TRUE.toString());
+
     /** Prefix/sufix used to identify variable expressions */
     public static final String VARIABLE_PREFIX = "${";
     public static final String VARIABLE_SUFFIX = "}";
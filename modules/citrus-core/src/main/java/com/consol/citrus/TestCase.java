@@ -27,6 +27,8 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.util.CollectionUtils;
 
+import java.io.Closeable;
+import java.io.IOException;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.*;
@@ -309,6 +311,21 @@ public class TestCase extends AbstractActionContainer implements BeanNameAware {
             }
 
             afterTest(context);
+            closeMessageStore(context);
+        }
+    }
+
+    /**
+     * Closes message store of given context when store holds resources such as temporary files.
+     * @param context
+     */
+    private void closeMessageStore(TestContext context) {
+        if (context.getMessageStore() instanceof Closeable) {
+            try {
+                ((Closeable) context.getMessageStore()).close();
+            } catch (IOException e) {
+                log.warn("Failed to close message store", e);
+            }
         }
     }
 
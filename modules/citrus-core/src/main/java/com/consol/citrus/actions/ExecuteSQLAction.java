@@ -20,12 +20,17 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.*;
+
 /**
  * Test action execute SQL statements. Use this action when executing
  * database altering statements like UPDATE, INSERT, ALTER, DELETE. Statements are either
  * embedded inline in the test case description or given by an external file resource.
  * 
  * When executing SQL query statements (SELECT) see {@link ExecuteSQLQueryAction}.
+ *
+ * In batch mode consecutive statements are grouped into JDBC batch updates. Parameterized statements with argument rows
+ * are executed as prepared statement batches. When errors are ignored a failing batch is skipped as a whole.
  * 
  * @author Christoph Deppisch, Jan Szczepanski
  * @since 2006
@@ -34,6 +39,12 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
     /** boolean flag marking that possible SQL errors will be ignored */
     private boolean ignoreErrors = false;
 
+    /** Number of statements per JDBC batch update, zero disables batch execution */
+    private int batchSize = 0;
+
+    /** Argument rows for parameterized statements */
+    private Map<String, List<Object[]>> batchArguments = new LinkedHashMap<>();
+
     /**
      * Default constructor.
      */
@@ -69,21 +80,27 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
      * @param context
      */
     protected void executeStatements(TestContext context) {
+        if (batchSize > 0) {
+            executeBatchStatements(context);
+            return;
+        }
+
         for (String stmt : statements)  {
             try {
-                final String toExecute;
-
-                if (stmt.trim().endsWith(";")) {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-                } else {
-                    toExecute = context.replaceDynamicContentInString(stmt.trim());
-                }
+                final String toExecute = prepareStatement(stmt, context);
 
                 if (log.isDebugEnabled()) {
                     log.debug("Executing SQL statement: " + toExecute);
                 }
 
-                getJdbcTemplate().execute(toExecute);
+                List<Object[]> arguments = batchArguments.get(normalizeStatement(stmt));
+                if (arguments != null) {
+                    for (Object[] row : arguments) {
+                        getJdbcTemplate().update(toExecute, resolveArguments(row, context));
+                    }
+                } else {
+                    getJdbcTemplate().execute(toExecute);
+                }
 
                 log.info("SQL statement execution successful");
             } catch (Exception e) {
@@ -97,6 +114,168 @@ public class ExecuteSQLAction extends AbstractDatabaseConnectingTestAction {
         }
     }
 
+    /**
+     * Run all SQL statements as JDBC batch updates. Consecutive plain statements are grouped into batches of configured size.
+     * Parameterized statements with batch arguments are executed as prepared statement batches.
+     * @param context
+     */
+    private void executeBatchStatements(TestContext context) {
+        List<String> batch = new ArrayList<>(batchSize);
+        for (String stmt : statements)  {
+            List<Object[]> arguments = batchArguments.get(normalizeStatement(stmt));
+            if (arguments != null) {
+                executeBatch(batch);
+
+                String toExecute = prepareStatement(stmt, context);
+                for (int i = 0; i < arguments.size(); i += batchSize) {
+                    List<Object[]> rows = new ArrayList<>();
+                    for (Object[] row : arguments.subList(i, Math.min(i + batchSize, arguments.size()))) {
+                        rows.add(resolveArguments(row, context));
+                    }
+
+                    executeBatch(toExecute, rows);
+                }
+            } else {
+                batch.add(prepareStatement(stmt, context));
+
+                if (batch.size() == batchSize) {
+                    executeBatch(batch);
+                }
+            }
+        }
+
+        executeBatch(batch);
+    }
+
+    /**
+     * Executes pending statements as batch update and clears the list of pending statements.
+     * @param batch
+     */
+    private void executeBatch(List<String> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL batch of " + batch.size() + " statements");
+            }
+
+            getJdbcTemplate().batchUpdate(batch.toArray(new String[0]));
+
+            log.info("SQL batch execution successful");
+        } catch (Exception e) {
+            if (ignoreErrors) {
+                log.error("Ignoring error while executing SQL batch: " + e.getLocalizedMessage());
+            } else {
+                throw new CitrusRuntimeException(e);
+            }
+        } finally {
+            batch.clear();
+        }
+    }
+
+    /**
+     * Executes parameterized statement as batch update with given argument rows.
+     * @param toExecute
+     * @param rows
+     */
+    private void executeBatch(String toExecute, List<Object[]> rows) {
+        try {
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL batch of " + rows.size() + " rows: " + toExecute);
+            }
+
+            getJdbcTemplate().batchUpdate(toExecute, rows);
+
+            log.info("SQL batch execution successful");
+        } catch (Exception e) {
+            if (ignoreErrors) {
+                log.error("Ignoring error while executing SQL batch: " + e.getLocalizedMessage());
+            } else {
+                throw new CitrusRuntimeException(e);
+            }
+        }
+    }
+
+    /**
+     * Removes trailing semicolon and replaces dynamic content in statement.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String prepareStatement(String stmt, TestContext context) {
+        return context.replaceDynamicContentInString(normalizeStatement(stmt));
+    }
+
+    /**
+     * Trims statement and removes trailing semicolon.
+     * @param stmt
+     * @return
+     */
+    private String normalizeStatement(String stmt) {
+        if (stmt.trim().endsWith(";")) {
+            return stmt.trim().substring(0, stmt.trim().length()-1);
+        } else {
+            return stmt.trim();
+        }
+    }
+
+    /**
+     * Replaces dynamic content in string arguments.
+     * @param arguments
+     * @param context
+     * @return
+     */
+    private Object[] resolveArguments(Object[] arguments, TestContext context) {
+        Object[] resolved = new Object[arguments.length];
+        for (int i = 0; i < arguments.length; i++) {
+            if (arguments[i] instanceof String) {
+                resolved[i] = context.replaceDynamicContentInString((String) arguments[i]);
+            } else {
+                resolved[i] = arguments[i];
+            }
+        }
+
+        return resolved;
+    }
+
+    /**
+     * Adds row of arguments for parameterized statement. Statement gets executed once for each row of arguments. String
+     * arguments may use test variables and functions.
+     * @param statement the parameterized statement as given in the list of statements
+     * @param arguments the statement arguments
+     */
+    public ExecuteSQLAction addBatchArguments(String statement, Object... arguments) {
+        this.batchArguments.computeIfAbsent(normalizeStatement(statement), key -> new ArrayList<>()).add(arguments);
+        return this;
+    }
+
+    /**
+     * Gets the batchArguments.
+     * @return the batchArguments
+     */
+    public Map<String, List<Object[]>> getBatchArguments() {
+        return batchArguments;
+    }
+
+    /**
+     * Sets the batch size. Statements are executed as JDBC batch updates when batch size is greater than zero.
+     * @param batchSize
+     */
+    public ExecuteSQLAction setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    /**
+     * Gets the batchSize.
+     * @return the batchSize
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
     /**
      * Ignore errors during execution.
      * @param ignoreErrors boolean flag to set
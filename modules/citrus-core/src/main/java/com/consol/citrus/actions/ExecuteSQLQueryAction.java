@@ -28,9 +28,15 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -57,6 +63,12 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     @Autowired(required = false)
     private SqlResultSetScriptValidator validator;
 
+    /** Validate result set row by row instead of loading all rows into memory */
+    private boolean streaming = false;
+
+    /** JDBC fetch size used in streaming mode, zero uses the driver default */
+    private int fetchSize = 0;
+
     /** NULL value representation in SQL */
     private static final String NULL_VALUE = "NULL";
 
@@ -77,26 +89,23 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
 
         try {
+            if (streaming) {
+                if (scriptValidationContext == null) {
+                    StreamingResultSetHandler resultSetHandler = new StreamingResultSetHandler(context);
+                    executeInTransaction(() -> executeStatements(resultSetHandler, context), context);
+                    resultSetHandler.finish();
+                    return;
+                }
+
+                log.warn("Script validation requires complete result set - streaming mode is disabled for this query");
+            }
+
             //for control result set validation
             final Map<String, List<String>> columnValuesMap = new HashMap<String, List<String>>();
             //for groovy script validation
             final List<Map<String, Object>> allResultRows = new ArrayList<Map<String, Object>>();
 
-            if (getTransactionManager() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
-                }
-
-                TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
-                transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
-                transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
-                transactionTemplate.execute(status -> {
-                    executeStatements(allResultRows, columnValuesMap, context);
-                    return null;
-                });
-            } else {
-                executeStatements(allResultRows, columnValuesMap, context);
-            }
+            executeInTransaction(() -> executeStatements(allResultRows, columnValuesMap, context), context);
 
             // perform validation
             performValidation(columnValuesMap, allResultRows, context);
@@ -104,27 +113,39 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
             // fill the request test context variables (extract tag)
             fillContextVariables(columnValuesMap, context);
 
-            // legacy: save all columns as variables TODO: remove in major version upgrade
-            for (Entry<String, List<String>> column : columnValuesMap.entrySet()) {
-                List<String> columnValues = column.getValue();
-                context.setVariable(column.getKey().toUpperCase(), columnValues.get(0) == null ? NULL_VALUE : columnValues.get(0));
-            }
+            columnValuesMap.forEach((columnName, columnValues) -> saveColumnVariable(columnName, columnValues.get(0), context));
         } catch (DataAccessException e) {
             log.error("Failed to execute SQL statement", e);
             throw new CitrusRuntimeException(e);
         }
     }
 
+    /**
+     * Runs given statement execution within a new transaction if transaction manager is set.
+     * @param execution
+     * @param context
+     */
+    private void executeInTransaction(Runnable execution, TestContext context) {
+        if (getTransactionManager() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Using transaction manager: " + getTransactionManager().getClass().getName());
+            }
+
+            TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+            transactionTemplate.setTimeout(Integer.valueOf(context.replaceDynamicContentInString(getTransactionTimeout())));
+            transactionTemplate.setIsolationLevelName(context.replaceDynamicContentInString(getTransactionIsolationLevel()));
+            transactionTemplate.execute(status -> {
+                execution.run();
+                return null;
+            });
+        } else {
+            execution.run();
+        }
+    }
+
     protected void executeStatements(List<Map<String, Object>> allResultRows, Map<String, List<String>> columnValuesMap, TestContext context) {
         for (String stmt : statements) {
-            validateSqlStatement(stmt);
-            final String toExecute;
-
-            if (stmt.trim().endsWith(";")) {
-                toExecute = context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
-            } else {
-                toExecute = context.replaceDynamicContentInString(stmt.trim());
-            }
+            String toExecute = prepareStatement(stmt, context);
 
             if (log.isDebugEnabled()) {
                 log.debug("Executing SQL query: " + toExecute);
@@ -139,6 +160,49 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Executes all statements and passes result rows one by one to the given handler. Statements use a forward only
+     * result set with the configured fetch size so rows are not loaded into memory all at once.
+     * @param resultSetHandler
+     * @param context
+     */
+    private void executeStatements(StreamingResultSetHandler resultSetHandler, TestContext context) {
+        for (String stmt : statements) {
+            String toExecute = prepareStatement(stmt, context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Executing SQL query: " + toExecute);
+            }
+
+            resultSetHandler.nextStatement();
+            getJdbcTemplate().query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(toExecute, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                if (fetchSize != 0) {
+                    statement.setFetchSize(fetchSize);
+                }
+                return statement;
+            }, resultSetHandler);
+
+            log.info("SQL query execution successful");
+        }
+    }
+
+    /**
+     * Validates statement and removes trailing semicolon. Dynamic content in statement gets replaced.
+     * @param stmt
+     * @param context
+     * @return
+     */
+    private String prepareStatement(String stmt, TestContext context) {
+        validateSqlStatement(stmt);
+
+        if (stmt.trim().endsWith(";")) {
+            return context.replaceDynamicContentInString(stmt.trim().substring(0, stmt.trim().length()-1));
+        } else {
+            return context.replaceDynamicContentInString(stmt.trim());
+        }
+    }
+
     /**
      * Fills the (requested) test context variables with the db result values
      * @param columnValuesMap the map containing column names --> list of result values
@@ -169,23 +233,48 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
     private void fillColumnValuesMap(List<Map<String, Object>> results, Map<String, List<String>> columnValuesMap) {
         for (Map<String, Object> row : results) {
             for (Entry<String, Object> column : row.entrySet()) {
-                String columnValue;
                 String columnName = column.getKey();
                 if (!columnValuesMap.containsKey(columnName)) {
                     columnValuesMap.put(columnName, new ArrayList<String>());
                 }
 
-                if (column.getValue() instanceof byte[]) {
-                    columnValue = Base64.encodeBase64String((byte[]) column.getValue());
-                } else {
-                    columnValue = column.getValue() == null ? null : column.getValue().toString();
-                }
-
-                columnValuesMap.get(columnName).add((columnValue));
+                columnValuesMap.get(columnName).add(getColumnValue(column.getValue()));
             }
         }
     }
 
+    /**
+     * Converts result set value to string. Binary values are Base64 encoded.
+     * @param value
+     * @return
+     */
+    private String getColumnValue(Object value) {
+        if (value instanceof byte[]) {
+            return Base64.encodeBase64String((byte[]) value);
+        } else {
+            return value == null ? null : value.toString();
+        }
+    }
+
+    /**
+     * Resolves column name in given set of result column names. Lower case and upper case column names are
+     * preferred over the exact column name.
+     * @param columnName
+     * @param resultColumns
+     * @return resolved column name or null if not found
+     */
+    private String resolveColumnName(String columnName, Collection<String> resultColumns) {
+        if (resultColumns.contains(columnName.toLowerCase())) {
+            return columnName.toLowerCase();
+        } else if (resultColumns.contains(columnName.toUpperCase())) {
+            return columnName.toUpperCase();
+        } else if (resultColumns.contains(columnName)) {
+            return columnName;
+        }
+
+        return null;
+    }
+
     /**
      * Gets the script validator implementation either autowired from application context
      * or if not set here a default implementation.
@@ -284,6 +373,162 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         }
     }
 
+    /**
+     * Row callback handler validates and extracts column values row by row. Handler only keeps row counts, first values and
+     * extracted variable values per column so memory usage does not depend on the size of the result set.
+     */
+    private class StreamingResultSetHandler implements RowCallbackHandler {
+        /** Current test context */
+        private final TestContext context;
+
+        /** Number of rows per result column */
+        private final Map<String, Integer> rowCounts = new LinkedHashMap<>();
+
+        /** First value per result column */
+        private final Map<String, String> firstValues = new LinkedHashMap<>();
+
+        /** Constructed variable values per result column */
+        private final Map<String, StringBuilder> variableValues = new HashMap<>();
+
+        /** Control values per resolved result column */
+        private final Map<String, List<String>> controlValues = new HashMap<>();
+
+        /** Result column names of current statement */
+        private String[] columnNames;
+
+        /** First value validation error, raised after row counts have been checked */
+        private ValidationException valueMismatch;
+
+        /**
+         * Default constructor using test context.
+         * @param context
+         */
+        StreamingResultSetHandler(TestContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Prepares handler for result set of next statement.
+         */
+        void nextStatement() {
+            columnNames = null;
+        }
+
+        @Override
+        public void processRow(ResultSet resultSet) throws SQLException {
+            if (columnNames == null) {
+                readColumnNames(resultSet.getMetaData());
+            }
+
+            for (int i = 0; i < columnNames.length; i++) {
+                String columnName = columnNames[i];
+                String columnValue = getColumnValue(JdbcUtils.getResultSetValue(resultSet, i + 1));
+                int row = rowCounts.merge(columnName, 1, Integer::sum) - 1;
+
+                if (row == 0) {
+                    firstValues.put(columnName, columnValue);
+                }
+
+                List<String> control = controlValues.get(columnName);
+                if (valueMismatch == null && control != null && row < control.size()) {
+                    try {
+                        validateSingleValue(columnName, context.replaceDynamicContentInString(control.get(row)), columnValue, context);
+                    } catch (ValidationException e) {
+                        valueMismatch = e;
+                    }
+                }
+
+                StringBuilder variableValue = variableValues.get(columnName);
+                if (variableValue != null) {
+                    if (row == 0) {
+                        variableValue.append(columnValue);
+                    } else {
+                        variableValue.append(";").append(columnValue == null ? NULL_VALUE : columnValue);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Reads column names of current statement and resolves control result set and extract variable columns.
+         * @param metaData
+         * @throws SQLException
+         */
+        private void readColumnNames(ResultSetMetaData metaData) throws SQLException {
+            columnNames = new String[metaData.getColumnCount()];
+            for (int i = 0; i < columnNames.length; i++) {
+                columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+            }
+
+            Set<String> resultColumns = new HashSet<>(rowCounts.keySet());
+            resultColumns.addAll(Arrays.asList(columnNames));
+
+            for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                Optional.ofNullable(resolveColumnName(controlEntry.getKey(), resultColumns))
+                        .ifPresent(columnName -> controlValues.putIfAbsent(columnName, controlEntry.getValue()));
+            }
+
+            for (String columnName : extractVariables.keySet()) {
+                Optional.ofNullable(resolveColumnName(columnName, resultColumns))
+                        .ifPresent(resolved -> variableValues.putIfAbsent(resolved, new StringBuilder()));
+            }
+        }
+
+        /**
+         * Validates row counts and raises value validation errors of processed rows afterwards, same order as
+         * non-streaming validation. Sets test variables after all statements have been executed.
+         */
+        void finish() {
+            if (!CollectionUtils.isEmpty(controlResultSet)) {
+                for (Entry<String, List<String>> controlEntry : controlResultSet.entrySet()) {
+                    String columnName = resolveColumnName(controlEntry.getKey(), rowCounts.keySet());
+                    if (columnName == null) {
+                        throw new CitrusRuntimeException("Could not find column '" + controlEntry.getKey() + "' in SQL result set");
+                    }
+
+                    int rowCount = rowCounts.get(columnName);
+                    if (rowCount != controlEntry.getValue().size()) {
+                        throw new CitrusRuntimeException("Validation failed for column: '" +  columnName + "' " +
+                                "expected rows count: " + controlEntry.getValue().size() + " but was " + rowCount);
+                    }
+                }
+
+                if (valueMismatch != null) {
+                    throw valueMismatch;
+                }
+
+                log.info("SQL query validation successful: All values OK");
+            }
+
+            for (Entry<String, String> variableEntry : extractVariables.entrySet()) {
+                String columnName = resolveColumnName(variableEntry.getKey(), rowCounts.keySet());
+                if (columnName == null) {
+                    throw new CitrusRuntimeException("Failed to create variables from database values! " +
+                            "Unable to find column '" + variableEntry.getKey() + "' in database result set");
+                }
+
+                if (rowCounts.get(columnName) == 1) {
+                    context.setVariable(variableEntry.getValue(), firstValues.get(columnName) == null ? NULL_VALUE : firstValues.get(columnName));
+                } else {
+                    context.setVariable(variableEntry.getValue(), variableValues.get(columnName).toString());
+                }
+            }
+
+            firstValues.forEach((columnName, columnValue) -> saveColumnVariable(columnName, columnValue, context));
+        }
+    }
+
+    /**
+     * Saves first column value as test variable named after the column.
+     * legacy: save all columns as variables TODO: remove in major version upgrade
+     * @param columnName
+     * @param columnValue
+     * @param context
+     */
+    private void saveColumnVariable(String columnName, String columnValue, TestContext context) {
+        context.setVariable(columnName.toUpperCase(), columnValue == null ? NULL_VALUE : columnValue);
+    }
+
     /**
      * Does some simple validation on the SQL statement.
      * @param stmt The statement which is to be validated.
@@ -409,6 +654,41 @@ public class ExecuteSQLQueryAction extends AbstractDatabaseConnectingTestAction
         return extractVariables;
     }
 
+    /**
+     * Enables streaming mode. Result rows are validated one by one instead of loading the complete result set into memory.
+     * Streaming mode is not available in combination with script validation.
+     * @param streaming
+     */
+    public ExecuteSQLQueryAction setStreaming(boolean streaming) {
+        this.streaming = streaming;
+        return this;
+    }
+
+    /**
+     * Gets the streaming.
+     * @return the streaming
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the JDBC fetch size used in streaming mode. Zero uses the driver default.
+     * @param fetchSize
+     */
+    public ExecuteSQLQueryAction setFetchSize(int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Gets the fetchSize.
+     * @return the fetchSize
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
     /**
      * Gets the scriptValidationContext.
      * @return the scriptValidationContext
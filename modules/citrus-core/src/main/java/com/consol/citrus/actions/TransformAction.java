@@ -81,7 +81,7 @@ public class TransformAction extends AbstractTestAction {
             //parse XML document and define XML source for transformation
             Source xmlSource = null;
             if (xmlResourcePath != null) {
-                xmlSource = new StringSource(context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(xmlResourcePath, context),
+                xmlSource = new StringSource(context.replaceDynamicContentInString(FileUtils.readCachedToString(FileUtils.getFileResource(xmlResourcePath, context),
                         Charset.forName(context.replaceDynamicContentInString(xmlResourceCharset)))));
             } else if (xmlData != null) {
                 xmlSource = new StringSource(context.replaceDynamicContentInString(xmlData));
@@ -94,7 +94,7 @@ public class TransformAction extends AbstractTestAction {
             //parse XSLT document and define  XSLT source for transformation
             Source xsltSource = null;
             if (xsltResourcePath != null) {
-                xsltSource = new StringSource(context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(xsltResourcePath, context),
+                xsltSource = new StringSource(context.replaceDynamicContentInString(FileUtils.readCachedToString(FileUtils.getFileResource(xsltResourcePath, context),
                         Charset.forName(context.replaceDynamicContentInString(xsltResourceCharset)))));
             } else if (xsltData != null) {
                 xsltSource = new StringSource(context.replaceDynamicContentInString(xsltData));
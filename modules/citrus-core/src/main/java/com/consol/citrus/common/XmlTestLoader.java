@@ -18,23 +18,50 @@ package com.consol.citrus.common;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.context.TestContextFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.MutablePropertyValues;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.factory.NoSuchBeanDefinitionException;
+import org.springframework.beans.factory.config.*;
+import org.springframework.beans.factory.support.*;
+import org.springframework.beans.factory.xml.XmlBeanDefinitionReader;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigUtils;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.util.StringUtils;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Loads test case as Spring bean from XML application context file. Loader holds application context file
  * for test case and a parent application context. At runtime this class loads the Spring application context and gets
  * test case bean instance from context.
  *
+ * Bean definitions parsed from test case XML files are cached per file so loading the same test again only needs to
+ * register deep copies of the cached bean definitions in a new lightweight application context instead of parsing the XML file.
+ *
  * @author Christoph Deppisch
  * @since 2.1
  */
 public class XmlTestLoader implements TestLoader {
 
+    /** Logger */
+    private static final Logger log = LoggerFactory.getLogger(XmlTestLoader.class);
+
+    /** Cached bean definitions per test case XML file */
+    private static final Map<String, CachedBeanDefinitions> beanDefinitionCache = new ConcurrentHashMap<>();
+
+    /** Resolves test case XML file locations including classpath*: and pattern locations */
+    private static final ResourcePatternResolver resourcePatternResolver = new PathMatchingResourcePatternResolver();
+
     private TestCase testCase;
     private Class<?> testClass;
     private String testName;
@@ -59,6 +86,7 @@ public class XmlTestLoader implements TestLoader {
     @Override
     public TestCase load() {
         if (testCase == null) {
+            long start = System.nanoTime();
             ApplicationContext ctx = loadApplicationContext();
 
             try {
@@ -69,29 +97,207 @@ public class XmlTestLoader implements TestLoader {
                 throw parentContext.getBean(TestContextFactory.class).getObject()
                         .handleError(testName, packageName, "Could not find test with name '" + testName + "'", e);
             }
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Loaded test case '%s' in %s ms", testName, (System.nanoTime() - start) / 1000000L));
+            }
         }
 
         return testCase;
     }
 
     /**
-     * Create new Spring bean application context with test case XML file,
-     * helper and parent context file.
+     * Create new Spring bean application context with test case bean definitions, annotation config
+     * processors and parent context. Bean definitions are read from cache when available.
      * @return
      */
     private ApplicationContext loadApplicationContext() {
         try {
-            return new ClassPathXmlApplicationContext(
-                    new String[]{
-                            getContextFile(),
-                            "com/consol/citrus/spring/annotation-config-ctx.xml"},
-                    true, parentContext);
+            GenericApplicationContext ctx = new GenericApplicationContext(parentContext);
+            AnnotationConfigUtils.registerAnnotationConfigProcessors(ctx);
+
+            CachedBeanDefinitions beanDefinitions = getBeanDefinitions();
+            for (Map.Entry<String, BeanDefinition> beanDefinition : beanDefinitions.beanDefinitions.entrySet()) {
+                ctx.registerBeanDefinition(beanDefinition.getKey(), copyBeanDefinition(beanDefinition.getValue()));
+            }
+
+            for (Map.Entry<String, String> alias : beanDefinitions.aliases.entrySet()) {
+                ctx.registerAlias(alias.getValue(), alias.getKey());
+            }
+
+            ctx.refresh();
+            return ctx;
         } catch (Exception e) {
             throw parentContext.getBean(TestContextFactory.class).getObject()
                     .handleError(testName, packageName, "Failed to load test case", e);
         }
     }
 
+    /**
+     * Gets bean definitions of test case XML files either from cache or by parsing the files. Cached definitions
+     * are parsed again when one of the files has been modified in the meantime.
+     * @return
+     * @throws IOException
+     */
+    private CachedBeanDefinitions getBeanDefinitions() throws IOException {
+        Resource[] resources = resourcePatternResolver.getResources(getContextFile());
+
+        StringJoiner cacheKey = new StringJoiner(",", getContextFile() + "=", "");
+        long lastModified = 0L;
+        for (Resource resource : resources) {
+            cacheKey.add(resource.getURL().toString());
+            lastModified = Math.max(lastModified, getLastModified(resource));
+        }
+
+        CachedBeanDefinitions cached = beanDefinitionCache.get(cacheKey.toString());
+        if (cached != null && cached.lastModified == lastModified) {
+            return cached;
+        }
+
+        DefaultListableBeanFactory registry = new DefaultListableBeanFactory();
+        XmlBeanDefinitionReader reader = new XmlBeanDefinitionReader(registry);
+        if (parentContext != null && parentContext.getEnvironment() instanceof ConfigurableEnvironment) {
+            reader.setEnvironment(parentContext.getEnvironment());
+        }
+        reader.loadBeanDefinitions(resources);
+
+        Map<String, BeanDefinition> beanDefinitions = new LinkedHashMap<>();
+        Map<String, String> aliases = new LinkedHashMap<>();
+        for (String beanName : registry.getBeanDefinitionNames()) {
+            beanDefinitions.put(beanName, registry.getBeanDefinition(beanName));
+
+            for (String alias : registry.getAliases(beanName)) {
+                aliases.put(alias, beanName);
+            }
+        }
+
+        cached = new CachedBeanDefinitions(Collections.unmodifiableMap(beanDefinitions), Collections.unmodifiableMap(aliases), lastModified);
+        beanDefinitionCache.put(cacheKey.toString(), cached);
+        return cached;
+    }
+
+    /**
+     * Creates deep copy of cached bean definition so application contexts do not share definition state. Nested inner bean
+     * definitions, managed collections and typed string values in property values and constructor arguments are copied, too.
+     * @param beanDefinition
+     * @return
+     */
+    static BeanDefinition copyBeanDefinition(BeanDefinition beanDefinition) {
+        if (!(beanDefinition instanceof AbstractBeanDefinition)) {
+            return beanDefinition;
+        }
+
+        AbstractBeanDefinition copy = ((AbstractBeanDefinition) beanDefinition).cloneBeanDefinition();
+
+        MutablePropertyValues propertyValues = copy.getPropertyValues();
+        PropertyValue[] values = propertyValues.getPropertyValues();
+        for (int i = 0; i < values.length; i++) {
+            propertyValues.setPropertyValueAt(new PropertyValue(values[i], copyValue(values[i].getValue())), i);
+        }
+
+        ConstructorArgumentValues constructorArgumentValues = copy.getConstructorArgumentValues();
+        for (ConstructorArgumentValues.ValueHolder valueHolder : constructorArgumentValues.getIndexedArgumentValues().values()) {
+            valueHolder.setValue(copyValue(valueHolder.getValue()));
+        }
+
+        for (ConstructorArgumentValues.ValueHolder valueHolder : constructorArgumentValues.getGenericArgumentValues()) {
+            valueHolder.setValue(copyValue(valueHolder.getValue()));
+        }
+
+        return copy;
+    }
+
+    /**
+     * Creates deep copy of bean definition metadata value. Values that are not modified by application contexts are
+     * returned as is.
+     * @param value
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    private static Object copyValue(Object value) {
+        if (value instanceof BeanDefinitionHolder) {
+            BeanDefinitionHolder holder = (BeanDefinitionHolder) value;
+            return new BeanDefinitionHolder(copyBeanDefinition(holder.getBeanDefinition()), holder.getBeanName(), holder.getAliases());
+        } else if (value instanceof BeanDefinition) {
+            return copyBeanDefinition((BeanDefinition) value);
+        } else if (value instanceof ManagedArray) {
+            ManagedArray array = (ManagedArray) value;
+            ManagedArray copy = new ManagedArray(array.getElementTypeName(), array.size());
+            array.forEach(element -> copy.add(copyValue(element)));
+            copy.setSource(array.getSource());
+            copy.setMergeEnabled(array.isMergeEnabled());
+            return copy;
+        } else if (value instanceof ManagedList) {
+            ManagedList<Object> list = (ManagedList<Object>) value;
+            ManagedList<Object> copy = new ManagedList<>(list.size());
+            list.forEach(element -> copy.add(copyValue(element)));
+            copy.setElementTypeName(list.getElementTypeName());
+            copy.setSource(list.getSource());
+            copy.setMergeEnabled(list.isMergeEnabled());
+            return copy;
+        } else if (value instanceof ManagedSet) {
+            ManagedSet<Object> set = (ManagedSet<Object>) value;
+            ManagedSet<Object> copy = new ManagedSet<>(set.size());
+            set.forEach(element -> copy.add(copyValue(element)));
+            copy.setElementTypeName(set.getElementTypeName());
+            copy.setSource(set.getSource());
+            copy.setMergeEnabled(set.isMergeEnabled());
+            return copy;
+        } else if (value instanceof ManagedMap) {
+            ManagedMap<Object, Object> map = (ManagedMap<Object, Object>) value;
+            ManagedMap<Object, Object> copy = new ManagedMap<>(map.size());
+            map.forEach((key, entry) -> copy.put(copyValue(key), copyValue(entry)));
+            copy.setKeyTypeName(map.getKeyTypeName());
+            copy.setValueTypeName(map.getValueTypeName());
+            copy.setSource(map.getSource());
+            copy.setMergeEnabled(map.isMergeEnabled());
+            return copy;
+        } else if (value instanceof ManagedProperties) {
+            ManagedProperties properties = (ManagedProperties) value;
+            ManagedProperties copy = new ManagedProperties();
+            properties.forEach((key, entry) -> copy.put(copyValue(key), copyValue(entry)));
+            copy.setSource(properties.getSource());
+            copy.setMergeEnabled(properties.isMergeEnabled());
+            return copy;
+        } else if (value instanceof TypedStringValue) {
+            TypedStringValue typedStringValue = (TypedStringValue) value;
+            TypedStringValue copy = new TypedStringValue(typedStringValue.getValue());
+            if (typedStringValue.hasTargetType()) {
+                copy.setTargetType(typedStringValue.getTargetType());
+            } else {
+                copy.setTargetTypeName(typedStringValue.getTargetTypeName());
+            }
+            copy.setSpecifiedTypeName(typedStringValue.getSpecifiedTypeName());
+            copy.setSource(typedStringValue.getSource());
+            if (typedStringValue.isDynamic()) {
+                copy.setDynamic();
+            }
+            return copy;
+        }
+
+        return value;
+    }
+
+    /**
+     * Gets last modified time of resource or zero if not available.
+     * @param resource
+     * @return
+     */
+    private long getLastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Removes all cached test case bean definitions.
+     */
+    public static void clearCache() {
+        beanDefinitionCache.clear();
+    }
+
     /**
      * Gets custom Spring application context file for the XML test case. If not set creates default
      * context file path from testName and packageName.
@@ -112,4 +318,19 @@ public class XmlTestLoader implements TestLoader {
     public void setContextFile(String contextFile) {
         this.contextFile = contextFile;
     }
+
+    /**
+     * Bean definitions and aliases parsed from test case XML file with last modified time of the file.
+     */
+    private static class CachedBeanDefinitions {
+        private final Map<String, BeanDefinition> beanDefinitions;
+        private final Map<String, String> aliases;
+        private final long lastModified;
+
+        CachedBeanDefinitions(Map<String, BeanDefinition> beanDefinitions, Map<String, String> aliases, long lastModified) {
+            this.beanDefinitions = beanDefinitions;
+            this.aliases = aliases;
+            this.lastModified = lastModified;
+        }
+    }
 }
@@ -16,9 +16,12 @@
 
 package com.consol.citrus.context;
 
+import com.consol.citrus.Citrus;
 import com.consol.citrus.endpoint.DefaultEndpointFactory;
 import com.consol.citrus.endpoint.EndpointFactory;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.functions.FunctionRegistry;
+import com.consol.citrus.message.BoundedMessageStore;
 import com.consol.citrus.report.MessageListeners;
 import com.consol.citrus.report.TestListeners;
 import com.consol.citrus.validation.MessageValidatorRegistry;
@@ -72,12 +75,42 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
     @Autowired(required=false)
     private NamespaceContextBuilder namespaceContextBuilder;
 
+    /** Message store limits, zero means unbounded message store */
+    private int messageStoreMaxEntries = (int) parseMessageStoreLimit(Citrus.CITRUS_MESSAGE_STORE_MAX_ENTRIES,
+            Citrus.CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY, Integer.MAX_VALUE);
+    private long messageStoreMaxSize = parseMessageStoreLimit(Citrus.CITRUS_MESSAGE_STORE_MAX_SIZE,
+            Citrus.CITRUS_MESSAGE_STORE_MAX_SIZE_PROPERTY, Long.MAX_VALUE);
+    private boolean messageStoreSpill = Boolean.valueOf(Citrus.CITRUS_MESSAGE_STORE_SPILL);
+
     /** Spring bean application context */
     private ApplicationContext applicationContext;
     
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(TestContextFactory.class);
 
+    /**
+     * Parses message store limit setting from system property or environment variable. Invalid values are reported
+     * with the property name so misconfigured settings are easy to spot.
+     * @param value
+     * @param propertyName
+     * @param maxValue
+     * @return
+     */
+    static long parseMessageStoreLimit(String value, String propertyName, long maxValue) {
+        long limit;
+        try {
+            limit = Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new CitrusRuntimeException(String.format("Invalid value '%s' for message store setting '%s' - expected a number", value, propertyName), e);
+        }
+
+        if (limit > maxValue) {
+            throw new CitrusRuntimeException(String.format("Invalid value '%s' for message store setting '%s' - maximum is %s", value, propertyName, maxValue));
+        }
+
+        return limit;
+    }
+
     /**
      * Create new empty instance that has
      * @return
@@ -172,6 +205,10 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
             context.setNamespaceContextBuilder(namespaceContextBuilder);
         }
 
+        if (messageStoreMaxEntries > 0 || messageStoreMaxSize > 0) {
+            context.setMessageStore(new BoundedMessageStore(messageStoreMaxEntries, messageStoreMaxSize, messageStoreSpill));
+        }
+
         if (log.isDebugEnabled()) {
             log.debug("Created new test context - using global variables: '"
                     + context.getGlobalVariables() + "'");
@@ -352,6 +389,60 @@ public class TestContextFactory implements FactoryBean<TestContext>, Application
         return globalMessageConstructionInterceptors;
     }
 
+    /**
+     * Sets the messageStoreMaxEntries.
+     *
+     * @param messageStoreMaxEntries
+     */
+    public void setMessageStoreMaxEntries(int messageStoreMaxEntries) {
+        this.messageStoreMaxEntries = messageStoreMaxEntries;
+    }
+
+    /**
+     * Gets the messageStoreMaxEntries.
+     *
+     * @return
+     */
+    public int getMessageStoreMaxEntries() {
+        return messageStoreMaxEntries;
+    }
+
+    /**
+     * Sets the messageStoreMaxSize.
+     *
+     * @param messageStoreMaxSize
+     */
+    public void setMessageStoreMaxSize(long messageStoreMaxSize) {
+        this.messageStoreMaxSize = messageStoreMaxSize;
+    }
+
+    /**
+     * Gets the messageStoreMaxSize.
+     *
+     * @return
+     */
+    public long getMessageStoreMaxSize() {
+        return messageStoreMaxSize;
+    }
+
+    /**
+     * Sets the messageStoreSpill.
+     *
+     * @param messageStoreSpill
+     */
+    public void setMessageStoreSpill(boolean messageStoreSpill) {
+        this.messageStoreSpill = messageStoreSpill;
+    }
+
+    /**
+     * Gets the messageStoreSpill.
+     *
+     * @return
+     */
+    public boolean isMessageStoreSpill() {
+        return messageStoreSpill;
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.fasterxml.jackson.core.*;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.*;
+
+/**
+ * Evaluates a set of definite JsonPath expressions on a JSON document in a single pass using a streaming pull parser. Only the
+ * values matching one of the expressions are materialized, all other parts of the document are skipped. Evaluation stops
+ * as soon as all expressions have been resolved.
+ *
+ * Supported expressions start with the root element '$' followed by dot notation property names, bracket notation property names
+ * and non negative array indices, e.g. $.items[0]['name']. Wildcards, deep scan, filters and slices are not supported.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JsonPathStreamEvaluator {
+
+    /** Shared thread safe parser factory, accepts trailing commas like the default JSON parser */
+    private static final JsonFactory JSON_FACTORY = new JsonFactory().enable(JsonParser.Feature.ALLOW_TRAILING_COMMA);
+
+    /** Parsed path segments for each expression */
+    private final Map<String, List<Object>> paths = new LinkedHashMap<>();
+
+    /**
+     * Default constructor using the expressions to evaluate.
+     * @param jsonPathExpressions
+     */
+    public JsonPathStreamEvaluator(Collection<String> jsonPathExpressions) {
+        for (String expression : jsonPathExpressions) {
+            paths.put(expression, parsePath(expression)
+                    .orElseThrow(() -> new CitrusRuntimeException(String.format("Unsupported JSON path expression for streaming evaluation: %s", expression))));
+        }
+    }
+
+    /**
+     * Evaluates all expressions on given JSON payload. Resulting map holds an entry for each expression that has been found in the
+     * payload. Values are either JSONObject, JSONArray or simple values as produced by the default JSON parser.
+     * @param payload
+     * @return
+     */
+    public Map<String, Object> evaluate(Reader payload) {
+        Map<String, Object> results = new HashMap<>();
+        if (paths.isEmpty()) {
+            return results;
+        }
+
+        try (JsonParser parser = createParser(payload)) {
+            if (parser.nextToken() != null) {
+                evaluate(parser, new ArrayList<>(), results);
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+
+        return results;
+    }
+
+    /**
+     * Evaluates expressions on the current parser value. Values matching an expression are materialized, values that are
+     * not a parent of any expression are skipped.
+     * @param parser
+     * @param path
+     * @param results
+     * @throws IOException
+     */
+    private void evaluate(JsonParser parser, List<Object> path, Map<String, Object> results) throws IOException {
+        boolean parent = false;
+        List<String> matching = new ArrayList<>();
+        for (Map.Entry<String, List<Object>> entry : paths.entrySet()) {
+            if (entry.getValue().equals(path)) {
+                matching.add(entry.getKey());
+            } else if (isParent(path, entry.getValue())) {
+                parent = true;
+            }
+        }
+
+        if (!matching.isEmpty()) {
+            Object value = readValue(parser);
+            matching.forEach(expression -> results.put(expression, value));
+
+            for (Map.Entry<String, List<Object>> entry : paths.entrySet()) {
+                if (isParent(path, entry.getValue())) {
+                    resolve(value, entry.getValue().subList(path.size(), entry.getValue().size()))
+                            .ifPresent(nested -> results.put(entry.getKey(), nested.orElse(null)));
+                }
+            }
+            return;
+        }
+
+        if (!parent) {
+            parser.skipChildren();
+            return;
+        }
+
+        if (parser.currentToken() == JsonToken.START_OBJECT) {
+            while (results.size() < paths.size() && parser.nextToken() == JsonToken.FIELD_NAME) {
+                path.add(parser.getCurrentName());
+                parser.nextToken();
+                evaluate(parser, path, results);
+                path.remove(path.size() - 1);
+            }
+        } else if (parser.currentToken() == JsonToken.START_ARRAY) {
+            int index = 0;
+            while (results.size() < paths.size() && parser.nextToken() != JsonToken.END_ARRAY) {
+                path.add(index++);
+                evaluate(parser, path, results);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Checks if given path is a parent of the given expression path.
+     * @param path
+     * @param expressionPath
+     * @return
+     */
+    private boolean isParent(List<Object> path, List<Object> expressionPath) {
+        return expressionPath.size() > path.size() && expressionPath.subList(0, path.size()).equals(path);
+    }
+
+    /**
+     * Resolves path segments on already materialized value. Returns empty optional when path is not present, the nested optional
+     * holds the value that might be null.
+     * @param value
+     * @param segments
+     * @return
+     */
+    private Optional<Optional<Object>> resolve(Object value, List<Object> segments) {
+        Object current = value;
+        for (Object segment : segments) {
+            if (segment instanceof String && current instanceof JSONObject && ((JSONObject) current).containsKey(segment)) {
+                current = ((JSONObject) current).get(segment);
+            } else if (segment instanceof Integer && current instanceof JSONArray && (Integer) segment < ((JSONArray) current).size()) {
+                current = ((JSONArray) current).get((Integer) segment);
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(Optional.ofNullable(current));
+    }
+
+    /**
+     * Creates new streaming parser on given reader.
+     * @param reader
+     * @return
+     * @throws IOException
+     */
+    public static JsonParser createParser(Reader reader) throws IOException {
+        return JSON_FACTORY.createParser(reader);
+    }
+
+    /**
+     * Checks if given expression is supported by streaming evaluation.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static boolean isSupported(String jsonPathExpression) {
+        return parsePath(jsonPathExpression).isPresent();
+    }
+
+    /**
+     * Parses definite JsonPath expression to list of path segments. Property names are represented as strings, array
+     * indices as integers. Returns empty optional for expressions not supported by streaming evaluation.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static Optional<List<Object>> parsePath(String jsonPathExpression) {
+        String expression = jsonPathExpression.trim();
+        if (!expression.startsWith("$")) {
+            return Optional.empty();
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int position = 1;
+        while (position < expression.length()) {
+            char current = expression.charAt(position);
+            if (current == '.') {
+                int end = position + 1;
+                while (end < expression.length() && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+
+                String name = expression.substring(position + 1, end);
+                if (name.isEmpty() || name.equals("*") || name.contains("(")) {
+                    return Optional.empty();
+                }
+
+                segments.add(name);
+                position = end;
+            } else if (current == '[') {
+                int end = expression.indexOf(']', position);
+                if (end < 0) {
+                    return Optional.empty();
+                }
+
+                String content = expression.substring(position + 1, end).trim();
+                if (content.length() > 1 && (content.startsWith("'") && content.endsWith("'") || content.startsWith("\"") && content.endsWith("\""))) {
+                    String name = content.substring(1, content.length() - 1);
+                    if (name.contains("'") || name.contains("\"")) {
+                        return Optional.empty();
+                    }
+                    segments.add(name);
+                } else if (!content.isEmpty() && content.chars().allMatch(Character::isDigit)) {
+                    segments.add(Integer.valueOf(content));
+                } else {
+                    return Optional.empty();
+                }
+
+                position = end + 1;
+            } else {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.of(segments);
+    }
+
+    /**
+     * Reads current parser value. Objects and arrays are materialized as JSONObject and JSONArray, simple values use
+     * the same types as the default JSON parser.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    public static Object readValue(JsonParser parser) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                JSONObject object = new JSONObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.getCurrentName();
+                    parser.nextToken();
+                    object.put(name, readValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                JSONArray array = new JSONArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return parser.getText();
+            case VALUE_NUMBER_INT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                    return parser.getBigIntegerValue();
+                }
+                return parser.getLongValue();
+            case VALUE_NUMBER_FLOAT:
+                return parser.getDoubleValue();
+            case VALUE_TRUE:
+                return Boolean.TRUE;
+            case VALUE_FALSE:
+                return Boolean.FALSE;
+            case VALUE_NULL:
+                return null;
+            default:
+                throw new CitrusRuntimeException("Unexpected JSON token: " + parser.currentToken());
+        }
+    }
+}
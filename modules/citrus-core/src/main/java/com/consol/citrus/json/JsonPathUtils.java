@@ -25,7 +25,8 @@ import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.springframework.util.StringUtils;
 
-import java.util.Optional;
+import java.io.Reader;
+import java.util.*;
 
 /**
  * @author Christoph Deppisch
@@ -58,14 +59,8 @@ public class JsonPathUtils {
      * @return
      */
     public static Object evaluate(ReadContext readerContext, String jsonPathExpression) {
-        String expression = jsonPathExpression;
-        String jsonPathFunction = null;
-        for (String name : JsonPathFunctions.getSupportedFunctions()) {
-            if (expression.endsWith(String.format(".%s()", name))) {
-                jsonPathFunction = name;
-                expression = expression.substring(0, expression.length() - String.format(".%s()", name).length());
-            }
-        }
+        String jsonPathFunction = getJsonPathFunction(jsonPathExpression);
+        String expression = stripJsonPathFunction(jsonPathExpression, jsonPathFunction);
 
         Object jsonPathResult = null;
         PathNotFoundException pathNotFoundException = null;
@@ -95,6 +90,81 @@ public class JsonPathUtils {
         return jsonPathResult;
     }
 
+    /**
+     * Evaluate set of definite JsonPath expressions on given payload in a single pass with a streaming parser. Payload
+     * is not parsed into a complete JSON object tree so this is suitable for very large payloads. Use {@link #isStreamable(String)}
+     * to check that the expressions are supported by the streaming evaluation.
+     * @param payload
+     * @param jsonPathExpressions
+     * @return map of expressions and their result
+     */
+    public static Map<String, Object> evaluate(Reader payload, Collection<String> jsonPathExpressions) {
+        Map<String, String> functions = new LinkedHashMap<>();
+        for (String jsonPathExpression : jsonPathExpressions) {
+            functions.put(jsonPathExpression, getJsonPathFunction(jsonPathExpression));
+        }
+
+        Set<String> expressions = new LinkedHashSet<>();
+        functions.forEach((jsonPathExpression, function) -> expressions.add(stripJsonPathFunction(jsonPathExpression, function)));
+        Map<String, Object> values = new JsonPathStreamEvaluator(expressions).evaluate(payload);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : functions.entrySet()) {
+            String expression = stripJsonPathFunction(entry.getKey(), entry.getValue());
+            Object jsonPathResult = values.get(expression);
+
+            if (StringUtils.hasText(entry.getValue())) {
+                jsonPathResult = JsonPathFunctions.evaluate(jsonPathResult, entry.getValue());
+            }
+
+            if (jsonPathResult == null && !values.containsKey(expression)) {
+                throw new CitrusRuntimeException(String.format("Failed to evaluate JSON path expression: %s", entry.getKey()));
+            }
+
+            results.put(entry.getKey(), jsonPathResult);
+        }
+
+        return results;
+    }
+
+    /**
+     * Checks if given JsonPath expression can be evaluated with streaming parser.
+     * @param jsonPathExpression
+     * @return
+     */
+    public static boolean isStreamable(String jsonPathExpression) {
+        return JsonPathStreamEvaluator.isSupported(stripJsonPathFunction(jsonPathExpression, getJsonPathFunction(jsonPathExpression)));
+    }
+
+    /**
+     * Gets name of JsonPath function that is applied at the end of given expression or null if no function is used.
+     * @param jsonPathExpression
+     * @return
+     */
+    private static String getJsonPathFunction(String jsonPathExpression) {
+        for (String name : JsonPathFunctions.getSupportedFunctions()) {
+            if (jsonPathExpression.endsWith(String.format(".%s()", name))) {
+                return name;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Removes JsonPath function from end of given expression.
+     * @param jsonPathExpression
+     * @param jsonPathFunction
+     * @return
+     */
+    private static String stripJsonPathFunction(String jsonPathExpression, String jsonPathFunction) {
+        if (jsonPathFunction == null) {
+            return jsonPathExpression;
+        }
+
+        return jsonPathExpression.substring(0, jsonPathExpression.length() - String.format(".%s()", jsonPathFunction).length());
+    }
+
     /**
      * Evaluate JsonPath expression on given payload string and return result as string.
      * @param payload
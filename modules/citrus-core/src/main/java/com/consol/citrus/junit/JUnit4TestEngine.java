@@ -18,6 +18,7 @@ package com.consol.citrus.junit;
 
 import com.consol.citrus.TestClass;
 import com.consol.citrus.main.AbstractTestEngine;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.main.scan.ClassPathTestScanner;
 import com.consol.citrus.main.scan.JarFileTestScanner;
@@ -29,7 +30,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.net.*;
 import java.util.*;
 
 /**
@@ -91,26 +91,29 @@ public class JUnit4TestEngine extends AbstractTestEngine {
             junit.addListener(listener);
         }
 
-        junit.run(classesToRun
+        Class<?>[] classes = classesToRun
                 .stream()
                 .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                 .map(testClass -> {
                     try {
-                        Class<?> clazz;
-                        if (getConfiguration().getTestJar() != null) {
-                            clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{ getConfiguration().getTestJar().toURI().toURL() }, getClass().getClassLoader()));
-                        } else {
-                            clazz = Class.forName(testClass.getName());
-                        }
+                        Class<?> clazz = loadTestClass(testClass);
                         log.debug("Found test candidate: " + testClass.getName());
                         return clazz;
-                    } catch (ClassNotFoundException | MalformedURLException e) {
+                    } catch (ClassNotFoundException e) {
                         log.warn("Unable to read test class: " + testClass.getName());
                         return Void.class;
                     }
                 })
                 .filter(clazz -> !clazz.equals(Void.class))
-                .toArray(Class[]::new));
+                .toArray(Class[]::new);
+
+        ParallelMode parallelMode = getConfiguration().getParallelMode();
+        if (parallelMode.isParallel()) {
+            log.info(String.format("Running tests in parallel mode %s with %s threads", parallelMode, getConfiguration().getThreadCount()));
+            junit.run(new ParallelTestComputer(!parallelMode.equals(ParallelMode.METHODS), parallelMode.equals(ParallelMode.METHODS), getConfiguration().getThreadCount()), classes);
+        } else {
+            junit.run(classes);
+        }
     }
 
     /**
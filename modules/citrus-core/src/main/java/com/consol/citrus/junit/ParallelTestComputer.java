@@ -0,0 +1,108 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.junit;
+
+import org.junit.runner.Computer;
+import org.junit.runner.Runner;
+import org.junit.runners.ParentRunner;
+import org.junit.runners.model.*;
+
+import java.util.concurrent.*;
+
+/**
+ * JUnit computer running test classes and/or test methods in parallel. In contrast to JUnit's experimental parallel computer
+ * the number of threads is limited with a fixed size thread pool per parallelized runner.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ParallelTestComputer extends Computer {
+
+    /** Run test classes in parallel */
+    private final boolean classes;
+
+    /** Run test methods in parallel */
+    private final boolean methods;
+
+    /** Maximum number of threads per parallelized runner */
+    private final int threadCount;
+
+    /**
+     * Default constructor using parallel settings and thread count.
+     * @param classes
+     * @param methods
+     * @param threadCount
+     */
+    public ParallelTestComputer(boolean classes, boolean methods, int threadCount) {
+        this.classes = classes;
+        this.methods = methods;
+        this.threadCount = Math.max(threadCount, 1);
+    }
+
+    @Override
+    public Runner getSuite(RunnerBuilder builder, Class<?>[] classes) throws InitializationError {
+        Runner suite = super.getSuite(builder, classes);
+        return this.classes ? parallelize(suite) : suite;
+    }
+
+    @Override
+    protected Runner getRunner(RunnerBuilder builder, Class<?> testClass) throws Throwable {
+        Runner runner = super.getRunner(builder, testClass);
+        return methods ? parallelize(runner) : runner;
+    }
+
+    /**
+     * Sets scheduler on given runner so children get executed with fixed size thread pool.
+     * @param runner
+     * @return
+     */
+    private Runner parallelize(Runner runner) {
+        if (runner instanceof ParentRunner) {
+            ((ParentRunner<?>) runner).setScheduler(new RunnerScheduler() {
+                private final ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+                @Override
+                public void schedule(Runnable childStatement) {
+                    executorService.submit(childStatement);
+                }
+
+                @Override
+                public void finished() {
+                    executorService.shutdown();
+
+                    try {
+                        executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+        }
+
+        return runner;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+}
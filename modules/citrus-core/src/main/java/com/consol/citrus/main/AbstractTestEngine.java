@@ -16,6 +16,11 @@
 
 package com.consol.citrus.main;
 
+import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import java.net.*;
+
 /**
  * @author Christoph Deppisch
  * @since 2.7.4
@@ -24,10 +29,44 @@ public abstract class AbstractTestEngine implements TestEngine {
 
     private final TestRunConfiguration configuration;
 
+    /** Class loader shared by all test classes loaded from optional test jar */
+    private ClassLoader testClassLoader;
+
     public AbstractTestEngine(TestRunConfiguration configuration) {
         this.configuration = configuration;
     }
 
+    /**
+     * Loads given test class without initializing it. Test classes from optional test jar are loaded with a class loader that
+     * is shared among all test classes of this engine.
+     * @param testClass
+     * @return
+     * @throws ClassNotFoundException
+     */
+    protected Class<?> loadTestClass(TestClass testClass) throws ClassNotFoundException {
+        return Class.forName(testClass.getName(), false, getTestClassLoader());
+    }
+
+    /**
+     * Gets the test class loader. When test jar is set a new class loader is lazily created once for this jar.
+     * @return
+     */
+    protected synchronized ClassLoader getTestClassLoader() {
+        if (testClassLoader == null) {
+            if (configuration.getTestJar() != null) {
+                try {
+                    testClassLoader = new URLClassLoader(new URL[] { configuration.getTestJar().toURI().toURL() }, getClass().getClassLoader());
+                } catch (MalformedURLException e) {
+                    throw new CitrusRuntimeException("Unable to access test jar: " + configuration.getTestJar(), e);
+                }
+            } else {
+                testClassLoader = getClass().getClassLoader();
+            }
+        }
+
+        return testClassLoader;
+    }
+
     /**
      * Gets the configuration.
      *
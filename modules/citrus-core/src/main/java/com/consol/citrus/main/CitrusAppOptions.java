@@ -161,6 +161,43 @@ public class CitrusAppOptions {
                 }
             }
         });
+
+        options.add(new CliOption<CitrusAppConfiguration>("P", "parallel", "Parallel test execution mode (none, classes, methods, instances)") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    try {
+                        configuration.setParallelMode(ParallelMode.valueOf(value.trim().toUpperCase()));
+                    } catch (IllegalArgumentException e) {
+                        throw new CitrusRuntimeException("Unsupported parallel mode for -P/--parallel option: " + value, e);
+                    }
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -P/--parallel option");
+                }
+            }
+        });
+
+        options.add(new CliOption<CitrusAppConfiguration>("T", "threads", "Number of threads used in parallel test execution") {
+            @Override
+            protected void doProcess(CitrusAppConfiguration configuration, String arg, String value, LinkedList<String> remainingArgs) {
+                if (StringUtils.hasText(value)) {
+                    int threadCount;
+                    try {
+                        threadCount = Integer.valueOf(value.trim());
+                    } catch (NumberFormatException e) {
+                        throw new CitrusRuntimeException("Invalid number of threads for -T/--threads option: " + value, e);
+                    }
+
+                    if (threadCount < 1) {
+                        throw new CitrusRuntimeException("Invalid number of threads for -T/--threads option: " + value);
+                    }
+
+                    configuration.setThreadCount(threadCount);
+                } else {
+                    throw new CitrusRuntimeException("Missing parameter value for -T/--threads option");
+                }
+            }
+        });
     }
 
     /**
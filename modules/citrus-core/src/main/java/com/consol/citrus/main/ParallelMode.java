@@ -0,0 +1,46 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.main;
+
+/**
+ * Parallel execution mode used by test engines when running tests from a test run configuration.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public enum ParallelMode {
+    /** Sequential test execution */
+    NONE,
+
+    /** Test classes run in parallel, methods of the same class run in the same thread */
+    CLASSES,
+
+    /** Test methods run in parallel */
+    METHODS,
+
+    /** Test instances run in parallel, methods of the same instance run in the same thread */
+    INSTANCES;
+
+    /**
+     * Checks whether this mode enables parallel test execution.
+     * @return
+     */
+    public boolean isParallel() {
+        return this != NONE;
+    }
+}
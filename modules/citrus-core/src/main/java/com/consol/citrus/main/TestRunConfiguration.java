@@ -42,6 +42,12 @@ public class TestRunConfiguration {
     /** Optional test jar artifact holding tests */
     private File testJar;
 
+    /** Parallel test execution mode */
+    private ParallelMode parallelMode = ParallelMode.NONE;
+
+    /** Number of threads used in parallel test execution */
+    private int threadCount = 5;
+
     /**
      * Gets the testClasses.
      *
@@ -114,6 +120,42 @@ public class TestRunConfiguration {
         this.testJar = testJar;
     }
 
+    /**
+     * Gets the parallelMode.
+     *
+     * @return
+     */
+    public ParallelMode getParallelMode() {
+        return parallelMode;
+    }
+
+    /**
+     * Sets the parallelMode.
+     *
+     * @param parallelMode
+     */
+    public void setParallelMode(ParallelMode parallelMode) {
+        this.parallelMode = parallelMode;
+    }
+
+    /**
+     * Gets the threadCount.
+     *
+     * @return
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    /**
+     * Sets the threadCount.
+     *
+     * @param threadCount
+     */
+    public void setThreadCount(int threadCount) {
+        this.threadCount = threadCount;
+    }
+
     /**
      * Gets the defaultProperties.
      *
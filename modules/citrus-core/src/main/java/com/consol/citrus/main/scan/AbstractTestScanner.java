@@ -16,7 +16,13 @@
 
 package com.consol.citrus.main.scan;
 
+import com.consol.citrus.TestClass;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Set;
 import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -28,21 +34,41 @@ public abstract class AbstractTestScanner implements TestScanner {
     /** Test name patterns to include */
     private final String[] includes;
 
+    /** Precompiled include patterns */
+    private final Pattern[] includePatterns;
+
     public AbstractTestScanner(String... includes) {
         if (includes.length > 0) {
             this.includes = includes;
         } else {
             this.includes = new String[] { "^.*IT$", "^.*ITCase$", "^IT.*$" };
         }
+
+        this.includePatterns = Stream.of(this.includes)
+                .map(Pattern::compile)
+                .toArray(Pattern[]::new);
     }
 
     protected boolean isIncluded(String className) {
-        return Stream.of(getIncludes())
-                .parallel()
-                .map(Pattern::compile)
+        return Stream.of(includePatterns)
                 .anyMatch(pattern -> pattern.matcher(className).matches());
     }
 
+    /**
+     * Finds indexed test classes in package (including sub packages) that match the include patterns.
+     * @param testClasses
+     * @param packageName
+     * @return
+     */
+    protected List<TestClass> findIndexedTests(Set<String> testClasses, String packageName) {
+        String packagePrefix = StringUtils.hasText(packageName) ? packageName + "." : "";
+        return testClasses.stream()
+                .filter(className -> className.startsWith(packagePrefix))
+                .filter(this::isIncluded)
+                .map(TestClass::new)
+                .collect(Collectors.toList());
+    }
+
     /**
      * Gets the includes.
      *
@@ -17,21 +17,26 @@
 package com.consol.citrus.main.scan;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.config.BeanDefinition;
-import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
-import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
 import org.springframework.core.type.ClassMetadata;
-import org.springframework.core.type.filter.AbstractClassTestingTypeFilter;
-import org.springframework.util.ReflectionUtils;
+import org.springframework.core.type.classreading.*;
+import org.springframework.util.ClassUtils;
 
+import java.io.IOException;
 import java.lang.annotation.Annotation;
-import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
+ * Scans class path for test classes annotated with given test annotation type. Each class path root (directory or jar)
+ * is handled separately: roots providing a test index that covers the annotation type are read from the index, all other
+ * roots are scanned for class files.
+ *
  * @author Christoph Deppisch
  * @since 2.7.4
  */
@@ -43,46 +48,87 @@ public class ClassPathTestScanner extends AbstractTestScanner {
     /** Test annotation marking test classes and methods */
     private final Class<? extends Annotation> annotationType;
 
+    /** Class loader providing the class path roots */
+    private final ClassLoader classLoader;
+
     /**
      * Default constructor using run configuration.
      * @param includes
      */
     public ClassPathTestScanner(Class<? extends Annotation> annotationType, String... includes) {
+        this(ClassUtils.getDefaultClassLoader(), annotationType, includes);
+    }
+
+    /**
+     * Constructor using class loader that provides the class path roots to scan.
+     * @param classLoader
+     * @param annotationType
+     * @param includes
+     */
+    public ClassPathTestScanner(ClassLoader classLoader, Class<? extends Annotation> annotationType, String... includes) {
         super(includes);
+        this.classLoader = classLoader;
         this.annotationType = annotationType;
     }
 
     @Override
     public List<TestClass> findTestsInPackage(String packageName) {
-        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
-        provider.addIncludeFilter(new AbstractClassTestingTypeFilter() {
-            @Override
-            protected boolean match(ClassMetadata metadata) {
-                if (!isIncluded(metadata.getClassName())) {
-                    return false;
+        String packagePath = ClassUtils.convertClassNameToResourcePath(packageName);
+        ResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(resolver);
+        TestAnnotationTypeFilter testAnnotationTypeFilter = new TestAnnotationTypeFilter(annotationType.getName());
+
+        Set<String> testClasses = new LinkedHashSet<>();
+        try {
+            for (Resource packageResource : resolver.getResources(ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX + packagePath)) {
+                String packageUrl = packageResource.getURL().toString();
+                if (!packageUrl.endsWith("/")) {
+                    packageUrl += "/";
                 }
 
-                try {
-                    Class<?> clazz = Class.forName(metadata.getClassName());
-                    if (clazz.isAnnotationPresent(annotationType)) {
-                        return true;
-                    }
-
-                    AtomicBoolean hasTestMethod = new AtomicBoolean(false);
-                    ReflectionUtils.doWithMethods(clazz, method -> hasTestMethod.set(true), method -> AnnotationUtils.findAnnotation(method, annotationType) != null);
-                    return hasTestMethod.get();
-                } catch (NoClassDefFoundError | ClassNotFoundException e) {
-                    log.warn("Unable to access class: " + metadata.getClassName());
-                    return false;
+                String rootUrl = packageUrl.substring(0, packageUrl.length() - packagePath.length() - (packagePath.isEmpty() ? 0 : 1));
+                Optional<TestIndex> index = TestIndex.load(resolver.getResource(rootUrl + TestIndex.INDEX_LOCATION))
+                        .filter(testIndex -> testIndex.isIndexed(annotationType.getName()));
+
+                if (index.isPresent()) {
+                    log.debug("Using test index to find tests in package: " + packageUrl);
+                    findIndexedTests(index.get().getTestClasses(annotationType.getName()), packageName)
+                            .forEach(testClass -> testClasses.add(testClass.getName()));
+                } else {
+                    testClasses.addAll(scanTests(resolver, metadataReaderFactory, testAnnotationTypeFilter, packageUrl));
                 }
             }
-        });
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to scan class path for tests in package: " + packageName, e);
+        }
 
-        return provider.findCandidateComponents(packageName)
-                .stream()
-                .map(BeanDefinition::getBeanClassName)
-                .distinct()
+        return testClasses.stream()
                 .map(TestClass::new)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Scans class files in given package location for test classes.
+     * @param resolver
+     * @param metadataReaderFactory
+     * @param testAnnotationTypeFilter
+     * @param packageUrl
+     * @return
+     * @throws IOException
+     */
+    private List<String> scanTests(ResourcePatternResolver resolver, MetadataReaderFactory metadataReaderFactory,
+                                   TestAnnotationTypeFilter testAnnotationTypeFilter, String packageUrl) throws IOException {
+        List<String> testClasses = new ArrayList<>();
+        for (Resource classResource : resolver.getResources(packageUrl + "**/*.class")) {
+            MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(classResource);
+            ClassMetadata classMetadata = metadataReader.getClassMetadata();
+            if (classMetadata.isConcrete() && classMetadata.isIndependent() &&
+                    isIncluded(classMetadata.getClassName()) &&
+                    testAnnotationTypeFilter.match(metadataReader, metadataReaderFactory)) {
+                testClasses.add(classMetadata.getClassName());
+            }
+        }
+
+        return testClasses;
+    }
 }
@@ -50,11 +50,18 @@ public class JarFileTestScanner extends AbstractTestScanner {
     public List<TestClass> findTestsInPackage(String packageToScan) {
         List<TestClass> testClasses = new ArrayList<>();
         if (artifact != null && artifact.isFile()) {
+            Optional<TestIndex> index = TestIndex.load(artifact);
+            if (index.isPresent()) {
+                log.info("Using test index in test jar file to find tests in package: " + packageToScan);
+                return findIndexedTests(index.get().getTestClasses(), packageToScan);
+            }
+
+            AntPathMatcher pathMatcher = new AntPathMatcher();
             try (JarFile jar = new JarFile(artifact)) {
                 for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements();) {
                     JarEntry entry = entries.nextElement();
                     String className = StringUtils.removeEnd(entry.getName(), ".class" ).replace( "/", "." );
-                    if (new AntPathMatcher().matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
+                    if (pathMatcher.matchStart(packageToScan.replace( ".", "/" ), entry.getName()) && isIncluded(className)) {
                         log.info("Found test class candidate in test jar file: " +  entry.getName());
                         testClasses.add(new TestClass(className));
                     }
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.main.scan;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.filter.TypeFilter;
+
+import java.io.IOException;
+
+/**
+ * Type filter matching test classes that are annotated with given test annotation either on class level or on
+ * one of its methods. Methods of super classes are considered, too. Filter reads class file metadata only so classes
+ * do not get loaded and initialized.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestAnnotationTypeFilter implements TypeFilter {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(TestAnnotationTypeFilter.class);
+
+    /** Test annotation type name */
+    private final String annotationType;
+
+    /**
+     * Default constructor using annotation type name.
+     * @param annotationType
+     */
+    public TestAnnotationTypeFilter(String annotationType) {
+        this.annotationType = annotationType;
+    }
+
+    @Override
+    public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        return metadataReader.getAnnotationMetadata().hasAnnotation(annotationType) || hasTestMethods(metadataReader, metadataReaderFactory);
+    }
+
+    /**
+     * Checks for test annotated methods in class and its super classes.
+     * @param metadataReader
+     * @param metadataReaderFactory
+     * @return
+     */
+    private boolean hasTestMethods(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+        if (metadataReader.getAnnotationMetadata().hasAnnotatedMethods(annotationType)) {
+            return true;
+        }
+
+        String superClassName = metadataReader.getClassMetadata().getSuperClassName();
+        if (superClassName == null || superClassName.equals(Object.class.getName())) {
+            return false;
+        }
+
+        try {
+            return hasTestMethods(metadataReaderFactory.getMetadataReader(superClassName), metadataReaderFactory);
+        } catch (IOException e) {
+            log.warn("Unable to access class: " + superClassName);
+            return false;
+        }
+    }
+
+    /**
+     * Gets the annotationType.
+     *
+     * @return
+     */
+    public String getAnnotationType() {
+        return annotationType;
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.*;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test index listing test class names per test annotation type. Index is generated at build time and packaged with the tests
+ * so test engines are able to find tests without scanning the classpath or test jar. Index file uses properties format with
+ * annotation type name as key and comma separated list of test class names as value.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestIndex {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(TestIndex.class);
+
+    /** Test index location in class path and test jar */
+    public static final String INDEX_LOCATION = "META-INF/citrus-tests.index";
+
+    /** System property to ignore test index and always scan for tests */
+    public static final String IGNORE_INDEX_PROPERTY = "citrus.test.index.ignore";
+    public static final String IGNORE_INDEX_ENV = "CITRUS_TEST_INDEX_IGNORE";
+
+    /** Test class names per annotation type */
+    private final Map<String, Set<String>> tests = new TreeMap<>();
+
+    /**
+     * Adds annotation type to this index. Annotation types without any test class are still part of the index
+     * in order to mark that the type has been indexed.
+     * @param annotationType
+     */
+    public void addAnnotationType(String annotationType) {
+        tests.computeIfAbsent(annotationType, key -> new TreeSet<>());
+    }
+
+    /**
+     * Adds test class name for given annotation type.
+     * @param annotationType
+     * @param className
+     */
+    public void addTestClass(String annotationType, String className) {
+        tests.computeIfAbsent(annotationType, key -> new TreeSet<>()).add(className);
+    }
+
+    /**
+     * Checks if given annotation type has been indexed.
+     * @param annotationType
+     * @return
+     */
+    public boolean isIndexed(String annotationType) {
+        return tests.containsKey(annotationType);
+    }
+
+    /**
+     * Gets test class names for given annotation type.
+     * @param annotationType
+     * @return
+     */
+    public Set<String> getTestClasses(String annotationType) {
+        return Collections.unmodifiableSet(tests.getOrDefault(annotationType, Collections.emptySet()));
+    }
+
+    /**
+     * Gets test class names of all indexed annotation types.
+     * @return
+     */
+    public Set<String> getTestClasses() {
+        return tests.values()
+                .stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Gets the indexed annotation types.
+     * @return
+     */
+    public Set<String> getAnnotationTypes() {
+        return Collections.unmodifiableSet(tests.keySet());
+    }
+
+    /**
+     * Writes index to given output stream.
+     * @param outputStream
+     * @throws IOException
+     */
+    public void write(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        for (Map.Entry<String, Set<String>> entry : tests.entrySet()) {
+            writer.write(entry.getKey());
+            writer.write("=");
+            writer.write(StringUtils.collectionToCommaDelimitedString(entry.getValue()));
+            writer.write("\n");
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes index to given file. Parent directories are created if necessary.
+     * @param file
+     */
+    public void store(File file) {
+        if (!file.getParentFile().exists() && !file.getParentFile().mkdirs()) {
+            throw new CitrusRuntimeException("Unable to create test index directory: " + file.getParentFile());
+        }
+
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            write(outputStream);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write test index: " + file, e);
+        }
+    }
+
+    /**
+     * Reads index entries from given input stream and adds them to this index.
+     * @param inputStream
+     * @throws IOException
+     */
+    public void read(InputStream inputStream) throws IOException {
+        Properties properties = new Properties();
+        properties.load(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+        for (String annotationType : properties.stringPropertyNames()) {
+            addAnnotationType(annotationType);
+            for (String className : StringUtils.commaDelimitedListToStringArray(properties.getProperty(annotationType))) {
+                if (StringUtils.hasText(className)) {
+                    addTestClass(annotationType, className.trim());
+                }
+            }
+        }
+    }
+
+    /**
+     * Loads test index from given resource. Returns empty optional when resource does not exist or
+     * index usage is disabled via system property.
+     * @param resource
+     * @return
+     */
+    public static Optional<TestIndex> load(Resource resource) {
+        if (isIgnored() || !resource.exists()) {
+            return Optional.empty();
+        }
+
+        TestIndex index = new TestIndex();
+        try (InputStream inputStream = resource.getInputStream()) {
+            index.read(inputStream);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to load test index: " + resource, e);
+        }
+
+        log.debug("Loaded test index: " + resource);
+        return Optional.of(index);
+    }
+
+    /**
+     * Loads test index from given jar file. Returns empty optional when jar does not contain an index or
+     * index usage is disabled via system property.
+     * @param artifact
+     * @return
+     */
+    public static Optional<TestIndex> load(File artifact) {
+        if (isIgnored()) {
+            return Optional.empty();
+        }
+
+        try (JarFile jar = new JarFile(artifact)) {
+            if (jar.getEntry(INDEX_LOCATION) == null) {
+                return Optional.empty();
+            }
+
+            TestIndex index = new TestIndex();
+            try (InputStream inputStream = jar.getInputStream(jar.getEntry(INDEX_LOCATION))) {
+                index.read(inputStream);
+            }
+
+            log.debug("Loaded test index from test jar: " + artifact);
+            return Optional.of(index);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to load test index from jar file artifact", e);
+        }
+    }
+
+    /**
+     * Creates new test index by reading all class files in given directory. Classes are not loaded, the given class loader
+     * is used to read class file metadata of super classes that may live outside of the directory. Class loader must be able
+     * to load the test annotation types.
+     * @param classesDirectory
+     * @param classLoader
+     * @param annotationTypes
+     * @return
+     */
+    public static TestIndex create(File classesDirectory, ClassLoader classLoader, String... annotationTypes) {
+        TestIndex index = new TestIndex();
+        List<TestAnnotationTypeFilter> filters = Stream.of(annotationTypes)
+                .peek(index::addAnnotationType)
+                .map(TestAnnotationTypeFilter::new)
+                .collect(Collectors.toList());
+
+        if (!classesDirectory.isDirectory()) {
+            return index;
+        }
+
+        MetadataReaderFactory metadataReaderFactory = new CachingMetadataReaderFactory(classLoader);
+        try (Stream<Path> files = Files.walk(classesDirectory.toPath())) {
+            for (Path file : files.filter(path -> path.toString().endsWith(".class")).collect(Collectors.toList())) {
+                MetadataReader metadataReader = metadataReaderFactory.getMetadataReader(new FileSystemResource(file.toFile()));
+                ClassMetadata classMetadata = metadataReader.getClassMetadata();
+                if (!classMetadata.isConcrete() || !classMetadata.isIndependent()) {
+                    continue;
+                }
+
+                for (TestAnnotationTypeFilter filter : filters) {
+                    if (filter.match(metadataReader, metadataReaderFactory)) {
+                        index.addTestClass(filter.getAnnotationType(), classMetadata.getClassName());
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to read test classes directory: " + classesDirectory, e);
+        }
+
+        return index;
+    }
+
+    /**
+     * Checks if test index usage is disabled via system property or environment variable.
+     * @return
+     */
+    private static boolean isIgnored() {
+        return Boolean.valueOf(System.getProperty(IGNORE_INDEX_PROPERTY, System.getenv(IGNORE_INDEX_ENV) != null ?
+                System.getenv(IGNORE_INDEX_ENV) : Boolean.FALSE.toString()));
+    }
+}
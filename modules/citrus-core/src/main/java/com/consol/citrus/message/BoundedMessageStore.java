@@ -0,0 +1,430 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+
+/**
+ * Message store holding a limited number of messages in memory. Limits apply to the number of entries and to the approximate
+ * amount of payload bytes. When limits are exceeded least recently used messages get evicted. Evicted messages optionally
+ * spill to a temporary file so later lookups via message name still work. Messages that are not serializable are dropped on
+ * eviction. Spill file gets compacted when it holds more stale than live bytes and gets deleted when the store is closed at
+ * the end of the test.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStore implements MessageStore, Closeable {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(BoundedMessageStore.class);
+
+    /** Maximum number of messages held in memory, zero or negative value means unbounded */
+    private final int maxEntries;
+
+    /** Maximum amount of payload bytes held in memory, zero or negative value means unbounded */
+    private final long maxSize;
+
+    /** Write evicted messages to temporary file */
+    private final boolean spill;
+
+    /** Messages held in memory in access order */
+    private final LinkedHashMap<String, StoreEntry> messages = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** Current amount of payload bytes held in memory */
+    private long size = 0L;
+
+    /** Spilled message locations in temporary file */
+    private final Map<String, SpillLocation> spilled = new HashMap<>();
+
+    /** Temporary spill file, lazily created */
+    private File spillFile;
+
+    /** Current spill file length */
+    private long spillFileLength = 0L;
+
+    /** Amount of bytes in spill file that belong to currently spilled messages */
+    private long spillLiveBytes = 0L;
+
+    /**
+     * Default constructor using max entries and max size without spilling.
+     * @param maxEntries
+     * @param maxSize
+     */
+    public BoundedMessageStore(int maxEntries, long maxSize) {
+        this(maxEntries, maxSize, false);
+    }
+
+    /**
+     * Constructor using max entries, max size and spill setting.
+     * @param maxEntries
+     * @param maxSize
+     * @param spill
+     */
+    public BoundedMessageStore(int maxEntries, long maxSize, boolean spill) {
+        this.maxEntries = maxEntries;
+        this.maxSize = maxSize;
+        this.spill = spill;
+    }
+
+    @Override
+    public synchronized Message getMessage(String id) {
+        StoreEntry entry = messages.get(id);
+        if (entry != null) {
+            return entry.message;
+        }
+
+        SpillLocation location = spilled.get(id);
+        if (location == null) {
+            return null;
+        }
+
+        return readSpilled(location);
+    }
+
+    @Override
+    public synchronized void storeMessage(String id, Message message) {
+        StoreEntry replaced = messages.remove(id);
+        if (replaced != null) {
+            size -= replaced.weight;
+        }
+        SpillLocation stale = spilled.remove(id);
+        if (stale != null) {
+            spillLiveBytes -= stale.length;
+        }
+
+        StoreEntry entry = new StoreEntry(message, getWeight(message));
+        messages.put(id, entry);
+        size += entry.weight;
+
+        evict();
+
+        if (spillFileLength - spillLiveBytes > spillLiveBytes) {
+            compact();
+        }
+    }
+
+    @Override
+    public String constructMessageName(TestAction action, Endpoint endpoint) {
+        return action.getName() + "(" + endpoint.getName() + ")";
+    }
+
+    /**
+     * Removes all messages from memory and deletes spill file.
+     */
+    public synchronized void clear() {
+        messages.clear();
+        size = 0L;
+
+        close();
+    }
+
+    /**
+     * Deletes spill file and removes all spilled messages. Messages held in memory are still available.
+     */
+    @Override
+    public synchronized void close() {
+        spilled.clear();
+
+        if (spillFile != null) {
+            if (!spillFile.delete()) {
+                log.warn("Failed to delete message store spill file: " + spillFile);
+            }
+
+            spillFile = null;
+            spillFileLength = 0L;
+            spillLiveBytes = 0L;
+        }
+    }
+
+    /**
+     * Gets the number of messages held in memory.
+     * @return
+     */
+    public synchronized int getEntryCount() {
+        return messages.size();
+    }
+
+    /**
+     * Gets the number of spilled messages.
+     * @return
+     */
+    public synchronized int getSpilledCount() {
+        return spilled.size();
+    }
+
+    /**
+     * Gets the spill file or null when no message has been spilled yet.
+     * @return
+     */
+    public synchronized File getSpillFile() {
+        return spillFile;
+    }
+
+    /**
+     * Gets the current length of the spill file in bytes.
+     * @return
+     */
+    public synchronized long getSpillFileLength() {
+        return spillFileLength;
+    }
+
+    /**
+     * Gets the approximate amount of payload bytes held in memory.
+     * @return
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * Evicts least recently used messages until limits are met. Most recently stored message is always kept in memory.
+     * Must be called while holding the store lock.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, StoreEntry>> iterator = messages.entrySet().iterator();
+        while (messages.size() > 1 && isLimitExceeded() && iterator.hasNext()) {
+            Map.Entry<String, StoreEntry> eldest = iterator.next();
+            iterator.remove();
+            size -= eldest.getValue().weight;
+
+            if (spill) {
+                spill(eldest.getKey(), eldest.getValue().message);
+            } else if (log.isDebugEnabled()) {
+                log.debug(String.format("Evicted message from message store: '%s'", eldest.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Checks if number of entries or size exceeds configured limits.
+     * @return
+     */
+    private boolean isLimitExceeded() {
+        return (maxEntries > 0 && messages.size() > maxEntries) || (maxSize > 0 && size > maxSize);
+    }
+
+    /**
+     * Appends serialized message to spill file. Must be called while holding the store lock.
+     * @param id
+     * @param message
+     */
+    private void spill(String id, Message message) {
+        byte[] data;
+        try (ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+             ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+            out.flush();
+            data = bytes.toByteArray();
+        } catch (IOException e) {
+            log.warn(String.format("Unable to spill message '%s' - message is dropped from message store: %s", id, e.getMessage()));
+            return;
+        }
+
+        try {
+            if (spillFile == null) {
+                spillFile = createSpillFile();
+            }
+
+            try (FileChannel channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                long position = spillFileLength;
+                while (buffer.hasRemaining()) {
+                    position += channel.write(buffer, position);
+                }
+            }
+
+            spilled.put(id, new SpillLocation(spillFileLength, data.length));
+            spillFileLength += data.length;
+            spillLiveBytes += data.length;
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Spilled message from message store to file: '%s'", id));
+            }
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to write message store spill file", e);
+        }
+    }
+
+    /**
+     * Rewrites spill file with currently spilled messages only so stale bytes of messages that have been stored again
+     * get released. Must be called while holding the store lock.
+     */
+    private void compact() {
+        if (spilled.isEmpty()) {
+            close();
+            return;
+        }
+
+        File compacted = null;
+        try {
+            compacted = createSpillFile();
+
+            Map<String, SpillLocation> locations = new HashMap<>();
+            long length = 0L;
+            try (FileChannel source = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ);
+                 FileChannel target = FileChannel.open(compacted.toPath(), StandardOpenOption.WRITE)) {
+                for (Map.Entry<String, SpillLocation> entry : spilled.entrySet()) {
+                    SpillLocation location = entry.getValue();
+                    long transferred = 0L;
+                    while (transferred < location.length) {
+                        transferred += source.transferTo(location.position + transferred, location.length - transferred, target);
+                    }
+
+                    locations.put(entry.getKey(), new SpillLocation(length, location.length));
+                    length += location.length;
+                }
+            }
+
+            if (!spillFile.delete()) {
+                log.warn("Failed to delete message store spill file: " + spillFile);
+            }
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Compacted message store spill file from %s to %s bytes", spillFileLength, length));
+            }
+
+            spillFile = compacted;
+            spillFileLength = length;
+            spillLiveBytes = length;
+            spilled.putAll(locations);
+        } catch (IOException e) {
+            if (compacted != null && !compacted.delete()) {
+                log.warn("Failed to delete message store spill file: " + compacted);
+            }
+
+            throw new CitrusRuntimeException("Failed to compact message store spill file", e);
+        }
+    }
+
+    /**
+     * Creates new temporary spill file that is removed on JVM exit in case the store never gets closed.
+     * @return
+     * @throws IOException
+     */
+    private File createSpillFile() throws IOException {
+        File file = File.createTempFile("citrus-messages", ".store");
+        file.deleteOnExit();
+        return file;
+    }
+
+    /**
+     * Reads spilled message from spill file. Must be called while holding the store lock.
+     * @param location
+     * @return
+     */
+    private Message readSpilled(SpillLocation location) {
+        try (FileChannel channel = FileChannel.open(spillFile.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(location.length);
+            long position = location.position;
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of message store spill file");
+                }
+                position += read;
+            }
+
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(buffer.array()))) {
+                return (Message) in.readObject();
+            }
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CitrusRuntimeException("Failed to read message from message store spill file", e);
+        }
+    }
+
+    /**
+     * Gets approximate payload size in bytes. Only String and byte array payloads are weighed, other payload types
+     * are limited by number of entries only.
+     * @param message
+     * @return
+     */
+    private long getWeight(Message message) {
+        Object payload = message.getPayload();
+        if (payload instanceof String) {
+            return ((String) payload).length() * 2L;
+        } else if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        }
+
+        return 0L;
+    }
+
+    /**
+     * Gets the maxEntries.
+     *
+     * @return
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * Gets the maxSize.
+     *
+     * @return
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the spill.
+     *
+     * @return
+     */
+    public boolean isSpill() {
+        return spill;
+    }
+
+    /**
+     * Message held in memory with its weight in bytes.
+     */
+    private static class StoreEntry {
+        private final Message message;
+        private final long weight;
+
+        StoreEntry(Message message, long weight) {
+            this.message = message;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Position and length of serialized message in spill file.
+     */
+    private static class SpillLocation {
+        private final long position;
+        private final int length;
+
+        SpillLocation(long position, int length) {
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.endpoint.EndpointConfiguration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Extension of default correlation manager that blocks find operation until the correlated object is stored or the
+ * timeout is reached. In contrast to the polling correlation manager the waiting caller is notified as soon as
+ * the object arrives so replies that are completed asynchronously, e.g. by event listeners, do not wait for the
+ * next polling interval.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class WaitingCorrelationManager<T> extends DefaultCorrelationManager<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(WaitingCorrelationManager.class);
+
+    /** Endpoint configuration providing default timeout */
+    private final EndpointConfiguration endpointConfiguration;
+
+    /** Monitor notified on each stored object */
+    private final Object storeMonitor = new Object();
+
+    /**
+     * Constructor using endpoint configuration.
+     * @param endpointConfiguration
+     */
+    public WaitingCorrelationManager(EndpointConfiguration endpointConfiguration) {
+        this.endpointConfiguration = endpointConfiguration;
+    }
+
+    /**
+     * Convenience method for using default timeout settings of endpoint configuration.
+     * @param correlationKey
+     * @return
+     */
+    public T find(String correlationKey) {
+        return find(correlationKey, endpointConfiguration.getTimeout());
+    }
+
+    @Override
+    public void store(String correlationKey, T object) {
+        synchronized (storeMonitor) {
+            super.store(correlationKey, object);
+            storeMonitor.notifyAll();
+        }
+    }
+
+    @Override
+    public T find(String correlationKey, long timeout) {
+        long deadline = System.currentTimeMillis() + timeout;
+
+        synchronized (storeMonitor) {
+            T stored = super.find(correlationKey, timeout);
+
+            long timeLeft = deadline - System.currentTimeMillis();
+            while (stored == null && timeLeft > 0) {
+                try {
+                    storeMonitor.wait(timeLeft);
+                } catch (InterruptedException e) {
+                    log.warn("Thread interrupted while waiting for correlated object", e);
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+
+                stored = super.find(correlationKey, timeout);
+                timeLeft = deadline - System.currentTimeMillis();
+            }
+
+            return stored;
+        }
+    }
+}
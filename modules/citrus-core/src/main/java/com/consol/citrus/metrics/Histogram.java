@@ -0,0 +1,216 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * Thread safe histogram recording long values such as latencies in nanoseconds or message sizes in bytes. Values are counted in
+ * log-linear buckets similar to HdrHistogram so memory is constant and percentiles are exact within the configured precision
+ * (128 sub-buckets per power of two, relative error below one percent). Besides percentiles the histogram tracks count, sum, min,
+ * max and the time span of recordings in order to calculate throughput.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class Histogram {
+
+    /** Number of bits used for linear sub-buckets */
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+
+    /** Total number of buckets covering all positive long values */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_HALF_COUNT;
+
+    /** Histogram name */
+    private final String name;
+
+    /** Bucket counts */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0L);
+
+    /** First and last recording time in milliseconds */
+    private final AtomicLong firstRecorded = new AtomicLong(0L);
+    private final AtomicLong lastRecorded = new AtomicLong(0L);
+
+    /**
+     * Default constructor using histogram name.
+     * @param name
+     */
+    public Histogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records given value. Negative values are recorded as zero.
+     * @param value
+     */
+    public void record(long value) {
+        long recorded = Math.max(0L, value);
+
+        counts.incrementAndGet(getBucketIndex(recorded));
+        totalCount.increment();
+        sum.add(recorded);
+        min.accumulateAndGet(recorded, Math::min);
+        max.accumulateAndGet(recorded, Math::max);
+
+        long now = System.currentTimeMillis();
+        firstRecorded.compareAndSet(0L, now);
+        lastRecorded.accumulateAndGet(now, Math::max);
+    }
+
+    /**
+     * Gets the value at given percentile. Value is the highest value equivalent to the bucket that
+     * holds the percentile, limited by the max value recorded.
+     * @param percentile percentile between 0 and 100
+     * @return
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = getCount();
+        if (count == 0) {
+            return 0L;
+        }
+
+        long countAtPercentile = Math.max(1L, (long) Math.ceil(Math.min(100.0, Math.max(0.0, percentile)) / 100.0 * count));
+        long seen = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= countAtPercentile) {
+                return Math.min(getHighestEquivalentValue(i), getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return
+     */
+    public long getCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     * @return
+     */
+    public long getSum() {
+        return sum.sum();
+    }
+
+    /**
+     * Gets the arithmetic mean of recorded values.
+     * @return
+     */
+    public double getMean() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) getSum() / count;
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     * @return
+     */
+    public long getMin() {
+        return getCount() == 0 ? 0L : min.get();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     * @return
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the number of recorded values per second between first and last recording.
+     * @return
+     */
+    public double getThroughput() {
+        long count = getCount();
+        if (count == 0) {
+            return 0.0;
+        }
+
+        long duration = lastRecorded.get() - firstRecorded.get();
+        return duration <= 0 ? count : count * 1000.0 / duration;
+    }
+
+    /**
+     * Resets all recorded values.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0L);
+        }
+
+        totalCount.reset();
+        sum.reset();
+        min.set(Long.MAX_VALUE);
+        max.set(0L);
+        firstRecorded.set(0L);
+        lastRecorded.set(0L);
+    }
+
+    /**
+     * Gets bucket index for value. Values below sub-bucket count are counted linearly, larger values
+     * in half sub-bucket steps per power of two.
+     * @param value
+     * @return
+     */
+    static int getBucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+
+        int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - (SUB_BUCKET_BITS - 1);
+        return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF_COUNT + (int) ((value >>> shift) - SUB_BUCKET_HALF_COUNT);
+    }
+
+    /**
+     * Gets the highest value that is counted in given bucket.
+     * @param index
+     * @return
+     */
+    static long getHighestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_HALF_COUNT + 1;
+        long subBucket = offset % SUB_BUCKET_HALF_COUNT + SUB_BUCKET_HALF_COUNT;
+        long highest = ((subBucket + 1) << shift) - 1;
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+
+    /**
+     * Gets the name.
+     *
+     * @return
+     */
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import javax.management.*;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+
+/**
+ * Exports metrics registry histograms as read only attributes of a dynamic MBean on the platform MBean server. Each histogram
+ * provides count, mean, min, max, throughput and percentile attributes named after the histogram e.g. "action:send.p99".
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmxMetricsExporter implements DynamicMBean, InitializingBean, DisposableBean {
+
+    /** Default MBean object name */
+    public static final String DEFAULT_OBJECT_NAME = "com.consol.citrus:type=Metrics";
+
+    /** Exported attribute suffixes */
+    private static final String[] ATTRIBUTES = { "count", "mean", "min", "max", "p50", "p90", "p99", "throughput" };
+
+    /** Registry holding metrics to export */
+    private final MetricsRegistry metricsRegistry;
+
+    /** MBean object name */
+    private String objectName = DEFAULT_OBJECT_NAME;
+
+    /** MBean server used for registration */
+    private MBeanServer mbeanServer = ManagementFactory.getPlatformMBeanServer();
+
+    /**
+     * Default constructor using metrics registry.
+     * @param metricsRegistry
+     */
+    public JmxMetricsExporter(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            if (mbeanServer.isRegistered(name)) {
+                mbeanServer.unregisterMBean(name);
+            }
+
+            mbeanServer.registerMBean(this, name);
+        } catch (JMException e) {
+            throw new CitrusRuntimeException("Failed to register metrics MBean", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        try {
+            ObjectName name = new ObjectName(objectName);
+            if (mbeanServer.isRegistered(name)) {
+                mbeanServer.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new CitrusRuntimeException("Failed to unregister metrics MBean", e);
+        }
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        int separator = attribute.lastIndexOf('.');
+        if (separator < 0) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        Histogram histogram = metricsRegistry.getHistograms().get(attribute.substring(0, separator));
+        if (histogram == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+
+        switch (attribute.substring(separator + 1)) {
+            case "count":
+                return histogram.getCount();
+            case "mean":
+                return histogram.getMean();
+            case "min":
+                return histogram.getMin();
+            case "max":
+                return histogram.getMax();
+            case "p50":
+                return histogram.getValueAtPercentile(50.0);
+            case "p90":
+                return histogram.getValueAtPercentile(90.0);
+            case "p99":
+                return histogram.getValueAtPercentile(99.0);
+            case "throughput":
+                return histogram.getThroughput();
+            default:
+                throw new AttributeNotFoundException(attribute);
+        }
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // skip unknown attribute
+            }
+        }
+
+        return list;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Metrics attributes are read only");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws MBeanException {
+        if ("reset".equals(actionName)) {
+            metricsRegistry.reset();
+            return null;
+        }
+
+        throw new MBeanException(new UnsupportedOperationException(actionName));
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+        for (String histogram : metricsRegistry.getHistograms().keySet()) {
+            for (String attribute : ATTRIBUTES) {
+                String type = attribute.equals("mean") || attribute.equals("throughput") ? Double.class.getName() : Long.class.getName();
+                attributes.add(new MBeanAttributeInfo(histogram + "." + attribute, type, attribute + " of " + histogram, true, false, false));
+            }
+        }
+
+        MBeanOperationInfo reset = new MBeanOperationInfo("reset", "Resets all recorded metrics", new MBeanParameterInfo[0], "void", MBeanOperationInfo.ACTION);
+
+        return new MBeanInfo(getClass().getName(), "Citrus metrics", attributes.toArray(new MBeanAttributeInfo[0]),
+                null, new MBeanOperationInfo[] { reset }, null);
+    }
+
+    /**
+     * Sets the objectName.
+     *
+     * @param objectName
+     */
+    public void setObjectName(String objectName) {
+        this.objectName = objectName;
+    }
+
+    /**
+     * Gets the objectName.
+     *
+     * @return
+     */
+    public String getObjectName() {
+        return objectName;
+    }
+
+    /**
+     * Sets the mbeanServer.
+     *
+     * @param mbeanServer
+     */
+    public void setMbeanServer(MBeanServer mbeanServer) {
+        this.mbeanServer = mbeanServer;
+    }
+}
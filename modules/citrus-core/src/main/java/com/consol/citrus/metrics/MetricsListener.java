@@ -0,0 +1,195 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.TestAction;
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.ReceiveMessageAction;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.report.MessageListener;
+import com.consol.citrus.report.TestActionListener;
+import com.consol.citrus.report.TestListener;
+import org.springframework.util.StringUtils;
+
+/**
+ * Listener records test action execution durations and message sizes to metrics registry. Durations are recorded in nanoseconds
+ * per test action name. Send and receive actions additionally record the duration per endpoint as endpoint latency. Inbound and
+ * outbound message sizes are recorded in bytes for binary payloads and in characters for all other payloads. Test actions that raise
+ * an error never get a finish event, their duration is recorded when the test finishes so failed actions are included in the metrics.
+ *
+ * Metrics are not recorded by default. Add this listener as bean to the Spring application context in order to enable metrics.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MetricsListener implements TestActionListener, TestListener, MessageListener {
+
+    /** Metric name prefixes */
+    public static final String ACTION_PREFIX = "action:";
+    public static final String ENDPOINT_PREFIX = "endpoint:";
+    public static final String INBOUND_MESSAGE_SIZE = "message:inbound:size";
+    public static final String OUTBOUND_MESSAGE_SIZE = "message:outbound:size";
+
+    /** Registry holding recorded metrics */
+    private final MetricsRegistry metricsRegistry;
+
+    /** Start time of test action currently running on this thread */
+    private final ThreadLocal<Long> actionStart = new ThreadLocal<>();
+
+    /**
+     * Default constructor using metrics registry.
+     * @param metricsRegistry
+     */
+    public MetricsListener(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    public void onTestActionStart(TestCase testCase, TestAction testAction) {
+        actionStart.set(System.nanoTime());
+    }
+
+    @Override
+    public void onTestActionFinish(TestCase testCase, TestAction testAction) {
+        Long start = actionStart.get();
+        if (start == null) {
+            return;
+        }
+
+        actionStart.remove();
+        record(testAction, System.nanoTime() - start);
+    }
+
+    @Override
+    public void onTestActionSkipped(TestCase testCase, TestAction testAction) {
+    }
+
+    @Override
+    public void onTestStart(TestCase test) {
+        actionStart.remove();
+    }
+
+    @Override
+    public void onTestFinish(TestCase test) {
+        Long start = actionStart.get();
+        if (start == null) {
+            return;
+        }
+
+        actionStart.remove();
+        if (test.getActiveAction() != null) {
+            record(test.getActiveAction(), System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(TestCase test) {
+    }
+
+    @Override
+    public void onTestFailure(TestCase test, Throwable cause) {
+    }
+
+    @Override
+    public void onTestSkipped(TestCase test) {
+    }
+
+    /**
+     * Records test action duration and endpoint latency for send and receive actions.
+     * @param testAction
+     * @param duration
+     */
+    private void record(TestAction testAction, long duration) {
+        metricsRegistry.histogram(ACTION_PREFIX + getActionName(testAction)).record(duration);
+
+        if (testAction instanceof SendMessageAction) {
+            SendMessageAction sendAction = (SendMessageAction) testAction;
+            metricsRegistry.histogram(ENDPOINT_PREFIX + getEndpointName(sendAction.getEndpoint() != null ? sendAction.getEndpoint().getName() : null, sendAction.getEndpointUri()) + ":send").record(duration);
+        } else if (testAction instanceof ReceiveMessageAction) {
+            ReceiveMessageAction receiveAction = (ReceiveMessageAction) testAction;
+            metricsRegistry.histogram(ENDPOINT_PREFIX + getEndpointName(receiveAction.getEndpoint() != null ? receiveAction.getEndpoint().getName() : null, receiveAction.getEndpointUri()) + ":receive").record(duration);
+        }
+    }
+
+    @Override
+    public void onInboundMessage(Message message, TestContext context) {
+        metricsRegistry.histogram(INBOUND_MESSAGE_SIZE).record(getMessageSize(message));
+    }
+
+    @Override
+    public void onOutboundMessage(Message message, TestContext context) {
+        metricsRegistry.histogram(OUTBOUND_MESSAGE_SIZE).record(getMessageSize(message));
+    }
+
+    /**
+     * Checks if given metric name represents a duration in nanoseconds.
+     * @param name
+     * @return
+     */
+    public static boolean isDuration(String name) {
+        return name.startsWith(ACTION_PREFIX) || name.startsWith(ENDPOINT_PREFIX);
+    }
+
+    /**
+     * Gets the message payload size.
+     * @param message
+     * @return
+     */
+    private long getMessageSize(Message message) {
+        Object payload = message.getPayload();
+        if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        }
+
+        String payloadString = message.getPayload(String.class);
+        return payloadString != null ? payloadString.length() : 0L;
+    }
+
+    /**
+     * Gets test action name falling back to simple class name.
+     * @param testAction
+     * @return
+     */
+    private String getActionName(TestAction testAction) {
+        return StringUtils.hasText(testAction.getName()) ? testAction.getName() : testAction.getClass().getSimpleName();
+    }
+
+    /**
+     * Gets endpoint name falling back to endpoint uri.
+     * @param endpointName
+     * @param endpointUri
+     * @return
+     */
+    private String getEndpointName(String endpointName, String endpointUri) {
+        if (StringUtils.hasText(endpointName)) {
+            return endpointName;
+        }
+
+        return StringUtils.hasText(endpointUri) ? endpointUri : "unknown";
+    }
+
+    /**
+     * Gets the metricsRegistry.
+     *
+     * @return
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import java.util.Map;
+
+/**
+ * Registry holding named histograms for test action durations, endpoint latencies and message sizes. Reporters and
+ * exporters read recorded metrics from this registry.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public interface MetricsRegistry {
+
+    /**
+     * Gets histogram for given name. Creates new histogram if not present yet.
+     * @param name
+     * @return
+     */
+    Histogram histogram(String name);
+
+    /**
+     * Gets all histograms sorted by name.
+     * @return
+     */
+    Map<String, Histogram> getHistograms();
+
+    /**
+     * Resets all recorded values.
+     */
+    void reset();
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.report.AbstractOutputFileReporter;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+
+/**
+ * Reporter exports all metrics registry histograms as JSON file so metrics can be tracked between test runs.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MetricsReporter extends AbstractOutputFileReporter {
+
+    /** Enables/disables report generation */
+    @Value("${citrus.metrics.report.enabled:true}")
+    private String enabled = Boolean.TRUE.toString();
+
+    /** Resulting metrics report file name */
+    @Value("${citrus.metrics.report.file:citrus-metrics.json}")
+    private String reportFileName = "citrus-metrics.json";
+
+    /** Registry holding metrics to export */
+    private final MetricsRegistry metricsRegistry;
+
+    /**
+     * Default constructor using metrics registry.
+     * @param metricsRegistry
+     */
+    public MetricsReporter(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
+    @Override
+    protected String getReportContent() {
+        JSONArray metrics = new JSONArray();
+        for (Map.Entry<String, Histogram> entry : metricsRegistry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+
+            JSONObject metric = new JSONObject();
+            metric.put("name", entry.getKey());
+            metric.put("unit", MetricsListener.isDuration(entry.getKey()) ? "ns" : "size");
+            metric.put("count", histogram.getCount());
+            metric.put("mean", histogram.getMean());
+            metric.put("min", histogram.getMin());
+            metric.put("max", histogram.getMax());
+            metric.put("p50", histogram.getValueAtPercentile(50.0));
+            metric.put("p90", histogram.getValueAtPercentile(90.0));
+            metric.put("p99", histogram.getValueAtPercentile(99.0));
+            metric.put("throughput", histogram.getThroughput());
+            metrics.add(metric);
+        }
+
+        JSONObject report = new JSONObject();
+        report.put("metrics", metrics);
+        return report.toJSONString();
+    }
+
+    /**
+     * Sets the enabled property.
+     *
+     * @param enabled
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = String.valueOf(enabled);
+    }
+
+    @Override
+    protected boolean isEnabled() {
+        return StringUtils.hasText(enabled) && enabled.equalsIgnoreCase(Boolean.TRUE.toString());
+    }
+
+    /**
+     * Sets the reportFileName.
+     *
+     * @param reportFileName
+     */
+    public void setReportFileName(String reportFileName) {
+        this.reportFileName = reportFileName;
+    }
+
+    /**
+     * Gets the reportFileName.
+     *
+     * @return
+     */
+    @Override
+    public String getReportFileName() {
+        return reportFileName;
+    }
+
+    /**
+     * Gets the metricsRegistry.
+     *
+     * @return
+     */
+    public MetricsRegistry getMetricsRegistry() {
+        return metricsRegistry;
+    }
+}
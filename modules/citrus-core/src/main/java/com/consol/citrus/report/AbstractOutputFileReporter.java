@@ -31,13 +31,16 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(AbstractOutputFileReporter.class);
 
+    /** Buffer size used when writing report files */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Override
     public final void generateTestResults() {
         if (!isEnabled()) {
             return;
         }
 
-        createReportFile(getReportFileName(), getReportContent());
+        createReportFile(getReportFileName());
     }
 
     protected abstract boolean isEnabled();
@@ -47,11 +50,20 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
     protected abstract String getReportFileName();
 
     /**
-     * Creates the HTML report file
+     * Writes report content to given writer. Subclasses may overwrite this method in order to stream
+     * large report content directly to the report file.
+     * @param writer
+     * @throws IOException
+     */
+    protected void writeReportContent(Writer writer) throws IOException {
+        writer.write(getReportContent());
+    }
+
+    /**
+     * Creates the report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
      */
-    private void createReportFile(String reportFileName, String content) {
+    private void createReportFile(String reportFileName) {
         File targetDirectory = new File(getReportDirectory());
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
@@ -59,8 +71,8 @@ public abstract class AbstractOutputFileReporter extends AbstractTestReporter {
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)), BUFFER_SIZE)) {
+            writeReportContent(fileWriter);
             fileWriter.flush();
             log.info("Generated test report: " + targetDirectory + File.separator + reportFileName);
         } catch (IOException e) {
@@ -18,12 +18,15 @@ package com.consol.citrus.report;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.TestCaseMetaInfo;
+import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.metrics.*;
 import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.lang.StringEscapeUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.util.StringUtils;
@@ -71,52 +74,73 @@ public class HtmlReporter extends AbstractOutputFileReporter {
     /** Enables/disables report generation */
     @Value("${citrus.html.report.enabled:true}")
     private String enabled = Boolean.TRUE.toString();
+
+    /** Optional metrics registry adds metrics section to report */
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry;
     
     @Override
     public String getReportContent() {
-        final StringBuilder reportDetails = new StringBuilder();
-        
-        log.debug("Generating HTML test report");
-
+        StringWriter writer = new StringWriter();
         try {
-            final String testDetails = FileUtils.readToString(FileUtils.getFileResource(testDetailTemplate));
-            final String emptyString = "";
-
-            getTestResults().doWithResults(result -> {
-                ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElse(new ResultDetail());
-
-                Properties detailProps = new Properties();
-                detailProps.put("test.style.class", result.getResult().toLowerCase());
-                detailProps.put("test.case.name", result.getTestName());
-                detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
-                detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
-                detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
-                detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
-                detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
-                detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
-                detailProps.put("test.result", result.getResult());
-
-                reportDetails.append(PropertyUtils.replacePropertiesInString(testDetails, detailProps));
-
-                if (result.isFailed() && result.getCause() != null) {
-                    reportDetails.append(getStackTraceHtml(result.getCause()));
-                }
-            });
-
-            Properties reportProps = new Properties();
-            reportProps.put("test.cnt", Integer.toString(getTestResults().getSize()));
-            reportProps.put("skipped.test.cnt", Integer.toString(getTestResults().getSkipped()));
-            reportProps.put("skipped.test.pct", getTestResults().getSkippedPercentage());
-            reportProps.put("failed.test.cnt", Integer.toString(getTestResults().getFailed()));
-            reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
-            reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
-            reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
-            reportProps.put("test.results", reportDetails.toString());
-            reportProps.put("logo.data", getLogoImageData());
-            return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
+            writeReportContent(writer);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate HTML test report", e);
         }
+
+        return writer.toString();
+    }
+
+    @Override
+    protected void writeReportContent(Writer writer) throws IOException {
+        log.debug("Generating HTML test report");
+
+        final ReportTemplate detailTemplate = ReportTemplate.load(testDetailTemplate);
+
+        Map<String, Object> reportProps = new HashMap<>();
+        reportProps.put("test.cnt", Integer.toString(getTestResults().getSize()));
+        reportProps.put("skipped.test.cnt", Integer.toString(getTestResults().getSkipped()));
+        reportProps.put("skipped.test.pct", getTestResults().getSkippedPercentage());
+        reportProps.put("failed.test.cnt", Integer.toString(getTestResults().getFailed()));
+        reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
+        reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
+        reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
+        reportProps.put("test.results", (ReportTemplate.ContentWriter) resultWriter -> writeTestResults(resultWriter, detailTemplate));
+        reportProps.put("logo.data", getLogoImageData());
+        reportProps.put("metrics.results", getMetricsHtml());
+
+        ReportTemplate.load(reportTemplate).write(writer, reportProps);
+    }
+
+    /**
+     * Writes test result details one by one to the given writer.
+     * @param writer
+     * @param detailTemplate
+     * @throws IOException
+     */
+    private void writeTestResults(Writer writer, ReportTemplate detailTemplate) throws IOException {
+        final String emptyString = "";
+        Map<String, Object> detailProps = new HashMap<>();
+
+        for (TestResult result : getTestResults().asList()) {
+            ResultDetail detail = Optional.ofNullable(details.get(result.getTestName())).orElse(new ResultDetail());
+
+            detailProps.put("test.style.class", result.getResult().toLowerCase());
+            detailProps.put("test.case.name", result.getTestName());
+            detailProps.put("test.author", !StringUtils.hasText(detail.getMetaInfo().getAuthor()) ? emptyString : detail.getMetaInfo().getAuthor());
+            detailProps.put("test.status", detail.getMetaInfo().getStatus().toString());
+            detailProps.put("test.creation.date", detail.getMetaInfo().getCreationDate() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getCreationDate()));
+            detailProps.put("test.updater", !StringUtils.hasText(detail.getMetaInfo().getLastUpdatedBy()) ? emptyString : detail.getMetaInfo().getLastUpdatedBy());
+            detailProps.put("test.update.date", detail.getMetaInfo().getLastUpdatedOn() == null ? emptyString : dateFormat.format(detail.getMetaInfo().getLastUpdatedOn()));
+            detailProps.put("test.description", !StringUtils.hasText(detail.getDescription()) ? emptyString : detail.getDescription());
+            detailProps.put("test.result", result.getResult());
+
+            detailTemplate.write(writer, detailProps);
+
+            if (result.isFailed() && result.getCause() != null) {
+                writer.write(getStackTraceHtml(result.getCause()));
+            }
+        }
     }
 
     /**
@@ -156,6 +180,49 @@ public class HtmlReporter extends AbstractOutputFileReporter {
         return Base64.encodeBase64String(os.toByteArray());
     }
 
+    /**
+     * Construct HTML metrics table with durations in milliseconds. Returns empty string when
+     * no metrics have been recorded.
+     * @return
+     */
+    private String getMetricsHtml() {
+        if (metricsRegistry == null || metricsRegistry.getHistograms().isEmpty()) {
+            return "";
+        }
+
+        StringBuilder metricsHtml = new StringBuilder();
+        metricsHtml.append("<h1>Metrics</h1><table id=\"report-metrics\"><thead><tr>")
+                .append("<th>Name</th><th>Count</th><th>Mean</th><th>p50</th><th>p90</th><th>p99</th><th>Max</th><th>Throughput</th>")
+                .append("</tr></thead><tbody>");
+
+        for (Map.Entry<String, Histogram> entry : metricsRegistry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            boolean duration = MetricsListener.isDuration(entry.getKey());
+
+            metricsHtml.append("<tr><td>").append(StringEscapeUtils.escapeHtml(entry.getKey())).append("</td>")
+                    .append("<td>").append(histogram.getCount()).append("</td>")
+                    .append("<td>").append(formatMetric(histogram.getMean(), duration)).append("</td>")
+                    .append("<td>").append(formatMetric(histogram.getValueAtPercentile(50.0), duration)).append("</td>")
+                    .append("<td>").append(formatMetric(histogram.getValueAtPercentile(90.0), duration)).append("</td>")
+                    .append("<td>").append(formatMetric(histogram.getValueAtPercentile(99.0), duration)).append("</td>")
+                    .append("<td>").append(formatMetric(histogram.getMax(), duration)).append("</td>")
+                    .append("<td>").append(String.format("%.2f/s", histogram.getThroughput())).append("</td></tr>");
+        }
+
+        metricsHtml.append("</tbody></table>");
+        return metricsHtml.toString();
+    }
+
+    /**
+     * Formats metric value. Durations in nanoseconds are formatted as milliseconds.
+     * @param value
+     * @param duration
+     * @return
+     */
+    private String formatMetric(double value, boolean duration) {
+        return duration ? String.format("%.3f ms", value / 1000000.0) : String.format("%.0f", value);
+    }
+
     /**
      * Gets the code section from test case XML which is responsible for the
      * error.
@@ -262,6 +329,15 @@ public class HtmlReporter extends AbstractOutputFileReporter {
         super.onTestSkipped(test);
     }
 
+    /**
+     * Sets the metricsRegistry.
+     *
+     * @param metricsRegistry
+     */
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Sets the logo.
      * @param logo the logo to set
@@ -18,8 +18,6 @@ package com.consol.citrus.report;
 
 import com.consol.citrus.TestResult;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
-import com.consol.citrus.util.FileUtils;
-import com.consol.citrus.util.PropertyUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -65,16 +63,19 @@ public class JUnitReporter extends AbstractTestReporter {
     @Value("${citrus.junit.report.enabled:true}")
     private String enabled = Boolean.TRUE.toString();
 
+    /** Buffer size used when writing report files */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
     @Override
     public void generateTestResults() {
         if (isEnabled()) {
-            ReportTemplates reportTemplates = new ReportTemplates();
-
             log.debug("Generating JUnit test report");
 
             try {
+                ReportTemplates reportTemplates = new ReportTemplates();
+
                 List<TestResult> results = getTestResults().asList();
-                createReportFile(String.format(reportFileNamePattern, suiteName), createReportContent(suiteName, results, reportTemplates), new File(getReportDirectory()));
+                createReportFile(String.format(reportFileNamePattern, suiteName), suiteName, results, reportTemplates, new File(getReportDirectory()));
 
                 Map<String, List<TestResult>> groupedResults = new HashMap<>();
                 for(TestResult result : results) {
@@ -87,7 +88,7 @@ public class JUnitReporter extends AbstractTestReporter {
 
                 File targetDirectory = new File(getReportDirectory() + (StringUtils.hasText(outputDirectory) ? File.separator + outputDirectory : ""));
                 for (Map.Entry<String, List<TestResult>> resultEntry : groupedResults.entrySet()) {
-                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), createReportContent(resultEntry.getKey(), resultEntry.getValue(), reportTemplates), targetDirectory);
+                    createReportFile(String.format(reportFileNamePattern, resultEntry.getKey()), resultEntry.getKey(), resultEntry.getValue(), reportTemplates, targetDirectory);
                 }
             } catch (IOException e) {
                 throw new CitrusRuntimeException("Failed to generate JUnit test report", e);
@@ -96,17 +97,38 @@ public class JUnitReporter extends AbstractTestReporter {
     }
 
     /**
-     * Create report file for test class.
+     * Writes report content for test suite or test class. Test results are written one by one
+     * directly to the given writer.
+     * @param writer
      * @param suiteName
      * @param results
      * @param templates
-     * @return
      */
-    private String createReportContent(String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
-        final StringBuilder reportDetails = new StringBuilder();
+    private void writeReportContent(Writer writer, String suiteName, List<TestResult> results, ReportTemplates templates) throws IOException {
+        Map<String, Object> reportProps = new HashMap<>();
+        reportProps.put("test.suite", suiteName);
+        reportProps.put("test.cnt", Integer.toString(results.size()));
+        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
+        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
+        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
+        reportProps.put("test.error.cnt", "0");
+        reportProps.put("test.duration", "0.0");
+        reportProps.put("tests", (ReportTemplate.ContentWriter) testsWriter -> writeTestResults(testsWriter, results, templates));
+
+        templates.getReportTemplate().write(writer, reportProps);
+    }
+
+    /**
+     * Writes test results using success or failed template.
+     * @param writer
+     * @param results
+     * @param templates
+     * @throws IOException
+     */
+    private void writeTestResults(Writer writer, List<TestResult> results, ReportTemplates templates) throws IOException {
+        Map<String, Object> detailProps = new HashMap<>();
 
         for (TestResult result: results) {
-            Properties detailProps = new Properties();
             detailProps.put("test.class", result.getClassName());
             detailProps.put("test.name", result.getTestName());
             detailProps.put("test.duration", "0.0");
@@ -115,64 +137,65 @@ public class JUnitReporter extends AbstractTestReporter {
                 detailProps.put("test.error.cause", Optional.ofNullable(result.getCause()).map(Object::getClass).map(Class::getName).orElse(result.getFailureType()));
                 detailProps.put("test.error.msg", result.getErrorMessage());
                 detailProps.put("test.error.stackTrace", Optional.ofNullable(result.getCause()).map(cause -> {
-                    StringWriter writer = new StringWriter();
-                    cause.printStackTrace(new PrintWriter(writer));
-                    return writer.toString();
+                    StringWriter stackTraceWriter = new StringWriter();
+                    cause.printStackTrace(new PrintWriter(stackTraceWriter));
+                    return stackTraceWriter.toString();
                 }).orElse(result.getFailureStack()));
-                reportDetails.append(PropertyUtils.replacePropertiesInString(templates.getFailedTemplate(), detailProps));
+                templates.getFailedTemplate().write(writer, detailProps);
             } else {
-                reportDetails.append(PropertyUtils.replacePropertiesInString(templates.getSuccessTemplate(), detailProps));
+                templates.getSuccessTemplate().write(writer, detailProps);
             }
         }
-
-        Properties reportProps = new Properties();
-        reportProps.put("test.suite", suiteName);
-        reportProps.put("test.cnt", Integer.toString(results.size()));
-        reportProps.put("test.skipped.cnt", Long.toString(results.stream().filter(TestResult::isSkipped).count()));
-        reportProps.put("test.failed.cnt", Long.toString(results.stream().filter(TestResult::isFailed).count()));
-        reportProps.put("test.success.cnt", Long.toString(results.stream().filter(TestResult::isSuccess).count()));
-        reportProps.put("test.error.cnt", "0");
-        reportProps.put("test.duration", "0.0");
-        reportProps.put("tests", reportDetails.toString());
-        return PropertyUtils.replacePropertiesInString(templates.getReportTemplate(), reportProps);
     }
 
     /**
      * Creates the JUnit report file
      * @param reportFileName The report file to write
-     * @param content The String content of the report file
+     * @param suiteName
+     * @param results
+     * @param templates
+     * @param targetDirectory
      */
-    private void createReportFile(String reportFileName, String content, File targetDirectory) {
+    private void createReportFile(String reportFileName, String suiteName, List<TestResult> results, ReportTemplates templates, File targetDirectory) throws IOException {
         if (!targetDirectory.exists()) {
             if (!targetDirectory.mkdirs()) {
                 throw new CitrusRuntimeException("Unable to create report output directory: " + getReportDirectory() + (StringUtils.hasText(outputDirectory) ? "/" + outputDirectory : ""));
             }
         }
 
-        try (Writer fileWriter = new FileWriter(new File(targetDirectory, reportFileName))) {
-            fileWriter.append(content);
+        try (Writer fileWriter = new BufferedWriter(new FileWriter(new File(targetDirectory, reportFileName)), BUFFER_SIZE)) {
+            writeReportContent(fileWriter, suiteName, results, templates);
             fileWriter.flush();
         } catch (IOException e) {
             log.error("Failed to create test report", e);
         }
     }
 
+    /**
+     * Pre-parsed report templates loaded once per report generation.
+     */
     private class ReportTemplates {
 
-        private String reportTemplateContent;
-        private String successTemplateContent;
-        private String failedTemplateContent;
+        private final ReportTemplate reportTemplateContent;
+        private final ReportTemplate successTemplateContent;
+        private final ReportTemplate failedTemplateContent;
+
+        /**
+         * Default constructor loads and parses all templates.
+         * @throws IOException
+         */
+        ReportTemplates() throws IOException {
+            reportTemplateContent = ReportTemplate.load(reportTemplate);
+            successTemplateContent = ReportTemplate.load(successTemplate);
+            failedTemplateContent = ReportTemplate.load(failedTemplate);
+        }
 
         /**
          * Gets the reportTemplateContent.
          *
          * @return
          */
-        public String getReportTemplate() throws IOException {
-            if (reportTemplateContent == null) {
-                reportTemplateContent = FileUtils.readToString(FileUtils.getFileResource(reportTemplate));
-            }
-
+        public ReportTemplate getReportTemplate() {
             return reportTemplateContent;
         }
 
@@ -181,11 +204,7 @@ public class JUnitReporter extends AbstractTestReporter {
          *
          * @return
          */
-        public String getSuccessTemplate() throws IOException {
-            if (successTemplateContent == null) {
-                successTemplateContent = FileUtils.readToString(FileUtils.getFileResource(successTemplate));
-            }
-
+        public ReportTemplate getSuccessTemplate() {
             return successTemplateContent;
         }
 
@@ -194,11 +213,7 @@ public class JUnitReporter extends AbstractTestReporter {
          *
          * @return
          */
-        public String getFailedTemplate() throws IOException {
-            if (failedTemplateContent == null) {
-                failedTemplateContent = FileUtils.readToString(FileUtils.getFileResource(failedTemplate));
-            }
-
+        public ReportTemplate getFailedTemplate() {
             return failedTemplateContent;
         }
     }
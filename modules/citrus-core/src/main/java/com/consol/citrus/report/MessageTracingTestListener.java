@@ -23,16 +23,27 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.RawMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Value;
 
 import java.io.*;
 import java.text.SimpleDateFormat;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
 
 /**
  * Test listener collects all messages sent and received by Citrus during test execution. Listener
  * writes a trace file with all message content per test case to a output directory.
+ *
+ * In async mode messages are collected in a bounded buffer per test. Full buffers and the remaining messages on test finish
+ * are handed over to a background writer so file I/O does not add to the test duration. The background writer queue is
+ * bounded, too. When the queue is full the configured overflow policy either blocks the test thread, drops the oldest pending
+ * write or drops the newest write. Dropped writes are counted and logged, the total is reported when the listener is destroyed.
+ * Trace files may be compressed and rotated based on size. Failures while writing trace
+ * files are logged and never fail the test.
  * 
  * Note: This class is not thread safe! Parallel test execution leads to behaviour that messages get mixed.
  * Proper correlation to test case is not possible here.
@@ -40,26 +51,74 @@ import java.util.*;
  * @author Christoph Deppisch
  * @since 1.2
  */
-public class MessageTracingTestListener extends AbstractTestListener implements InitializingBean, MessageListener {
+public class MessageTracingTestListener extends AbstractTestListener implements InitializingBean, DisposableBean, MessageListener {
     
     /** File ending for all message trace files */
     private static final String TRACE_FILE_ENDING = ".msgs";
 
+    /** File ending for compressed message trace files */
+    private static final String COMPRESSED_FILE_ENDING = ".gz";
+
     /** File ending for all message trace files */
     private static final Date TEST_EXECUTION_DATE = new Date();
 
     /** Output directory */
     @Value("${citrus.message.trace.directory:target/citrus-logs/trace/messages}")
     private String outputDirectory;
+
+    /** Write trace files asynchronously in background thread */
+    @Value("${citrus.message.trace.async:false}")
+    private boolean async = false;
+
+    /** Maximum number of messages buffered per test before they are handed over to the background writer */
+    @Value("${citrus.message.trace.buffer.size:1000}")
+    private int bufferSize = 1000;
+
+    /** Maximum number of pending writes in background writer queue */
+    @Value("${citrus.message.trace.queue.capacity:100}")
+    private int queueCapacity = 100;
+
+    /** Policy applied when background writer queue is full */
+    @Value("${citrus.message.trace.overflow.policy:BLOCK}")
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /** Maximum trace file size in bytes before a new file is started, zero disables rotation */
+    @Value("${citrus.message.trace.max.file.size:0}")
+    private long maxFileSize = 0L;
+
+    /** Compress trace files with gzip */
+    @Value("${citrus.message.trace.compress:false}")
+    private boolean compress = false;
     
     /** List of messages to trace */
     private final List<String> messages = new ArrayList<>();
+
+    /** Trace file of currently running test */
+    private TraceFile traceFile;
     
     /** Locking object for synchronization */
     private final Object lockObject = new Object();
 
+    /** Background writer used in async mode */
+    private ThreadPoolExecutor writer;
+
+    /** Number of trace writes dropped by overflow policy */
+    private final AtomicLong droppedWrites = new AtomicLong();
+
     /** Logger */
     private static final Logger LOG = LoggerFactory.getLogger(MessageTracingTestListener.class);
+
+    /**
+     * Overflow policy for background writer queue.
+     */
+    public enum OverflowPolicy {
+        /** Test thread waits until writer queue has space available */
+        BLOCK,
+        /** Oldest pending write is dropped */
+        DROP_OLDEST,
+        /** New write is dropped */
+        DROP_NEWEST
+    }
             
     /**
      * {@inheritDoc}
@@ -68,6 +127,7 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void onTestStart(TestCase test) {
         synchronized (lockObject) {
             messages.clear();
+            traceFile = new TraceFile(test.getName());
         }
     }
     
@@ -76,44 +136,124 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     @Override
     public void onTestFinish(TestCase test) {
-        if (messages.isEmpty()) {
-            return; // do not write empty message trace file
-        }
-
-        try(BufferedWriter writer = new BufferedWriter(new FileWriter(getTraceFile(test.getName())))) {
-            writer.write(separator() + newLine() + newLine());
-            
-            synchronized (lockObject) {
-                for (String message : messages) {
-                    writer.write(message);
-                    writer.write(newLine() + separator() + newLine() + newLine());
-                }
+        List<String> pending;
+        TraceFile target;
+        synchronized (lockObject) {
+            if (messages.isEmpty()) {
+                return; // do not write empty message trace file
             }
-            
-            writer.flush();
-        } catch (IOException e) {
-            throw new CitrusRuntimeException("Failed to write message trace to filesystem", e);
+
+            pending = new ArrayList<>(messages);
+            messages.clear();
+            target = Optional.ofNullable(traceFile)
+                    .filter(file -> file.testName.equals(test.getName()))
+                    .orElseGet(() -> new TraceFile(test.getName()));
+            traceFile = null;
         }
+
+        flush(target, pending);
     }
     
     @Override
     public void onInboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("INBOUND_MESSAGE:" + newLine() + newLine() + message);
-            }
+            addMessage("INBOUND_MESSAGE:" + newLine() + newLine() + message);
         }
     }
 
     @Override
     public void onOutboundMessage(Message message, TestContext context) {
         if (message instanceof RawMessage) {
-            synchronized (lockObject) {
-                messages.add("OUTBOUND_MESSAGE:" + newLine() + newLine() + message);
+            addMessage("OUTBOUND_MESSAGE:" + newLine() + newLine() + message);
+        }
+    }
+
+    /**
+     * Adds message to trace buffer. In async mode full buffers are handed over to the background writer.
+     * @param message
+     */
+    private void addMessage(String message) {
+        List<String> pending = null;
+        TraceFile target = null;
+        synchronized (lockObject) {
+            messages.add(message);
+
+            if (async && traceFile != null && messages.size() >= bufferSize) {
+                pending = new ArrayList<>(messages);
+                messages.clear();
+                target = traceFile;
+            }
+        }
+
+        if (pending != null) {
+            flush(target, pending);
+        }
+    }
+
+    /**
+     * Writes messages to trace file either directly or via background writer in async mode.
+     * @param target
+     * @param pending
+     */
+    private void flush(TraceFile target, List<String> pending) {
+        if (async && writer != null) {
+            try {
+                writer.execute(new TraceWrite(target, pending));
+            } catch (RejectedExecutionException e) {
+                LOG.warn("Message trace writer rejected messages for test: " + target.testName);
+            }
+        } else {
+            write(target, pending);
+        }
+    }
+
+    /**
+     * Appends messages to trace file. Failures are logged and do not fail the test.
+     * @param target
+     * @param pending
+     */
+    private void write(TraceFile target, List<String> pending) {
+        try {
+            File file = target.getFile();
+            try (Writer fileWriter = openWriter(file, target.written)) {
+                if (!target.written) {
+                    fileWriter.write(separator() + newLine() + newLine());
+                }
+
+                for (String message : pending) {
+                    fileWriter.write(message);
+                    fileWriter.write(newLine() + separator() + newLine() + newLine());
+                }
+
+                fileWriter.flush();
+            }
+
+            target.written = true;
+            if (maxFileSize > 0 && file.length() >= maxFileSize) {
+                target.rotate();
             }
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Failed to write message trace to filesystem for test: " + target.testName, e);
         }
     }
 
+    /**
+     * Opens buffered writer on trace file optionally using gzip compression. Compressed content is appended
+     * as new gzip member.
+     * @param file
+     * @param append
+     * @return
+     * @throws IOException
+     */
+    private Writer openWriter(File file, boolean append) throws IOException {
+        OutputStream outputStream = new FileOutputStream(file, append);
+        if (compress) {
+            outputStream = new GZIPOutputStream(outputStream);
+        }
+
+        return new BufferedWriter(new OutputStreamWriter(outputStream));
+    }
+
     /**
      * Creates message separator line.
      * @return
@@ -140,6 +280,95 @@ public class MessageTracingTestListener extends AbstractTestListener implements
                 throw new CitrusRuntimeException("Unable to create message tracing output directory: " + outputDirectory);
             }
         }
+
+        if (async && writer == null) {
+            writer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "citrus-message-trace-writer");
+                thread.setDaemon(true);
+                return thread;
+            }, getRejectedExecutionHandler());
+        }
+    }
+
+    /**
+     * Waits for pending trace writes and stops background writer.
+     */
+    @Override
+    public void destroy() {
+        if (writer != null) {
+            writer.shutdown();
+
+            try {
+                if (!writer.awaitTermination(30, TimeUnit.SECONDS)) {
+                    LOG.warn("Timeout while waiting for message trace writer to finish pending writes");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            writer = null;
+        }
+
+        if (droppedWrites.get() > 0) {
+            LOG.warn(String.format("Message trace writer dropped %s writes due to full writer queue - " +
+                    "trace files are incomplete", droppedWrites.get()));
+        }
+    }
+
+    /**
+     * Gets handler for full writer queue according to overflow policy.
+     * @return
+     */
+    private RejectedExecutionHandler getRejectedExecutionHandler() {
+        switch (overflowPolicy) {
+            case DROP_OLDEST:
+                return (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        dropped(runnable);
+                        return;
+                    }
+
+                    Runnable oldest = executor.getQueue().poll();
+                    if (oldest != null) {
+                        dropped(oldest);
+                    }
+
+                    executor.execute(runnable);
+                };
+            case DROP_NEWEST:
+                return (runnable, executor) -> dropped(runnable);
+            default:
+                return (runnable, executor) -> {
+                    if (executor.isShutdown()) {
+                        throw new RejectedExecutionException("Message trace writer has been shut down");
+                    }
+
+                    try {
+                        executor.getQueue().put(runnable);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new RejectedExecutionException("Interrupted while waiting for message trace writer", e);
+                    }
+                };
+        }
+    }
+
+    /**
+     * Counts and logs trace write dropped by overflow policy.
+     * @param runnable
+     */
+    private void dropped(Runnable runnable) {
+        long count = droppedWrites.incrementAndGet();
+        String testName = runnable instanceof TraceWrite ? ((TraceWrite) runnable).target.testName : "unknown";
+        LOG.warn(String.format("Message trace writer queue is full - dropped messages for test '%s' (%s dropped writes in total)", testName, count));
+    }
+
+    /**
+     * Gets the number of trace writes dropped by overflow policy.
+     * @return
+     */
+    public long getDroppedWrites() {
+        return droppedWrites.get();
     }
 
     /**
@@ -152,7 +381,7 @@ public class MessageTracingTestListener extends AbstractTestListener implements
      */
     protected File getTraceFile(String testName) {
         String testExecutionStartTime = new SimpleDateFormat("yyyyMMdd_HHmmss").format(TEST_EXECUTION_DATE);
-        String filename = String.format("%s_%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING);
+        String filename = String.format("%s_%s%s", testName, testExecutionStartTime, TRACE_FILE_ENDING + (compress ? COMPRESSED_FILE_ENDING : ""));
 
         File traceFile = new File(outputDirectory, filename);
         if (traceFile.exists()) {
@@ -161,6 +390,68 @@ public class MessageTracingTestListener extends AbstractTestListener implements
         return traceFile;
     }
 
+    /**
+     * Gets rotated trace file with given index. First trace file uses the default trace file name, following files
+     * add the index to the file name.
+     * @param testName
+     * @param index
+     * @return
+     */
+    protected File getTraceFile(String testName, int index) {
+        if (index == 0) {
+            return getTraceFile(testName);
+        }
+
+        return getTraceFile(testName + "_" + index);
+    }
+
+    /**
+     * Pending write of buffered messages to trace file handed over to background writer.
+     */
+    private class TraceWrite implements Runnable {
+        private final TraceFile target;
+        private final List<String> pending;
+
+        TraceWrite(TraceFile target, List<String> pending) {
+            this.target = target;
+            this.pending = pending;
+        }
+
+        @Override
+        public void run() {
+            write(target, pending);
+        }
+    }
+
+    /**
+     * Trace file state for a single test. Tracks whether file has been written already and the
+     * current rotation index.
+     */
+    private class TraceFile {
+        private final String testName;
+        private int index = 0;
+        private boolean written = false;
+        private File file;
+
+        TraceFile(String testName) {
+            this.testName = testName;
+        }
+
+        File getFile() {
+            if (file == null) {
+                file = getTraceFile(testName, index);
+            }
+
+            return file;
+        }
+
+        void rotate() {
+            index++;
+            file = null;
+            written = false;
+        }
+    }
+
     /**
      * Sets the outputDirectory.
      * @param outputDirectory the outputDirectory to set
@@ -168,4 +459,112 @@ public class MessageTracingTestListener extends AbstractTestListener implements
     public void setOutputDirectory(String outputDirectory) {
         this.outputDirectory = outputDirectory;
     }
+
+    /**
+     * Sets the async.
+     *
+     * @param async
+     */
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    /**
+     * Gets the async.
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return async;
+    }
+
+    /**
+     * Sets the bufferSize.
+     *
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the bufferSize.
+     *
+     * @return
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the queueCapacity.
+     *
+     * @param queueCapacity
+     */
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    /**
+     * Gets the queueCapacity.
+     *
+     * @return
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Sets the overflowPolicy.
+     *
+     * @param overflowPolicy
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Gets the overflowPolicy.
+     *
+     * @return
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Sets the maxFileSize.
+     *
+     * @param maxFileSize
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * Gets the maxFileSize.
+     *
+     * @return
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Sets the compress.
+     *
+     * @param compress
+     */
+    public void setCompress(boolean compress) {
+        this.compress = compress;
+    }
+
+    /**
+     * Gets the compress.
+     *
+     * @return
+     */
+    public boolean isCompress() {
+        return compress;
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.FileUtils;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Pre-parsed report template with property placeholders (e.g. @test.name@). Template is parsed once into
+ * literal text and placeholder segments so rendering writes straight to the given writer without building
+ * intermediate strings. Placeholder syntax and escaping follows {@link com.consol.citrus.util.PropertyUtils}.
+ *
+ * Property values are either plain values written via {@link Object#toString()} or {@link ContentWriter} instances that
+ * stream large content such as the list of test results directly to the writer.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ReportTemplate {
+
+    /** Placeholder marker */
+    private static final char PROPERTY_MARKER = '@';
+
+    /** Parsed template segments */
+    private final List<Segment> segments = new ArrayList<>();
+
+    /**
+     * Default constructor parsing given template content.
+     * @param template
+     */
+    public ReportTemplate(String template) {
+        parse(template);
+    }
+
+    /**
+     * Reads and parses template from given file resource path.
+     * @param templatePath
+     * @return
+     * @throws IOException
+     */
+    public static ReportTemplate load(String templatePath) throws IOException {
+        return new ReportTemplate(FileUtils.readToString(FileUtils.getFileResource(templatePath)));
+    }
+
+    /**
+     * Writes template to writer replacing all placeholders with given property values.
+     * @param writer
+     * @param properties
+     * @throws IOException
+     */
+    public void write(Writer writer, Map<String, ?> properties) throws IOException {
+        for (Segment segment : segments) {
+            if (segment.property) {
+                if (!properties.containsKey(segment.value)) {
+                    throw new CitrusRuntimeException("No such property '"
+                            + PROPERTY_MARKER + segment.value + PROPERTY_MARKER + "'");
+                }
+
+                Object value = properties.get(segment.value);
+                if (value instanceof ContentWriter) {
+                    ((ContentWriter) value).write(writer);
+                } else if (value != null) {
+                    writer.write(value.toString());
+                }
+            } else {
+                writer.write(segment.value);
+            }
+        }
+    }
+
+    /**
+     * Parses template into literal text and placeholder segments.
+     * @param template
+     */
+    private void parse(String template) {
+        StringBuilder text = new StringBuilder();
+
+        int startIndex = 0;
+        int searchIndex;
+        while ((searchIndex = template.indexOf(PROPERTY_MARKER, startIndex)) != -1) {
+            if (searchIndex != 0 && template.charAt(searchIndex - 1) == '\\') {
+                text.append(template, startIndex, searchIndex - 1).append(PROPERTY_MARKER);
+                startIndex = searchIndex + 1;
+                continue;
+            }
+
+            StringBuilder propertyName = new StringBuilder();
+            boolean isVarComplete = false;
+            int curIndex = searchIndex + 1;
+            while (curIndex < template.length() && !isVarComplete) {
+                if ((template.charAt(curIndex) == PROPERTY_MARKER) || (curIndex + 1 == template.length())) {
+                    isVarComplete = true;
+                }
+
+                if (!isVarComplete) {
+                    propertyName.append(template.charAt(curIndex));
+                }
+                ++curIndex;
+            }
+
+            text.append(template, startIndex, searchIndex);
+            addText(text);
+            segments.add(new Segment(propertyName.toString(), true));
+
+            startIndex = curIndex;
+        }
+
+        text.append(template.substring(startIndex));
+        addText(text);
+    }
+
+    /**
+     * Adds literal text segment if not empty and resets text buffer.
+     * @param text
+     */
+    private void addText(StringBuilder text) {
+        if (text.length() > 0) {
+            segments.add(new Segment(text.toString(), false));
+            text.setLength(0);
+        }
+    }
+
+    /**
+     * Streams property content to the report writer.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * Template segment either literal text or property placeholder name.
+     */
+    private static class Segment {
+        private final String value;
+        private final boolean property;
+
+        Segment(String value, boolean property) {
+            this.value = value;
+            this.property = property;
+        }
+    }
+}
@@ -17,12 +17,16 @@
 package com.consol.citrus.report;
 
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.metrics.*;
 import com.consol.citrus.util.FileUtils;
 import com.consol.citrus.util.PropertyUtils;
+import org.apache.commons.lang.StringEscapeUtils;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.StringUtils;
 
 import java.io.IOException;
+import java.util.Map;
 import java.util.Properties;
 
 /**
@@ -45,6 +49,10 @@ public class SummaryReporter extends AbstractOutputFileReporter {
     @Value("${citrus.summary.report.template:classpath:com/consol/citrus/report/summary-report.xml}")
     private String reportTemplate = "classpath:com/consol/citrus/report/summary-report.xml";
 
+    /** Optional metrics registry adds metrics to summary */
+    @Autowired(required = false)
+    private MetricsRegistry metricsRegistry;
+
     @Override
     protected String getReportContent() {
         try {
@@ -56,12 +64,52 @@ public class SummaryReporter extends AbstractOutputFileReporter {
             reportProps.put("failed.test.pct", getTestResults().getFailedPercentage());
             reportProps.put("success.test.cnt", Integer.toString(getTestResults().getSuccess()));
             reportProps.put("success.test.pct", getTestResults().getSuccessPercentage());
+            reportProps.put("metrics", getMetricsXml());
             return PropertyUtils.replacePropertiesInString(FileUtils.readToString(FileUtils.getFileResource(reportTemplate)), reportProps);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to generate summary test report", e);
         }
     }
 
+    /**
+     * Construct metrics XML fragment with raw metric values. Returns empty string when no metrics
+     * have been recorded.
+     * @return
+     */
+    private String getMetricsXml() {
+        if (metricsRegistry == null || metricsRegistry.getHistograms().isEmpty()) {
+            return "";
+        }
+
+        StringBuilder metricsXml = new StringBuilder();
+        metricsXml.append(System.lineSeparator()).append("    <metrics>");
+        for (Map.Entry<String, Histogram> entry : metricsRegistry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            metricsXml.append(System.lineSeparator())
+                    .append("        <metric name=\"").append(StringEscapeUtils.escapeXml(entry.getKey())).append("\"")
+                    .append(" unit=\"").append(MetricsListener.isDuration(entry.getKey()) ? "ns" : "size").append("\"")
+                    .append(" count=\"").append(histogram.getCount()).append("\"")
+                    .append(" mean=\"").append(String.format("%.0f", histogram.getMean())).append("\"")
+                    .append(" p50=\"").append(histogram.getValueAtPercentile(50.0)).append("\"")
+                    .append(" p90=\"").append(histogram.getValueAtPercentile(90.0)).append("\"")
+                    .append(" p99=\"").append(histogram.getValueAtPercentile(99.0)).append("\"")
+                    .append(" max=\"").append(histogram.getMax()).append("\"")
+                    .append(" throughput=\"").append(String.format("%.2f", histogram.getThroughput())).append("\"/>");
+        }
+        metricsXml.append(System.lineSeparator()).append("    </metrics>");
+
+        return metricsXml.toString();
+    }
+
+    /**
+     * Sets the metricsRegistry.
+     *
+     * @param metricsRegistry
+     */
+    public void setMetricsRegistry(MetricsRegistry metricsRegistry) {
+        this.metricsRegistry = metricsRegistry;
+    }
+
     /**
      * Sets the enabled property.
      *
@@ -21,9 +21,13 @@ import com.consol.citrus.TestResult;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
 import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
- * Multiple {@link com.consol.citrus.TestResult} instances combined to a {@link TestResults}.
+ * Multiple {@link com.consol.citrus.TestResult} instances combined to a {@link TestResults}. Results are held in an append only
+ * concurrent queue and success, failed and skipped counts are maintained incrementally so parallel test threads adding results
+ * and reporters reading counts do not contend for a common lock.
  * 
  * @author Christoph Deppisch
  */
@@ -36,10 +40,16 @@ public class TestResults {
     private static final String ZERO_PERCENTAGE = "0.0";
 
     /** Collected test results */
-    private List<TestResult> results = Collections.synchronizedList(new ArrayList<TestResult>());
+    private final Queue<TestResult> results = new ConcurrentLinkedQueue<>();
+
+    /** Incremental result counters */
+    private final LongAdder success = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder size = new LongAdder();
 
     /**
-     * Provides access to results as list generated from synchronized result list.
+     * Provides access to results as list generated from concurrent result queue.
      * @return
      */
     public List<TestResult> asList() {
@@ -60,18 +70,30 @@ public class TestResults {
      * @return
      */
     public boolean addResult(TestResult result) {
-        return results.add(result);
+        if (!results.add(result)) {
+            return false;
+        }
+
+        if (result.isSuccess()) {
+            success.increment();
+        } else if (result.isFailed()) {
+            failed.increment();
+        } else if (result.isSkipped()) {
+            skipped.increment();
+        }
+
+        size.increment();
+        return true;
     }
 
     /**
-     * Provides synchronized access to all test results in iteration.
+     * Provides access to all test results in iteration. Iteration does not hold any lock and reflects all results added
+     * before the iteration has started. Results added concurrently may or may not be part of the iteration.
      * @param callback
      */
     public void doWithResults(ResultCallback callback) {
-        synchronized (results) {
-            for (TestResult result : results) {
-                callback.doWithResult(result);
-            }
+        for (TestResult result : results) {
+            callback.doWithResult(result);
         }
     }
 
@@ -80,17 +102,7 @@ public class TestResults {
      * @return
      */
     public int getSuccess() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSuccess()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return success.intValue();
     }
 
     /**
@@ -98,7 +110,9 @@ public class TestResults {
      * @return
      */
     public String getSuccessPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSuccess() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        int success = getSuccess();
+        int failed = getFailed();
+        return success + failed > 0 ? formatPercentage((double) success / (failed + success) * 100) : ZERO_PERCENTAGE;
     }
     
     /**
@@ -106,17 +120,7 @@ public class TestResults {
      * @return
      */
     public int getFailed() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isFailed()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return failed.intValue();
     }
 
     /**
@@ -124,7 +128,9 @@ public class TestResults {
      * @return
      */
     public String getFailedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getFailed() / (getFailed() + getSuccess())*100) : ZERO_PERCENTAGE;
+        int success = getSuccess();
+        int failed = getFailed();
+        return success + failed > 0 ? formatPercentage((double) failed / (failed + success) * 100) : ZERO_PERCENTAGE;
     }
     
     /**
@@ -132,17 +138,7 @@ public class TestResults {
      * @return
      */
     public int getSkipped() {
-        int count = 0;
-
-        synchronized (results) {
-            for (TestResult testResult : results) {
-                if (testResult.isSkipped()) {
-                    count++;
-                }
-            }
-        }
-
-        return count;
+        return skipped.intValue();
     }
 
     /**
@@ -150,11 +146,23 @@ public class TestResults {
      * @return
      */
     public String getSkippedPercentage() {
-        return results.size() > 0 ? decFormat.format((double)getSkipped() / (results.size())*100) : ZERO_PERCENTAGE;
+        int size = getSize();
+        return size > 0 ? formatPercentage((double) getSkipped() / size * 100) : ZERO_PERCENTAGE;
+    }
+
+    /**
+     * Formats percentage value with common decimal format. Decimal format is not thread safe so access is synchronized.
+     * @param percentage
+     * @return
+     */
+    private static String formatPercentage(double percentage) {
+        synchronized (decFormat) {
+            return decFormat.format(percentage);
+        }
     }
 
     /**
-     * Callback interface for synchronized access to test results in iteration.
+     * Callback interface for access to test results in iteration.
      */
     public static interface ResultCallback {
         /**
@@ -169,6 +177,6 @@ public class TestResults {
      * @return
      */
     public int getSize() {
-        return results.size();
+        return size.intValue();
     }
 }
@@ -30,7 +30,6 @@ import org.testng.TestNG;
 import org.testng.annotations.Test;
 import org.testng.xml.*;
 
-import java.net.*;
 import java.util.*;
 
 /**
@@ -62,28 +61,45 @@ public class TestNGEngine extends AbstractTestEngine {
         XmlSuite suite = new XmlSuite();
         testng.setXmlSuites(Collections.singletonList(suite));
 
+        if (getConfiguration().getParallelMode().isParallel()) {
+            log.info(String.format("Running tests in parallel mode %s with %s threads", getConfiguration().getParallelMode(), getConfiguration().getThreadCount()));
+            suite.setParallel(XmlSuite.ParallelMode.valueOf(getConfiguration().getParallelMode().name()));
+            suite.setThreadCount(getConfiguration().getThreadCount());
+        }
+
         if (!CollectionUtils.isEmpty(getConfiguration().getTestClasses())) {
+            XmlTest test = null;
             for (TestClass testClass : getConfiguration().getTestClasses()) {
                 log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName())));
 
-                XmlTest test = new XmlTest(suite);
-                test.setClasses(new ArrayList<>());
+                if (test == null || !getConfiguration().getParallelMode().isParallel()) {
+                    // parallel execution only applies to classes within the same test so use single test in parallel mode
+                    test = new XmlTest(suite);
+                    test.setClasses(new ArrayList<>());
+                }
 
                 try {
-                    Class<?> clazz;
-                    if (getConfiguration().getTestJar() != null) {
-                        clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                    } else {
-                        clazz = Class.forName(testClass.getName());
-                    }
+                    Class<?> clazz = loadTestClass(testClass);
+
+                    Optional<XmlClass> existing = test.getClasses().stream()
+                            .filter(xmlClass -> xmlClass.getName().equals(clazz.getName()))
+                            .findFirst();
 
-                    XmlClass xmlClass = new XmlClass(clazz);
+                    XmlClass xmlClass = existing.orElseGet(() -> new XmlClass(clazz));
                     if (StringUtils.hasText(testClass.getMethod())) {
-                        xmlClass.setIncludedMethods(Collections.singletonList(new XmlInclude(testClass.getMethod())));
+                        if (!existing.isPresent() || !xmlClass.getIncludedMethods().isEmpty()) {
+                            List<XmlInclude> includes = new ArrayList<>(xmlClass.getIncludedMethods());
+                            includes.add(new XmlInclude(testClass.getMethod()));
+                            xmlClass.setIncludedMethods(includes);
+                        }
+                    } else {
+                        xmlClass.setIncludedMethods(new ArrayList<>());
                     }
 
-                    test.getClasses().add(xmlClass);
-                } catch (ClassNotFoundException | MalformedURLException e) {
+                    if (!existing.isPresent()) {
+                        test.getClasses().add(xmlClass);
+                    }
+                } catch (ClassNotFoundException e) {
                     log.warn("Unable to read test class: " + testClass.getName());
                 }
             }
@@ -113,14 +129,8 @@ public class TestNGEngine extends AbstractTestEngine {
                         .peek(testClass -> log.info(String.format("Running test %s", Optional.ofNullable(testClass.getMethod()).map(method -> testClass.getName() + "#" + method).orElse(testClass.getName()))))
                         .map(testClass -> {
                             try {
-                                Class<?> clazz;
-                                if (getConfiguration().getTestJar() != null) {
-                                    clazz = Class.forName(testClass.getName(), false, new URLClassLoader(new URL[]{getConfiguration().getTestJar().toURI().toURL()}, getClass().getClassLoader()));
-                                } else {
-                                    clazz = Class.forName(testClass.getName());
-                                }
-                                return clazz;
-                            } catch (ClassNotFoundException | MalformedURLException e) {
+                                return loadTestClass(testClass);
+                            } catch (ClassNotFoundException e) {
                                 log.warn("Unable to read test class: " + testClass.getName());
                                 return Void.class;
                             }
@@ -132,7 +142,7 @@ public class TestNGEngine extends AbstractTestEngine {
                 log.info(String.format("Found %s test classes to execute", test.getClasses().size()));
             }
         }
-        
+
         testng.run();
     }
 
@@ -47,6 +47,12 @@ public abstract class FileUtils {
     /** Simulation mode required for Citrus administration UI when loading test cases from Java DSL */
     private static boolean simulationMode = false;
 
+    /** Shared resource resolver, resolves class loader on each access as no explicit class loader is set */
+    private static final PathMatchingResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver(new DefaultResourceLoader((ClassLoader) null));
+
+    /** Shared cache for file resource contents such as payload templates */
+    private static ResourceContentCache contentCache = new ResourceContentCache(parseCacheSize(Citrus.CITRUS_FILE_CACHE_SIZE));
+
     /**
      * Prevent instantiation.
      */
@@ -54,6 +60,21 @@ public abstract class FileUtils {
         super();
     }
 
+    /**
+     * Parses file cache size setting. Invalid values fall back to default cache size.
+     * @param value
+     * @return
+     */
+    static long parseCacheSize(String value) {
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            log.warn(String.format("Invalid file cache size '%s' for setting '%s' - using default cache size %s",
+                    value, Citrus.CITRUS_FILE_CACHE_SIZE_PROPERTY, Citrus.CITRUS_FILE_CACHE_SIZE_DEFAULT));
+            return Citrus.CITRUS_FILE_CACHE_SIZE_DEFAULT;
+        }
+    }
+
     /**
      * Sets the simulation mode.
      */
@@ -115,6 +136,41 @@ public abstract class FileUtils {
         return readToString(resource.getInputStream(), charset);
     }
     
+    /**
+     * Read file resource to string value using the shared resource content cache. Subsequent reads of the same
+     * unchanged resource with same charset do not access the file again.
+     * @param resource
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    public static String readCachedToString(Resource resource, Charset charset) throws IOException {
+        if (simulationMode) {
+            return readToString(resource, charset);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug(String.format("Reading cached file resource: '%s' (encoding is '%s')", resource.getFilename(), charset.displayName()));
+        }
+        return contentCache.getContent(resource, charset);
+    }
+
+    /**
+     * Gets the shared resource content cache.
+     * @return
+     */
+    public static ResourceContentCache getContentCache() {
+        return contentCache;
+    }
+
+    /**
+     * Sets the shared resource content cache.
+     * @param cache
+     */
+    public static void setContentCache(ResourceContentCache cache) {
+        contentCache = cache;
+    }
+
     /**
      * Read file input stream to string value.
      * @param inputStream
@@ -242,10 +298,10 @@ public abstract class FileUtils {
      */
     public static Resource getFileResource(String filePath, TestContext context) {
         if (filePath.contains(FILE_PATH_CHARSET_PARAMETER)) {
-            return new PathMatchingResourcePatternResolver().getResource(
+            return resourceResolver.getResource(
                     context.replaceDynamicContentInString(filePath.substring(0, filePath.indexOf(FileUtils.FILE_PATH_CHARSET_PARAMETER))));
         } else {
-            return new PathMatchingResourcePatternResolver().getResource(
+            return resourceResolver.getResource(
                     context.replaceDynamicContentInString(filePath));
         }
     }
@@ -267,12 +323,12 @@ public abstract class FileUtils {
         if (path.startsWith(ResourceUtils.FILE_URL_PREFIX)) {
             return new FileSystemResource(path.substring(ResourceUtils.FILE_URL_PREFIX.length() - 1));
         } else if (path.startsWith(ResourceUtils.CLASSPATH_URL_PREFIX)) {
-            return new PathMatchingResourcePatternResolver().getResource(path);
+            return resourceResolver.getResource(path);
         }
 
         Resource file = new FileSystemResource(path);
         if (!file.exists()) {
-            return  new PathMatchingResourcePatternResolver().getResource(path);
+            return  resourceResolver.getResource(path);
         }
 
         return file;
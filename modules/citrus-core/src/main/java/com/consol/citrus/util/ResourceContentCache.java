@@ -0,0 +1,216 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache for file resource contents. Entries are identified by resolved resource location and charset. Each entry remembers the
+ * last modified time and content length of the resource so changed files are read again. Length is checked in addition to the modification
+ * time because many file systems only store modification times in whole seconds. Cache size is limited by the approximate amount of bytes
+ * held in memory, least recently used entries get evicted first.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ResourceContentCache {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(ResourceContentCache.class);
+
+    /** Maximum amount of bytes held in this cache */
+    private final long maxSize;
+
+    /** Current amount of bytes held in this cache */
+    private long size = 0L;
+
+    /** Cached entries in access order */
+    private final LinkedHashMap<String, CacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Default constructor using max cache size in bytes.
+     * @param maxSize
+     */
+    public ResourceContentCache(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets resource content either from cache or by reading the resource. Resources that do not provide
+     * a last modified time or content length are not cached at all.
+     * @param resource
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    public String getContent(Resource resource, Charset charset) throws IOException {
+        if (maxSize <= 0) {
+            return read(resource, charset);
+        }
+
+        long lastModified = getLastModified(resource);
+        long length = getContentLength(resource);
+        if (lastModified <= 0 || length < 0) {
+            return read(resource, charset);
+        }
+
+        String key = resource.getURL().toString() + ";" + charset.name();
+        synchronized (entries) {
+            CacheEntry entry = entries.get(key);
+            if (entry != null && entry.lastModified == lastModified && entry.length == length) {
+                return entry.content;
+            }
+        }
+
+        String content = read(resource, charset);
+        long weight = content.length() * 2L;
+
+        synchronized (entries) {
+            CacheEntry replaced = entries.remove(key);
+            if (replaced != null) {
+                size -= replaced.weight;
+            }
+
+            if (weight <= maxSize / 4) {
+                entries.put(key, new CacheEntry(content, lastModified, length, weight));
+                size += weight;
+                evict();
+            }
+        }
+
+        return content;
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            size = 0L;
+        }
+    }
+
+    /**
+     * Gets the number of cached entries.
+     * @return
+     */
+    public int getEntryCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the approximate amount of bytes held in this cache.
+     * @return
+     */
+    public long getSize() {
+        synchronized (entries) {
+            return size;
+        }
+    }
+
+    /**
+     * Removes least recently used entries until cache size is within bounds. Must be called
+     * while holding the entries lock.
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, CacheEntry>> iterator = entries.entrySet().iterator();
+        while (size > maxSize && iterator.hasNext()) {
+            Map.Entry<String, CacheEntry> eldest = iterator.next();
+            size -= eldest.getValue().weight;
+            iterator.remove();
+
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Evicted file resource content from cache: '%s'", eldest.getKey()));
+            }
+        }
+    }
+
+    /**
+     * Reads resource content.
+     * @param resource
+     * @param charset
+     * @return
+     * @throws IOException
+     */
+    private String read(Resource resource, Charset charset) throws IOException {
+        return new String(FileCopyUtils.copyToByteArray(resource.getInputStream()), charset);
+    }
+
+    /**
+     * Gets last modified time of resource or zero if not available.
+     * @param resource
+     * @return
+     */
+    private long getLastModified(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    /**
+     * Gets content length of resource or -1 if not available.
+     * @param resource
+     * @return
+     */
+    private long getContentLength(Resource resource) {
+        try {
+            return resource.contentLength();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Gets the maxSize.
+     *
+     * @return
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Cached resource content with last modified time, content length and weight in bytes.
+     */
+    private static class CacheEntry {
+        private final String content;
+        private final long lastModified;
+        private final long length;
+        private final long weight;
+
+        CacheEntry(String content, long lastModified, long length, long weight) {
+            this.content = content;
+            this.lastModified = lastModified;
+            this.length = length;
+            this.weight = weight;
+        }
+    }
+}
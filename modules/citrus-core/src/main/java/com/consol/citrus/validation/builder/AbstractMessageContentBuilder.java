@@ -169,7 +169,7 @@ public abstract class AbstractMessageContentBuilder implements MessageContentBui
             try {
                 headerDataList.add(
                         context.replaceDynamicContentInString(
-                                FileUtils.readToString(
+                                FileUtils.readCachedToString(
                                         FileUtils.getFileResource(headerResourcePath, context),
                                         FileUtils.getCharset(headerResourcePath))));
             } catch (final IOException e) {
@@ -60,7 +60,7 @@ public class PayloadTemplateMessageBuilder extends AbstractMessageContentBuilder
                         return zipped.toByteArray();
                     }
                 } else {
-                    return context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(payloadResourcePath, context), Charset.forName(context.resolveDynamicValue(payloadResourceCharset))));
+                    return context.replaceDynamicContentInString(FileUtils.readCachedToString(FileUtils.getFileResource(payloadResourcePath, context), Charset.forName(context.resolveDynamicValue(payloadResourceCharset))));
                 }
             } else if (payloadData != null) {
                 if (messageType.equalsIgnoreCase(MessageType.BINARY.name())) {
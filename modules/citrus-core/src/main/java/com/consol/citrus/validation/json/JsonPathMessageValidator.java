@@ -29,9 +29,12 @@ import net.minidev.json.parser.JSONParser;
 import net.minidev.json.parser.ParseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
+import java.io.StringReader;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -43,6 +46,10 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JsonPathMessageValidator.class);
 
+    /** Evaluate definite expressions in a single pass with streaming parser instead of parsing the complete payload */
+    @Value("${citrus.json.message.validation.streaming:false}")
+    private boolean streaming = false;
+
     @Override
     public void validateMessage(Message receivedMessage, Message controlMessage, TestContext context, JsonPathMessageValidationContext validationContext) throws ValidationException {
         if (CollectionUtils.isEmpty(validationContext.getJsonPathExpressions())) { return; }
@@ -53,6 +60,13 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
 
         log.debug("Start JSONPath element validation ...");
 
+        if (streaming && validationContext.getJsonPathExpressions().keySet().stream()
+                .map(context::replaceDynamicContentInString)
+                .allMatch(JsonPathUtils::isStreamable)) {
+            validateStreaming(receivedMessage, context, validationContext);
+            return;
+        }
+
         String jsonPathExpression;
         try {
             JSONParser parser = new JSONParser(JSONParser.MODE_JSON_SIMPLE);
@@ -82,6 +96,55 @@ public class JsonPathMessageValidator extends AbstractMessageValidator<JsonPathM
         }
     }
 
+    /**
+     * Evaluates all JSONPath expressions in a single pass on the received message payload using a streaming parser. Received
+     * payload is not parsed into a complete JSON object tree.
+     * @param receivedMessage
+     * @param context
+     * @param validationContext
+     */
+    private void validateStreaming(Message receivedMessage, TestContext context, JsonPathMessageValidationContext validationContext) {
+        Map<String, Object> expectedValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : validationContext.getJsonPathExpressions().entrySet()) {
+            Object expectedValue = entry.getValue();
+            if (expectedValue instanceof String) {
+                //check if expected value is variable or function (and resolve it, if yes)
+                expectedValue = context.replaceDynamicContentInString(String.valueOf(expectedValue));
+            }
+
+            expectedValues.put(context.replaceDynamicContentInString(entry.getKey()), expectedValue);
+        }
+
+        Map<String, Object> results = JsonPathUtils.evaluate(new StringReader(receivedMessage.getPayload(String.class)), expectedValues.keySet());
+        for (Map.Entry<String, Object> entry : expectedValues.entrySet()) {
+            //do the validation of actual and expected value for element
+            ValidationUtils.validateValues(results.get(entry.getKey()), entry.getValue(), entry.getKey(), context);
+
+            if (log.isDebugEnabled()) {
+                log.debug("Validating element: " + entry.getKey() + "='" + entry.getValue() + "': OK.");
+            }
+        }
+
+        log.info("JSONPath element validation successful: All values OK");
+    }
+
+    /**
+     * Enables streaming evaluation of JSONPath expressions.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Gets the streaming.
+     *
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
     @Override
     protected Class<JsonPathMessageValidationContext> getRequiredValidationContextType() {
         return JsonPathMessageValidationContext.class;
@@ -28,7 +28,9 @@ import com.consol.citrus.validation.ValidationUtils;
 import com.consol.citrus.validation.json.schema.JsonSchemaValidation;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.jayway.jsonpath.Configuration;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.Option;
 import com.jayway.jsonpath.ReadContext;
 import net.minidev.json.JSONArray;
 import net.minidev.json.JSONObject;
@@ -40,12 +42,11 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.io.StringReader;
+import java.util.*;
 
 /**
  * This message validator implementation is able to validate two JSON text objects. The order of JSON entries can differ
@@ -56,15 +57,27 @@ import java.util.Set;
  * Validator offers two different modes to operate. By default strict mode is set and the validator will also check the exact amount of
  * control object fields to match. No additional fields in received JSON data structure will be accepted. In soft mode validator
  * allows additional fields in received JSON data structure so the control JSON object can be a partial subset.
+ *
+ * In streaming mode received and control JSON are compared element by element with pull parsers so large payloads do not have
+ * to be parsed into complete JSON object trees. Streaming mode requires definite JsonPath ignore expressions and falls back to
+ * the default validation otherwise. Received and control JSON objects with different entry order are validated with the default
+ * validation, too.
  * 
  * @author Christoph Deppisch
  */
 public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessageValidationContext> implements ApplicationContextAware {
 
+    /** Normalized JsonPath of received JSON root */
+    private static final String ROOT_PATH = "$";
+
     /** Should also check exact amount of object fields */
     @Value("${citrus.json.message.validation.strict:true}")
     private boolean strict = true;
 
+    /** Validate with streaming parsers instead of parsing complete JSON object trees */
+    @Value("${citrus.json.message.validation.streaming:false}")
+    private boolean streaming = false;
+
     /** Root application context this validator is defined in */
     private ApplicationContext applicationContext;
 
@@ -96,6 +109,11 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
         String receivedJsonText = receivedMessage.getPayload(String.class);
         String controlJsonText = context.replaceDynamicContentInString(controlMessage.getPayload(String.class));
+
+        if (streaming && StreamingJsonTextValidator.supports(validationContext.getIgnoreExpressions())
+                && validateStreaming(receivedJsonText, controlJsonText, validationContext, context)) {
+            return;
+        }
         
         try {
             if (!StringUtils.hasText(controlJsonText)) {
@@ -110,16 +128,17 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         
             Object receivedJson = parser.parse(receivedJsonText);
             ReadContext readContext = JsonPath.parse(receivedJson);
+            Set<String> ignoredPaths = resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext);
             Object controlJson = parser.parse(controlJsonText);
             if (receivedJson instanceof JSONObject) {
-                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, readContext);
+                validateJson("$.", (JSONObject) receivedJson, (JSONObject) controlJson, validationContext, context, ignoredPaths, ROOT_PATH);
             } else if (receivedJson instanceof JSONArray) {
                 JSONObject tempReceived = new JSONObject();
                 tempReceived.put("array", receivedJson);
                 JSONObject tempControl = new JSONObject();
                 tempControl.put("array", controlJson);
                 
-                validateJson("$.", tempReceived, tempControl, validationContext, context, readContext);
+                validateJson("$.", tempReceived, tempControl, validationContext, context, ignoredPaths, null);
             } else {
                 throw new CitrusRuntimeException("Unsupported json type " + receivedJson.getClass());
             }
@@ -132,6 +151,40 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         log.info("JSON message validation successful: All values OK");
     }
 
+    /**
+     * Validates received JSON text with control JSON text using streaming parsers. Neither received nor control JSON text is
+     * parsed into a complete JSON object tree. Returns false when received and control JSON use a different entry order so
+     * the caller has to validate the complete JSON object trees instead.
+     * @param receivedJsonText
+     * @param controlJsonText
+     * @param validationContext
+     * @param context
+     * @return
+     */
+    private boolean validateStreaming(String receivedJsonText, String controlJsonText, JsonMessageValidationContext validationContext, TestContext context) {
+        if (!StringUtils.hasText(controlJsonText)) {
+            log.debug("Skip message payload validation as no control message was defined");
+            return true;
+        }
+
+        if (!StringUtils.hasText(receivedJsonText)) {
+            throw new ValidationException("Validation failed - expected message contents, but received empty message!");
+        }
+
+        try {
+            if (!new StreamingJsonTextValidator(strict, validationContext.getIgnoreExpressions(), context)
+                    .validate(new StringReader(receivedJsonText), new StringReader(controlJsonText))) {
+                log.info("Received and control JSON use different entry order - fall back to JSON object tree validation");
+                return false;
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Failed to validate JSON text", e);
+        }
+
+        log.info("JSON message validation successful: All values OK");
+        return true;
+    }
+
     /**
      * Performs the schema validation for the given message under consideration of the given validation context
      * @param receivedMessage The message to be validated
@@ -164,8 +217,23 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @param context the current test context.
      * @param readContext the JSONPath read context.
      */
-    @SuppressWarnings("rawtypes")
     public void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, ReadContext readContext) {
+        validateJson(elementName, receivedJson, controlJson, validationContext, context, resolveIgnoredPaths(validationContext.getIgnoreExpressions(), readContext), ROOT_PATH);
+    }
+
+    /**
+     * Validates JSON text with comparison to expected control JSON object using the set of ignored received JSON entry paths
+     * that has been resolved once for the whole validation.
+     *
+     * @param elementName the current element name that is under verification in this method
+     * @param receivedJson the received JSON text object.
+     * @param controlJson the expected control JSON text.
+     * @param validationContext the JSON message validation context.
+     * @param context the current test context.
+     * @param ignoredPaths normalized JsonPath expressions of received JSON entries to ignore.
+     * @param path normalized JsonPath of the received JSON object, null for the wrapper object around a root JSON array.
+     */
+    private void validateJson(String elementName, JSONObject receivedJson, JSONObject controlJson, JsonMessageValidationContext validationContext, TestContext context, Set<String> ignoredPaths, String path) {
         if (strict) {
             Assert.isTrue(controlJson.size() == receivedJson.size(),
                           ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + elementName + "'", controlJson.size(), receivedJson.size()));
@@ -179,9 +247,10 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
 
             Object controlValue = controlJsonEntry.getValue();
             Object receivedValue = receivedJson.get(controlKey);
+            String entryPath = path != null ? path + "['" + controlKey + "']" : ROOT_PATH;
 
             // check if entry is ignored by placeholder
-            if (isIgnored(controlKey, controlValue, receivedValue, validationContext.getIgnoreExpressions(), readContext)) {
+            if (isIgnored(controlKey, controlValue, entryPath, ignoredPaths)) {
                 continue;
             }
 
@@ -190,7 +259,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                         ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                 null, receivedValue));
             } else if (receivedValue != null) {
-                if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+                if (isValidationMatcherExpression(controlValue)) {
                     ValidationMatcherUtils.resolveValidationMatcher(controlKey,
                             receivedValue.toString(),
                             controlValue.toString(), context);
@@ -200,7 +269,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                     JSONObject.class.getSimpleName(), receivedValue.getClass().getSimpleName()));
 
                     validateJson(controlKey, (JSONObject) receivedValue,
-                            (JSONObject) controlValue, validationContext, context, readContext);
+                            (JSONObject) controlValue, validationContext, context, ignoredPaths, entryPath);
                 } else if (controlValue instanceof JSONArray) {
                     Assert.isTrue(receivedValue instanceof JSONArray,
                             ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + controlKey + "'",
@@ -219,13 +288,21 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                                         jsonArrayControl.size(), jsonArrayReceived.size()));
                     }
                     for (int i = 0; i < jsonArrayControl.size(); i++) {
+                        String elementPath = entryPath + "[" + i + "]";
+                        if (ignoredPaths.contains(elementPath)) {
+                            if (log.isDebugEnabled()) {
+                                log.debug("JSON entry: '" + elementPath + "' is ignored - skip value validation");
+                            }
+                            continue;
+                        }
+
                         if (jsonArrayControl.get(i).getClass().isAssignableFrom(JSONObject.class)) {
                             Assert.isTrue(jsonArrayReceived.get(i).getClass().isAssignableFrom(JSONObject.class),
                                     ValidationUtils.buildValueMismatchErrorMessage("Value types not equal for entry: '" + jsonArrayControl.get(i) + "'",
                                             JSONObject.class.getName(), jsonArrayReceived.get(i).getClass().getName()));
 
                             validateJson(controlKey, (JSONObject) jsonArrayReceived.get(i),
-                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, readContext);
+                                    (JSONObject) jsonArrayControl.get(i), validationContext, context, ignoredPaths, elementPath);
                         } else {
                             Assert.isTrue(jsonArrayControl.get(i).equals(jsonArrayReceived.get(i)),
                                     ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + jsonArrayControl.get(i) + "'",
@@ -237,7 +314,7 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
                             ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + controlKey + "'",
                                     controlValue, receivedValue));
                 }
-            } else if (ValidationMatcherUtils.isValidationMatcherExpression(controlValue.toString())) {
+            } else if (isValidationMatcherExpression(controlValue)) {
                 ValidationMatcherUtils.resolveValidationMatcher(controlKey,
                         null,
                         controlValue.toString(), context);
@@ -264,35 +341,109 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
      * @return
      */
     public boolean isIgnored(String controlKey, Object controlValue, Object receivedJson, Set<String> ignoreExpressions, ReadContext readContext) {
-        if (controlValue != null && controlValue.toString().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
-            if (log.isDebugEnabled()) {
-                log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
-                        Citrus.IGNORE_PLACEHOLDER + "'");
-            }
+        if (isIgnoredByPlaceholder(controlKey, controlValue)) {
             return true;
         }
 
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return false;
+        }
+
         for (String jsonPathExpression : ignoreExpressions) {
             Object foundEntry = readContext.read(jsonPathExpression);
 
-            if (foundEntry instanceof JSONArray && ((JSONArray) foundEntry).contains(receivedJson)) {
+            if ((foundEntry instanceof JSONArray && ((JSONArray) foundEntry).contains(receivedJson)) ||
+                    (foundEntry != null && foundEntry.equals(receivedJson))) {
                 if (log.isDebugEnabled()) {
                     log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
                 }
                 return true;
             }
+        }
 
-            if (foundEntry != null && foundEntry.equals(receivedJson)) {
-                if (log.isDebugEnabled()) {
-                    log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
-                }
-                return true;
+        return false;
+    }
+
+    /**
+     * Checks if given element node is either part of the ignored entry paths or
+     * contains @ignore@ tag inside control message
+     * @param controlKey
+     * @param controlValue
+     * @param entryPath
+     * @param ignoredPaths
+     * @return
+     */
+    private boolean isIgnored(String controlKey, Object controlValue, String entryPath, Set<String> ignoredPaths) {
+        if (isIgnoredByPlaceholder(controlKey, controlValue)) {
+            return true;
+        }
+
+        if (ignoredPaths.contains(entryPath)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored - skip value validation");
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks if control value is the ignore placeholder.
+     * @param controlKey
+     * @param controlValue
+     * @return
+     */
+    private boolean isIgnoredByPlaceholder(String controlKey, Object controlValue) {
+        if (controlValue instanceof String && ((String) controlValue).trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + controlKey + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
             }
+            return true;
         }
 
         return false;
     }
 
+    /**
+     * Evaluates all ignore expressions once on the received JSON and collects the normalized paths of all matching entries.
+     * Entries are identified by their position in the received JSON (parent and key or index) rather than by value, so
+     * equal values in other entries are still validated. Expressions matching multiple entries add each of these paths.
+     * @param ignoreExpressions
+     * @param readContext
+     * @return
+     */
+    private Set<String> resolveIgnoredPaths(Set<String> ignoreExpressions, ReadContext readContext) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return Collections.emptySet();
+        }
+
+        ReadContext pathContext = JsonPath.using(Configuration.builder()
+                    .jsonProvider(readContext.configuration().jsonProvider())
+                    .options(Option.AS_PATH_LIST)
+                    .build())
+                .parse((Object) readContext.json());
+
+        Set<String> ignoredPaths = new HashSet<>();
+        for (String jsonPathExpression : ignoreExpressions) {
+            List<String> paths = pathContext.read(jsonPathExpression);
+            ignoredPaths.addAll(paths);
+        }
+
+        return ignoredPaths;
+    }
+
+    /**
+     * Checks if control value is a validation matcher expression. Only string values can hold validation matchers so
+     * nested JSON objects and arrays do not need to be serialized for this check.
+     * @param controlValue
+     * @return
+     */
+    private boolean isValidationMatcherExpression(Object controlValue) {
+        return controlValue instanceof String && ValidationMatcherUtils.isValidationMatcherExpression((String) controlValue);
+    }
+
     @Override
     protected Class<JsonMessageValidationContext> getRequiredValidationContextType() {
         return JsonMessageValidationContext.class;
@@ -335,6 +486,24 @@ public class JsonTextMessageValidator extends AbstractMessageValidator<JsonMessa
         return this;
     }
 
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Set the validator streaming mode.
+     * @param streaming
+     * @return this object for chaining
+     */
+    public JsonTextMessageValidator streaming(boolean streaming) {
+        setStreaming(streaming);
+        return this;
+    }
+
     void setSchemaRepositories(List<JsonSchemaRepository> schemaRepositories) {
         this.schemaRepositories = schemaRepositories;
     }
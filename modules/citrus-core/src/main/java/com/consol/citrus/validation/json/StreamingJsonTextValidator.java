@@ -0,0 +1,366 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.json.JsonPathStreamEvaluator;
+import com.consol.citrus.validation.ValidationUtils;
+import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Validates received JSON text against control JSON text with streaming pull parsers on both sides. Neither document is parsed
+ * into a complete JSON object tree so very large payloads such as huge arrays can be validated element by element.
+ *
+ * Validation follows the rules of {@link JsonTextMessageValidator} including strict mode, ignore placeholders and validation matchers.
+ * Ignore expressions must be definite JsonPath expressions. Object entries are compared without buffering, received and control must use
+ * the same entry order. Additional received entries are skipped. When a control entry matches a previously skipped received entry the
+ * documents use a different entry order and validation reports this to the caller instead of buffering control entries, the caller has
+ * to validate the documents with complete JSON object trees then.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTextValidator {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(StreamingJsonTextValidator.class);
+
+    /** Should also check exact amount of object fields */
+    private final boolean strict;
+
+    /** Test context used for validation matchers */
+    private final TestContext context;
+
+    /** Parsed paths of ignored received entries */
+    private final List<List<Object>> ignoredPaths = new ArrayList<>();
+
+    /**
+     * Default constructor using strict mode, definite JsonPath ignore expressions and test context.
+     * @param strict
+     * @param ignoreExpressions
+     * @param context
+     */
+    public StreamingJsonTextValidator(boolean strict, Set<String> ignoreExpressions, TestContext context) {
+        this.strict = strict;
+        this.context = context;
+
+        if (!CollectionUtils.isEmpty(ignoreExpressions)) {
+            for (String expression : ignoreExpressions) {
+                ignoredPaths.add(JsonPathStreamEvaluator.parsePath(expression)
+                        .orElseThrow(() -> new CitrusRuntimeException(String.format("Unsupported JSON path expression for streaming validation: %s", expression))));
+            }
+        }
+    }
+
+    /**
+     * Checks if all given ignore expressions are supported by streaming validation.
+     * @param ignoreExpressions
+     * @return
+     */
+    public static boolean supports(Set<String> ignoreExpressions) {
+        return CollectionUtils.isEmpty(ignoreExpressions) || ignoreExpressions.stream().allMatch(JsonPathStreamEvaluator::isSupported);
+    }
+
+    /**
+     * Validates received JSON text against control JSON text. Returns false when received and control JSON use a different
+     * entry order so streaming validation is not able to compare the documents.
+     * @param receivedJson
+     * @param controlJson
+     * @return
+     */
+    public boolean validate(Reader receivedJson, Reader controlJson) {
+        try (JsonParser received = JsonPathStreamEvaluator.createParser(receivedJson);
+             JsonParser control = JsonPathStreamEvaluator.createParser(controlJson)) {
+            JsonToken receivedToken = received.nextToken();
+            control.nextToken();
+
+            if (receivedToken != JsonToken.START_OBJECT && receivedToken != JsonToken.START_ARRAY) {
+                throw new CitrusRuntimeException("Unsupported json type " + receivedToken);
+            }
+
+            validateValue("$.", received, control, new ArrayList<>());
+            return true;
+        } catch (EntryOrderMismatch e) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + e.getMessage() + "' uses different order in received and control JSON - streaming validation not possible");
+            }
+            return false;
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Failed to parse JSON text", e);
+        }
+    }
+
+    /**
+     * Validates current received value with current control value. After validation both parsers are positioned
+     * at the last token of the respective value.
+     * @param name
+     * @param received
+     * @param control
+     * @param path
+     * @throws IOException
+     */
+    private void validateValue(String name, JsonParser received, JsonParser control, List<Object> path) throws IOException {
+        if (isIgnored(name, control, path)) {
+            received.skipChildren();
+            control.skipChildren();
+            return;
+        }
+
+        JsonToken receivedToken = received.currentToken();
+        switch (control.currentToken()) {
+            case START_OBJECT:
+                assertType(name, receivedToken, JsonToken.START_OBJECT, JSONObject.class, received);
+                validateObject(name, received, control, path);
+                break;
+            case START_ARRAY:
+                assertType(name, receivedToken, JsonToken.START_ARRAY, JSONArray.class, received);
+                validateArray(name, received, control, path);
+                break;
+            case VALUE_NULL:
+                if (receivedToken != JsonToken.VALUE_NULL) {
+                    throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + name + "'",
+                            null, JsonPathStreamEvaluator.readValue(received)));
+                }
+                break;
+            default:
+                validateSimpleValue(name, received, control);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation successful for JSON entry '" + name + "'");
+        }
+    }
+
+    /**
+     * Validates simple control value such as string, number or boolean with received value. String control values
+     * may hold validation matcher expressions.
+     * @param name
+     * @param received
+     * @param control
+     * @throws IOException
+     */
+    private void validateSimpleValue(String name, JsonParser received, JsonParser control) throws IOException {
+        Object controlValue = JsonPathStreamEvaluator.readValue(control);
+        Object receivedValue = JsonPathStreamEvaluator.readValue(received);
+
+        if (controlValue instanceof String && ValidationMatcherUtils.isValidationMatcherExpression((String) controlValue)) {
+            ValidationMatcherUtils.resolveValidationMatcher(name,
+                    Optional.ofNullable(receivedValue).map(Object::toString).orElse(null),
+                    controlValue.toString(), context);
+        } else if (receivedValue == null) {
+            Assert.isTrue(!StringUtils.hasText(controlValue.toString()),
+                    ValidationUtils.buildValueMismatchErrorMessage(
+                            "Values not equal for entry '" + name + "'", controlValue.toString(), null));
+        } else {
+            Assert.isTrue(controlValue.equals(receivedValue),
+                    ValidationUtils.buildValueMismatchErrorMessage("Values not equal for entry: '" + name + "'",
+                            controlValue, receivedValue));
+        }
+    }
+
+    /**
+     * Validates received JSON object entry by entry. Received entries that do not match the next control entry are skipped. Remaining
+     * control entries that match a skipped received entry raise an entry order mismatch.
+     * @param name
+     * @param received
+     * @param control
+     * @param path
+     * @throws IOException
+     */
+    private void validateObject(String name, JsonParser received, JsonParser control, List<Object> path) throws IOException {
+        Set<String> skippedKeys = new HashSet<>();
+        int receivedCount = 0;
+        int controlCount = 0;
+
+        String controlKey = nextKey(control);
+        while (received.nextToken() == JsonToken.FIELD_NAME) {
+            String key = received.getCurrentName();
+            received.nextToken();
+            receivedCount++;
+
+            if (key.equals(controlKey)) {
+                controlCount++;
+                path.add(key);
+                validateValue(key, received, control, path);
+                path.remove(path.size() - 1);
+                controlKey = nextKey(control);
+            } else {
+                skippedKeys.add(key);
+                received.skipChildren();
+            }
+        }
+
+        String missingKey = null;
+        while (controlKey != null) {
+            controlCount++;
+            if (skippedKeys.contains(controlKey)) {
+                throw new EntryOrderMismatch(controlKey);
+            }
+
+            if (missingKey == null) {
+                missingKey = controlKey;
+            }
+
+            control.skipChildren();
+            controlKey = nextKey(control);
+        }
+
+        if (strict) {
+            Assert.isTrue(controlCount == receivedCount,
+                    ValidationUtils.buildValueMismatchErrorMessage("Number of JSON entries not equal for element: '" + name + "'", controlCount, receivedCount));
+        }
+
+        if (missingKey != null) {
+            throw new IllegalArgumentException("Missing JSON entry: + '" + missingKey + "'");
+        }
+    }
+
+    /**
+     * Moves parser to the next object entry value and returns the entry name. Returns null at the end of the object.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    private String nextKey(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.FIELD_NAME) {
+            return null;
+        }
+
+        String key = parser.getCurrentName();
+        parser.nextToken();
+        return key;
+    }
+
+    /**
+     * Validates received JSON array element by element with control array.
+     * @param name
+     * @param received
+     * @param control
+     * @param path
+     * @throws IOException
+     */
+    private void validateArray(String name, JsonParser received, JsonParser control, List<Object> path) throws IOException {
+        int index = 0;
+        JsonToken controlToken = control.nextToken();
+        JsonToken receivedToken = received.nextToken();
+        while (controlToken != JsonToken.END_ARRAY && receivedToken != JsonToken.END_ARRAY) {
+            path.add(index++);
+            validateValue(name, received, control, path);
+            path.remove(path.size() - 1);
+
+            controlToken = control.nextToken();
+            receivedToken = received.nextToken();
+        }
+
+        int controlSize = index + skipRemaining(control);
+        int receivedSize = index + skipRemaining(received);
+
+        if (strict) {
+            Assert.isTrue(controlSize == receivedSize,
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + name + "'",
+                            controlSize, receivedSize));
+        } else {
+            Assert.isTrue(controlSize <= receivedSize,
+                    ValidationUtils.buildValueMismatchErrorMessage("JSONArray size mismatch for JSON entry '" + name + "'",
+                            controlSize, receivedSize));
+        }
+    }
+
+    /**
+     * Skips remaining array elements starting with the current token and returns the number of skipped elements.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    private int skipRemaining(JsonParser parser) throws IOException {
+        int count = 0;
+        while (parser.currentToken() != JsonToken.END_ARRAY) {
+            parser.skipChildren();
+            parser.nextToken();
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Checks received token type and raises type mismatch error.
+     * @param name
+     * @param receivedToken
+     * @param expectedToken
+     * @param expectedType
+     * @param received
+     * @throws IOException
+     */
+    private void assertType(String name, JsonToken receivedToken, JsonToken expectedToken, Class<?> expectedType, JsonParser received) throws IOException {
+        if (receivedToken != expectedToken) {
+            Object receivedValue = JsonPathStreamEvaluator.readValue(received);
+            throw new IllegalArgumentException(ValidationUtils.buildValueMismatchErrorMessage("Type mismatch for JSON entry '" + name + "'",
+                    expectedType.getSimpleName(), Optional.ofNullable(receivedValue).map(value -> value.getClass().getSimpleName()).orElse("null")));
+        }
+    }
+
+    /**
+     * Checks if current entry is ignored either by ignore expression or by ignore placeholder in control value.
+     * @param name
+     * @param control
+     * @param path
+     * @return
+     * @throws IOException
+     */
+    private boolean isIgnored(String name, JsonParser control, List<Object> path) throws IOException {
+        if (control.currentToken() == JsonToken.VALUE_STRING && control.getText().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + name + "' is ignored by placeholder '" +
+                        Citrus.IGNORE_PLACEHOLDER + "'");
+            }
+            return true;
+        }
+
+        if (ignoredPaths.contains(path)) {
+            if (log.isDebugEnabled()) {
+                log.debug("JSON entry: '" + name + "' is ignored - skip value validation");
+            }
+            return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Signals different entry order in received and control JSON object.
+     */
+    private static final class EntryOrderMismatch extends RuntimeException {
+        EntryOrderMismatch(String key) {
+            super(key, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Cache for compiled validation matcher artifacts such as parsed validation matcher expressions, regular expression patterns
+ * and date formats. Validation of large messages evaluates the same control expressions over and over again so compiling
+ * these artifacts only once per control expression saves a lot of parsing effort.
+ *
+ * Caches are bounded in size. Once a cache reaches its maximum size it is cleared and filled up again.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class ValidationMatcherCache {
+
+    /** Maximum number of entries per cache */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /** Compiled regular expression patterns */
+    private static final Map<String, Pattern> patterns = new ConcurrentHashMap<>();
+
+    /** Date format prototypes */
+    private static final Map<String, SimpleDateFormat> dateFormats = new ConcurrentHashMap<>();
+
+    /** Parsed validation matcher expressions */
+    private static final Map<String, Object> expressions = new ConcurrentHashMap<>();
+
+    /**
+     * Prevent instantiation.
+     */
+    private ValidationMatcherCache() {
+        super();
+    }
+
+    /**
+     * Gets compiled pattern for given regular expression.
+     * @param regex
+     * @return
+     */
+    public static Pattern getPattern(String regex) {
+        return computeIfAbsent(patterns, regex, Pattern::compile);
+    }
+
+    /**
+     * Gets date format for given date pattern. As date formats are not thread safe each call creates a new copy
+     * of the cached date format prototype which is much cheaper than parsing the date pattern. Default locale and time zone
+     * are part of the cache key.
+     * @param datePattern
+     * @return
+     */
+    public static SimpleDateFormat getDateFormat(String datePattern) {
+        String key = datePattern + ";" + Locale.getDefault() + ";" + TimeZone.getDefault().getID();
+        return (SimpleDateFormat) computeIfAbsent(dateFormats, key, k -> new SimpleDateFormat(datePattern)).clone();
+    }
+
+    /**
+     * Gets parsed validation matcher expression using given parser function on cache miss.
+     * @param expression
+     * @param parser
+     * @param <T>
+     * @return
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getExpression(String expression, Function<String, T> parser) {
+        return (T) computeIfAbsent(expressions, expression, parser);
+    }
+
+    /**
+     * Removes all cached entries.
+     */
+    public static void clear() {
+        patterns.clear();
+        dateFormats.clear();
+        expressions.clear();
+    }
+
+    /**
+     * Gets cached value or computes and caches new value. Cache is cleared when maximum size is reached.
+     * @param cache
+     * @param key
+     * @param mappingFunction
+     * @param <T>
+     * @return
+     */
+    private static <T> T computeIfAbsent(Map<String, T> cache, String key, Function<String, ? extends T> mappingFunction) {
+        T value = cache.get(key);
+        if (value != null) {
+            return value;
+        }
+
+        if (cache.size() >= MAX_CACHE_SIZE) {
+            cache.clear();
+        }
+
+        value = mappingFunction.apply(key);
+        cache.put(key, value);
+        return value;
+    }
+}
@@ -23,8 +23,7 @@ import com.consol.citrus.functions.FunctionUtils;
 import com.consol.citrus.variable.VariableUtils;
 import org.springframework.util.StringUtils;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 /**
  * Utility class for validation matchers.
@@ -33,6 +32,9 @@ import java.util.List;
  */
 public final class ValidationMatcherUtils {
 
+    /** Default parser for matchers that do not provide their own control expression parser */
+    private static final ControlExpressionParser DEFAULT_CONTROL_EXPRESSION_PARSER = new DefaultControlExpressionParser();
+
     /**
      * Prevent class instantiation.
      */
@@ -47,6 +49,22 @@ public final class ValidationMatcherUtils {
      */
     public static void resolveValidationMatcher(String fieldName, String fieldValue, 
             String validationMatcherExpression, TestContext context) {
+        ParsedExpression expression = ValidationMatcherCache.getExpression(validationMatcherExpression, ValidationMatcherUtils::parseExpression);
+
+        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(expression.prefix);
+        ValidationMatcher validationMatcher = library.getValidationMatcher(expression.matcherName);
+
+        List<String> params = expression.getControlValues(lookupControlExpressionParser(validationMatcher));
+        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
+        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+    }
+
+    /**
+     * Parses validation matcher expression into library prefix, matcher name and matcher value.
+     * @param validationMatcherExpression
+     * @return
+     */
+    private static ParsedExpression parseExpression(String validationMatcherExpression) {
         String expression = VariableUtils.cutOffVariablesPrefix(cutOffValidationMatchersPrefix(validationMatcherExpression));
 
         if (expression.equals("ignore")) {
@@ -66,13 +84,7 @@ public final class ValidationMatcherUtils {
         String matcherValue = expression.substring(bodyStart + 1, expression.length() - 1);
         String matcherName = expression.substring(prefix.length(), bodyStart);
 
-        ValidationMatcherLibrary library = context.getValidationMatcherRegistry().getLibraryForPrefix(prefix);
-        ValidationMatcher validationMatcher = library.getValidationMatcher(matcherName);
-
-        ControlExpressionParser controlExpressionParser = lookupControlExpressionParser(validationMatcher);
-        List<String> params = controlExpressionParser.extractControlValues(matcherValue, null);
-        List<String> replacedParams = replaceVariablesAndFunctionsInParameters(params, context);
-        validationMatcher.validate(fieldName, fieldValue, replacedParams, context);
+        return new ParsedExpression(prefix, matcherName, matcherValue);
     }
 
     private static List<String> replaceVariablesAndFunctionsInParameters(List<String> params, TestContext context) {
@@ -112,10 +124,44 @@ public final class ValidationMatcherUtils {
         if (validationMatcher instanceof ControlExpressionParser) {
             return (ControlExpressionParser) validationMatcher;
         }
-        return new DefaultControlExpressionParser();
+        return DEFAULT_CONTROL_EXPRESSION_PARSER;
     }
 
     public static String getParameterListAsString(List<String> parameters) {
         return StringUtils.collectionToDelimitedString(parameters, ",", "'", "'");
     }
+
+    /**
+     * Parsed validation matcher expression. Control values extracted from the matcher value are kept
+     * together with the type of control expression parser that has extracted these values.
+     */
+    private static final class ParsedExpression {
+        private final String prefix;
+        private final String matcherName;
+        private final String matcherValue;
+
+        private volatile Map.Entry<Class<?>, List<String>> controlValues;
+
+        ParsedExpression(String prefix, String matcherName, String matcherValue) {
+            this.prefix = prefix;
+            this.matcherName = matcherName;
+            this.matcherValue = matcherValue;
+        }
+
+        /**
+         * Gets control values extracted with given parser. Values are extracted only once per parser type.
+         * @param controlExpressionParser
+         * @return
+         */
+        List<String> getControlValues(ControlExpressionParser controlExpressionParser) {
+            Map.Entry<Class<?>, List<String>> cached = controlValues;
+            if (cached != null && cached.getKey() == controlExpressionParser.getClass()) {
+                return cached.getValue();
+            }
+
+            List<String> values = Collections.unmodifiableList(controlExpressionParser.extractControlValues(matcherValue, null));
+            controlValues = new AbstractMap.SimpleImmutableEntry<>(controlExpressionParser.getClass(), values);
+            return values;
+        }
+    }
 }
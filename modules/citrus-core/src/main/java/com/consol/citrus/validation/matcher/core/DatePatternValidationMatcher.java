@@ -19,6 +19,7 @@ package com.consol.citrus.validation.matcher.core;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
+import com.consol.citrus.validation.matcher.ValidationMatcherCache;
 
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
@@ -36,7 +37,7 @@ public class DatePatternValidationMatcher implements ValidationMatcher {
 		String control = controlParameters.get(0);
     	SimpleDateFormat dateFormat;
     	try {
-    		dateFormat = new SimpleDateFormat(control);
+    		dateFormat = ValidationMatcherCache.getDateFormat(control);
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName + "' " + 
@@ -20,6 +20,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
+import com.consol.citrus.validation.matcher.ValidationMatcherCache;
 import com.consol.citrus.validation.matcher.ValidationMatcherUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -48,10 +49,12 @@ public class DateRangeValidationMatcher implements ValidationMatcher {
 
     @Override
     public void validate(String fieldName, String value, List<String> params, TestContext context) throws ValidationException {
-        LOG.debug(String.format(
-                "Validating date range for date '%s' using control data: %s",
-                value,
-                ValidationMatcherUtils.getParameterListAsString(params)));
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(String.format(
+                    "Validating date range for date '%s' using control data: %s",
+                    value,
+                    ValidationMatcherUtils.getParameterListAsString(params)));
+        }
         try {
 
             String dateFromParam = params.get(0);
@@ -97,7 +100,7 @@ public class DateRangeValidationMatcher implements ValidationMatcher {
      * @return the calendar representation
      */
     protected Calendar toCalender(String date, String datePattern) {
-        SimpleDateFormat dateFormat = new SimpleDateFormat(datePattern);
+        SimpleDateFormat dateFormat = ValidationMatcherCache.getDateFormat(datePattern);
         Calendar cal = Calendar.getInstance();
         try {
             cal.setTime(dateFormat.parse(date));
@@ -19,12 +19,13 @@ package com.consol.citrus.validation.matcher.core;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
+import com.consol.citrus.validation.matcher.ValidationMatcherCache;
 
 import java.util.List;
 import java.util.regex.PatternSyntaxException;
 
 /**
- * ValidationMatcher based on String.matches()
+ * ValidationMatcher based on regular expression matching. Compiled patterns are cached per control expression.
  * 
  * @author Christian Wied
  */
@@ -35,7 +36,7 @@ public class MatchesValidationMatcher implements ValidationMatcher {
     	boolean success;
 
     	try {
-    		success = value.matches(control);
+    		success = ValidationMatcherCache.getPattern(control).matcher(value).matches();
     	} catch (PatternSyntaxException e) {
     		throw new ValidationException(this.getClass().getSimpleName()
                     + " failed for field '" + fieldName
@@ -20,6 +20,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.validation.matcher.ControlExpressionParser;
 import com.consol.citrus.validation.matcher.ValidationMatcher;
+import com.consol.citrus.validation.matcher.ValidationMatcherCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,7 +62,7 @@ public class WeekdayValidationMatcher implements ValidationMatcher, ControlExpre
         }
 
         try {
-            dateFormat = new SimpleDateFormat(formatString);
+            dateFormat = ValidationMatcherCache.getDateFormat(formatString);
         } catch (PatternSyntaxException e) {
             throw new ValidationException(this.getClass().getSimpleName() + " failed for field '" + fieldName + "' " +
                     ". Found invalid date format", e);
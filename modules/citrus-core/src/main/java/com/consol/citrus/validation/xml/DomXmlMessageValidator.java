@@ -355,8 +355,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control message:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, namespaceContextBuilder.buildContext(
-                receivedMessage, validationContext.getNamespaces()), context);
+        NamespaceContext namespaceContext = namespaceContextBuilder.buildContext(receivedMessage, validationContext.getNamespaces());
+        validateXmlTree(received, source, validationContext, namespaceContext,
+                IgnoredNodes.resolve(received, validationContext.getIgnoreExpressions(), namespaceContext), context);
     }
     
     /**
@@ -381,9 +382,9 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
             log.debug("Control header data:\n" + XMLUtils.serialize(source));
         }
 
-        validateXmlTree(received, source, validationContext, 
-                namespaceContextBuilder.buildContext(new DefaultMessage(receivedHeaderData), validationContext.getNamespaces()),
-                context);
+        NamespaceContext namespaceContext = namespaceContextBuilder.buildContext(new DefaultMessage(receivedHeaderData), validationContext.getNamespaces());
+        validateXmlTree(received, source, validationContext, namespaceContext,
+                IgnoredNodes.resolve(received, validationContext.getIgnoreExpressions(), namespaceContext), context);
     }
 
     /**
@@ -394,23 +395,23 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param validationContext
      */
     private void validateXmlTree(Node received, Node source, 
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, IgnoredNodes ignoredNodes, TestContext context) {
         switch(received.getNodeType()) {
             case Node.DOCUMENT_TYPE_NODE:
-                doDocumentTypeDefinition(received, source, validationContext, namespaceContext, context);
+                doDocumentTypeDefinition(received, source, validationContext, namespaceContext, ignoredNodes, context);
                 break;
             case Node.DOCUMENT_NODE:
                 validateXmlTree(received.getFirstChild(), source.getFirstChild(),
-                        validationContext, namespaceContext, context);
+                        validationContext, namespaceContext, ignoredNodes, context);
                 break;
             case Node.ELEMENT_NODE:
-                doElement(received, source, validationContext, namespaceContext, context);
+                doElement(received, source, validationContext, namespaceContext, ignoredNodes, context);
                 break;
             case Node.ATTRIBUTE_NODE:
                 throw new IllegalStateException();
             case Node.COMMENT_NODE:
                 validateXmlTree(received.getNextSibling(), source,
-                        validationContext, namespaceContext, context);
+                        validationContext, namespaceContext, ignoredNodes, context);
                 break;
             case Node.PROCESSING_INSTRUCTION_NODE:
                 doPI(received);
@@ -424,10 +425,11 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param source
      * @param validationContext
      * @param namespaceContext
+     * @param ignoredNodes
      */
     private void doDocumentTypeDefinition(Node received, Node source,
             XmlMessageValidationContext validationContext,
-            NamespaceContext namespaceContext, TestContext context) {
+            NamespaceContext namespaceContext, IgnoredNodes ignoredNodes, TestContext context) {
 
         Assert.isTrue(source instanceof DocumentType, "Missing document type definition in expected xml fragment");
 
@@ -472,7 +474,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
         }
 
         validateXmlTree(received.getNextSibling(),
-                source.getNextSibling(), validationContext, namespaceContext, context);
+                source.getNextSibling(), validationContext, namespaceContext, ignoredNodes, context);
     }
 
     /**
@@ -483,14 +485,14 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param validationContext
      */
     private void doElement(Node received, Node source,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, IgnoredNodes ignoredNodes, TestContext context) {
 
         doElementNameValidation(received, source);
 
         doElementNamespaceValidation(received, source);
 
         //check if element is ignored either by xpath or by ignore placeholder in source message
-        if (XmlValidationUtils.isElementIgnored(source, received, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isElementIgnored(source, received, ignoredNodes)) {
             return;
         }
 
@@ -506,7 +508,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         + received.getLocalName() + "'", countAttributes(sourceAttr), countAttributes(receivedAttr)));
 
         for (int i = 0; i < receivedAttr.getLength(); i++) {
-            doAttribute(received, receivedAttr.item(i), source, validationContext, namespaceContext, context);
+            doAttribute(received, receivedAttr.item(i), source, validationContext, namespaceContext, ignoredNodes, context);
         }
 
         //check if validation matcher on element is specified
@@ -530,7 +532,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
 
         for (int i = 0; i < receivedChildElements.size(); i++) {
             this.validateXmlTree(receivedChildElements.get(i), sourceChildElements.get(i),
-                    validationContext, namespaceContext, context);
+                    validationContext, namespaceContext, ignoredNodes, context);
         }
 
         if (log.isDebugEnabled()) {
@@ -582,7 +584,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
      * @param validationContext
      */
     private void doAttribute(Node receivedElement, Node receivedAttribute, Node sourceElement,
-            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, TestContext context) {
+            XmlMessageValidationContext validationContext, NamespaceContext namespaceContext, IgnoredNodes ignoredNodes, TestContext context) {
         if (receivedAttribute.getNodeName().startsWith(XMLConstants.XMLNS_ATTRIBUTE)) { return; }
 
         String receivedAttributeName = receivedAttribute.getLocalName();
@@ -599,7 +601,7 @@ public class DomXmlMessageValidator extends AbstractMessageValidator<XmlMessageV
                         + receivedElement.getLocalName() + "', unknown attribute "
                         + receivedAttributeName + " (" + receivedAttribute.getNamespaceURI() + ")");
 
-        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, validationContext.getIgnoreExpressions(), namespaceContext)) {
+        if (XmlValidationUtils.isAttributeIgnored(receivedElement, receivedAttribute, sourceAttribute, ignoredNodes)) {
             return;
         }
 
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.XMLUtils;
+import com.consol.citrus.xml.xpath.XPathUtils;
+import org.springframework.util.CollectionUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+import javax.xml.namespace.NamespaceContext;
+import java.util.*;
+
+/**
+ * Index of received message nodes that are ignored during XML tree validation. All ignore expressions are evaluated once on
+ * the received document so the validation is able to check each element and attribute with identity set lookups instead of
+ * evaluating all expressions for each node.
+ *
+ * Index supports the same ignore expression types as {@link XmlValidationUtils}: full node path names, short node path names
+ * matching the first node found in document order and XPath expressions.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class IgnoredNodes {
+
+    /** Empty index used when no ignore expressions are given */
+    private static final IgnoredNodes EMPTY = new IgnoredNodes(Collections.emptySet());
+
+    /** Ignore expressions matching full node path names */
+    private final Set<String> pathExpressions;
+
+    /** Ignored element nodes */
+    private final Set<Node> elements = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** Ignored attribute nodes */
+    private final Set<Node> attributes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /** XPath ignore expressions without any result in received document */
+    private final List<String> unmatchedExpressions = new ArrayList<>();
+
+    /**
+     * Constructor using node path expressions.
+     * @param pathExpressions
+     */
+    private IgnoredNodes(Set<String> pathExpressions) {
+        this.pathExpressions = pathExpressions;
+    }
+
+    /**
+     * Evaluates all ignore expressions on given received document and builds the ignored nodes index.
+     * @param received
+     * @param ignoreExpressions
+     * @param namespaceContext
+     * @return
+     */
+    public static IgnoredNodes resolve(Document received, Set<String> ignoreExpressions, NamespaceContext namespaceContext) {
+        if (CollectionUtils.isEmpty(ignoreExpressions)) {
+            return EMPTY;
+        }
+
+        IgnoredNodes ignoredNodes = new IgnoredNodes(ignoreExpressions);
+        for (String expression : ignoreExpressions) {
+            Node found = XMLUtils.findNodeByName(received, expression);
+            if (found != null) {
+                ignoredNodes.elements.add(found);
+                ignoredNodes.attributes.add(found);
+            }
+        }
+
+        for (String expression : ignoreExpressions) {
+            if (XPathUtils.isXPathExpression(expression)) {
+                NodeList foundNodes = XPathUtils.evaluateAsNodeList(received, expression, namespaceContext);
+
+                for (int i = 0; i < foundNodes.getLength(); i++) {
+                    if (foundNodes.item(i) != null) {
+                        ignoredNodes.elements.add(foundNodes.item(i));
+                    }
+                }
+
+                if (foundNodes.getLength() > 0 && foundNodes.item(0) != null) {
+                    ignoredNodes.attributes.add(foundNodes.item(0));
+                } else {
+                    ignoredNodes.unmatchedExpressions.add(expression);
+                }
+            }
+        }
+
+        return ignoredNodes;
+    }
+
+    /**
+     * Checks whether the received element is ignored.
+     * @param received
+     * @return
+     */
+    public boolean isElementIgnored(Node received) {
+        if (pathExpressions.isEmpty()) {
+            return false;
+        }
+
+        return pathExpressions.contains(XMLUtils.getNodesPathName(received)) || elements.contains(received);
+    }
+
+    /**
+     * Checks whether the received attribute is ignored. XPath ignore expressions are required to
+     * select a node when attributes get checked so unmatched expressions raise an error here.
+     * @param receivedElement
+     * @param receivedAttribute
+     * @return
+     */
+    public boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute) {
+        if (pathExpressions.isEmpty()) {
+            return false;
+        }
+
+        if (pathExpressions.contains(XMLUtils.getNodesPathName(receivedElement) + "." + receivedAttribute.getNodeName()) ||
+                attributes.contains(receivedAttribute)) {
+            return true;
+        }
+
+        if (!unmatchedExpressions.isEmpty()) {
+            throw new CitrusRuntimeException("No result for XPath expression: '" + unmatchedExpressions.get(0) + "'");
+        }
+
+        return false;
+    }
+}
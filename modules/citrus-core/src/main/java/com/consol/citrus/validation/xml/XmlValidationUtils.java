@@ -60,7 +60,19 @@ public abstract class XmlValidationUtils {
                 log.debug("Element: '" + received.getLocalName() + "' is on ignore list - skipped validation");
             }
             return true;
-        } else if (source.getFirstChild() != null &&
+        }
+
+        return isIgnoredByPlaceholder(source, received);
+    }
+
+    /**
+     * Checks if control element contains @ignore@ tag.
+     * @param source
+     * @param received
+     * @return
+     */
+    private static boolean isIgnoredByPlaceholder(Node source, Node received) {
+        if (source.getFirstChild() != null &&
                 StringUtils.hasText(source.getFirstChild().getNodeValue()) &&
                 source.getFirstChild().getNodeValue().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
             if (log.isDebugEnabled()) {
@@ -72,6 +84,25 @@ public abstract class XmlValidationUtils {
         return false;
     }
 
+    /**
+     * Checks if given element node is either part of the ignored nodes index or
+     * contains @ignore@ tag inside control message
+     * @param source
+     * @param received
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isElementIgnored(Node source, Node received, IgnoredNodes ignoredNodes) {
+        if (ignoredNodes.isElementIgnored(received)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Element: '" + received.getLocalName() + "' is on ignore list - skipped validation");
+            }
+            return true;
+        }
+
+        return isIgnoredByPlaceholder(source, received);
+    }
+
     /**
      * Checks whether the node is ignored by node path expression or xpath expression.
      * @param received
@@ -146,8 +177,42 @@ public abstract class XmlValidationUtils {
             }
 
             return true;
-        } else if ((StringUtils.hasText(sourceAttribute.getNodeValue()) &&
-                sourceAttribute.getNodeValue().trim().equals(Citrus.IGNORE_PLACEHOLDER))) {
+        }
+
+        return isAttributeIgnoredByPlaceholder(receivedAttribute, sourceAttribute);
+    }
+
+    /**
+     * Checks whether the current attribute is ignored either by global ignore placeholder in source attribute value or
+     * by the ignored nodes index.
+     *
+     * @param receivedElement
+     * @param receivedAttribute
+     * @param sourceAttribute
+     * @param ignoredNodes
+     * @return
+     */
+    public static boolean isAttributeIgnored(Node receivedElement, Node receivedAttribute, Node sourceAttribute, IgnoredNodes ignoredNodes) {
+        if (ignoredNodes.isAttributeIgnored(receivedElement, receivedAttribute)) {
+            if (log.isDebugEnabled()) {
+                log.debug("Attribute '" + receivedAttribute.getLocalName() + "' is on ignore list - skipped value validation");
+            }
+
+            return true;
+        }
+
+        return isAttributeIgnoredByPlaceholder(receivedAttribute, sourceAttribute);
+    }
+
+    /**
+     * Checks if control attribute value is @ignore@ tag.
+     * @param receivedAttribute
+     * @param sourceAttribute
+     * @return
+     */
+    private static boolean isAttributeIgnoredByPlaceholder(Node receivedAttribute, Node sourceAttribute) {
+        if (StringUtils.hasText(sourceAttribute.getNodeValue()) &&
+                sourceAttribute.getNodeValue().trim().equals(Citrus.IGNORE_PLACEHOLDER)) {
             if (log.isDebugEnabled()) {
                 log.debug("Attribute: '" + receivedAttribute.getLocalName() + "' is ignored by placeholder '" +
                         Citrus.IGNORE_PLACEHOLDER + "'");
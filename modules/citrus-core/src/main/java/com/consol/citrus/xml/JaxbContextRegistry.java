@@ -0,0 +1,222 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.Resource;
+import org.xml.sax.SAXException;
+
+import javax.xml.XMLConstants;
+import javax.xml.bind.*;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Registry of shared JAXB contexts. Creating a JAXB context and compiling the validation schema are expensive operations so
+ * each combination of bound classes and schema is initialized only once and lazily on first usage. Entries are keyed by the bound
+ * class identities so the same classes loaded by different class loaders never share a context. Entries are attached to the first
+ * bound class and get garbage collected together with its class loader.
+ *
+ * Marshaller and unmarshaller instances are not thread safe, callers borrow an instance for a single operation and release it
+ * afterwards. Each context entry keeps at most {@link #MAX_IDLE_INSTANCES} idle instances, additional instances are created on
+ * demand and dropped on release. Instances that failed during an operation are not released so they never get reused.
+ *
+ * @since 2.8
+ */
+public final class JaxbContextRegistry {
+
+    /** Maximum number of idle marshaller and unmarshaller instances kept per context entry */
+    public static final int MAX_IDLE_INSTANCES = 16;
+
+    /** Registered context entries by bound classes and schema, attached to the first bound class */
+    private static final ClassValue<Map<List<Object>, Entry>> entries = new ClassValue<Map<List<Object>, Entry>>() {
+        @Override
+        protected Map<List<Object>, Entry> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * Prevent instantiation.
+     */
+    private JaxbContextRegistry() {
+        super();
+    }
+
+    /**
+     * Gets the context entry for given schema and bound classes. Entry is created on first access, JAXB context
+     * and schema get initialized when the first marshaller or unmarshaller is requested.
+     * @param schema optional schema resource used for validation, may be null
+     * @param classesToBeBound
+     * @return
+     */
+    public static Entry getEntry(Resource schema, Class<?>... classesToBeBound) {
+        if (classesToBeBound.length == 0) {
+            throw new CitrusRuntimeException("Missing classes to be bound for JAXB context");
+        }
+
+        List<Object> key = new ArrayList<>(Arrays.asList(classesToBeBound));
+        key.add(schema != null ? schema.getDescription() : "");
+        return entries.get(classesToBeBound[0]).computeIfAbsent(key, k -> new Entry(schema, classesToBeBound));
+    }
+
+    /**
+     * Shared JAXB context with optional validation schema and bounded pool of idle marshaller and unmarshaller instances.
+     */
+    public static final class Entry {
+        private final Resource schemaResource;
+        private final Class<?>[] classesToBeBound;
+
+        private volatile JAXBContext jaxbContext;
+        private volatile Schema schema;
+
+        /** Idle marshaller and unmarshaller instances */
+        private final BlockingQueue<Marshaller> marshallers = new ArrayBlockingQueue<>(MAX_IDLE_INSTANCES);
+        private final BlockingQueue<Unmarshaller> unmarshallers = new ArrayBlockingQueue<>(MAX_IDLE_INSTANCES);
+
+        Entry(Resource schemaResource, Class<?>... classesToBeBound) {
+            this.schemaResource = schemaResource;
+            this.classesToBeBound = classesToBeBound;
+        }
+
+        /**
+         * Gets the JAXB context creating it on first access.
+         * @return
+         */
+        public JAXBContext getJaxbContext() {
+            if (jaxbContext == null) {
+                synchronized (this) {
+                    if (jaxbContext == null) {
+                        try {
+                            jaxbContext = JAXBContext.newInstance(classesToBeBound);
+                        } catch (JAXBException e) {
+                            throw new CitrusRuntimeException("Failed to create JAXB context", e);
+                        }
+                    }
+                }
+            }
+
+            return jaxbContext;
+        }
+
+        /**
+         * Gets the validation schema loading it on first access. Returns null when no schema resource is set.
+         * @return
+         */
+        public Schema getSchema() {
+            if (schemaResource != null && schema == null) {
+                synchronized (this) {
+                    if (schema == null) {
+                        try (InputStream stream = schemaResource.getInputStream()) {
+                            SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+                            schema = schemaFactory.newSchema(new StreamSource(stream, schemaResource.getURL().toString()));
+                        } catch (IOException | SAXException e) {
+                            throw new CitrusRuntimeException("Failed to load schema: " + schemaResource.getDescription(), e);
+                        }
+                    }
+                }
+            }
+
+            return schema;
+        }
+
+        /**
+         * Borrows idle marshaller instance or creates a new one when no idle instance is available.
+         * @return
+         */
+        public Marshaller borrowMarshaller() {
+            Marshaller marshaller = marshallers.poll();
+            return marshaller != null ? marshaller : createMarshaller();
+        }
+
+        /**
+         * Releases marshaller instance after successful operation. Instance is dropped when the idle pool is full.
+         * @param marshaller
+         */
+        public void releaseMarshaller(Marshaller marshaller) {
+            marshallers.offer(marshaller);
+        }
+
+        /**
+         * Borrows idle unmarshaller instance or creates a new one when no idle instance is available.
+         * @return
+         */
+        public Unmarshaller borrowUnmarshaller() {
+            Unmarshaller unmarshaller = unmarshallers.poll();
+            return unmarshaller != null ? unmarshaller : createUnmarshaller();
+        }
+
+        /**
+         * Releases unmarshaller instance after successful operation. Instance is dropped when the idle pool is full.
+         * @param unmarshaller
+         */
+        public void releaseUnmarshaller(Unmarshaller unmarshaller) {
+            unmarshallers.offer(unmarshaller);
+        }
+
+        /**
+         * Gets the number of idle marshaller instances.
+         * @return
+         */
+        public int getIdleMarshallerCount() {
+            return marshallers.size();
+        }
+
+        /**
+         * Gets the number of idle unmarshaller instances.
+         * @return
+         */
+        public int getIdleUnmarshallerCount() {
+            return unmarshallers.size();
+        }
+
+        /**
+         * Gets the classesToBeBound.
+         *
+         * @return
+         */
+        public Class<?>[] getClassesToBeBound() {
+            return classesToBeBound;
+        }
+
+        private Marshaller createMarshaller() {
+            try {
+                Marshaller marshaller = getJaxbContext().createMarshaller();
+                marshaller.setSchema(getSchema());
+                return marshaller;
+            } catch (JAXBException e) {
+                throw new CitrusRuntimeException("Failed to create JAXB marshaller", e);
+            }
+        }
+
+        private Unmarshaller createUnmarshaller() {
+            try {
+                Unmarshaller unmarshaller = getJaxbContext().createUnmarshaller();
+                unmarshaller.setSchema(getSchema());
+                return unmarshaller;
+            } catch (JAXBException e) {
+                throw new CitrusRuntimeException("Failed to create JAXB unmarshaller", e);
+            }
+        }
+    }
+}
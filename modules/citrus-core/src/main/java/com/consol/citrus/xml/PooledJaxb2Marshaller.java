@@ -0,0 +1,285 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.Resource;
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.oxm.jaxb.Jaxb2Marshaller;
+import org.springframework.oxm.mime.MimeContainer;
+import org.w3c.dom.ls.LSResourceResolver;
+
+import javax.xml.bind.*;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import javax.xml.transform.Result;
+import javax.xml.transform.Source;
+import java.util.Map;
+
+/**
+ * Jaxb2 marshaller using the shared JAXB context and validation schema from {@link JaxbContextRegistry}. Instances are cheap to create
+ * as all marshallers binding the same classes and schema share a single context. Marshaller and unmarshaller instances are borrowed
+ * from the shared entry for each operation and released afterwards, instances that failed during an operation are discarded.
+ *
+ * As soon as one of the context, schema or marshaller settings is customized this marshaller drops the shared entry and behaves
+ * like a plain {@link Jaxb2Marshaller} with its own context. The constructor schema is kept unless a custom schema is set.
+ *
+ * @since 2.8
+ */
+public class PooledJaxb2Marshaller extends Jaxb2Marshaller {
+
+    /** Shared context entry, null when settings have been customized */
+    private volatile JaxbContextRegistry.Entry contextEntry;
+
+    /** Schema resource given on construction */
+    private final Resource schemaResource;
+
+    /** Marks initialization of customized marshaller */
+    private volatile boolean initialized = false;
+
+    /** Instances borrowed from the shared entry for the running operation */
+    private final ThreadLocal<Marshaller> borrowedMarshaller = new ThreadLocal<>();
+    private final ThreadLocal<Unmarshaller> borrowedUnmarshaller = new ThreadLocal<>();
+
+    /**
+     * Constructor using schema and classes to be bound.
+     * @param schema
+     * @param classesToBeBound
+     */
+    public PooledJaxb2Marshaller(Resource schema, Class<?>... classesToBeBound) {
+        super.setClassesToBeBound(classesToBeBound);
+        this.schemaResource = schema;
+        this.contextEntry = JaxbContextRegistry.getEntry(schema, classesToBeBound);
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        super.afterPropertiesSet();
+        initialized = true;
+    }
+
+    @Override
+    public JAXBContext getJaxbContext() {
+        JaxbContextRegistry.Entry entry = contextEntry;
+        if (entry == null) {
+            return super.getJaxbContext();
+        }
+
+        return entry.getJaxbContext();
+    }
+
+    @Override
+    public void marshal(Object graph, Result result, MimeContainer mimeContainer) throws XmlMappingException {
+        JaxbContextRegistry.Entry entry = contextEntry;
+        if (entry == null) {
+            super.marshal(graph, result, mimeContainer);
+            return;
+        }
+
+        boolean success = false;
+        try {
+            super.marshal(graph, result, mimeContainer);
+            success = true;
+        } finally {
+            Marshaller marshaller = borrowedMarshaller.get();
+            borrowedMarshaller.remove();
+            if (marshaller != null && success) {
+                entry.releaseMarshaller(marshaller);
+            }
+        }
+    }
+
+    @Override
+    public Object unmarshal(Source source, MimeContainer mimeContainer) throws XmlMappingException {
+        JaxbContextRegistry.Entry entry = contextEntry;
+        if (entry == null) {
+            return super.unmarshal(source, mimeContainer);
+        }
+
+        boolean success = false;
+        try {
+            Object result = super.unmarshal(source, mimeContainer);
+            success = true;
+            return result;
+        } finally {
+            Unmarshaller unmarshaller = borrowedUnmarshaller.get();
+            borrowedUnmarshaller.remove();
+            if (unmarshaller != null && success) {
+                entry.releaseUnmarshaller(unmarshaller);
+            }
+        }
+    }
+
+    @Override
+    protected Marshaller createMarshaller() {
+        JaxbContextRegistry.Entry entry = contextEntry;
+        if (entry == null) {
+            initialize();
+            return super.createMarshaller();
+        }
+
+        Marshaller marshaller = entry.borrowMarshaller();
+        borrowedMarshaller.set(marshaller);
+        return marshaller;
+    }
+
+    @Override
+    protected Unmarshaller createUnmarshaller() {
+        JaxbContextRegistry.Entry entry = contextEntry;
+        if (entry == null) {
+            initialize();
+            return super.createUnmarshaller();
+        }
+
+        Unmarshaller unmarshaller = entry.borrowUnmarshaller();
+        borrowedUnmarshaller.set(unmarshaller);
+        return unmarshaller;
+    }
+
+    /**
+     * Initializes customized marshaller on first usage when not already done by the Spring bean lifecycle so
+     * schema settings get loaded.
+     */
+    private void initialize() {
+        if (!initialized) {
+            synchronized (this) {
+                if (!initialized) {
+                    try {
+                        afterPropertiesSet();
+                    } catch (Exception e) {
+                        throw new CitrusRuntimeException("Failed to initialize JAXB marshaller", e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Drops the shared context entry so this marshaller uses its own context and settings. Constructor schema
+     * is applied to the plain marshaller settings so validation is kept.
+     */
+    private void customize() {
+        if (contextEntry != null) {
+            contextEntry = null;
+
+            if (schemaResource != null) {
+                super.setSchema(schemaResource);
+            }
+        }
+    }
+
+    /**
+     * Checks whether this marshaller uses the shared context entry.
+     * @return
+     */
+    public boolean isShared() {
+        return contextEntry != null;
+    }
+
+    @Override
+    public void setContextPath(String contextPath) {
+        customize();
+        super.setClassesToBeBound();
+        super.setContextPath(contextPath);
+    }
+
+    @Override
+    public void setContextPaths(String... contextPaths) {
+        customize();
+        super.setClassesToBeBound();
+        super.setContextPaths(contextPaths);
+    }
+
+    @Override
+    public void setClassesToBeBound(Class<?>... classesToBeBound) {
+        customize();
+        super.setClassesToBeBound(classesToBeBound);
+    }
+
+    @Override
+    public void setPackagesToScan(String... packagesToScan) {
+        customize();
+        super.setClassesToBeBound();
+        super.setPackagesToScan(packagesToScan);
+    }
+
+    @Override
+    public void setJaxbContextProperties(Map<String, ?> jaxbContextProperties) {
+        customize();
+        super.setJaxbContextProperties(jaxbContextProperties);
+    }
+
+    @Override
+    public void setMarshallerProperties(Map<String, ?> properties) {
+        customize();
+        super.setMarshallerProperties(properties);
+    }
+
+    @Override
+    public void setUnmarshallerProperties(Map<String, ?> properties) {
+        customize();
+        super.setUnmarshallerProperties(properties);
+    }
+
+    @Override
+    public void setMarshallerListener(Marshaller.Listener marshallerListener) {
+        customize();
+        super.setMarshallerListener(marshallerListener);
+    }
+
+    @Override
+    public void setUnmarshallerListener(Unmarshaller.Listener unmarshallerListener) {
+        customize();
+        super.setUnmarshallerListener(unmarshallerListener);
+    }
+
+    @Override
+    public void setValidationEventHandler(ValidationEventHandler validationEventHandler) {
+        customize();
+        super.setValidationEventHandler(validationEventHandler);
+    }
+
+    @Override
+    public void setAdapters(XmlAdapter<?, ?>... adapters) {
+        customize();
+        super.setAdapters(adapters);
+    }
+
+    @Override
+    public void setSchema(Resource schemaResource) {
+        customize();
+        super.setSchema(schemaResource);
+    }
+
+    @Override
+    public void setSchemas(Resource... schemaResources) {
+        customize();
+        super.setSchemas(schemaResources);
+    }
+
+    @Override
+    public void setSchemaLanguage(String schemaLanguage) {
+        customize();
+        super.setSchemaLanguage(schemaLanguage);
+    }
+
+    @Override
+    public void setSchemaResourceResolver(LSResourceResolver schemaResourceResolver) {
+        customize();
+        super.setSchemaResourceResolver(schemaResourceResolver);
+    }
+}
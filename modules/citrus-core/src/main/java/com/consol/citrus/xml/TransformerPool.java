@@ -0,0 +1,115 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+
+import javax.xml.transform.*;
+import java.util.Map;
+
+/**
+ * Pool of identity transformers sharing a single transformer factory. Transformer factory lookup is an expensive service loader
+ * operation and should be done only once. As transformers are not thread safe the pool holds one transformer instance per thread
+ * that is reset before each usage.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TransformerPool {
+
+    /** Shared transformer factory */
+    private final TransformerFactory transformerFactory;
+
+    /** Thread bound identity transformer instances */
+    private final ThreadLocal<Transformer> transformers = ThreadLocal.withInitial(this::createTransformer);
+
+    /**
+     * Default constructor using default transformer factory.
+     */
+    public TransformerPool() {
+        this(TransformerFactory.newInstance());
+    }
+
+    /**
+     * Constructor using given transformer factory.
+     * @param transformerFactory
+     */
+    public TransformerPool(TransformerFactory transformerFactory) {
+        this.transformerFactory = transformerFactory;
+    }
+
+    /**
+     * Gets the identity transformer bound to the current thread. Transformer is reset so
+     * previously set output properties and parameters are cleared.
+     * @return
+     */
+    public Transformer getTransformer() {
+        Transformer transformer = transformers.get();
+        transformer.reset();
+        return transformer;
+    }
+
+    /**
+     * Transforms given source to result using the thread bound identity transformer.
+     * @param source
+     * @param result
+     * @throws TransformerException
+     */
+    public void transform(Source source, Result result) throws TransformerException {
+        getTransformer().transform(source, result);
+    }
+
+    /**
+     * Transforms given source to result using the thread bound identity transformer with given output properties.
+     * @param source
+     * @param result
+     * @param outputProperties
+     * @throws TransformerException
+     */
+    public void transform(Source source, Result result, Map<String, String> outputProperties) throws TransformerException {
+        Transformer transformer = getTransformer();
+        for (Map.Entry<String, String> property : outputProperties.entrySet()) {
+            transformer.setOutputProperty(property.getKey(), property.getValue());
+        }
+
+        transformer.transform(source, result);
+    }
+
+    /**
+     * Creates new identity transformer. Transformer factory is not guaranteed to be thread safe so
+     * creation is synchronized on the factory.
+     * @return
+     */
+    private Transformer createTransformer() {
+        synchronized (transformerFactory) {
+            try {
+                return transformerFactory.newTransformer();
+            } catch (TransformerConfigurationException e) {
+                throw new CitrusRuntimeException("Failed to create identity transformer", e);
+            }
+        }
+    }
+
+    /**
+     * Gets the transformerFactory.
+     *
+     * @return
+     */
+    public TransformerFactory getTransformerFactory() {
+        return transformerFactory;
+    }
+}
@@ -26,6 +26,8 @@ import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.Mockito.*;
@@ -166,4 +168,64 @@ public class ExecuteSQLActionTest extends AbstractTestNGUnitTest {
         executeSQLAction.execute(context);
         verify(jdbcTemplate).execute(DB_STMT_1);
     }
+
+    @Test
+    public void testSQLBatchExecution() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2 + ";");
+        stmts.add("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)");
+        stmts.add("DELETE * FROM ERRORS WHERE STATUS='${status}'");
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(2);
+        executeSQLAction.addBatchArguments("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 1, "${status}");
+        executeSQLAction.addBatchArguments("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 2, "${status}");
+        executeSQLAction.addBatchArguments("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 3, "open");
+
+        reset(jdbcTemplate);
+
+        context.setVariable("status", "resolved");
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_1, DB_STMT_2);
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)"), argThat((List<Object[]> rows) -> rows.size() == 2 &&
+                Arrays.equals(rows.get(0), new Object[] { 1, "resolved" }) && Arrays.equals(rows.get(1), new Object[] { 2, "resolved" })));
+        verify(jdbcTemplate).batchUpdate(eq("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)"), argThat((List<Object[]> rows) -> rows.size() == 1 &&
+                Arrays.equals(rows.get(0), new Object[] { 3, "open" })));
+        verify(jdbcTemplate).batchUpdate("DELETE * FROM ERRORS WHERE STATUS='resolved'");
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void testSQLParameterizedStatementWithoutBatch() {
+        executeSQLAction.setStatements(Collections.singletonList("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)"));
+        executeSQLAction.addBatchArguments("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 1, "open");
+        executeSQLAction.addBatchArguments("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 2, "closed");
+
+        reset(jdbcTemplate);
+
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).update("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 1, "open");
+        verify(jdbcTemplate).update("INSERT INTO ERRORS (ID, STATUS) VALUES (?, ?)", 2, "closed");
+    }
+
+    @Test
+    public void testSQLBatchExecutionIgnoreErrors() {
+        List<String> stmts = new ArrayList<>();
+        stmts.add(DB_STMT_1);
+        stmts.add(DB_STMT_2);
+
+        executeSQLAction.setStatements(stmts);
+        executeSQLAction.setBatchSize(1);
+        executeSQLAction.setIgnoreErrors(true);
+
+        reset(jdbcTemplate);
+
+        when(jdbcTemplate.batchUpdate(DB_STMT_1)).thenThrow(new DataAccessException("Something went wrong!") {});
+        executeSQLAction.execute(context);
+
+        verify(jdbcTemplate).batchUpdate(DB_STMT_2);
+    }
 }
@@ -25,6 +25,7 @@ import com.consol.citrus.validation.script.ScriptValidationContext;
 import org.apache.commons.codec.binary.Base64;
 import org.mockito.Mockito;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
@@ -890,4 +891,97 @@ public class ExecuteSQLQueryActionTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(context.getVariable("${binaryData}"), Base64.encodeBase64String("some_binary_data".getBytes()));
         Assert.assertEquals(new String(Base64.decodeBase64(context.getVariable("${binaryData}"))), "some_binary_data");
     }
+
+    @Test
+    public void testStreamingQuery() {
+        JdbcTemplate database = createStreamingDatabase("citrus-streaming-query");
+
+        ExecuteSQLQueryAction streamingAction = new ExecuteSQLQueryAction()
+                .setStreaming(true)
+                .setFetchSize(100);
+        streamingAction.setJdbcTemplate(database);
+        streamingAction.setStatements(Arrays.asList("select ID, NAME from items where ID < 3 order by ID", "select count(*) as TOTAL from items;"));
+
+        Map<String, List<String>> controlResultSet = new HashMap<>();
+        controlResultSet.put("id", Arrays.asList("0", "1", "@greaterThan(1)@"));
+        controlResultSet.put("NAME", Arrays.asList("item_${index}", "@ignore@", "item_2"));
+        controlResultSet.put("TOTAL", Collections.singletonList("5000"));
+        streamingAction.setControlResultSet(controlResultSet);
+
+        Map<String, String> extractVariables = new HashMap<>();
+        extractVariables.put("NAME", "names");
+        extractVariables.put("total", "total");
+        streamingAction.setExtractVariables(extractVariables);
+
+        context.setVariable("index", "0");
+        streamingAction.execute(context);
+
+        Assert.assertEquals(context.getVariable("names"), "item_0;item_1;item_2");
+        Assert.assertEquals(context.getVariable("total"), "5000");
+        Assert.assertEquals(context.getVariable("ID"), "0");
+    }
+
+    @Test
+    public void testStreamingQueryWrongValue() {
+        JdbcTemplate database = createStreamingDatabase("citrus-streaming-wrong-value");
+
+        ExecuteSQLQueryAction streamingAction = new ExecuteSQLQueryAction().setStreaming(true);
+        streamingAction.setJdbcTemplate(database);
+        streamingAction.setStatements(Collections.singletonList("select NAME from items where ID < 2 order by ID"));
+        streamingAction.setControlResultSet(Collections.singletonMap("NAME", Arrays.asList("item_0", "item_2")));
+
+        try {
+            streamingAction.execute(context);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("found value: 'item_1' expected value: item_2"));
+        }
+    }
+
+    @Test
+    public void testStreamingQueryWrongRowCount() {
+        JdbcTemplate database = createStreamingDatabase("citrus-streaming-row-count");
+
+        ExecuteSQLQueryAction streamingAction = new ExecuteSQLQueryAction().setStreaming(true);
+        streamingAction.setJdbcTemplate(database);
+        streamingAction.setStatements(Collections.singletonList("select NAME from items order by ID"));
+        streamingAction.setControlResultSet(Collections.singletonMap("NAME", Arrays.asList("item_0", "item_1")));
+
+        try {
+            streamingAction.execute(context);
+            Assert.fail("Missing exception due to wrong row count");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'NAME' expected rows count: 2 but was 5000");
+        }
+    }
+
+    @Test
+    public void testStreamingQueryWrongRowCountAndValue() {
+        JdbcTemplate database = createStreamingDatabase("citrus-streaming-row-count-value");
+
+        ExecuteSQLQueryAction streamingAction = new ExecuteSQLQueryAction().setStreaming(true);
+        streamingAction.setJdbcTemplate(database);
+        streamingAction.setStatements(Collections.singletonList("select NAME from items order by ID"));
+        streamingAction.setControlResultSet(Collections.singletonMap("NAME", Arrays.asList("item_0", "item_2")));
+
+        try {
+            streamingAction.execute(context);
+            Assert.fail("Missing exception due to wrong row count");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Validation failed for column: 'NAME' expected rows count: 2 but was 5000");
+        }
+    }
+
+    private JdbcTemplate createStreamingDatabase(String name) {
+        JdbcTemplate database = new JdbcTemplate(new DriverManagerDataSource("jdbc:hsqldb:mem:" + name, "sa", ""));
+        database.execute("create table items (ID integer primary key, NAME varchar(50))");
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            rows.add(new Object[] { i, "item_" + i });
+        }
+        database.batchUpdate("insert into items (ID, NAME) values (?, ?)", rows);
+
+        return database;
+    }
 }
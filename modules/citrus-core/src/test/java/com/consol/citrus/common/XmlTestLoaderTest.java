@@ -0,0 +1,110 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.common;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.springframework.beans.factory.config.*;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.beans.factory.support.ManagedList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class XmlTestLoaderTest extends AbstractTestNGUnitTest {
+
+    private static final String PACKAGE_NAME = "com.consol.citrus.integration.parameter";
+
+    @Test
+    public void testLoadTestCase() {
+        XmlTestLoader.clearCache();
+
+        TestCase testCase = new XmlTestLoader(XmlTestLoaderTest.class, "TestParameterIT", PACKAGE_NAME, applicationContext).load();
+        Assert.assertEquals(testCase.getName(), "TestParameterIT");
+        Assert.assertEquals(testCase.getPackageName(), PACKAGE_NAME);
+        Assert.assertEquals(testCase.getTestClass(), XmlTestLoaderTest.class);
+        Assert.assertEquals(testCase.getActionCount(), 1L);
+        Assert.assertEquals(testCase.getActions().get(0).getClass(), EchoAction.class);
+        Assert.assertEquals(testCase.getVariableDefinitions().get("otherVariable"), "${someVariable}");
+    }
+
+    @Test
+    public void testLoadCachedTestCase() {
+        XmlTestLoader testLoader = new XmlTestLoader(XmlTestLoaderTest.class, "TestParameterIT", PACKAGE_NAME, applicationContext);
+        XmlTestLoader cachedTestLoader = new XmlTestLoader(XmlTestLoaderTest.class, "TestParameterIT", PACKAGE_NAME, applicationContext);
+
+        TestCase testCase = testLoader.load();
+        TestCase cachedTestCase = cachedTestLoader.load();
+
+        Assert.assertSame(testLoader.load(), testCase);
+        Assert.assertNotSame(cachedTestCase, testCase);
+        Assert.assertNotSame(cachedTestCase.getActions().get(0), testCase.getActions().get(0));
+        Assert.assertEquals(cachedTestCase.getName(), testCase.getName());
+        Assert.assertEquals(cachedTestCase.getActionCount(), testCase.getActionCount());
+    }
+
+    @Test
+    public void testLoadTestCaseWithPatternLocation() {
+        XmlTestLoader testLoader = new XmlTestLoader(XmlTestLoaderTest.class, "TestParameterIT", PACKAGE_NAME, applicationContext);
+        testLoader.setContextFile("classpath*:com/consol/citrus/integration/parameter/TestParameterIT.xml");
+
+        TestCase testCase = testLoader.load();
+        Assert.assertEquals(testCase.getName(), "TestParameterIT");
+        Assert.assertEquals(testCase.getActionCount(), 1L);
+    }
+
+    @Test
+    public void testCopyNestedBeanDefinitions() {
+        GenericBeanDefinition action = new GenericBeanDefinition();
+        action.setBeanClass(EchoAction.class);
+        action.getPropertyValues().add("message", new TypedStringValue("Hello Citrus!"));
+
+        ManagedList<Object> actions = new ManagedList<>();
+        actions.add(new BeanDefinitionHolder(action, "echo"));
+
+        GenericBeanDefinition testCase = new GenericBeanDefinition();
+        testCase.setBeanClass(TestCase.class);
+        testCase.getPropertyValues().add("actions", actions);
+        testCase.getConstructorArgumentValues().addIndexedArgumentValue(0, action);
+
+        BeanDefinition copy = XmlTestLoader.copyBeanDefinition(testCase);
+        ManagedList<?> copiedActions = (ManagedList<?>) copy.getPropertyValues().getPropertyValue("actions").getValue();
+        BeanDefinition copiedAction = ((BeanDefinitionHolder) copiedActions.get(0)).getBeanDefinition();
+        Assert.assertNotSame(copiedActions, actions);
+        Assert.assertNotSame(copiedAction, action);
+        Assert.assertNotSame(copy.getConstructorArgumentValues().getIndexedArgumentValue(0, null).getValue(), action);
+
+        Assert.assertNotSame(copiedAction.getPropertyValues().getPropertyValue("message").getValue(),
+                action.getPropertyValues().getPropertyValue("message").getValue());
+
+        copiedAction.getPropertyValues().add("message", "Changed!");
+        copiedAction.setScope("prototype");
+
+        Assert.assertEquals(((TypedStringValue) action.getPropertyValues().getPropertyValue("message").getValue()).getValue(), "Hello Citrus!");
+        Assert.assertEquals(action.getScope(), "");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnknownTestCase() {
+        new XmlTestLoader(XmlTestLoaderTest.class, "UnknownIT", PACKAGE_NAME, applicationContext).load();
+    }
+}
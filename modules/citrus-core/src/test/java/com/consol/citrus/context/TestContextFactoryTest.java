@@ -0,0 +1,52 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.context;
+
+import com.consol.citrus.Citrus;
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @since 2.8
+ */
+public class TestContextFactoryTest {
+
+    @Test
+    public void testParseMessageStoreLimit() {
+        Assert.assertEquals(TestContextFactory.parseMessageStoreLimit("100", Citrus.CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY, Integer.MAX_VALUE), 100L);
+        Assert.assertEquals(TestContextFactory.parseMessageStoreLimit(" 0 ", Citrus.CITRUS_MESSAGE_STORE_MAX_SIZE_PROPERTY, Long.MAX_VALUE), 0L);
+    }
+
+    @Test
+    public void testParseInvalidMessageStoreLimit() {
+        try {
+            TestContextFactory.parseMessageStoreLimit("10k", Citrus.CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY, Integer.MAX_VALUE);
+            Assert.fail("Missing exception due to invalid message store limit");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("citrus.message.store.max.entries"));
+            Assert.assertTrue(e.getMessage().contains("10k"));
+        }
+
+        try {
+            TestContextFactory.parseMessageStoreLimit("3000000000", Citrus.CITRUS_MESSAGE_STORE_MAX_ENTRIES_PROPERTY, Integer.MAX_VALUE);
+            Assert.fail("Missing exception due to message store limit out of range");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("citrus.message.store.max.entries"));
+        }
+    }
+}
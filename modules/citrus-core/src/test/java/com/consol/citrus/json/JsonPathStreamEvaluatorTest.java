@@ -0,0 +1,118 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.json;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import net.minidev.json.JSONArray;
+import net.minidev.json.JSONObject;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JsonPathStreamEvaluatorTest {
+
+    private static final String PAYLOAD = "{\"text\":\"Hello World!\", \"index\":5, \"price\":1.5, \"object\":{\"id\":\"x123456789x\", \"active\":true, \"none\":null}, " +
+            "\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}]}";
+
+    @Test
+    public void testEvaluate() {
+        Map<String, Object> results = new JsonPathStreamEvaluator(Arrays.asList("$.text", "$.index", "$.price", "$.object.id", "$['object']['active']",
+                "$.object.none", "$.greetings[1].text", "$.greetings[0]", "$.greetings[0].index", "$.missing"))
+                .evaluate(new StringReader(PAYLOAD));
+
+        Assert.assertEquals(results.get("$.text"), "Hello World!");
+        Assert.assertEquals(results.get("$.index"), 5L);
+        Assert.assertEquals(results.get("$.price"), 1.5D);
+        Assert.assertEquals(results.get("$.object.id"), "x123456789x");
+        Assert.assertEquals(results.get("$['object']['active']"), Boolean.TRUE);
+        Assert.assertTrue(results.containsKey("$.object.none"));
+        Assert.assertNull(results.get("$.object.none"));
+        Assert.assertEquals(results.get("$.greetings[1].text"), "Hallo Welt!");
+        Assert.assertTrue(results.get("$.greetings[0]") instanceof JSONObject);
+        Assert.assertEquals(((JSONObject) results.get("$.greetings[0]")).get("text"), "Hello World!");
+        Assert.assertEquals(results.get("$.greetings[0].index"), 1L);
+        Assert.assertFalse(results.containsKey("$.missing"));
+    }
+
+    @Test
+    public void testEvaluateRootArray() {
+        Map<String, Object> results = new JsonPathStreamEvaluator(Arrays.asList("$", "$[1]"))
+                .evaluate(new StringReader("[1, 2, 3]"));
+
+        Assert.assertTrue(results.get("$") instanceof JSONArray);
+        Assert.assertEquals(((JSONArray) results.get("$")).size(), 3);
+        Assert.assertEquals(results.get("$[1]"), 2L);
+    }
+
+    @Test
+    public void testEvaluateLargeArray() {
+        StringBuilder payload = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 100000; i++) {
+            payload.append(i > 0 ? "," : "").append("{\"id\":").append(i).append("}");
+        }
+        payload.append("], \"count\":100000}");
+
+        Map<String, Object> results = new JsonPathStreamEvaluator(Arrays.asList("$.items[99999].id", "$.count"))
+                .evaluate(new StringReader(payload.toString()));
+
+        Assert.assertEquals(results.get("$.items[99999].id"), 99999L);
+        Assert.assertEquals(results.get("$.count"), 100000L);
+    }
+
+    @Test
+    public void testParsePath() {
+        Assert.assertEquals(JsonPathStreamEvaluator.parsePath("$").get(), Collections.emptyList());
+        Assert.assertEquals(JsonPathStreamEvaluator.parsePath("$.a.b[0]['c']").get(), Arrays.asList("a", "b", 0, "c"));
+        Assert.assertEquals(JsonPathStreamEvaluator.parsePath("$[\"a\"][10]").get(), Arrays.asList("a", 10));
+
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("$..a"));
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("$.a[*]"));
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("$.a[?(@.b == 1)]"));
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("$.a[-1]"));
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("$.a.size()"));
+        Assert.assertFalse(JsonPathStreamEvaluator.isSupported("a.b"));
+    }
+
+    @Test
+    public void testJsonPathUtilsStreaming() {
+        Map<String, Object> results = JsonPathUtils.evaluate(new StringReader(PAYLOAD), Arrays.asList("$.greetings.size()", "$.object.keySet()", "$.text.exists()", "$.index"));
+
+        Assert.assertEquals(results.get("$.greetings.size()"), 2);
+        Assert.assertEquals(results.get("$.index"), 5L);
+        Assert.assertEquals(results.get("$.text.exists()"), true);
+        Assert.assertTrue(JsonPathUtils.isStreamable("$.greetings.size()"));
+        Assert.assertFalse(JsonPathUtils.isStreamable("$..index"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to evaluate JSON path expression: \\$.missing")
+    public void testJsonPathUtilsStreamingNotFound() {
+        JsonPathUtils.evaluate(new StringReader(PAYLOAD), Collections.singletonList("$.missing"));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class)
+    public void testUnsupportedExpression() {
+        new JsonPathStreamEvaluator(Collections.singletonList("$..text"));
+    }
+}
@@ -64,4 +64,43 @@ public class CitrusAppTest {
             Assert.assertEquals(e.getCause().getClass(), ClassNotFoundException.class);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testParallelOption() {
+        CitrusAppConfiguration configuration = CitrusAppOptions.apply(new String[] { "-P", "methods", "-T", "3" });
+        Assert.assertEquals(configuration.getParallelMode(), ParallelMode.METHODS);
+        Assert.assertEquals(configuration.getThreadCount(), 3);
+
+        configuration = CitrusAppOptions.apply(new String[] { "--parallel", "classes", "--threads", "2" });
+        Assert.assertEquals(configuration.getParallelMode(), ParallelMode.CLASSES);
+        Assert.assertEquals(configuration.getThreadCount(), 2);
+
+        try {
+            CitrusAppOptions.apply(new String[] { "-P", "unknown" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Unsupported parallel mode for -P/--parallel option: unknown");
+        }
+
+        try {
+            CitrusAppOptions.apply(new String[] { "-T", "many" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid number of threads for -T/--threads option: many");
+        }
+
+        try {
+            CitrusAppOptions.apply(new String[] { "-T", "0" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid number of threads for -T/--threads option: 0");
+        }
+
+        try {
+            CitrusAppOptions.apply(new String[] { "--threads", "-2" });
+            Assert.fail("Missing exception due to invalid option parameter usage");
+        } catch (CitrusRuntimeException e) {
+            Assert.assertEquals(e.getMessage(), "Invalid number of threads for -T/--threads option: -2");
+        }
+    }
+}
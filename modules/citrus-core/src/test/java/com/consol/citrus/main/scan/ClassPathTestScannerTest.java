@@ -19,12 +19,21 @@ package com.consol.citrus.main.scan;
 import com.consol.citrus.TestClass;
 import com.consol.citrus.junit.scan.SampleJUnit4Test;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileCopyUtils;
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import java.io.File;
+import java.io.FileOutputStream;
 import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
 import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
 
 /**
  * @author Christoph Deppisch
@@ -43,6 +52,41 @@ public class ClassPathTestScannerTest {
         }
     }
 
+    @Test
+    public void testFindTestsWithIndexedAndScannedRoots() throws Exception {
+        TestIndex index = new TestIndex();
+        index.addTestClass(org.testng.annotations.Test.class.getName(), "com.consol.citrus.testng.scan.IndexedTest");
+        index.addTestClass(org.testng.annotations.Test.class.getName(), "com.consol.citrus.other.OtherTest");
+
+        File jar = File.createTempFile("citrus-tests", ".jar");
+        jar.deleteOnExit();
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            for (String directory : new String[] { "com/", "com/consol/", "com/consol/citrus/", "com/consol/citrus/testng/", "com/consol/citrus/testng/scan/" }) {
+                jarOutputStream.putNextEntry(new JarEntry(directory));
+                jarOutputStream.closeEntry();
+            }
+
+            jarOutputStream.putNextEntry(new JarEntry(TestIndex.INDEX_LOCATION));
+            index.write(jarOutputStream);
+            jarOutputStream.closeEntry();
+        }
+
+        File classesDirectory = Files.createTempDirectory("citrus-test-classes").toFile();
+        classesDirectory.deleteOnExit();
+        String classFile = SampleTestNGTest.class.getName().replace('.', '/') + ".class";
+        File target = new File(classesDirectory, classFile);
+        Assert.assertTrue(target.getParentFile().mkdirs());
+        FileCopyUtils.copy(new ClassPathResource(classFile).getInputStream(), new FileOutputStream(target));
+
+        ClassLoader classLoader = new URLClassLoader(new URL[] { jar.toURI().toURL(), classesDirectory.toURI().toURL(),
+                org.testng.annotations.Test.class.getProtectionDomain().getCodeSource().getLocation() }, null);
+        List<TestClass> findings = new ClassPathTestScanner(classLoader, org.testng.annotations.Test.class, ".*Test")
+                .findTestsInPackage(SampleTestNGTest.class.getPackage().getName());
+        Assert.assertEquals(findings.size(), 2L);
+        Assert.assertEquals(findings.get(0).getName(), "com.consol.citrus.testng.scan.IndexedTest");
+        Assert.assertEquals(findings.get(1).getName(), SampleTestNGTest.class.getName());
+    }
+
     @DataProvider
     public Object[][] scannerDataProvider() {
         return new Object[][] {
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.main.scan;
+
+import com.consol.citrus.TestClass;
+import com.consol.citrus.junit.scan.SampleJUnit4Test;
+import com.consol.citrus.testng.scan.SampleTestNGTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.util.FileCopyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TestIndexTest {
+
+    @Test
+    public void testCreateIndex() throws Exception {
+        File classesDirectory = createClassesDirectory();
+
+        TestIndex index = TestIndex.create(classesDirectory, getClass().getClassLoader(),
+                org.testng.annotations.Test.class.getName(), org.junit.Test.class.getName(), Deprecated.class.getName());
+
+        Assert.assertEquals(index.getAnnotationTypes().size(), 3L);
+        Assert.assertEquals(index.getTestClasses(org.testng.annotations.Test.class.getName()), Collections.singleton(SampleTestNGTest.class.getName()));
+        Assert.assertEquals(index.getTestClasses(org.junit.Test.class.getName()), Collections.singleton(SampleJUnit4Test.class.getName()));
+        Assert.assertTrue(index.isIndexed(Deprecated.class.getName()));
+        Assert.assertTrue(index.getTestClasses(Deprecated.class.getName()).isEmpty());
+        Assert.assertEquals(index.getTestClasses().size(), 2L);
+    }
+
+    @Test
+    public void testLoadFromResource() throws Exception {
+        File classesDirectory = createClassesDirectory();
+
+        TestIndex index = TestIndex.create(classesDirectory, getClass().getClassLoader(), org.testng.annotations.Test.class.getName());
+        index.store(new File(classesDirectory, TestIndex.INDEX_LOCATION));
+
+        Optional<TestIndex> loaded = TestIndex.load(new FileSystemResource(new File(classesDirectory, TestIndex.INDEX_LOCATION)));
+        Assert.assertTrue(loaded.isPresent());
+        Assert.assertEquals(loaded.get().getTestClasses(org.testng.annotations.Test.class.getName()), Collections.singleton(SampleTestNGTest.class.getName()));
+        Assert.assertFalse(loaded.get().isIndexed(org.junit.Test.class.getName()));
+
+        Assert.assertFalse(TestIndex.load(new FileSystemResource(new File(classesDirectory, "unknown.index"))).isPresent());
+    }
+
+    @Test
+    public void testReadWrite() throws Exception {
+        TestIndex index = new TestIndex();
+        index.addTestClass("com.consol.citrus.Test", "com.consol.citrus.sample.FooIT");
+        index.addTestClass("com.consol.citrus.Test", "com.consol.citrus.sample.BarIT");
+        index.addAnnotationType("com.consol.citrus.Other");
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        index.write(outputStream);
+        Assert.assertEquals(outputStream.toString("UTF-8"), "com.consol.citrus.Other=\n" +
+                "com.consol.citrus.Test=com.consol.citrus.sample.BarIT,com.consol.citrus.sample.FooIT\n");
+
+        TestIndex loaded = new TestIndex();
+        loaded.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        Assert.assertEquals(loaded.getAnnotationTypes(), index.getAnnotationTypes());
+        Assert.assertEquals(loaded.getTestClasses(), index.getTestClasses());
+    }
+
+    @Test
+    public void testJarFileScannerUsingIndex() throws Exception {
+        TestIndex index = new TestIndex();
+        index.addTestClass(org.testng.annotations.Test.class.getName(), "com.consol.citrus.sample.FooIT");
+        index.addTestClass(org.testng.annotations.Test.class.getName(), "com.consol.citrus.sample.sub.BarIT");
+        index.addTestClass(org.junit.Test.class.getName(), "com.consol.citrus.other.BazIT");
+        index.addTestClass(org.junit.Test.class.getName(), "com.consol.citrus.sample.FooTest");
+
+        File jar = File.createTempFile("citrus-tests", ".jar");
+        jar.deleteOnExit();
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(jar))) {
+            jarOutputStream.putNextEntry(new JarEntry(TestIndex.INDEX_LOCATION));
+            index.write(jarOutputStream);
+            jarOutputStream.closeEntry();
+        }
+
+        List<TestClass> findings = new JarFileTestScanner(jar).findTestsInPackage("com.consol.citrus.sample");
+        Assert.assertEquals(findings.size(), 2L);
+        Assert.assertEquals(findings.get(0).getName(), "com.consol.citrus.sample.FooIT");
+        Assert.assertEquals(findings.get(1).getName(), "com.consol.citrus.sample.sub.BarIT");
+
+        Assert.assertEquals(new JarFileTestScanner(jar).findTestsInPackage("").size(), 3L);
+    }
+
+    @Test
+    public void testIgnoreIndex() throws Exception {
+        File classesDirectory = createClassesDirectory();
+        TestIndex.create(classesDirectory, getClass().getClassLoader(), org.testng.annotations.Test.class.getName())
+                .store(new File(classesDirectory, TestIndex.INDEX_LOCATION));
+
+        System.setProperty(TestIndex.IGNORE_INDEX_PROPERTY, "true");
+        try {
+            Assert.assertFalse(TestIndex.load(new FileSystemResource(new File(classesDirectory, TestIndex.INDEX_LOCATION))).isPresent());
+        } finally {
+            System.clearProperty(TestIndex.IGNORE_INDEX_PROPERTY);
+        }
+    }
+
+    private File createClassesDirectory() throws IOException {
+        File classesDirectory = Files.createTempDirectory("citrus-test-classes").toFile();
+        classesDirectory.deleteOnExit();
+
+        for (Class<?> type : Arrays.asList(SampleTestNGTest.class, com.consol.citrus.testng.scan.JustLooksLikeTest.class,
+                                            SampleJUnit4Test.class, com.consol.citrus.junit.scan.JustLooksLikeTest.class)) {
+            String classFile = type.getName().replace('.', '/') + ".class";
+            File target = new File(classesDirectory, classFile);
+            Assert.assertTrue(target.getParentFile().mkdirs() || target.getParentFile().isDirectory());
+            FileCopyUtils.copy(new ClassPathResource(classFile).getInputStream(), new FileOutputStream(target));
+        }
+
+        return classesDirectory;
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.channel.ChannelEndpoint;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.context.TestContextFactory;
+import com.consol.citrus.endpoint.Endpoint;
+import com.consol.citrus.functions.core.LoadMessageFunction;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class BoundedMessageStoreTest {
+
+    @Test
+    public void testStoreAndGetMessage() throws Exception {
+        MessageStore messageStore = new BoundedMessageStore(10, 0L);
+        messageStore.storeMessage("request", new DefaultMessage("RequestMessage"));
+        Assert.assertEquals(messageStore.getMessage("request").getPayload(String.class), "RequestMessage");
+        Assert.assertNull(messageStore.getMessage("unknown"));
+    }
+
+    @Test
+    public void testEvictByEntries() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(2, 0L);
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertNotNull(messageStore.getMessage("first"));
+
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+        Assert.assertEquals(messageStore.getEntryCount(), 2L);
+        Assert.assertNull(messageStore.getMessage("second"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+        Assert.assertEquals(messageStore.getSpilledCount(), 0L);
+    }
+
+    @Test
+    public void testEvictBySize() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(0, 20L);
+        messageStore.storeMessage("first", new DefaultMessage("12345"));
+        messageStore.storeMessage("second", new DefaultMessage("12345"));
+        Assert.assertEquals(messageStore.getSize(), 20L);
+
+        messageStore.storeMessage("second", new DefaultMessage("1234567890"));
+        Assert.assertEquals(messageStore.getEntryCount(), 1L);
+        Assert.assertEquals(messageStore.getSize(), 20L);
+        Assert.assertNull(messageStore.getMessage("first"));
+
+        messageStore.storeMessage("large", new DefaultMessage("12345678901234567890"));
+        Assert.assertEquals(messageStore.getEntryCount(), 1L);
+        Assert.assertEquals(messageStore.getMessage("large").getPayload(String.class), "12345678901234567890");
+    }
+
+    @Test
+    public void testSpill() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, true);
+        messageStore.storeMessage("first", new DefaultMessage("First").setHeader("operation", "foo"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+        messageStore.storeMessage("third", new DefaultMessage("Third"));
+
+        Assert.assertEquals(messageStore.getEntryCount(), 1L);
+        Assert.assertEquals(messageStore.getSpilledCount(), 2L);
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+        Assert.assertEquals(messageStore.getMessage("first").getHeader("operation"), "foo");
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+
+        messageStore.storeMessage("first", new DefaultMessage("FirstUpdated"));
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "FirstUpdated");
+        Assert.assertEquals(messageStore.getMessage("third").getPayload(String.class), "Third");
+
+        File spillFile = messageStore.getSpillFile();
+        Assert.assertTrue(spillFile.exists());
+
+        messageStore.clear();
+        Assert.assertFalse(spillFile.exists());
+        Assert.assertEquals(messageStore.getEntryCount(), 0L);
+        Assert.assertEquals(messageStore.getSpilledCount(), 0L);
+        Assert.assertNull(messageStore.getMessage("third"));
+    }
+
+    @Test
+    public void testCompactSpillFile() throws Exception {
+        char[] large = new char[10000];
+        Arrays.fill(large, 'x');
+
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, true);
+        messageStore.storeMessage("first", new DefaultMessage(new String(large)));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+
+        File spillFile = messageStore.getSpillFile();
+        long spillFileLength = messageStore.getSpillFileLength();
+        Assert.assertTrue(spillFileLength > 10000L);
+
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+
+        Assert.assertFalse(spillFile.exists());
+        Assert.assertNotEquals(messageStore.getSpillFile(), spillFile);
+        Assert.assertTrue(messageStore.getSpillFile().exists());
+        Assert.assertEquals(messageStore.getSpillFileLength(), messageStore.getSpillFile().length());
+        Assert.assertTrue(messageStore.getSpillFileLength() < spillFileLength);
+        Assert.assertEquals(messageStore.getSpilledCount(), 1L);
+        Assert.assertEquals(messageStore.getMessage("first").getPayload(String.class), "First");
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+
+        messageStore.clear();
+    }
+
+    @Test
+    public void testDeleteSpillFileOnTestFinish() throws Exception {
+        TestContextFactory contextFactory = TestContextFactory.newInstance();
+        contextFactory.setMessageStoreMaxEntries(1);
+        contextFactory.setMessageStoreSpill(true);
+        TestContext context = contextFactory.getObject();
+
+        BoundedMessageStore messageStore = (BoundedMessageStore) context.getMessageStore();
+        messageStore.storeMessage("first", new DefaultMessage("First"));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+
+        File spillFile = messageStore.getSpillFile();
+        Assert.assertNotNull(spillFile);
+        Assert.assertTrue(spillFile.exists());
+
+        TestCase testCase = new TestCase();
+        testCase.setName("SpillTest");
+        testCase.doExecute(context);
+
+        Assert.assertFalse(spillFile.exists());
+        Assert.assertNull(messageStore.getSpillFile());
+        Assert.assertEquals(messageStore.getSpilledCount(), 0L);
+        Assert.assertEquals(messageStore.getMessage("second").getPayload(String.class), "Second");
+    }
+
+    @Test
+    public void testSpillNotSerializable() throws Exception {
+        BoundedMessageStore messageStore = new BoundedMessageStore(1, 0L, true);
+        messageStore.storeMessage("first", new DefaultMessage(new Object()));
+        messageStore.storeMessage("second", new DefaultMessage("Second"));
+
+        Assert.assertNull(messageStore.getMessage("first"));
+        Assert.assertEquals(messageStore.getSpilledCount(), 0L);
+    }
+
+    @Test
+    public void testContextFactory() throws Exception {
+        TestContextFactory contextFactory = TestContextFactory.newInstance();
+        Assert.assertTrue(contextFactory.getObject().getMessageStore() instanceof DefaultMessageStore);
+
+        contextFactory.setMessageStoreMaxEntries(1);
+        TestContext context = contextFactory.getObject();
+        Assert.assertTrue(context.getMessageStore() instanceof BoundedMessageStore);
+
+        context.getMessageStore().storeMessage("first", new DefaultMessage("First"));
+        context.getMessageStore().storeMessage("second", new DefaultMessage("Second"));
+        Assert.assertEquals(new LoadMessageFunction().execute(Collections.singletonList("first.payload()"), context), "First");
+    }
+
+    @Test
+    public void testConstructMessageName() throws Exception {
+        Endpoint endpoint = new ChannelEndpoint();
+        endpoint.setName("testEndpoint");
+        Assert.assertEquals(new BoundedMessageStore(10, 0L).constructMessageName(new SendMessageAction(), endpoint), "send(testEndpoint)");
+    }
+}
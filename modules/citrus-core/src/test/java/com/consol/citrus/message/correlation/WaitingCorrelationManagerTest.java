@@ -0,0 +1,86 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.message.correlation;
+
+import com.consol.citrus.channel.ChannelSyncEndpointConfiguration;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class WaitingCorrelationManagerTest {
+
+    @Test
+    public void testFind() throws Exception {
+        ChannelSyncEndpointConfiguration endpointConfiguration = new ChannelSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(200L);
+
+        WaitingCorrelationManager<String> correlationManager = new WaitingCorrelationManager<>(endpointConfiguration);
+        Assert.assertNull(correlationManager.find(""));
+
+        correlationManager.store("foo", "bar");
+        Assert.assertNull(correlationManager.find("bar", 0L));
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+
+        //2nd invocation with same correlation key
+        Assert.assertNull(correlationManager.find("foo", 0L));
+    }
+
+    @Test
+    public void testFindWithWait() throws Exception {
+        ChannelSyncEndpointConfiguration endpointConfiguration = new ChannelSyncEndpointConfiguration();
+        endpointConfiguration.setPollingInterval(5000L);
+        endpointConfiguration.setTimeout(5000L);
+
+        WaitingCorrelationManager<String> correlationManager = new WaitingCorrelationManager<>(endpointConfiguration);
+
+        Thread producer = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            correlationManager.store("other", "value");
+            correlationManager.store("foo", "bar");
+        });
+
+        long start = System.currentTimeMillis();
+        producer.start();
+
+        Assert.assertEquals(correlationManager.find("foo"), "bar");
+        Assert.assertTrue(System.currentTimeMillis() - start < 5000L);
+        Assert.assertEquals(correlationManager.find("other", 0L), "value");
+
+        producer.join();
+    }
+
+    @Test
+    public void testNotFound() {
+        ChannelSyncEndpointConfiguration endpointConfiguration = new ChannelSyncEndpointConfiguration();
+        endpointConfiguration.setTimeout(100L);
+
+        WaitingCorrelationManager<String> correlationManager = new WaitingCorrelationManager<>(endpointConfiguration);
+
+        long start = System.currentTimeMillis();
+        Assert.assertNull(correlationManager.find("foo"));
+        Assert.assertTrue(System.currentTimeMillis() - start >= 100L);
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class HistogramTest {
+
+    @Test
+    public void testRecord() {
+        Histogram histogram = new Histogram("test");
+        for (long i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+
+        Assert.assertEquals(histogram.getName(), "test");
+        Assert.assertEquals(histogram.getCount(), 100L);
+        Assert.assertEquals(histogram.getSum(), 5050L);
+        Assert.assertEquals(histogram.getMean(), 50.5D);
+        Assert.assertEquals(histogram.getMin(), 1L);
+        Assert.assertEquals(histogram.getMax(), 100L);
+        Assert.assertEquals(histogram.getValueAtPercentile(50), 50L);
+        Assert.assertEquals(histogram.getValueAtPercentile(90), 90L);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 99L);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100L);
+        Assert.assertTrue(histogram.getThroughput() > 0);
+    }
+
+    @Test
+    public void testPercentilePrecision() {
+        Histogram histogram = new Histogram("test");
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000000L);
+        }
+
+        Assert.assertEquals(histogram.getMax(), 1000000000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(50), 500000000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(90), 900000000L);
+        assertWithinPrecision(histogram.getValueAtPercentile(99), 990000000L);
+    }
+
+    @Test
+    public void testEmptyAndReset() {
+        Histogram histogram = new Histogram("test");
+        Assert.assertEquals(histogram.getCount(), 0L);
+        Assert.assertEquals(histogram.getMin(), 0L);
+        Assert.assertEquals(histogram.getMean(), 0.0D);
+        Assert.assertEquals(histogram.getValueAtPercentile(99), 0L);
+        Assert.assertEquals(histogram.getThroughput(), 0.0D);
+
+        histogram.record(-5L);
+        histogram.record(Long.MAX_VALUE);
+        Assert.assertEquals(histogram.getMin(), 0L);
+        Assert.assertEquals(histogram.getMax(), Long.MAX_VALUE);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), Long.MAX_VALUE);
+
+        histogram.reset();
+        Assert.assertEquals(histogram.getCount(), 0L);
+        Assert.assertEquals(histogram.getMax(), 0L);
+    }
+
+    @Test
+    public void testBucketBoundaries() {
+        for (long value : new long[] { 0L, 1L, 127L, 128L, 129L, 255L, 256L, 1000L, 123456789L, Long.MAX_VALUE }) {
+            int index = Histogram.getBucketIndex(value);
+            Assert.assertTrue(Histogram.getHighestEquivalentValue(index) >= value);
+            if (index > 0) {
+                Assert.assertTrue(Histogram.getHighestEquivalentValue(index - 1) < value);
+            }
+        }
+    }
+
+    @Test
+    public void testRelativeError() {
+        for (long value = 1L; value < 100000000L; value = value * 3 + 7) {
+            long highest = Histogram.getHighestEquivalentValue(Histogram.getBucketIndex(value));
+            Assert.assertTrue(highest - value < Math.max(1L, value / 100), String.format("Value %s recorded as %s", value, highest));
+        }
+    }
+
+    private void assertWithinPrecision(long actual, long expected) {
+        Assert.assertTrue(Math.abs(actual - expected) < expected / 100, String.format("Expected %s but was %s", expected, actual));
+    }
+}
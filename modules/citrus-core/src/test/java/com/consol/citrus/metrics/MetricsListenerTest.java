@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.metrics;
+
+import com.consol.citrus.TestCase;
+import com.consol.citrus.actions.EchoAction;
+import com.consol.citrus.actions.FailAction;
+import com.consol.citrus.context.TestContext;
+import com.consol.citrus.exceptions.TestCaseFailedException;
+import com.consol.citrus.actions.SendMessageAction;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.report.HtmlReporter;
+import com.consol.citrus.report.SummaryReporter;
+import com.consol.citrus.report.TestActionListeners;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class MetricsListenerTest {
+
+    @Test
+    public void testActionMetrics() {
+        MetricsRegistry registry = new DefaultMetricsRegistry();
+        MetricsListener listener = new MetricsListener(registry);
+        TestCase testCase = new TestCase();
+
+        EchoAction echo = new EchoAction();
+        listener.onTestActionStart(testCase, echo);
+        listener.onTestActionFinish(testCase, echo);
+
+        SendMessageAction send = new SendMessageAction();
+        send.setEndpointUri("fooEndpoint");
+        listener.onTestActionStart(testCase, send);
+        listener.onTestActionFinish(testCase, send);
+
+        Map<String, Histogram> histograms = registry.getHistograms();
+        Assert.assertEquals(histograms.size(), 3L);
+        Assert.assertEquals(histograms.get("action:echo").getCount(), 1L);
+        Assert.assertEquals(histograms.get("action:send").getCount(), 1L);
+        Assert.assertEquals(histograms.get("endpoint:fooEndpoint:send").getCount(), 1L);
+        Assert.assertTrue(MetricsListener.isDuration("endpoint:fooEndpoint:send"));
+
+        registry.reset();
+        Assert.assertEquals(registry.getHistograms().get("action:echo").getCount(), 0L);
+    }
+
+    @Test
+    public void testFailedActionMetrics() {
+        MetricsRegistry registry = new DefaultMetricsRegistry();
+        MetricsListener listener = new MetricsListener(registry);
+        TestCase testCase = new TestCase();
+        testCase.setTestClass(getClass());
+
+        EchoAction echo = new EchoAction();
+        FailAction fail = new FailAction();
+        testCase.addTestAction(echo);
+        testCase.addTestAction(fail);
+        TestActionListeners testActionListeners = new TestActionListeners();
+        testActionListeners.addTestActionListener(listener);
+        testCase.setTestActionListeners(testActionListeners);
+
+        TestContext context = new TestContext();
+        context.getTestListeners().addTestListener(listener);
+
+        try {
+            testCase.doExecute(context);
+            Assert.fail("Missing test failure");
+        } catch (TestCaseFailedException e) {
+            Assert.assertEquals(e.getCause().getMessage(), "Generated error to interrupt test execution");
+        }
+
+        Map<String, Histogram> histograms = registry.getHistograms();
+        Assert.assertEquals(histograms.get("action:echo").getCount(), 1L);
+        Assert.assertEquals(histograms.get("action:fail").getCount(), 1L);
+    }
+
+    @Test
+    public void testMessageMetrics() {
+        MetricsRegistry registry = new DefaultMetricsRegistry();
+        MetricsListener listener = new MetricsListener(registry);
+
+        listener.onOutboundMessage(new DefaultMessage("Hello"), null);
+        listener.onInboundMessage(new DefaultMessage("Hello Citrus".getBytes()), null);
+
+        Assert.assertEquals(registry.histogram(MetricsListener.OUTBOUND_MESSAGE_SIZE).getMax(), 5L);
+        Assert.assertEquals(registry.histogram(MetricsListener.INBOUND_MESSAGE_SIZE).getMax(), 12L);
+        Assert.assertFalse(MetricsListener.isDuration(MetricsListener.INBOUND_MESSAGE_SIZE));
+    }
+
+    @Test
+    public void testMetricsReport() throws Exception {
+        MetricsRegistry registry = new DefaultMetricsRegistry();
+        registry.histogram("action:echo").record(2000000L);
+        registry.histogram(MetricsListener.INBOUND_MESSAGE_SIZE).record(100L);
+
+        MetricsReporter reporter = new MetricsReporter(registry);
+        reporter.setEnabled(true);
+        reporter.generateTestResults();
+
+        String report = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName()));
+        Assert.assertTrue(report.contains("\"name\":\"action:echo\""));
+        Assert.assertTrue(report.contains("\"unit\":\"ns\""));
+        Assert.assertTrue(report.contains("\"name\":\"message:inbound:size\""));
+
+        SummaryReporter summaryReporter = new SummaryReporter();
+        summaryReporter.setMetricsRegistry(registry);
+        summaryReporter.generateTestResults();
+
+        String summary = FileUtils.readToString(new File(summaryReporter.getReportDirectory() + File.separator + summaryReporter.getReportFileName()));
+        Assert.assertTrue(summary.contains("<metric name=\"action:echo\""));
+
+        HtmlReporter htmlReporter = new HtmlReporter();
+        htmlReporter.setMetricsRegistry(registry);
+        htmlReporter.generateTestResults();
+
+        String html = FileUtils.readToString(new File(htmlReporter.getReportDirectory() + File.separator + htmlReporter.getReportFileName()));
+        Assert.assertTrue(html.contains("action:echo"));
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.TestResult;
+import com.consol.citrus.util.FileUtils;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.File;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class HtmlReporterTest {
+
+    private HtmlReporter reporter = new HtmlReporter();
+
+    @BeforeMethod
+    public void clearResults() {
+        reporter.clearTestResults();
+    }
+
+    @Test
+    public void testGenerateTestResults() throws Exception {
+        reporter.getTestResults().addResult(TestResult.success("fooTest", HtmlReporterTest.class.getName()));
+        reporter.getTestResults().addResult(TestResult.failed("barTest", HtmlReporterTest.class.getName(), new NullPointerException("Something went wrong!")));
+        reporter.getTestResults().addResult(TestResult.skipped("bazTest", HtmlReporterTest.class.getName()));
+        reporter.generateTestResults();
+
+        String reportFile = FileUtils.readToString(new File(reporter.getReportDirectory() + File.separator + reporter.getReportFileName()));
+
+        Assert.assertEquals(reportFile, reporter.getReportContent());
+        Assert.assertTrue(reportFile.contains("<tr class=\"success\" onmouseover=\"showTooltip('fooTestInfo', event);\" onmouseout=\"hideTooltip();\">"));
+        Assert.assertTrue(reportFile.contains("<tr class=\"failure\" onmouseover=\"showTooltip('barTestInfo', event);\" onmouseout=\"hideTooltip();\">"));
+        Assert.assertTrue(reportFile.contains("<tr class=\"skip\" onmouseover=\"showTooltip('bazTestInfo', event);\" onmouseout=\"hideTooltip();\">"));
+        Assert.assertTrue(reportFile.contains("java.lang.NullPointerException: Something went wrong!"));
+        Assert.assertFalse(reportFile.contains("@test.results@"));
+        Assert.assertFalse(reportFile.contains("@test.case.name@"));
+    }
+}
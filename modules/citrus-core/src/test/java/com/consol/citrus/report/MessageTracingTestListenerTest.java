@@ -18,13 +18,17 @@ package com.consol.citrus.report;
 
 import com.consol.citrus.TestCase;
 import com.consol.citrus.message.RawMessage;
+import com.consol.citrus.util.FileUtils;
 import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -68,6 +72,123 @@ public class MessageTracingTestListenerTest {
         assertFileExistsWithContent(testname, outboundPayload);
     }
 
+    @Test
+    public void shouldWriteMessagesAsync() throws Exception {
+        String testname = "AsyncDummyTest";
+        MessageTracingTestListener asyncListener = new MessageTracingTestListener();
+        asyncListener.setOutputDirectory("target/citrus-logs/trace/messages");
+        asyncListener.setAsync(true);
+        asyncListener.setBufferSize(2);
+        asyncListener.setCompress(true);
+        asyncListener.afterPropertiesSet();
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        asyncListener.onTestStart(testCaseMock);
+        for (int i = 0; i < 5; i++) {
+            asyncListener.onInboundMessage(setupRawMessageMock("Inbound Message " + i), null);
+        }
+        asyncListener.onTestFinish(testCaseMock);
+        asyncListener.destroy();
+
+        File traceFile = asyncListener.getTraceFile(testname);
+        Assert.assertTrue(traceFile.getName().endsWith(".msgs.gz"));
+
+        String fileContent;
+        try (InputStream inputStream = new GZIPInputStream(new FileInputStream(traceFile))) {
+            fileContent = FileUtils.readToString(inputStream, StandardCharsets.UTF_8);
+        }
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(fileContent.contains("Inbound Message " + i));
+        }
+    }
+
+    @Test
+    public void shouldRotateTraceFiles() throws Exception {
+        String testname = "RotateDummyTest";
+        MessageTracingTestListener rotatingListener = new MessageTracingTestListener();
+        rotatingListener.setOutputDirectory("target/citrus-logs/trace/messages");
+        rotatingListener.setAsync(true);
+        rotatingListener.setBufferSize(1);
+        rotatingListener.setMaxFileSize(1L);
+        rotatingListener.afterPropertiesSet();
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        rotatingListener.onTestStart(testCaseMock);
+        rotatingListener.onInboundMessage(setupRawMessageMock("Inbound Message"), null);
+        rotatingListener.onOutboundMessage(setupRawMessageMock("Outbound Message"), null);
+        rotatingListener.onTestFinish(testCaseMock);
+        rotatingListener.destroy();
+
+        Assert.assertTrue(FileUtils.readToString(rotatingListener.getTraceFile(testname, 0)).contains("Inbound Message"));
+        Assert.assertTrue(FileUtils.readToString(rotatingListener.getTraceFile(testname, 1)).contains("Outbound Message"));
+    }
+
+    @Test
+    public void shouldCountDroppedWrites() throws Exception {
+        String testname = "DropDummyTest";
+        final CountDownLatch writerBlocked = new CountDownLatch(1);
+        final CountDownLatch releaseWriter = new CountDownLatch(1);
+        MessageTracingTestListener droppingListener = new MessageTracingTestListener() {
+            @Override
+            protected File getTraceFile(String testName) {
+                if (Thread.currentThread().getName().equals("citrus-message-trace-writer") && writerBlocked.getCount() > 0) {
+                    writerBlocked.countDown();
+                    try {
+                        releaseWriter.await(5, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+
+                return super.getTraceFile(testName);
+            }
+        };
+        droppingListener.setOutputDirectory("target/citrus-logs/trace/messages");
+        droppingListener.setAsync(true);
+        droppingListener.setBufferSize(1);
+        droppingListener.setQueueCapacity(1);
+        droppingListener.setOverflowPolicy(MessageTracingTestListener.OverflowPolicy.DROP_NEWEST);
+        droppingListener.afterPropertiesSet();
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        droppingListener.onTestStart(testCaseMock);
+        droppingListener.onInboundMessage(setupRawMessageMock("Inbound Message 0"), null);
+        Assert.assertTrue(writerBlocked.await(5, TimeUnit.SECONDS));
+
+        for (int i = 1; i < 5; i++) {
+            droppingListener.onInboundMessage(setupRawMessageMock("Inbound Message " + i), null);
+        }
+
+        Assert.assertEquals(droppingListener.getDroppedWrites(), 3L);
+
+        releaseWriter.countDown();
+        droppingListener.onTestFinish(testCaseMock);
+        droppingListener.destroy();
+
+        String fileContent = FileUtils.readToString(droppingListener.getTraceFile(testname));
+        Assert.assertTrue(fileContent.contains("Inbound Message 0"));
+        Assert.assertTrue(fileContent.contains("Inbound Message 1"));
+        Assert.assertFalse(fileContent.contains("Inbound Message 4"));
+    }
+
+    @Test
+    public void shouldNotFailOnWriteError() throws Exception {
+        String testname = "FailingDummyTest";
+        File outputFile = File.createTempFile("citrus-trace", ".txt");
+        outputFile.deleteOnExit();
+
+        MessageTracingTestListener failingListener = new MessageTracingTestListener();
+        failingListener.setOutputDirectory(outputFile.getAbsolutePath());
+
+        TestCase testCaseMock = setupTestCaseMock(testname);
+        failingListener.onTestStart(testCaseMock);
+        failingListener.onInboundMessage(setupRawMessageMock("Inbound Message"), null);
+        failingListener.onTestFinish(testCaseMock);
+
+        Assert.assertFalse(failingListener.getTraceFile(testname).exists());
+    }
+
     private TestCase setupTestCaseMock(String testname) {
         TestCase mock = mock(TestCase.class);
         when(mock.getName()).thenReturn(testname);
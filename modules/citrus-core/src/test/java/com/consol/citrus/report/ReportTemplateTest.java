@@ -0,0 +1,81 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.report;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.PropertyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ReportTemplateTest {
+
+    @Test
+    public void testWrite() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("name", "Citrus");
+        properties.put("greeting", "Hello");
+
+        Assert.assertEquals(render("@greeting@ @name@!", properties), "Hello Citrus!");
+        Assert.assertEquals(render("No properties", properties), "No properties");
+        Assert.assertEquals(render("@name@", properties), "Citrus");
+        Assert.assertEquals(render("", properties), "");
+    }
+
+    @Test
+    public void testSameResultAsPropertyUtils() throws Exception {
+        Properties properties = new Properties();
+        properties.put("name", "Citrus");
+        properties.put("mail", "citrus");
+
+        for (String template : Arrays.asList("Hello @name@!", "\\@mail\\@ @name@", "@name@@name@", "@name@ and \\@")) {
+            Map<String, Object> values = new HashMap<>();
+            properties.stringPropertyNames().forEach(key -> values.put(key, properties.getProperty(key)));
+            Assert.assertEquals(render(template, values), PropertyUtils.replacePropertiesInString(template, properties), template);
+        }
+    }
+
+    @Test
+    public void testContentWriter() throws Exception {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("items", (ReportTemplate.ContentWriter) writer -> {
+            for (int i = 0; i < 3; i++) {
+                writer.write("<item>" + i + "</item>");
+            }
+        });
+
+        Assert.assertEquals(render("<items>@items@</items>", properties), "<items><item>0</item><item>1</item><item>2</item></items>");
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No such property '@unknown@'")
+    public void testUnknownProperty() throws Exception {
+        render("Hello @unknown@!", Collections.emptyMap());
+    }
+
+    private String render(String template, Map<String, Object> properties) throws Exception {
+        StringWriter writer = new StringWriter();
+        new ReportTemplate(template).write(writer, properties);
+        return writer.toString();
+    }
+}
@@ -21,6 +21,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.concurrent.*;
+
 /**
  * @author Christoph Deppisch
  */
@@ -72,4 +74,42 @@ public class TestResultsTest {
         Assert.assertEquals(results.getSkipped(), 1);
         Assert.assertEquals(results.getSkippedPercentage(), "33.3");
     }
+
+    @Test
+    public void testOnlySkippedResults() throws Exception {
+        TestResults results = new TestResults();
+
+        results.addResult(TestResult.skipped("SkippedTest", TestResultsTest.class.getName()));
+
+        Assert.assertEquals(results.getSize(), 1);
+        Assert.assertEquals(results.getSuccessPercentage(), "0.0");
+        Assert.assertEquals(results.getFailedPercentage(), "0.0");
+        Assert.assertEquals(results.getSkippedPercentage(), "100.0");
+    }
+
+    @Test
+    public void testConcurrentResults() throws Exception {
+        TestResults results = new TestResults();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int i = 0; i < 1000; i++) {
+            final int index = i;
+            executor.execute(() -> {
+                if (index % 10 == 0) {
+                    results.addResult(TestResult.failed("FailedTest" + index, TestResultsTest.class.getName(), "This went wrong"));
+                } else {
+                    results.addResult(TestResult.success("OkTest" + index, TestResultsTest.class.getName()));
+                }
+            });
+        }
+
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assert.assertEquals(results.getSize(), 1000);
+        Assert.assertEquals(results.getSuccess(), 900);
+        Assert.assertEquals(results.getFailed(), 100);
+        Assert.assertEquals(results.getFailedPercentage(), "10.0");
+        Assert.assertEquals(results.asList().size(), 1000);
+    }
 }
@@ -17,11 +17,13 @@
 package com.consol.citrus.testng;
 
 import com.consol.citrus.TestClass;
+import com.consol.citrus.main.ParallelMode;
 import com.consol.citrus.main.TestRunConfiguration;
 import com.consol.citrus.testng.scan.SampleTestNGTest;
 import org.testng.*;
 import org.testng.annotations.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 /**
@@ -47,6 +49,17 @@ public class TestNGEngineTest {
         runTestEngine(configuration, 0L, 1L);
     }
 
+    @Test
+    public void testRunParallel() {
+        TestRunConfiguration configuration = new TestRunConfiguration();
+        configuration.setTestClasses(Arrays.asList(new TestClass(SampleTestNGTest.class.getName()),
+                new TestClass(SampleTestNGTest.class.getName(), "sampleTest")));
+        configuration.setParallelMode(ParallelMode.METHODS);
+        configuration.setThreadCount(2);
+
+        runTestEngine(configuration, 0L, 1L);
+    }
+
     @Test
     public void testRunNoMatch() {
         TestRunConfiguration configuration = new TestRunConfiguration();
@@ -51,4 +51,12 @@ public class FileUtilsTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(FileUtils.getCharset("/path/to/some/file.txt" + FileUtils.FILE_PATH_CHARSET_PARAMETER + "ISO-8859-1"), Charset.forName("ISO-8859-1"));
     }
 
+    @Test
+    public void testParseCacheSize() throws Exception {
+        Assert.assertEquals(FileUtils.parseCacheSize("1024"), 1024L);
+        Assert.assertEquals(FileUtils.parseCacheSize(" 0 "), 0L);
+        Assert.assertEquals(FileUtils.parseCacheSize("32MB"), Citrus.CITRUS_FILE_CACHE_SIZE_DEFAULT);
+        Assert.assertEquals(FileUtils.parseCacheSize(""), Citrus.CITRUS_FILE_CACHE_SIZE_DEFAULT);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.util;
+
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ResourceContentCacheTest {
+
+    @Test
+    public void testCachedContent() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+        File file = createTempFile("Hello Citrus!");
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 1L);
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 1L);
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.ISO_8859_1), "Hello Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 2L);
+
+        cache.clear();
+        Assert.assertEquals(cache.getEntryCount(), 0L);
+        Assert.assertEquals(cache.getSize(), 0L);
+    }
+
+    @Test
+    public void testModifiedResource() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+        File file = createTempFile("Hello Citrus!");
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus!");
+
+        FileUtils.writeToFile("Hello again!", file, StandardCharsets.UTF_8);
+        Assert.assertTrue(file.setLastModified(file.lastModified() + 1000L));
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello again!");
+        Assert.assertEquals(cache.getEntryCount(), 1L);
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(200);
+        File first = createTempFile("0123456789012345678901234");
+        File second = createTempFile("0123456789012345678901234");
+        File third = createTempFile("0123456789012345678901234");
+        File fourth = createTempFile("0123456789012345678901234");
+        File tooLarge = createTempFile("01234567890123456789012345678901234567890123456789");
+
+        cache.getContent(new FileSystemResource(first), StandardCharsets.UTF_8);
+        cache.getContent(new FileSystemResource(second), StandardCharsets.UTF_8);
+        cache.getContent(new FileSystemResource(first), StandardCharsets.UTF_8);
+        Assert.assertEquals(cache.getEntryCount(), 2L);
+
+        cache.getContent(new FileSystemResource(third), StandardCharsets.UTF_8);
+        cache.getContent(new FileSystemResource(fourth), StandardCharsets.UTF_8);
+        Assert.assertEquals(cache.getEntryCount(), 4L);
+        Assert.assertEquals(cache.getSize(), 200L);
+
+        cache.getContent(new FileSystemResource(createTempFile("0123456789012345678901234")), StandardCharsets.UTF_8);
+        Assert.assertEquals(cache.getEntryCount(), 4L);
+        Assert.assertEquals(cache.getSize(), 200L);
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(tooLarge), StandardCharsets.UTF_8), "01234567890123456789012345678901234567890123456789");
+        Assert.assertEquals(cache.getEntryCount(), 4L);
+    }
+
+    @Test
+    public void testModifiedResourceSameTimestamp() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+        File file = createTempFile("Hello Citrus!");
+        long lastModified = file.lastModified();
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus!");
+
+        FileUtils.writeToFile("Hello again, Citrus!", file, StandardCharsets.UTF_8);
+        Assert.assertTrue(file.setLastModified(lastModified));
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello again, Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 1L);
+    }
+
+    @Test
+    public void testNonCacheableResource() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(1024 * 1024);
+
+        Assert.assertEquals(cache.getContent(new ByteArrayResource("Hello Citrus!".getBytes()), StandardCharsets.UTF_8), "Hello Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 0L);
+    }
+
+    @Test
+    public void testDisabledCache() throws Exception {
+        ResourceContentCache cache = new ResourceContentCache(0L);
+        File file = createTempFile("Hello Citrus!");
+
+        Assert.assertEquals(cache.getContent(new FileSystemResource(file), StandardCharsets.UTF_8), "Hello Citrus!");
+        Assert.assertEquals(cache.getEntryCount(), 0L);
+    }
+
+    private File createTempFile(String content) throws Exception {
+        File file = File.createTempFile("citrus-cache", ".txt");
+        file.deleteOnExit();
+        FileUtils.writeToFile(content, file, StandardCharsets.UTF_8);
+        return file;
+    }
+}
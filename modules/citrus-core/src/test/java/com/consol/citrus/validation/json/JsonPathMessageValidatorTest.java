@@ -80,6 +80,35 @@ public class JsonPathMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(message, new DefaultMessage(), context, validationContext);
     }
 
+    @Test
+    public void testValidateMessageElementsWithStreamingJsonPath() {
+        JsonPathMessageValidator streamingValidator = new JsonPathMessageValidator();
+        streamingValidator.setStreaming(true);
+
+        Map<String, Object> jsonPathExpressions = new LinkedHashMap<>();
+        jsonPathExpressions.put("$['root']['element']['sub-element']", "text-value");
+        jsonPathExpressions.put("$.root.text", startsWith("text"));
+        jsonPathExpressions.put("$.root.number", "10");
+        jsonPathExpressions.put("$.root.numbers", contains(10L, 20L, 30L, 40L));
+        jsonPathExpressions.put("$.root.numbers[2]", "30");
+        jsonPathExpressions.put("$.root.nerds[1].name", "Sheldon");
+        jsonPathExpressions.put("$.root.nerds.size()", "2");
+        jsonPathExpressions.put("$.root.person.keySet()", "[name]");
+        jsonPathExpressions.put("$..name", hasItem("Penny"));
+
+        JsonPathMessageValidationContext validationContext = new JsonPathMessageValidationContext();
+        validationContext.setJsonPathExpressions(jsonPathExpressions);
+        streamingValidator.validateMessage(message, new DefaultMessage(), context, validationContext);
+
+        validationContext.setJsonPathExpressions(Collections.singletonMap("$.root.nerds[0].name", "Sheldon"));
+        try {
+            streamingValidator.validateMessage(message, new DefaultMessage(), context, validationContext);
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getMessage().contains("$.root.nerds[0].name"));
+        }
+    }
+
     @Test
     public void testValidateMessageElementsWithJsonPathFunctionsSuccessful() {
         JsonPathMessageValidationContext validationContext = new JsonPathMessageValidationContext();
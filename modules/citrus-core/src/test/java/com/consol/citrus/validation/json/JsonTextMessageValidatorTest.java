@@ -28,6 +28,7 @@ import net.minidev.json.parser.ParseException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import java.util.Collections;
@@ -333,6 +334,92 @@ public class JsonTextMessageValidatorTest extends AbstractTestNGUnitTest {
         validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
     }
     
+    @Test
+    public void testJsonValidationIgnoreEntriesOnlyIgnoresMatchingNodes() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"text\":\"Hello World!\", \"other\":\"Hello World!\"}");
+        Message controlMessage = new DefaultMessage("{\"text\":\"?\", \"other\":\"Hallo Welt!\"}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.text");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'other'"));
+            return;
+        }
+
+        Assert.fail("Missing validation exception due to wrong value");
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesWithEqualCachedValues() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"a\":1, \"b\":1, \"c\":true, \"d\":true, \"items\":[1, 1]}");
+        Message controlMessage = new DefaultMessage("{\"a\":2, \"b\":1, \"c\":false, \"d\":true, \"items\":[2, 1]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.a");
+        validationContext.getIgnoreExpressions().add("$.c");
+        validationContext.getIgnoreExpressions().add("$.items[0]");
+        validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+    }
+
+    @Test(dataProvider = "cachedValueMismatchProvider")
+    public void testJsonValidationIgnoreEntriesDoesNotIgnoreEqualCachedValues(String controlJson) {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        Message receivedMessage = new DefaultMessage("{\"a\":1, \"b\":1, \"c\":true, \"d\":true, \"items\":[1, 1]}");
+        Message controlMessage = new DefaultMessage(controlJson);
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.a");
+        validationContext.getIgnoreExpressions().add("$.c");
+        validationContext.getIgnoreExpressions().add("$.items[0]");
+
+        try {
+            validator.validateMessage(receivedMessage, controlMessage, context, validationContext);
+        } catch (ValidationException e) {
+            return;
+        }
+
+        Assert.fail("Missing validation exception for not ignored entry");
+    }
+
+    @DataProvider
+    public Object[][] cachedValueMismatchProvider() {
+        return new Object[][] {
+            new Object[] { "{\"a\":1, \"b\":2, \"c\":true, \"d\":true, \"items\":[1, 1]}" },
+            new Object[] { "{\"a\":1, \"b\":1, \"c\":true, \"d\":false, \"items\":[1, 1]}" },
+            new Object[] { "{\"a\":1, \"b\":1, \"c\":true, \"d\":true, \"items\":[1, 2]}" }
+        };
+    }
+
+    @Test
+    public void testJsonValidationIgnoreEntriesInLargeArray() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator();
+
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 10000; i++) {
+            if (i > 0) {
+                received.append(",");
+                control.append(",");
+            }
+            received.append("{\"id\":\"").append(i).append("\",\"name\":\"item\",\"date\":\"2018-09-20\"}");
+            control.append("{\"id\":\"?\",\"name\":\"item\",\"date\":\"@matchesDatePattern('yyyy-MM-dd')@\"}");
+        }
+        received.append("]}");
+        control.append("]}");
+
+        JsonMessageValidationContext validationContext = new JsonMessageValidationContext();
+        validationContext.getIgnoreExpressions().add("$.items[*].id");
+        validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, validationContext);
+    }
+
     @Test
     public void testJsonValidationInvalidJsonText() {
         JsonTextMessageValidator validator = new JsonTextMessageValidator();
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.json;
+
+import com.consol.citrus.exceptions.ValidationException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class StreamingJsonTextValidatorTest extends AbstractTestNGUnitTest {
+
+    @Test
+    public void testValidation() {
+        validate(true, "{\"text\":\"Hello World!\", \"index\":5, \"price\":1.5, \"id\":\"x123456789x\", \"active\":true, \"none\":null}",
+                "{\"text\":\"Hello World!\", \"index\":5, \"price\":1.5, \"id\":\"x123456789x\", \"active\":true, \"none\":null}");
+    }
+
+    @Test
+    public void testValidationDifferentEntryOrder() {
+        Assert.assertFalse(validateEntries(true, "{\"index\":5, \"object\":{\"id\":\"x123456789x\", \"name\":\"foo\"}, \"text\":\"Hello World!\"}",
+                "{\"text\":\"Hello World!\", \"object\":{\"name\":\"foo\", \"id\":\"x123456789x\"}, \"index\":5}"));
+        Assert.assertFalse(validateEntries(true, "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}]}",
+                "{\"greetings\":[{\"index\":1, \"text\":\"Hello World!\"}]}"));
+    }
+
+    @Test
+    public void testValidationDifferentEntryOrderLargeObject() {
+        StringBuilder received = new StringBuilder("{");
+        StringBuilder control = new StringBuilder("{");
+        for (int i = 0; i < 100000; i++) {
+            received.append(i > 0 ? "," : "").append("\"key").append(99999 - i).append("\":").append(99999 - i);
+            control.append(i > 0 ? "," : "").append("\"key").append(i).append("\":").append(i);
+        }
+        received.append("}");
+        control.append("}");
+
+        Assert.assertFalse(validateEntries(true, received.toString(), control.toString()));
+
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+        validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString()), context, new JsonMessageValidationContext());
+
+        try {
+            validator.validateMessage(new DefaultMessage(received.toString()), new DefaultMessage(control.toString().replace("\"key5\":5", "\"key5\":6")),
+                    context, new JsonMessageValidationContext());
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'key5'"));
+        }
+    }
+
+    @Test
+    public void testSloppyValidationAdditionalEntries() {
+        validate(false, "{\"id\":\"x123456789x\", \"text\":\"Hello World!\", \"index\":5, \"object\":{\"name\":\"foo\", \"id\":1}}",
+                "{\"text\":\"Hello World!\", \"object\":{\"id\":1}}");
+    }
+
+    @Test
+    public void testValidationWithArrays() {
+        validate(true, "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"numbers\":[1, 2, [3, 4]]}",
+                "{\"greetings\":[{\"text\":\"Hello World!\", \"index\":1}, {\"text\":\"Hallo Welt!\", \"index\":2}], \"numbers\":[1, 2, [3, 4]]}");
+        validate(true, "[{\"text\":\"Hello World!\"}, 5]", "[{\"text\":\"Hello World!\"}, 5]");
+    }
+
+    @Test
+    public void testSloppyValidation() {
+        validate(false, "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\", \"numbers\":[1, 2, 3]}",
+                "{\"text\":\"Hello World!\", \"numbers\":[1, 2]}");
+    }
+
+    @Test
+    public void testValidationLargeArray() {
+        StringBuilder received = new StringBuilder("{\"items\":[");
+        StringBuilder control = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 100000; i++) {
+            received.append(i > 0 ? "," : "").append("{\"id\":").append(i).append(", \"name\":\"item").append(i).append("\"}");
+            control.append(i > 0 ? "," : "").append("{\"id\":\"@ignore@\", \"name\":\"@startsWith('item')@\"}");
+        }
+        received.append("]}");
+        control.append("]}");
+
+        validate(true, received.toString(), control.toString());
+    }
+
+    @Test
+    public void testIgnorePlaceholderAndMatchers() {
+        validate(true, "{\"text\":\"Hello World!\", \"index\":5, \"object\":{\"id\":\"x123456789x\"}, \"greetings\":[{\"text\":\"Hello World!\"}],}",
+                "{\"text\":\"@startsWith('Hello')@\", \"index\":\"@greaterThan(4)@\", \"object\":\"@ignore@\", \"greetings\":\"@ignore@\"}");
+    }
+
+    @Test
+    public void testIgnoreExpressions() {
+        StreamingJsonTextValidator validator = new StreamingJsonTextValidator(true, new HashSet<>(Arrays.asList("$.object.id", "$.greetings[1]")), context);
+        Assert.assertTrue(validator.validate(new StringReader("{\"text\":\"Hello World!\", \"object\":{\"id\":\"x123456789x\"}, \"greetings\":[{\"text\":\"Hello World!\"}, {\"text\":\"Hallo Welt!\"}]}"),
+                new StringReader("{\"text\":\"Hello World!\", \"object\":{\"id\":\"?\"}, \"greetings\":[{\"text\":\"Hello World!\"}, \"?\"]}")));
+
+        Assert.assertTrue(StreamingJsonTextValidator.supports(Collections.singleton("$.object.id")));
+        Assert.assertFalse(StreamingJsonTextValidator.supports(Collections.singleton("$..id")));
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*Values not equal for entry: 'index'.*")
+    public void testWrongValue() {
+        validate(true, "{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"index\":6}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*Values not equal for entry: 'index'.*")
+    public void testWrongValueInArray() {
+        validate(true, "{\"items\":[{\"index\":1}, {\"index\":2}, {\"index\":3}]}", "{\"items\":[{\"index\":1}, {\"index\":2}, {\"index\":4}]}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*Number of JSON entries not equal for element: '\\$.'.*")
+    public void testWrongNumberOfEntries() {
+        validate(true, "{\"text\":\"Hello World!\", \"index\":5, \"id\":\"x123456789x\"}", "{\"text\":\"Hello World!\", \"index\":5}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = "Missing JSON entry: \\+ 'id'")
+    public void testMissingEntry() {
+        validate(false, "{\"text\":\"Hello World!\", \"index\":5}", "{\"text\":\"Hello World!\", \"id\":\"@ignore@\"}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*JSONArray size mismatch for JSON entry 'greetings'.*")
+    public void testWrongArraySize() {
+        validate(true, "{\"greetings\":[1, 2, 3]}", "{\"greetings\":[1, 2]}");
+    }
+
+    @Test(expectedExceptions = IllegalArgumentException.class, expectedExceptionsMessageRegExp = ".*Type mismatch for JSON entry 'object'.*")
+    public void testTypeMismatch() {
+        validate(true, "{\"object\":[1, 2]}", "{\"object\":{\"id\":1}}");
+    }
+
+    @Test
+    public void testStreamingMessageValidator() {
+        JsonTextMessageValidator validator = new JsonTextMessageValidator().streaming(true);
+
+        context.setVariable("greeting", "Hello World!");
+        validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"),
+                new DefaultMessage("{\"index\":5, \"text\":\"${greeting}\"}"), context, new JsonMessageValidationContext());
+
+        try {
+            validator.validateMessage(new DefaultMessage("{\"text\":\"Hello World!\", \"index\":5}"),
+                    new DefaultMessage("{\"index\":6, \"text\":\"Hello World!\"}"), context, new JsonMessageValidationContext());
+            Assert.fail("Missing validation exception due to wrong value");
+        } catch (ValidationException e) {
+            Assert.assertTrue(e.getCause().getMessage().contains("Values not equal for entry: 'index'"));
+        }
+    }
+
+    private void validate(boolean strict, String received, String control) {
+        Assert.assertTrue(validateEntries(strict, received, control));
+    }
+
+    private boolean validateEntries(boolean strict, String received, String control) {
+        return new StreamingJsonTextValidator(strict, Collections.emptySet(), context).validate(new StringReader(received), new StringReader(control));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.matcher;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.text.SimpleDateFormat;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class ValidationMatcherCacheTest {
+
+    @Test
+    public void testPatternCache() {
+        Assert.assertSame(ValidationMatcherCache.getPattern("[a-z]+"), ValidationMatcherCache.getPattern("[a-z]+"));
+        Assert.assertTrue(ValidationMatcherCache.getPattern("[a-z]+").matcher("citrus").matches());
+        Assert.assertFalse(ValidationMatcherCache.getPattern("[a-z]+").matcher("Citrus").matches());
+    }
+
+    @Test(expectedExceptions = PatternSyntaxException.class)
+    public void testInvalidPattern() {
+        ValidationMatcherCache.getPattern("[a-z");
+    }
+
+    @Test
+    public void testDateFormatCache() throws Exception {
+        SimpleDateFormat dateFormat = ValidationMatcherCache.getDateFormat("yyyy-MM-dd");
+        SimpleDateFormat other = ValidationMatcherCache.getDateFormat("yyyy-MM-dd");
+
+        Assert.assertNotSame(dateFormat, other);
+        Assert.assertEquals(dateFormat.toPattern(), "yyyy-MM-dd");
+        Assert.assertEquals(dateFormat.parse("2018-09-20"), other.parse("2018-09-20"));
+    }
+
+    @Test
+    public void testClear() {
+        ValidationMatcherCache.getPattern("[0-9]+");
+        ValidationMatcherCache.clear();
+
+        Assert.assertTrue(ValidationMatcherCache.getPattern("[0-9]+").matcher("12345").matches());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.validation.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.util.XMLUtils;
+import org.springframework.util.xml.SimpleNamespaceContext;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import java.util.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class IgnoredNodesTest {
+
+    private Document document = XMLUtils.parseMessagePayload("<root>" +
+                "<element attributeA='attribute-value' attributeB='attribute-value'>" +
+                    "<sub-element>text-value</sub-element>" +
+                    "<sub-element>text-value</sub-element>" +
+                "</element>" +
+                "<other id='1'><sub-element>text-value</sub-element></other>" +
+            "</root>");
+
+    @Test
+    public void testEmptyIgnoreExpressions() {
+        IgnoredNodes ignoredNodes = IgnoredNodes.resolve(document, Collections.emptySet(), new SimpleNamespaceContext());
+
+        Assert.assertFalse(ignoredNodes.isElementIgnored(document.getDocumentElement()));
+    }
+
+    @Test
+    public void testNodePathExpressions() {
+        IgnoredNodes ignoredNodes = IgnoredNodes.resolve(document,
+                new HashSet<>(Arrays.asList("root.element.sub-element", "other.id")), new SimpleNamespaceContext());
+
+        NodeList subElements = document.getElementsByTagName("sub-element");
+        Assert.assertTrue(ignoredNodes.isElementIgnored(subElements.item(0)));
+        Assert.assertTrue(ignoredNodes.isElementIgnored(subElements.item(1)));
+        Assert.assertFalse(ignoredNodes.isElementIgnored(subElements.item(2)));
+
+        Element other = (Element) document.getElementsByTagName("other").item(0);
+        Assert.assertTrue(ignoredNodes.isAttributeIgnored(other, other.getAttributeNode("id")));
+
+        Element element = (Element) document.getElementsByTagName("element").item(0);
+        Assert.assertFalse(ignoredNodes.isAttributeIgnored(element, element.getAttributeNode("attributeA")));
+    }
+
+    @Test
+    public void testXPathExpressions() {
+        IgnoredNodes ignoredNodes = IgnoredNodes.resolve(document,
+                new HashSet<>(Arrays.asList("//element/sub-element", "//element/@attributeB")), new SimpleNamespaceContext());
+
+        NodeList subElements = document.getElementsByTagName("sub-element");
+        Assert.assertTrue(ignoredNodes.isElementIgnored(subElements.item(0)));
+        Assert.assertTrue(ignoredNodes.isElementIgnored(subElements.item(1)));
+        Assert.assertFalse(ignoredNodes.isElementIgnored(subElements.item(2)));
+
+        Element element = (Element) document.getElementsByTagName("element").item(0);
+        Assert.assertFalse(ignoredNodes.isAttributeIgnored(element, element.getAttributeNode("attributeA")));
+        Assert.assertTrue(ignoredNodes.isAttributeIgnored(element, element.getAttributeNode("attributeB")));
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "No result for XPath expression: '//something-else'")
+    public void testUnmatchedXPathExpression() {
+        IgnoredNodes ignoredNodes = IgnoredNodes.resolve(document,
+                Collections.singleton("//something-else"), new SimpleNamespaceContext());
+
+        Assert.assertFalse(ignoredNodes.isElementIgnored(document.getDocumentElement()));
+
+        Element other = (Element) document.getElementsByTagName("other").item(0);
+        ignoredNodes.isAttributeIgnored(other, other.getAttributeNode("id"));
+    }
+}
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.xml;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.oxm.XmlMappingException;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+
+/**
+ * @since 2.8
+ */
+public class PooledJaxb2MarshallerTest {
+
+    @Test
+    public void testMarshalUnmarshal() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Greeting.class);
+
+        StringResult result = new StringResult();
+        marshaller.marshal(new Greeting("Hello Citrus!"), result);
+        Assert.assertTrue(result.toString().endsWith("<greeting><text>Hello Citrus!</text></greeting>"));
+
+        Object greeting = marshaller.unmarshal(new StringSource(result.toString()));
+        Assert.assertTrue(greeting instanceof Greeting);
+        Assert.assertEquals(((Greeting) greeting).text, "Hello Citrus!");
+
+        Assert.assertTrue(marshaller.supports(Greeting.class));
+        Assert.assertFalse(marshaller.supports(String.class));
+    }
+
+    @Test
+    public void testSharedContext() throws Exception {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Greeting.class);
+        PooledJaxb2Marshaller other = new PooledJaxb2Marshaller(null, Greeting.class);
+
+        Assert.assertTrue(marshaller.isShared());
+        Assert.assertSame(marshaller.getJaxbContext(), other.getJaxbContext());
+
+        JaxbContextRegistry.Entry entry = JaxbContextRegistry.getEntry(null, Greeting.class);
+        Marshaller instance = entry.borrowMarshaller();
+        entry.releaseMarshaller(instance);
+        Assert.assertSame(entry.borrowMarshaller(), instance);
+    }
+
+    @Test
+    public void testSeparateContextPerClassLoader() throws Exception {
+        Class<?> otherGreeting = new ReloadingClassLoader(Greeting.class.getName()).loadClass(Greeting.class.getName());
+        Assert.assertNotSame(otherGreeting, Greeting.class);
+
+        JaxbContextRegistry.Entry entry = JaxbContextRegistry.getEntry(null, Greeting.class);
+        JaxbContextRegistry.Entry otherEntry = JaxbContextRegistry.getEntry(null, otherGreeting);
+        Assert.assertNotSame(otherEntry, entry);
+        Assert.assertNotSame(otherEntry.getJaxbContext(), entry.getJaxbContext());
+        Assert.assertSame(JaxbContextRegistry.getEntry(null, otherGreeting), otherEntry);
+
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, otherGreeting);
+        Object greeting = marshaller.unmarshal(new StringSource("<greeting><text>Hello Citrus!</text></greeting>"));
+        Assert.assertSame(greeting.getClass(), otherGreeting);
+
+        StringResult result = new StringResult();
+        marshaller.marshal(greeting, result);
+        Assert.assertTrue(result.toString().endsWith("<greeting><text>Hello Citrus!</text></greeting>"));
+    }
+
+    @Test
+    public void testFailedInstanceDiscarded() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Farewell.class);
+        JaxbContextRegistry.Entry entry = JaxbContextRegistry.getEntry(null, Farewell.class);
+
+        assertUnmarshalFails(marshaller);
+        Assert.assertEquals(entry.getIdleUnmarshallerCount(), 0L);
+
+        Object farewell = marshaller.unmarshal(new StringSource("<farewell><text>Bye Citrus!</text></farewell>"));
+        Assert.assertEquals(((Farewell) farewell).text, "Bye Citrus!");
+        Assert.assertEquals(entry.getIdleUnmarshallerCount(), 1L);
+
+        assertUnmarshalFails(marshaller);
+        Assert.assertEquals(entry.getIdleUnmarshallerCount(), 0L);
+    }
+
+    @Test
+    public void testIdleInstancesBounded() {
+        JaxbContextRegistry.Entry entry = JaxbContextRegistry.getEntry(null, Greeting.class, Farewell.class);
+
+        List<Marshaller> marshallers = new ArrayList<>();
+        for (int i = 0; i < JaxbContextRegistry.MAX_IDLE_INSTANCES + 5; i++) {
+            marshallers.add(entry.borrowMarshaller());
+        }
+
+        marshallers.forEach(entry::releaseMarshaller);
+        Assert.assertEquals(entry.getIdleMarshallerCount(), JaxbContextRegistry.MAX_IDLE_INSTANCES);
+    }
+
+    @Test
+    public void testCustomizedSettings() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Greeting.class);
+        marshaller.setMarshallerProperties(Collections.singletonMap(Marshaller.JAXB_FORMATTED_OUTPUT, true));
+
+        Assert.assertFalse(marshaller.isShared());
+        Assert.assertNotSame(marshaller.getJaxbContext(), JaxbContextRegistry.getEntry(null, Greeting.class).getJaxbContext());
+
+        StringResult result = new StringResult();
+        marshaller.marshal(new Greeting("Hello Citrus!"), result);
+        Assert.assertTrue(result.toString().contains("    <text>Hello Citrus!</text>"));
+
+        Object greeting = marshaller.unmarshal(new StringSource(result.toString()));
+        Assert.assertEquals(((Greeting) greeting).text, "Hello Citrus!");
+        Assert.assertTrue(marshaller.supports(Greeting.class));
+    }
+
+    @Test
+    public void testCustomizedContextPath() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(null, Greeting.class);
+        marshaller.setPackagesToScan("com.consol.citrus.xml.unknown");
+
+        Assert.assertFalse(marshaller.isShared());
+        Assert.assertFalse(marshaller.supports(Greeting.class));
+    }
+
+    private void assertUnmarshalFails(PooledJaxb2Marshaller marshaller) {
+        try {
+            marshaller.unmarshal(new StringSource("<farewell><text>Bye Citrus!</farewell>"));
+            Assert.fail("Missing exception due to invalid payload");
+        } catch (XmlMappingException e) {
+            Assert.assertNotNull(e.getMessage());
+        }
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Failed to load schema.*")
+    public void testInvalidSchemaFailsOnMarshal() {
+        PooledJaxb2Marshaller marshaller = new PooledJaxb2Marshaller(new ClassPathResource("com/consol/citrus/xml/unknown.xsd"), Greeting.class);
+        marshaller.marshal(new Greeting("Hello Citrus!"), new StringResult());
+    }
+
+    /**
+     * Class loader defining its own copy of the given class instead of delegating to the parent class loader.
+     */
+    private static class ReloadingClassLoader extends ClassLoader {
+        private final String className;
+
+        ReloadingClassLoader(String className) {
+            super(PooledJaxb2MarshallerTest.class.getClassLoader());
+            this.className = className;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(className)) {
+                return super.loadClass(name, resolve);
+            }
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    try (InputStream classFile = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                        byte[] bytes = FileCopyUtils.copyToByteArray(classFile);
+                        loaded = defineClass(name, bytes, 0, bytes.length);
+                    } catch (IOException e) {
+                        throw new ClassNotFoundException(name, e);
+                    }
+                }
+
+                return loaded;
+            }
+        }
+    }
+
+    @XmlRootElement(name = "farewell")
+    public static class Farewell {
+        @XmlElement
+        private String text;
+    }
+
+    @XmlRootElement(name = "greeting")
+    public static class Greeting {
+        @XmlElement
+        private String text;
+
+        public Greeting() {
+            super();
+        }
+
+        public Greeting(String text) {
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.xml;
+
+import org.springframework.xml.transform.StringResult;
+import org.springframework.xml.transform.StringSource;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import javax.xml.transform.OutputKeys;
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class TransformerPoolTest {
+
+    private TransformerPool transformerPool = new TransformerPool();
+
+    @Test
+    public void testTransform() throws Exception {
+        StringResult result = new StringResult();
+        transformerPool.transform(new StringSource("<root><element>text</element></root>"), result);
+
+        Assert.assertTrue(result.toString().startsWith("<?xml"));
+        Assert.assertTrue(result.toString().endsWith("<root><element>text</element></root>"));
+    }
+
+    @Test
+    public void testTransformWithOutputProperties() throws Exception {
+        StringResult result = new StringResult();
+        transformerPool.transform(new StringSource("<root><element>text</element></root>"), result,
+                Collections.singletonMap(OutputKeys.OMIT_XML_DECLARATION, "yes"));
+
+        Assert.assertEquals(result.toString(), "<root><element>text</element></root>");
+
+        result = new StringResult();
+        transformerPool.transform(new StringSource("<root/>"), result);
+        Assert.assertTrue(result.toString().startsWith("<?xml"));
+    }
+
+    @Test
+    public void testThreadBoundTransformer() throws Exception {
+        Assert.assertSame(transformerPool.getTransformer(), transformerPool.getTransformer());
+
+        Object[] otherThreadTransformer = new Object[1];
+        Thread thread = new Thread(() -> otherThreadTransformer[0] = transformerPool.getTransformer());
+        thread.start();
+        thread.join();
+
+        Assert.assertNotNull(otherThreadTransformer[0]);
+        Assert.assertNotSame(otherThreadTransformer[0], transformerPool.getTransformer());
+    }
+}
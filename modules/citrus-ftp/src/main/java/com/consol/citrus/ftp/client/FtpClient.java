@@ -29,6 +29,7 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.util.FileUtils;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ProtocolCommandEvent;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
@@ -43,7 +44,9 @@ import org.springframework.util.StringUtils;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
 
@@ -56,9 +59,18 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(FtpClient.class);
 
+    /** Algorithm used for file checksums in streaming mode */
+    protected static final String CHECKSUM_ALGORITHM = "SHA-256";
+
     /** Apache ftp client */
     private FTPClient ftpClient;
 
+    /** Optional pool of connected ftp clients */
+    private FtpConnectionPool<FTPClient> connectionPool;
+
+    /** Pooled ftp client borrowed by current thread */
+    private final ThreadLocal<FTPClient> pooledConnection = new ThreadLocal<>();
+
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
@@ -102,8 +114,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             log.debug("Message to send:\n" + ftpMessage.getPayload(String.class));
         }
 
+        boolean reusable = false;
         try {
-            connectAndLogin();
+            openConnection();
 
             CommandType ftpCommand = ftpMessage.getPayload(CommandType.class);
             FtpMessage response;
@@ -120,6 +133,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                 response = executeCommand(ftpCommand, context);
             }
 
+            reusable = response.getReplyCode() == null || response.getReplyCode() != FTPReply.SERVICE_CLOSING_CONTROL_CONNECTION;
+
             if (getEndpointConfiguration().getErrorHandlingStrategy().equals(ErrorHandlingStrategy.THROWS_EXCEPTION)) {
                 if (!isPositive(response.getReplyCode())) {
                     throw new CitrusRuntimeException(String.format("Failed to send FTP command - reply is: %s:%s", response.getReplyCode(), response.getReplyString()));
@@ -131,13 +146,46 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             correlationManager.store(correlationKey, response);
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
+        } finally {
+            closeConnection(reusable);
+        }
+    }
+
+    /**
+     * Opens connection used by the current thread. With connection pooling enabled a pooled connection is borrowed
+     * otherwise the single client connection is opened on demand.
+     * @throws IOException
+     */
+    protected void openConnection() throws IOException {
+        if (connectionPool != null) {
+            pooledConnection.set(connectionPool.borrow());
+        } else {
+            connectAndLogin();
+        }
+    }
+
+    /**
+     * Releases connection used by the current thread. Pooled connections are returned to the pool when reusable otherwise
+     * the connection gets closed so next usage reconnects.
+     * @param reusable
+     */
+    protected void closeConnection(boolean reusable) {
+        FTPClient connection = pooledConnection.get();
+        if (connection != null) {
+            pooledConnection.remove();
+
+            if (reusable) {
+                connectionPool.release(connection);
+            } else {
+                connectionPool.invalidate(connection);
+            }
         }
     }
 
     protected FtpMessage executeCommand(CommandType ftpCommand, TestContext context) {
         try {
-            int reply = ftpClient.sendCommand(ftpCommand.getSignal(), ftpCommand.getArguments());
-            return FtpMessage.result(reply, ftpClient.getReplyString(), isPositive(reply));
+            int reply = getFtpClient().sendCommand(ftpCommand.getSignal(), ftpCommand.getArguments());
+            return FtpMessage.result(reply, getFtpClient().getReplyString(), isPositive(reply));
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
         }
@@ -163,16 +211,16 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             List<String> fileNames = new ArrayList<>();
             FTPFile[] ftpFiles;
             if (StringUtils.hasText(remoteFilePath)) {
-                ftpFiles = ftpClient.listFiles(remoteFilePath);
+                ftpFiles = getFtpClient().listFiles(remoteFilePath);
             } else {
-                ftpFiles = ftpClient.listFiles(remoteFilePath);
+                ftpFiles = getFtpClient().listFiles(remoteFilePath);
             }
 
             for (FTPFile ftpFile : ftpFiles) {
                 fileNames.add(ftpFile.getName());
             }
 
-            return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), fileNames);
+            return FtpMessage.result(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), fileNames);
         } catch (IOException e) {
             throw new CitrusRuntimeException(String.format("Failed to list files in path '%s'", remoteFilePath), e);
         }
@@ -193,12 +241,12 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
             boolean success = true;
             if (isDirectory(remoteFilePath)) {
-                if (!ftpClient.changeWorkingDirectory(remoteFilePath)) {
-                    throw new CitrusRuntimeException("Failed to change working directory to " + remoteFilePath + ". FTP reply code: " + ftpClient.getReplyString());
+                if (!getFtpClient().changeWorkingDirectory(remoteFilePath)) {
+                    throw new CitrusRuntimeException("Failed to change working directory to " + remoteFilePath + ". FTP reply code: " + getFtpClient().getReplyString());
                 }
 
                 if (delete.isRecursive()) {
-                    FTPFile[] ftpFiles = ftpClient.listFiles();
+                    FTPFile[] ftpFiles = getFtpClient().listFiles();
                     for (FTPFile ftpFile : ftpFiles) {
                         DeleteCommand recursiveDelete = new DeleteCommand();
                         DeleteCommand.Target target = new DeleteCommand.Target();
@@ -211,15 +259,15 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
                 if (delete.isIncludeCurrent()) {
                     // we cannot delete the current working directory, so go to root directory and delete from there
-                    ftpClient.changeWorkingDirectory("/");
-                    success = ftpClient.removeDirectory(remoteFilePath);
+                    getFtpClient().changeWorkingDirectory("/");
+                    success = getFtpClient().removeDirectory(remoteFilePath);
                 }
             } else {
-                success = ftpClient.deleteFile(remoteFilePath);
+                success = getFtpClient().deleteFile(remoteFilePath);
             }
 
             if (!success) {
-                throw new CitrusRuntimeException("Failed to delete path " + remoteFilePath + ". FTP reply code: " + ftpClient.getReplyString());
+                throw new CitrusRuntimeException("Failed to delete path " + remoteFilePath + ". FTP reply code: " + getFtpClient().getReplyString());
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to delete file from FTP server", e);
@@ -228,10 +276,10 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
         // If there was no file to delete, the ftpClient has the reply code from the previously executed
         // operation. Since we want to have a deterministic behaviour, we need to set the reply code and
         // reply string on our own!
-        if (ftpClient.getReplyCode() != FILE_ACTION_OK) {
+        if (getFtpClient().getReplyCode() != FILE_ACTION_OK) {
             return FtpMessage.deleteResult(FILE_ACTION_OK, String.format("%s No files to delete.", FILE_ACTION_OK), true);
         }
-        return FtpMessage.deleteResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return FtpMessage.deleteResult(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), isPositive(getFtpClient().getReplyCode()));
     }
 
     /**
@@ -241,9 +289,9 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected boolean isDirectory(String remoteFilePath) throws IOException {
-        if (!ftpClient.changeWorkingDirectory(remoteFilePath)) { // not a directory or not accessible
+        if (!getFtpClient().changeWorkingDirectory(remoteFilePath)) { // not a directory or not accessible
 
-            switch (ftpClient.listFiles(remoteFilePath).length) {
+            switch (getFtpClient().listFiles(remoteFilePath).length) {
                 case 0:
                     throw new CitrusRuntimeException("Remote file path does not exist or is not accessible: " + remoteFilePath);
                 case 1:
@@ -268,23 +316,24 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                ftpClient.setFileType(getFileType(dataType));
+                getFtpClient().setFileType(getFileType(dataType));
 
-                if (!ftpClient.storeFile(remoteFilePath, localFileInputStream)) {
+                if (!getFtpClient().storeFile(remoteFilePath, localFileInputStream)) {
                     throw new IOException("Failed to put file to FTP server. Remote path: " + remoteFilePath
-                            + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
+                            + ". Local file path: " + localFilePath + ". FTP reply: " + getFtpClient().getReplyString());
                 }
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
         }
 
-        return FtpMessage.putResult(ftpClient.getReplyCode(), ftpClient.getReplyString(), isPositive(ftpClient.getReplyCode()));
+        return FtpMessage.putResult(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), isPositive(getFtpClient().getReplyCode()));
     }
 
     /**
      * Constructs local file input stream. When using ASCII data type the test variable replacement is activated otherwise
-     * plain byte stream is used.
+     * plain byte stream is used. In streaming mode the plain byte stream is used for all data types so the file content is never
+     * loaded into memory.
      *
      * @param path
      * @param dataType
@@ -293,8 +342,8 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @throws IOException
      */
     protected InputStream getLocalFileInputStream(String path, String dataType, TestContext context) throws IOException {
-        if (dataType.equals(DataType.ASCII.name())) {
-            String content = context.replaceDynamicContentInString(FileUtils.readToString(FileUtils.getFileResource(path)));
+        if (dataType.equals(DataType.ASCII.name()) && !getEndpointConfiguration().isStreaming()) {
+            String content = context.replaceDynamicContentInString(FileUtils.readCachedToString(FileUtils.getFileResource(path), FileUtils.getDefaultCharset()));
             return new ByteArrayInputStream(content.getBytes(FileUtils.getDefaultCharset()));
         } else {
             return FileUtils.getFileResource(path).getInputStream();
@@ -315,16 +364,21 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
-            try (FileOutputStream localFileOutputStream = new FileOutputStream(localFilePath)) {
-                ftpClient.setFileType(getFileType(dataType));
+            MessageDigest checksum = getEndpointConfiguration().isStreaming() ? createChecksumDigest() : null;
+            OutputStream fileOutputStream = new FileOutputStream(localFilePath);
+            try (OutputStream localFileOutputStream = checksum != null ? new DigestOutputStream(fileOutputStream, checksum) : fileOutputStream) {
+                getFtpClient().setFileType(getFileType(dataType));
 
-                if (!ftpClient.retrieveFile(remoteFilePath, localFileOutputStream)) {
+                if (!getFtpClient().retrieveFile(remoteFilePath, localFileOutputStream)) {
                     throw new CitrusRuntimeException("Failed to get file from FTP server. Remote path: " + remoteFilePath
-                            + ". Local file path: " + localFilePath + ". FTP reply: " + ftpClient.getReplyString());
+                            + ". Local file path: " + localFilePath + ". FTP reply: " + getFtpClient().getReplyString());
                 }
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (checksum != null) {
+                return FtpMessage.result(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(checksum.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -332,15 +386,28 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
                     fileContent = FileUtils.readToString(FileUtils.getFileResource(localFilePath));
                 }
 
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, fileContent);
+                return FtpMessage.result(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), localFilePath, fileContent);
             } else {
-                return FtpMessage.result(ftpClient.getReplyCode(), ftpClient.getReplyString(), localFilePath, null);
+                return FtpMessage.result(getFtpClient().getReplyCode(), getFtpClient().getReplyString(), localFilePath, null);
             }
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to get file from FTP server", e);
         }
     }
 
+    /**
+     * Creates message digest used to calculate the checksum of transferred files. Only used in streaming mode where
+     * messages carry file size and checksum instead of the file content.
+     * @return
+     */
+    protected MessageDigest createChecksumDigest() {
+        try {
+            return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new CitrusRuntimeException("Failed to create file checksum digest", e);
+        }
+    }
+
     /**
      * Get file type from info string.
      * @param typeInfo
@@ -387,34 +454,67 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
      */
     protected void connectAndLogin() throws IOException {
         if (!ftpClient.isConnected()) {
-            ftpClient.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            connectAndLogin(ftpClient);
+        }
+    }
 
-            if (log.isDebugEnabled()) {
-                log.debug("Connected to FTP server: " + ftpClient.getReplyString());
-            }
+    /**
+     * Connects given client and performs login with user name and password if set.
+     * @param client
+     * @throws IOException
+     */
+    private void connectAndLogin(FTPClient client) throws IOException {
+        client.connect(getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
-            int reply = ftpClient.getReplyCode();
+        if (log.isDebugEnabled()) {
+            log.debug("Connected to FTP server: " + client.getReplyString());
+        }
+
+        int reply = client.getReplyCode();
+
+        if (!FTPReply.isPositiveCompletion(reply)) {
+            client.disconnect();
+            throw new CitrusRuntimeException("FTP server refused connection.");
+        }
+
+        log.info("Opened connection to FTP server");
 
-            if (!FTPReply.isPositiveCompletion(reply)) {
-                throw new CitrusRuntimeException("FTP server refused connection.");
+        if (getEndpointConfiguration().getUser() != null) {
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Login as user: '%s'", getEndpointConfiguration().getUser()));
             }
+            boolean login = client.login(getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword());
 
-            log.info("Opened connection to FTP server");
+            if (!login) {
+                client.disconnect();
+                throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()));
+            }
+        }
 
-            if (getEndpointConfiguration().getUser() != null) {
-                if (log.isDebugEnabled()) {
-                    log.debug(String.format("Login as user: '%s'", getEndpointConfiguration().getUser()));
-                }
-                boolean login = ftpClient.login(getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword());
+        if (getEndpointConfiguration().isLocalPassiveMode()) {
+            client.enterLocalPassiveMode();
+        }
+    }
 
-                if (!login) {
-                    throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()));
-                }
+    /**
+     * Logs out and closes connection of given client.
+     * @param client
+     */
+    private void disconnect(FTPClient client) {
+        if (client.isConnected()) {
+            try {
+                client.logout();
+            } catch (IOException e) {
+                log.warn("Failed to logout from FTP server", e);
             }
 
-            if (getEndpointConfiguration().isLocalPassiveMode()) {
-                ftpClient.enterLocalPassiveMode();
+            try {
+                client.disconnect();
+            } catch (IOException e) {
+                log.warn("Failed to disconnect from FTP server", e);
             }
+
+            log.info("Closed connection to FTP server");
         }
     }
 
@@ -452,11 +552,67 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
             ftpClient = new FTPClient();
         }
 
+        configure(ftpClient);
+
+        if (getEndpointConfiguration().getConnectionPoolSize() > 0) {
+            connectionPool = new FtpConnectionPool<>(new FtpConnectionPool.Connector<FTPClient>() {
+                /** Working directory after login per pooled client */
+                private final Map<FTPClient, String> homeDirectories = new ConcurrentHashMap<>();
+
+                @Override
+                public FTPClient connect() throws IOException {
+                    FTPClient client = new FTPClient();
+                    configure(client);
+                    connectAndLogin(client);
+
+                    String homeDirectory = client.printWorkingDirectory();
+                    if (homeDirectory != null) {
+                        homeDirectories.put(client, homeDirectory);
+                    }
+
+                    return client;
+                }
+
+                @Override
+                public boolean isValid(FTPClient connection) {
+                    return connection.isConnected();
+                }
+
+                @Override
+                public void keepAlive(FTPClient connection) throws IOException {
+                    if (!connection.sendNoOp()) {
+                        throw new IOException("FTP server rejected keep alive: " + connection.getReplyString());
+                    }
+                }
+
+                @Override
+                public void reset(FTPClient connection) throws IOException {
+                    String homeDirectory = homeDirectories.get(connection);
+                    if (homeDirectory != null && !connection.changeWorkingDirectory(homeDirectory)) {
+                        throw new IOException("Failed to reset working directory: " + connection.getReplyString());
+                    }
+                }
+
+                @Override
+                public void disconnect(FTPClient connection) {
+                    homeDirectories.remove(connection);
+                    FtpClient.this.disconnect(connection);
+                }
+            }, getEndpointConfiguration().getConnectionPoolSize(), getEndpointConfiguration().getTimeout(),
+                    getEndpointConfiguration().getConnectionMaxIdleTime(), getEndpointConfiguration().getKeepAliveInterval());
+        }
+    }
+
+    /**
+     * Applies client configuration and protocol command logging to given client.
+     * @param client
+     */
+    private void configure(FTPClient client) {
         FTPClientConfig config = new FTPClientConfig();
         config.setServerTimeZoneId(TimeZone.getDefault().getID());
-        ftpClient.configure(config);
+        client.configure(config);
 
-        ftpClient.addProtocolCommandListener(new ProtocolCommandListener() {
+        client.addProtocolCommandListener(new ProtocolCommandListener() {
             @Override
             public void protocolCommandSent(ProtocolCommandEvent event) {
                 if (log.isDebugEnabled()) {
@@ -475,17 +631,11 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
 
     @Override
     public void destroy() throws Exception {
-        if (ftpClient.isConnected()) {
-            ftpClient.logout();
-
-            try {
-                ftpClient.disconnect();
-            } catch (IOException e) {
-                log.warn("Failed to disconnect from FTP server", e);
-            }
-
-            log.info("Closed connection to FTP server");
+        if (connectionPool != null) {
+            connectionPool.close();
         }
+
+        disconnect(ftpClient);
     }
 
     /**
@@ -517,11 +667,21 @@ public class FtpClient extends AbstractEndpoint implements Producer, ReplyConsum
     }
 
     /**
-     * Gets the apache ftp client.
+     * Gets the apache ftp client. When connection pooling is enabled the pooled client borrowed
+     * by the current thread is returned.
      * @return
      */
     public FTPClient getFtpClient() {
-        return ftpClient;
+        FTPClient connection = pooledConnection.get();
+        return connection != null ? connection : ftpClient;
+    }
+
+    /**
+     * Gets the connection pool or null if pooling is disabled.
+     * @return
+     */
+    public FtpConnectionPool<FTPClient> getConnectionPool() {
+        return connectionPool;
     }
 
     /**
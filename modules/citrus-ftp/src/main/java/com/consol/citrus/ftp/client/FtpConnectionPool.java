@@ -0,0 +1,338 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.*;
+
+/**
+ * Bounded pool of connected and logged in client connections. Callers borrow a connection for exclusive use and release it afterwards so
+ * parallel file exchanges use separate connections while sequential exchanges reuse the same connection without reconnecting.
+ *
+ * Idle connections are validated on borrow and periodically kept alive by sending a no-op. Connections idle longer than the max idle
+ * time and connections failing validation or keep alive get closed, next borrow reconnects automatically. Released connections are
+ * reset (e.g. working directory) before they are reused.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class FtpConnectionPool<T> {
+
+    /** Logger */
+    private static Logger log = LoggerFactory.getLogger(FtpConnectionPool.class);
+
+    /** Connector opening, validating and closing connections */
+    private final Connector<T> connector;
+
+    /** Maximum number of connections */
+    private final Semaphore permits;
+    private final int maxSize;
+
+    /** Timeout in milliseconds to wait for a free connection */
+    private final long borrowTimeout;
+
+    /** Idle connections are closed after this time in milliseconds, zero or less keeps idle connections open */
+    private final long maxIdleTime;
+
+    /** Interval in milliseconds for sending keep alive no-ops on idle connections, zero or less disables keep alive */
+    private final long keepAliveInterval;
+
+    /** Idle connections, most recently used first */
+    private final BlockingDeque<IdleConnection<T>> idle = new LinkedBlockingDeque<>();
+
+    /** Background task evicting and keeping alive idle connections */
+    private ScheduledExecutorService maintenance;
+
+    /** Closed flag */
+    private volatile boolean closed = false;
+
+    /**
+     * Default constructor using connector and pool settings.
+     * @param connector
+     * @param maxSize
+     * @param borrowTimeout
+     * @param maxIdleTime
+     * @param keepAliveInterval
+     */
+    public FtpConnectionPool(Connector<T> connector, int maxSize, long borrowTimeout, long maxIdleTime, long keepAliveInterval) {
+        this.connector = connector;
+        this.maxSize = maxSize;
+        this.permits = new Semaphore(maxSize, true);
+        this.borrowTimeout = borrowTimeout;
+        this.maxIdleTime = maxIdleTime;
+        this.keepAliveInterval = keepAliveInterval;
+
+        long maintenanceInterval = keepAliveInterval > 0 ? keepAliveInterval : maxIdleTime;
+        if (maintenanceInterval > 0) {
+            maintenance = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "citrus-ftp-connection-pool");
+                thread.setDaemon(true);
+                return thread;
+            });
+            maintenance.scheduleWithFixedDelay(this::maintain, maintenanceInterval, maintenanceInterval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Borrows connection for exclusive use. Reuses idle connection if available and valid otherwise opens new connection. Waits for
+     * other callers to release a connection when max pool size is reached.
+     * @return
+     * @throws IOException
+     */
+    public T borrow() throws IOException {
+        if (closed) {
+            throw new CitrusRuntimeException("Connection pool has been closed");
+        }
+
+        try {
+            if (!permits.tryAcquire(borrowTimeout, TimeUnit.MILLISECONDS)) {
+                throw new CitrusRuntimeException(String.format("Timeout while waiting for free connection - all %s connections in use", maxSize));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for free connection", e);
+        }
+
+        try {
+            IdleConnection<T> candidate;
+            while ((candidate = idle.pollFirst()) != null) {
+                if (isUsable(candidate)) {
+                    return candidate.connection;
+                }
+
+                disconnect(candidate.connection);
+            }
+
+            return connector.connect();
+        } catch (IOException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns borrowed connection to the pool for reuse. Connections that are not valid anymore get closed.
+     * @param connection
+     */
+    public void release(T connection) {
+        if (!closed && connector.isValid(connection) && reset(connection)) {
+            long now = System.currentTimeMillis();
+            idle.offerFirst(new IdleConnection<>(connection, now, now));
+        } else {
+            disconnect(connection);
+        }
+
+        permits.release();
+    }
+
+    /**
+     * Closes borrowed connection that should not be reused, for instance because of communication errors.
+     * @param connection
+     */
+    public void invalidate(T connection) {
+        disconnect(connection);
+        permits.release();
+    }
+
+    /**
+     * Closes all idle connections and stops background maintenance. Borrowed connections get closed on release.
+     */
+    public void close() {
+        closed = true;
+
+        if (maintenance != null) {
+            maintenance.shutdownNow();
+        }
+
+        IdleConnection<T> candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            disconnect(candidate.connection);
+        }
+    }
+
+    /**
+     * Gets the number of idle connections.
+     * @return
+     */
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    /**
+     * Gets the number of borrowed connections.
+     * @return
+     */
+    public int getActiveCount() {
+        return maxSize - permits.availablePermits();
+    }
+
+    /**
+     * Checks idle connection before reuse. Connections not checked within the keep alive interval are verified with a no-op.
+     * @param candidate
+     * @return
+     */
+    private boolean isUsable(IdleConnection<T> candidate) {
+        if (!connector.isValid(candidate.connection)) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (maxIdleTime > 0 && now - candidate.lastUsed > maxIdleTime) {
+            return false;
+        }
+
+        if (keepAliveInterval > 0 && now - candidate.lastChecked > keepAliveInterval) {
+            return keepAlive(candidate.connection);
+        }
+
+        return true;
+    }
+
+    /**
+     * Evicts expired idle connections and sends keep alive no-ops on remaining idle connections that have not been used or checked
+     * within the keep alive interval. Works on a snapshot of idle connections so each connection is visited at most once per run.
+     */
+    private void maintain() {
+        long now = System.currentTimeMillis();
+
+        for (IdleConnection<T> candidate : new ArrayList<>(idle)) {
+            boolean expired = maxIdleTime > 0 && now - candidate.lastUsed > maxIdleTime;
+
+            if (expired || !connector.isValid(candidate.connection)) {
+                if (idle.remove(candidate)) {
+                    disconnect(candidate.connection);
+                }
+            } else if (keepAliveInterval > 0 && now - candidate.lastChecked >= keepAliveInterval && idle.remove(candidate)) {
+                // connection has been taken out of the pool while sending the no-op so no caller is able to borrow it meanwhile
+                if (keepAlive(candidate.connection)) {
+                    IdleConnection<T> checked = new IdleConnection<>(candidate.connection, candidate.lastUsed, System.currentTimeMillis());
+                    idle.offerLast(checked);
+
+                    if (closed && idle.remove(checked)) {
+                        disconnect(checked.connection);
+                    }
+                } else {
+                    disconnect(candidate.connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Resets connection state before connection is returned to the pool.
+     * @param connection
+     * @return true if connection has been reset and can be reused
+     */
+    private boolean reset(T connection) {
+        try {
+            connector.reset(connection);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to reset connection - closing connection", e);
+            return false;
+        }
+    }
+
+    /**
+     * Sends keep alive no-op on connection.
+     * @param connection
+     * @return true if connection is still alive
+     */
+    private boolean keepAlive(T connection) {
+        try {
+            connector.keepAlive(connection);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to keep connection alive - closing connection", e);
+            return false;
+        }
+    }
+
+    /**
+     * Closes connection ignoring errors.
+     * @param connection
+     */
+    private void disconnect(T connection) {
+        try {
+            connector.disconnect(connection);
+        } catch (RuntimeException e) {
+            log.warn("Failed to close connection", e);
+        }
+    }
+
+    /**
+     * Opens, validates and closes pooled connections.
+     * @param <T>
+     */
+    public interface Connector<T> {
+
+        /**
+         * Opens new connection and performs login.
+         * @return
+         * @throws IOException
+         */
+        T connect() throws IOException;
+
+        /**
+         * Checks that connection is still connected.
+         * @param connection
+         * @return
+         */
+        boolean isValid(T connection);
+
+        /**
+         * Sends no-op on connection. Throws exception when connection is broken.
+         * @param connection
+         * @throws IOException
+         */
+        void keepAlive(T connection) throws IOException;
+
+        /**
+         * Resets connection state such as the working directory before the connection is returned to the pool.
+         * Throws exception when connection is not reusable.
+         * @param connection
+         * @throws IOException
+         */
+        void reset(T connection) throws IOException;
+
+        /**
+         * Logs out and closes connection.
+         * @param connection
+         */
+        void disconnect(T connection);
+    }
+
+    /**
+     * Idle connection with time of last usage and time of last successful check.
+     */
+    private static class IdleConnection<T> {
+        private final T connection;
+        private final long lastUsed;
+        private final long lastChecked;
+
+        IdleConnection(T connection, long lastUsed, long lastChecked) {
+            this.connection = connection;
+            this.lastUsed = lastUsed;
+            this.lastChecked = lastChecked;
+        }
+    }
+}
@@ -64,6 +64,18 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Auto read file content retrieved from server */
     private boolean autoReadFiles = true;
 
+    /** Stream file transfers and pass file size and checksum instead of file content in messages */
+    private boolean streaming = false;
+
+    /** Maximum number of pooled connections, zero or less disables connection pooling */
+    private int connectionPoolSize = 0;
+
+    /** Pooled connections idle longer than this time in milliseconds get closed */
+    private long connectionMaxIdleTime = 60000L;
+
+    /** Interval in milliseconds for sending keep alive no-ops on idle pooled connections, zero or less disables keep alive */
+    private long keepAliveInterval = 30000L;
+
     /** File transfer passive mode */
     private boolean localPassiveMode = true;
 
@@ -255,6 +267,78 @@ public class FtpEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.autoReadFiles = autoReadFiles;
     }
 
+    /**
+     * Gets the streaming.
+     *
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the streaming.
+     *
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    /**
+     * Gets the connectionPoolSize.
+     *
+     * @return
+     */
+    public int getConnectionPoolSize() {
+        return connectionPoolSize;
+    }
+
+    /**
+     * Sets the connectionPoolSize.
+     *
+     * @param connectionPoolSize
+     */
+    public void setConnectionPoolSize(int connectionPoolSize) {
+        this.connectionPoolSize = connectionPoolSize;
+    }
+
+    /**
+     * Gets the connectionMaxIdleTime.
+     *
+     * @return
+     */
+    public long getConnectionMaxIdleTime() {
+        return connectionMaxIdleTime;
+    }
+
+    /**
+     * Sets the connectionMaxIdleTime.
+     *
+     * @param connectionMaxIdleTime
+     */
+    public void setConnectionMaxIdleTime(long connectionMaxIdleTime) {
+        this.connectionMaxIdleTime = connectionMaxIdleTime;
+    }
+
+    /**
+     * Gets the keepAliveInterval.
+     *
+     * @return
+     */
+    public long getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the keepAliveInterval.
+     *
+     * @param keepAliveInterval
+     */
+    public void setKeepAliveInterval(long keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
     /**
      * Gets the localPassiveMode.
      *
@@ -21,6 +21,8 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.commons.net.ftp.FTPReply;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.client.keyverifier.*;
 import org.apache.sshd.client.scp.DefaultScpClientCreator;
@@ -31,9 +33,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
 
-import java.io.File;
-import java.io.IOException;
+import java.io.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Optional;
 
 /**
@@ -103,6 +107,18 @@ public class ScpClient extends SftpClient {
             }
 
             scpClient.download(command.getFile().getPath(), target.getFile().getAbsolutePath());
+
+            if (getEndpointConfiguration().isStreaming()) {
+                File localFile = target.getFile().isDirectory() ? new File(target.getFile(), new File(command.getFile().getPath()).getName()) : target.getFile();
+
+                MessageDigest checksum = createChecksumDigest();
+                try (InputStream inputStream = new DigestInputStream(new FileInputStream(localFile), checksum)) {
+                    StreamUtils.drain(inputStream);
+                }
+
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFile.getAbsolutePath(),
+                        localFile.length(), Hex.encodeHexString(checksum.digest()));
+            }
         } catch (IOException e) {
             log.error("Failed to retrieve file via SCP", e);
             return FtpMessage.error();
@@ -154,6 +154,16 @@ public class ScpClientBuilder extends AbstractEndpointBuilder<ScpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming property.
+     * @param streaming
+     * @return
+     */
+    public ScpClientBuilder streaming(boolean streaming) {
+        endpoint.getEndpointConfiguration().setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Sets the default timeout.
      * @param timeout
@@ -23,6 +23,7 @@ import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
 import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.codec.binary.Hex;
 import org.apache.commons.net.ftp.FTPCmd;
 import org.apache.commons.net.ftp.FTPReply;
 import org.apache.ftpserver.ftplet.DataType;
@@ -33,6 +34,8 @@ import org.springframework.util.*;
 
 import java.io.*;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.*;
 
 /**
@@ -52,6 +55,15 @@ public class SftpClient extends FtpClient {
 
     private ChannelSftp sftp;
 
+    /** Optional pool of connected sftp channels */
+    private FtpConnectionPool<ChannelSftp> channelPool;
+
+    /** Pooled sftp channel borrowed by current thread */
+    private final ThreadLocal<ChannelSftp> pooledChannel = new ThreadLocal<>();
+
+    /** Private key identity has been added to SSH implementation */
+    private volatile boolean identityAdded = false;
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -96,7 +108,7 @@ public class SftpClient extends FtpClient {
      */
     protected FtpMessage createDir(CommandType ftpCommand) {
         try {
-            sftp.mkdir(ftpCommand.getArguments());
+            getSftp().mkdir(ftpCommand.getArguments());
             return FtpMessage.result(FTPReply.PATHNAME_CREATED, "Pathname created", true);
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to execute ftp command", e);
@@ -112,7 +124,7 @@ public class SftpClient extends FtpClient {
 
         try {
             List<String> fileNames = new ArrayList<>();
-            Vector<ChannelSftp.LsEntry> entries = sftp.ls(remoteFilePath);
+            Vector<ChannelSftp.LsEntry> entries = getSftp().ls(remoteFilePath);
             for (ChannelSftp.LsEntry entry : entries) {
                 fileNames.add(entry.getFilename());
             }
@@ -133,10 +145,10 @@ public class SftpClient extends FtpClient {
             }
 
             if (isDirectory(remoteFilePath)) {
-                sftp.cd(remoteFilePath);
+                getSftp().cd(remoteFilePath);
 
                 if (delete.isRecursive()) {
-                    Vector<ChannelSftp.LsEntry> entries = sftp.ls(".");
+                    Vector<ChannelSftp.LsEntry> entries = getSftp().ls(".");
                     List<String> excludedDirs = Arrays.asList(".", "..");
 
                     for (ChannelSftp.LsEntry entry : entries) {
@@ -153,11 +165,11 @@ public class SftpClient extends FtpClient {
 
                 if (delete.isIncludeCurrent()) {
                     // we cannot delete the current working directory, so go to root directory and delete from there
-                    sftp.cd("..");
-                    sftp.rmdir(remoteFilePath);
+                    getSftp().cd("..");
+                    getSftp().rmdir(remoteFilePath);
                 }
             } else {
-                sftp.rm(remoteFilePath);
+                getSftp().rm(remoteFilePath);
             }
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to delete file from FTP server", e);
@@ -169,7 +181,7 @@ public class SftpClient extends FtpClient {
     @Override
     protected boolean isDirectory(String remoteFilePath) {
         try {
-            return !remoteFilePath.contains("*") && sftp.stat(remoteFilePath).isDir();
+            return !remoteFilePath.contains("*") && getSftp().stat(remoteFilePath).isDir();
         } catch (SftpException e) {
             throw new CitrusRuntimeException("Failed to check file state", e);
         }
@@ -183,7 +195,7 @@ public class SftpClient extends FtpClient {
 
             String dataType = context.replaceDynamicContentInString(Optional.ofNullable(command.getFile().getType()).orElse(DataType.BINARY.name()));
             try (InputStream localFileInputStream = getLocalFileInputStream(command.getFile().getPath(), dataType, context)) {
-                sftp.put(localFileInputStream, remoteFilePath);
+                getSftp().put(localFileInputStream, remoteFilePath);
             }
         } catch (IOException | SftpException e) {
             throw new CitrusRuntimeException("Failed to put file to FTP server", e);
@@ -198,19 +210,22 @@ public class SftpClient extends FtpClient {
             String remoteFilePath = context.replaceDynamicContentInString(command.getFile().getPath());
             String localFilePath = addFileNameToTargetPath(remoteFilePath, context.replaceDynamicContentInString(command.getTarget().getPath()));
 
-            try (InputStream inputStream = sftp.get(remoteFilePath)) {
-                byte[] bytes = FileCopyUtils.copyToByteArray(inputStream);
-
+            MessageDigest checksum = getEndpointConfiguration().isStreaming() ? createChecksumDigest() : null;
+            try (InputStream remoteInputStream = getSftp().get(remoteFilePath);
+                 InputStream inputStream = checksum != null ? new DigestInputStream(remoteInputStream, checksum) : remoteInputStream) {
                 // create intermediate directories if necessary
                 Path localFilePathObj = Paths.get(localFilePath);
                 Files.createDirectories(localFilePathObj.getParent());
-                Files.write(localFilePathObj, bytes);
+                Files.copy(inputStream, localFilePathObj, StandardCopyOption.REPLACE_EXISTING);
             } catch (SftpException e) {
                 throw new CitrusRuntimeException(String.format("Failed to get file from FTP server. Remote path: %s. Local file path: %s. Error: %s",
                         remoteFilePath, localFilePath, e.getMessage()));
             }
 
-            if (getEndpointConfiguration().isAutoReadFiles()) {
+            if (checksum != null) {
+                return FtpMessage.result(FTPReply.CLOSING_DATA_CONNECTION, "Transfer complete", localFilePath,
+                        Files.size(Paths.get(localFilePath)), Hex.encodeHexString(checksum.digest()));
+            } else if (getEndpointConfiguration().isAutoReadFiles()) {
                 String fileContent;
                 if (command.getFile().getType().equals(DataType.BINARY.name())) {
                     fileContent = Base64.encodeBase64String(FileCopyUtils.copyToByteArray(FileUtils.getFileResource(localFilePath).getInputStream()));
@@ -227,49 +242,120 @@ public class SftpClient extends FtpClient {
         }
     }
 
+    @Override
+    protected void openConnection() {
+        if (channelPool != null) {
+            try {
+                pooledChannel.set(channelPool.borrow());
+            } catch (IOException e) {
+                throw new CitrusRuntimeException("Failed to open secure connection to FTP server", e);
+            }
+        } else {
+            connectAndLogin();
+        }
+    }
+
+    @Override
+    protected void closeConnection(boolean reusable) {
+        ChannelSftp channel = pooledChannel.get();
+        if (channel != null) {
+            pooledChannel.remove();
+
+            if (reusable) {
+                channelPool.release(channel);
+            } else {
+                channelPool.invalidate(channel);
+            }
+        }
+    }
+
     @Override
     protected void connectAndLogin() {
+        if (session == null || !session.isConnected()) {
+            session = openSession();
+            sftp = openChannel(session);
+        }
+    }
+
+    /**
+     * Opens new SSH session and performs login with configured credentials.
+     * @return
+     */
+    private Session openSession() {
         if (getEndpointConfiguration().isStrictHostChecking()) {
             setKnownHosts();
         }
 
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    ssh.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+        try {
+            if (!identityAdded && StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                synchronized (this) {
+                    if (!identityAdded) {
+                        ssh.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+                        identityAdded = true;
+                    }
                 }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
             }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
 
-            try {
-                session = ssh.getSession(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+        try {
+            Session newSession = ssh.getSession(getEndpointConfiguration().getUser(), getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
 
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                newSession.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                newSession.setPassword(getEndpointConfiguration().getPassword());
+            }
+
+            newSession.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            newSession.setConfig("PreferredAuthentications", getEndpointConfiguration().getPreferredAuthentications());
 
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.setConfig("PreferredAuthentications", getEndpointConfiguration().getPreferredAuthentications());
+            getEndpointConfiguration().getSessionConfigs().entrySet()
+                    .stream()
+                    .peek(entry -> log.info(String.format("Setting session configuration: %s='%s'", entry.getKey(), entry.getValue())))
+                    .forEach(entry -> newSession.setConfig(entry.getKey(), entry.getValue()));
+
+            newSession.connect((int) getEndpointConfiguration().getTimeout());
+            return newSession;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
+        }
+    }
 
-                getEndpointConfiguration().getSessionConfigs().entrySet()
-                        .stream()
-                        .peek(entry -> log.info(String.format("Setting session configuration: %s='%s'", entry.getKey(), entry.getValue())))
-                        .forEach(entry -> session.setConfig(entry.getKey(), entry.getValue()));
+    /**
+     * Opens sftp channel on given session.
+     * @param session
+     * @return
+     */
+    private ChannelSftp openChannel(Session session) {
+        try {
+            Channel channel = session.openChannel("sftp");
+            channel.connect((int) getEndpointConfiguration().getTimeout());
 
-                session.connect((int) getEndpointConfiguration().getTimeout());
+            log.info("Opened secure connection to FTP server");
+            return (ChannelSftp) channel;
+        } catch (JSchException e) {
+            session.disconnect();
+            throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
+        }
+    }
 
-                Channel channel = session.openChannel("sftp");
-                channel.connect((int) getEndpointConfiguration().getTimeout());
-                sftp = (ChannelSftp) channel;
+    /**
+     * Closes given sftp channel and its session.
+     * @param channel
+     */
+    private void disconnect(ChannelSftp channel) {
+        channel.disconnect();
 
-                log.info("Opened secure connection to FTP server");
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException(String.format("Failed to login to FTP server using credentials: %s:%s", getEndpointConfiguration().getUser(), getEndpointConfiguration().getPassword()), e);
+        try {
+            if (channel.getSession().isConnected()) {
+                channel.getSession().disconnect();
+                log.info("Closed connection to FTP server");
             }
+        } catch (JSchException e) {
+            log.warn("Failed to close connection to FTP server", e);
         }
     }
 
@@ -339,16 +425,80 @@ public class SftpClient extends FtpClient {
         if (ssh == null) {
             ssh = new JSch();
         }
+
+        if (getEndpointConfiguration().getConnectionPoolSize() > 0) {
+            channelPool = new FtpConnectionPool<>(new FtpConnectionPool.Connector<ChannelSftp>() {
+                @Override
+                public ChannelSftp connect() {
+                    return openChannel(openSession());
+                }
+
+                @Override
+                public boolean isValid(ChannelSftp connection) {
+                    return connection.isConnected() && !connection.isClosed();
+                }
+
+                @Override
+                public void keepAlive(ChannelSftp connection) throws IOException {
+                    try {
+                        connection.getSession().sendKeepAliveMsg();
+                    } catch (Exception e) {
+                        throw new IOException("Failed to send keep alive to FTP server", e);
+                    }
+                }
+
+                @Override
+                public void reset(ChannelSftp connection) throws IOException {
+                    try {
+                        if (!connection.getHome().equals(connection.pwd())) {
+                            connection.cd(connection.getHome());
+                        }
+                    } catch (SftpException e) {
+                        throw new IOException("Failed to reset working directory", e);
+                    }
+                }
+
+                @Override
+                public void disconnect(ChannelSftp connection) {
+                    SftpClient.this.disconnect(connection);
+                }
+            }, getEndpointConfiguration().getConnectionPoolSize(), getEndpointConfiguration().getTimeout(),
+                    getEndpointConfiguration().getConnectionMaxIdleTime(), getEndpointConfiguration().getKeepAliveInterval());
+        }
     }
 
     @Override
     public void destroy() throws Exception {
+        if (channelPool != null) {
+            channelPool.close();
+        }
+
         if (session != null && session.isConnected()) {
             session.disconnect();
             log.info("Closed connection to FTP server");
         }
 
-        sftp.disconnect();
+        if (sftp != null) {
+            sftp.disconnect();
+        }
+    }
+
+    /**
+     * Gets the sftp channel. When connection pooling is enabled the pooled channel borrowed
+     * by the current thread is returned.
+     * @return
+     */
+    protected ChannelSftp getSftp() {
+        ChannelSftp channel = pooledChannel.get();
+        return channel != null ? channel : sftp;
+    }
+
+    /**
+     * Gets the connection pool or null if pooling is disabled.
+     * @return
+     */
+    public FtpConnectionPool<ChannelSftp> getChannelPool() {
+        return channelPool;
     }
 
     /**
@@ -66,6 +66,46 @@ public class SftpClientBuilder extends AbstractEndpointBuilder<SftpClient> {
         return this;
     }
 
+    /**
+     * Sets the streaming property.
+     * @param streaming
+     * @return
+     */
+    public SftpClientBuilder streaming(boolean streaming) {
+        endpoint.getEndpointConfiguration().setStreaming(streaming);
+        return this;
+    }
+
+    /**
+     * Sets the connection pool size.
+     * @param connectionPoolSize
+     * @return
+     */
+    public SftpClientBuilder connectionPoolSize(int connectionPoolSize) {
+        endpoint.getEndpointConfiguration().setConnectionPoolSize(connectionPoolSize);
+        return this;
+    }
+
+    /**
+     * Sets the max idle time of pooled connections.
+     * @param connectionMaxIdleTime
+     * @return
+     */
+    public SftpClientBuilder connectionMaxIdleTime(long connectionMaxIdleTime) {
+        endpoint.getEndpointConfiguration().setConnectionMaxIdleTime(connectionMaxIdleTime);
+        return this;
+    }
+
+    /**
+     * Sets the keep alive interval of pooled connections.
+     * @param keepAliveInterval
+     * @return
+     */
+    public SftpClientBuilder keepAliveInterval(long keepAliveInterval) {
+        endpoint.getEndpointConfiguration().setKeepAliveInterval(keepAliveInterval);
+        return this;
+    }
+
     /**
      * Sets the local passive mode property.
      * @param localPassiveMode
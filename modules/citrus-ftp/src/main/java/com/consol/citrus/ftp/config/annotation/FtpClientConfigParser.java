@@ -48,6 +48,10 @@ public class FtpClientConfigParser extends AbstractAnnotationConfigParser<FtpCli
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streaming(annotation.streaming());
+        builder.connectionPoolSize(annotation.connectionPoolSize());
+        builder.connectionMaxIdleTime(annotation.connectionMaxIdleTime());
+        builder.keepAliveInterval(annotation.keepAliveInterval());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
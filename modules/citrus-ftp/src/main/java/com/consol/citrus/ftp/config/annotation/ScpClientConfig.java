@@ -96,6 +96,12 @@ public @interface ScpClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Streaming file transfer
+     * @return
+     */
+    boolean streaming() default false;
+
     /**
      * Test actor.
      * @return
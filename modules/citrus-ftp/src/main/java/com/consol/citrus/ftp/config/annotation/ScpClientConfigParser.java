@@ -74,6 +74,8 @@ public class ScpClientConfigParser extends AbstractAnnotationConfigParser<ScpCli
 
         builder.timeout(annotation.timeout());
 
+        builder.streaming(annotation.streaming());
+
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(getReferenceResolver().resolve(annotation.actor(), TestActor.class));
         }
@@ -48,6 +48,30 @@ public @interface SftpClientConfig {
      */
     boolean autoReadFiles() default true;
 
+    /**
+     * Streaming file transfer
+     * @return
+     */
+    boolean streaming() default false;
+
+    /**
+     * Connection pool size, zero disables pooling
+     * @return
+     */
+    int connectionPoolSize() default 0;
+
+    /**
+     * Max idle time of pooled connections
+     * @return
+     */
+    long connectionMaxIdleTime() default 60000L;
+
+    /**
+     * Keep alive interval of pooled connections
+     * @return
+     */
+    long keepAliveInterval() default 30000L;
+
     /**
      * Local passive mode
      * @return
@@ -50,6 +50,10 @@ public class SftpClientConfigParser extends AbstractAnnotationConfigParser<SftpC
 
         builder.port(annotation.port());
         builder.autoReadFiles(annotation.autoReadFiles());
+        builder.streaming(annotation.streaming());
+        builder.connectionPoolSize(annotation.connectionPoolSize());
+        builder.connectionMaxIdleTime(annotation.connectionMaxIdleTime());
+        builder.keepAliveInterval(annotation.keepAliveInterval());
         builder.localPassiveMode(annotation.localPassiveMode());
 
         if (StringUtils.hasText(annotation.username())) {
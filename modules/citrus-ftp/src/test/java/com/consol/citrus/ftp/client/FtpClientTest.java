@@ -16,13 +16,16 @@
 
 package com.consol.citrus.ftp.client;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.message.ErrorHandlingStrategy;
 import com.consol.citrus.message.Message;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.commons.net.ProtocolCommandListener;
 import org.apache.commons.net.ftp.*;
+import org.apache.ftpserver.ftplet.DataType;
 import org.mockftpserver.fake.FakeFtpServer;
 import org.mockftpserver.fake.UserAccount;
 import org.mockftpserver.fake.filesystem.*;
@@ -34,7 +37,8 @@ import org.testng.annotations.*;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.*;
-import java.util.Arrays;
+import java.util.*;
+import java.util.concurrent.*;
 
 import static org.apache.commons.net.ftp.FTPReply.CLOSING_DATA_CONNECTION;
 import static org.apache.commons.net.ftp.FTPReply.FILE_ACTION_OK;
@@ -137,6 +141,67 @@ public class FtpClientTest extends AbstractFtpClientTest {
         assertTrue(new File(localFilePath).exists());
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        String localFilePath = Paths.get(targetPath, "streaming_download_file").toString();
+
+        ftpClient.getEndpointConfiguration().setStreaming(true);
+        try {
+            FtpMessage response = ftpClient.retrieveFile(getCommand(DOWNLOAD_FILE, localFilePath), context);
+            GetCommandResult.File file = response.getPayload(GetCommandResult.class).getFile();
+            assertNull(file.getData());
+            assertEquals(file.getPath(), localFilePath);
+            assertEquals(file.getSize(), Long.valueOf(new File(localFilePath).length()));
+            assertEquals(file.getChecksum(), DigestUtils.sha256Hex(Files.readAllBytes(Paths.get(localFilePath))));
+        } finally {
+            ftpClient.getEndpointConfiguration().setStreaming(false);
+        }
+    }
+
+    @Test
+    public void testConnectionPoolLoad() throws Exception {
+        FtpEndpointConfiguration endpointConfiguration = new FtpEndpointConfiguration();
+        endpointConfiguration.setHost("localhost");
+        endpointConfiguration.setPort(2221);
+        endpointConfiguration.setUser("ftp_user");
+        endpointConfiguration.setPassword("ftp_password");
+        endpointConfiguration.setConnectionPoolSize(3);
+
+        FtpClient pooledClient = new FtpClient(endpointConfiguration);
+        pooledClient.afterPropertiesSet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    TestContext threadContext = createTestContext();
+                    if (index % 2 == 0) {
+                        pooledClient.send(FtpMessage.list(FOLDER), threadContext);
+                    } else {
+                        pooledClient.send(FtpMessage.get(DOWNLOAD_FILE, Paths.get(targetPath, "pooled_download_" + index).toString(), DataType.ASCII), threadContext);
+                    }
+
+                    return ((FtpMessage) pooledClient.receive(threadContext)).getReplyCode();
+                }));
+            }
+
+            for (Future<Integer> result : results) {
+                assertTrue(FTPReply.isPositiveCompletion(result.get(10, TimeUnit.SECONDS)));
+            }
+
+            assertEquals(pooledClient.getConnectionPool().getActiveCount(), 0);
+            assertTrue(pooledClient.getConnectionPool().getIdleCount() > 0);
+            assertTrue(pooledClient.getConnectionPool().getIdleCount() <= 3);
+        } finally {
+            executor.shutdownNow();
+            pooledClient.destroy();
+        }
+
+        assertEquals(pooledClient.getConnectionPool().getIdleCount(), 0);
+    }
+
     @Test
     public void testRetrieveFileImplicitFilename() {
         assertTrue(fakeFtpServer.getFileSystem().exists(DOWNLOAD_FILE));
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.ftp.client;
+
+import com.consol.citrus.exceptions.CitrusRuntimeException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class FtpConnectionPoolTest {
+
+    @Test
+    public void testReuseConnection() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 2, 1000L, 0L, 0L);
+
+        TestConnection connection = pool.borrow();
+        Assert.assertEquals(pool.getActiveCount(), 1);
+        pool.release(connection);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+        Assert.assertEquals(pool.getIdleCount(), 1);
+
+        Assert.assertSame(pool.borrow(), connection);
+        Assert.assertEquals(connector.connects.get(), 1);
+
+        TestConnection other = pool.borrow();
+        Assert.assertNotSame(other, connection);
+        Assert.assertEquals(connector.connects.get(), 2);
+
+        pool.release(connection);
+        pool.release(other);
+        pool.close();
+
+        Assert.assertEquals(pool.getIdleCount(), 0);
+        Assert.assertFalse(connection.connected);
+        Assert.assertFalse(other.connected);
+    }
+
+    @Test(expectedExceptions = CitrusRuntimeException.class, expectedExceptionsMessageRegExp = "Timeout while waiting for free connection.*")
+    public void testMaxSize() throws Exception {
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(new TestConnector(), 1, 100L, 0L, 0L);
+
+        pool.borrow();
+        pool.borrow();
+    }
+
+    @Test
+    public void testInvalidConnection() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 1, 1000L, 0L, 0L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+        connection.connected = false;
+
+        TestConnection reconnected = pool.borrow();
+        Assert.assertNotSame(reconnected, connection);
+        Assert.assertEquals(connector.connects.get(), 2);
+
+        pool.invalidate(reconnected);
+        Assert.assertFalse(reconnected.connected);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+        Assert.assertEquals(pool.getIdleCount(), 0);
+    }
+
+    @Test
+    public void testConnectFailure() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 1, 100L, 0L, 0L);
+
+        connector.fail.set(true);
+        try {
+            pool.borrow();
+            Assert.fail("Missing exception due to connect failure");
+        } catch (IOException e) {
+            Assert.assertEquals(pool.getActiveCount(), 0);
+        }
+
+        connector.fail.set(false);
+        Assert.assertNotNull(pool.borrow());
+    }
+
+    @Test
+    public void testIdleEviction() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 1, 1000L, 50L, 0L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (pool.getIdleCount() > 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+
+        Assert.assertEquals(pool.getIdleCount(), 0);
+        Assert.assertFalse(connection.connected);
+
+        pool.close();
+    }
+
+    @Test
+    public void testKeepAlive() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 1, 1000L, 0L, 50L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+
+        long timeout = System.currentTimeMillis() + 5000L;
+        while (connection.keepAlives.get() == 0 && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10L);
+        }
+
+        Assert.assertTrue(connection.keepAlives.get() > 0);
+        Assert.assertSame(pool.borrow(), connection);
+
+        pool.close();
+    }
+
+    @Test
+    public void testKeepAliveMultipleIdleConnections() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 2, 1000L, 0L, 50L);
+
+        TestConnection first = pool.borrow();
+        TestConnection second = pool.borrow();
+        long start = System.currentTimeMillis();
+        pool.release(first);
+        pool.release(second);
+
+        Thread.sleep(300L);
+        long maxRuns = (System.currentTimeMillis() - start) / 50L + 1;
+
+        // each maintenance run sends at most one keep alive per idle connection
+        Assert.assertTrue(first.keepAlives.get() > 0);
+        Assert.assertTrue(second.keepAlives.get() > 0);
+        Assert.assertTrue(first.keepAlives.get() <= maxRuns, "Too many keep alives: " + first.keepAlives.get());
+        Assert.assertTrue(second.keepAlives.get() <= maxRuns, "Too many keep alives: " + second.keepAlives.get());
+        Assert.assertEquals(pool.getIdleCount(), 2);
+
+        pool.close();
+        Assert.assertFalse(first.connected);
+        Assert.assertFalse(second.connected);
+    }
+
+    @Test
+    public void testResetOnRelease() throws Exception {
+        TestConnector connector = new TestConnector();
+        FtpConnectionPool<TestConnection> pool = new FtpConnectionPool<>(connector, 1, 1000L, 0L, 0L);
+
+        TestConnection connection = pool.borrow();
+        pool.release(connection);
+        Assert.assertEquals(connection.resets.get(), 1);
+        Assert.assertEquals(pool.getIdleCount(), 1);
+
+        Assert.assertSame(pool.borrow(), connection);
+        connector.fail.set(true);
+        pool.release(connection);
+        Assert.assertEquals(pool.getIdleCount(), 0);
+        Assert.assertFalse(connection.connected);
+        Assert.assertEquals(pool.getActiveCount(), 0);
+    }
+
+    /**
+     * Connector creating in memory connections.
+     */
+    private static class TestConnector implements FtpConnectionPool.Connector<TestConnection> {
+        private final AtomicInteger connects = new AtomicInteger();
+        private final AtomicBoolean fail = new AtomicBoolean();
+
+        @Override
+        public TestConnection connect() throws IOException {
+            if (fail.get()) {
+                throw new IOException("Connection refused");
+            }
+
+            connects.incrementAndGet();
+            return new TestConnection();
+        }
+
+        @Override
+        public boolean isValid(TestConnection connection) {
+            return connection.connected;
+        }
+
+        @Override
+        public void keepAlive(TestConnection connection) throws IOException {
+            connection.keepAlives.incrementAndGet();
+        }
+
+        @Override
+        public void reset(TestConnection connection) throws IOException {
+            if (fail.get()) {
+                throw new IOException("Failed to change working directory");
+            }
+
+            connection.resets.incrementAndGet();
+        }
+
+        @Override
+        public void disconnect(TestConnection connection) {
+            connection.connected = false;
+        }
+    }
+
+    private static class TestConnection {
+        private volatile boolean connected = true;
+        private final AtomicInteger keepAlives = new AtomicInteger();
+        private final AtomicInteger resets = new AtomicInteger();
+    }
+}
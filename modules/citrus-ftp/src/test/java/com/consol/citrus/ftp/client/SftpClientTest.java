@@ -16,9 +16,12 @@
 
 package com.consol.citrus.ftp.client;
 
+import com.consol.citrus.context.TestContext;
 import com.consol.citrus.ftp.message.FtpMessage;
 import com.consol.citrus.ftp.model.*;
 import com.consol.citrus.util.FileUtils;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.ftpserver.ftplet.DataType;
 import org.apache.sshd.common.NamedFactory;
 import org.apache.sshd.common.keyprovider.ClassLoadableResourceKeyPairProvider;
 import org.apache.sshd.server.SshServer;
@@ -34,6 +37,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.apache.commons.net.ftp.FTPReply.*;
 import static org.testng.Assert.assertTrue;
@@ -97,6 +101,80 @@ public class SftpClientTest extends AbstractFtpClientTest {
         Assert.assertEquals(response.getPayload(GetCommandResult.class).getFile().getData(), inputFileAsString);
     }
 
+    @Test
+    public void testRetrieveFileStreaming() throws Exception {
+        Path localDownloadFilePath = Paths.get(targetPath, "streaming_download.xml");
+
+        FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, remoteFilePath), context);
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+        sftpClient.getEndpointConfiguration().setStreaming(true);
+        try {
+            FtpMessage response = sftpClient.retrieveFile(getCommand(remoteFilePath, localDownloadFilePath.toString()), context);
+            verifyMessage(response, GetCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+            GetCommandResult.File file = response.getPayload(GetCommandResult.class).getFile();
+            Assert.assertNull(file.getData());
+            Assert.assertEquals(file.getPath(), localDownloadFilePath.toString());
+            Assert.assertEquals(file.getSize(), Long.valueOf(Files.size(localDownloadFilePath)));
+            Assert.assertEquals(file.getChecksum(), DigestUtils.sha256Hex(Files.readAllBytes(localDownloadFilePath)));
+            Assert.assertEquals(new String(Files.readAllBytes(localDownloadFilePath), "UTF-8"), inputFileAsString);
+        } finally {
+            sftpClient.getEndpointConfiguration().setStreaming(false);
+        }
+    }
+
+    @Test
+    public void testConnectionPoolLoad() throws Exception {
+        String pooledDir = targetPath + "/pooled";
+        Files.createDirectories(Paths.get(pooledDir));
+        String pooledFilePath = pooledDir + "/hello.xml";
+
+        FtpMessage ftpMessage = sftpClient.storeFile(putCommand(localFilePath, pooledFilePath), context);
+        verifyMessage(ftpMessage, PutCommandResult.class, CLOSING_DATA_CONNECTION, "Transfer complete");
+
+        SftpEndpointConfiguration endpointConfiguration = new SftpEndpointConfiguration();
+        endpointConfiguration.setHost("localhost");
+        endpointConfiguration.setPort(2223);
+        endpointConfiguration.setUser("remote-username");
+        endpointConfiguration.setPassword("remote-password");
+        endpointConfiguration.setConnectionPoolSize(3);
+
+        SftpClient pooledClient = new SftpClient(endpointConfiguration);
+        pooledClient.afterPropertiesSet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<Future<FtpMessage>> results = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                int index = i;
+                results.add(executor.submit(() -> {
+                    TestContext threadContext = createTestContext();
+                    if (index % 2 == 0) {
+                        pooledClient.send(FtpMessage.list(pooledDir), threadContext);
+                    } else {
+                        pooledClient.send(FtpMessage.get(pooledFilePath, Paths.get(targetPath, "pooled_download_" + index + ".xml").toString(), DataType.ASCII), threadContext);
+                    }
+
+                    return (FtpMessage) pooledClient.receive(threadContext);
+                }));
+            }
+
+            for (Future<FtpMessage> result : results) {
+                int replyCode = result.get(10, TimeUnit.SECONDS).getReplyCode();
+                Assert.assertTrue(isPositivePreliminary(replyCode) || isPositiveCompletion(replyCode));
+            }
+
+            Assert.assertEquals(new String(Files.readAllBytes(Paths.get(targetPath, "pooled_download_1.xml")), "UTF-8"), inputFileAsString);
+            Assert.assertEquals(pooledClient.getChannelPool().getActiveCount(), 0);
+            Assert.assertTrue(pooledClient.getChannelPool().getIdleCount() > 0);
+            Assert.assertTrue(pooledClient.getChannelPool().getIdleCount() <= 3);
+        } finally {
+            executor.shutdownNow();
+            pooledClient.destroy();
+        }
+    }
+
     @Test
     public void testRetrieveFileToLocalPath() throws Exception {
         Path localDownloadFilePath = Paths.get(targetPath, "local_download.xml");
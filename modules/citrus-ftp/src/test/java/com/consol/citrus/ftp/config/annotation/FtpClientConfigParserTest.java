@@ -45,6 +45,10 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
     @FtpClientConfig(host = "localhost",
             port=22222,
             autoReadFiles = false,
+            streaming = true,
+            connectionPoolSize = 5,
+            connectionMaxIdleTime = 10000L,
+            keepAliveInterval = 5000L,
             localPassiveMode = false,
             username="user",
             password="consol",
@@ -96,6 +100,10 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(ftpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(ftpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertTrue(ftpClient1.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(ftpClient1.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(ftpClient1.getEndpointConfiguration().getConnectionPoolSize(), 0);
+        Assert.assertEquals(ftpClient1.getEndpointConfiguration().getConnectionMaxIdleTime(), 60000L);
+        Assert.assertEquals(ftpClient1.getEndpointConfiguration().getKeepAliveInterval(), 30000L);
         Assert.assertTrue(ftpClient1.getEndpointConfiguration().isLocalPassiveMode());
 
         // 2nd ftp client
@@ -106,6 +114,10 @@ public class FtpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(ftpClient2.getEndpointConfiguration().getPassword(), "consol");
         Assert.assertEquals(ftpClient2.getEndpointConfiguration().getTimeout(), 10000L);
         Assert.assertFalse(ftpClient2.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertTrue(ftpClient2.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(ftpClient2.getEndpointConfiguration().getConnectionPoolSize(), 5);
+        Assert.assertEquals(ftpClient2.getEndpointConfiguration().getConnectionMaxIdleTime(), 10000L);
+        Assert.assertEquals(ftpClient2.getEndpointConfiguration().getKeepAliveInterval(), 5000L);
         Assert.assertFalse(ftpClient2.getEndpointConfiguration().isLocalPassiveMode());
 
         // 3rd ftp client
@@ -98,6 +98,7 @@ public class ScpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(scpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(scpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertTrue(scpClient1.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(scpClient1.getEndpointConfiguration().isStreaming());
         Assert.assertNull(scpClient1.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(scpClient1.getEndpointConfiguration().getPrivateKeyPassword());
         Assert.assertFalse(scpClient1.getEndpointConfiguration().isStrictHostChecking());
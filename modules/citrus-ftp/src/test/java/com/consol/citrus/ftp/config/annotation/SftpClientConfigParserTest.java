@@ -48,6 +48,10 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
     @SftpClientConfig(host = "localhost",
             port=22222,
             autoReadFiles = false,
+            streaming = true,
+            connectionPoolSize = 5,
+            connectionMaxIdleTime = 10000L,
+            keepAliveInterval = 5000L,
             localPassiveMode = false,
             username="user",
             password="consol",
@@ -106,6 +110,10 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sftpClient1.getEndpointConfiguration().getErrorHandlingStrategy(), ErrorHandlingStrategy.PROPAGATE);
         Assert.assertEquals(sftpClient1.getEndpointConfiguration().getTimeout(), 5000L);
         Assert.assertTrue(sftpClient1.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(sftpClient1.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(sftpClient1.getEndpointConfiguration().getConnectionPoolSize(), 0);
+        Assert.assertEquals(sftpClient1.getEndpointConfiguration().getConnectionMaxIdleTime(), 60000L);
+        Assert.assertEquals(sftpClient1.getEndpointConfiguration().getKeepAliveInterval(), 30000L);
         Assert.assertTrue(sftpClient1.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertNull(sftpClient1.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(sftpClient1.getEndpointConfiguration().getPrivateKeyPassword());
@@ -128,6 +136,10 @@ public class SftpClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sftpClient2.getEndpointConfiguration().getSessionConfigs().size(), 1L);
         Assert.assertEquals(sftpClient2.getEndpointConfiguration().getSessionConfigs().get("PreferredAuthentications"), "gssapi-with-mic");
         Assert.assertFalse(sftpClient2.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertTrue(sftpClient2.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(sftpClient2.getEndpointConfiguration().getConnectionPoolSize(), 5);
+        Assert.assertEquals(sftpClient2.getEndpointConfiguration().getConnectionMaxIdleTime(), 10000L);
+        Assert.assertEquals(sftpClient2.getEndpointConfiguration().getKeepAliveInterval(), 5000L);
         Assert.assertFalse(sftpClient2.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertTrue(sftpClient2.getEndpointConfiguration().isStrictHostChecking());
 
@@ -45,6 +45,7 @@ public class ScpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(scpClient.getEndpointConfiguration().getPort(), new Integer(22222));
         Assert.assertEquals(scpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertTrue(scpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(scpClient.getEndpointConfiguration().isStreaming());
         Assert.assertNull(scpClient.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(scpClient.getEndpointConfiguration().getPrivateKeyPassword());
         Assert.assertFalse(scpClient.getEndpointConfiguration().isStrictHostChecking());
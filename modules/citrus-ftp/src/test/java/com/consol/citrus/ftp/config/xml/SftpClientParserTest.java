@@ -44,6 +44,10 @@ public class SftpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPort(), new Integer(22222));
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getCorrelator().getClass(), DefaultMessageCorrelator.class);
         Assert.assertTrue(sftpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertFalse(sftpClient.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getConnectionPoolSize(), 0);
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getConnectionMaxIdleTime(), 60000L);
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getKeepAliveInterval(), 30000L);
         Assert.assertTrue(sftpClient.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertNull(sftpClient.getEndpointConfiguration().getPrivateKeyPath());
         Assert.assertNull(sftpClient.getEndpointConfiguration().getPrivateKeyPassword());
@@ -62,6 +66,10 @@ public class SftpClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getUser(), "user");
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPassword(), "consol");
         Assert.assertFalse(sftpClient.getEndpointConfiguration().isAutoReadFiles());
+        Assert.assertTrue(sftpClient.getEndpointConfiguration().isStreaming());
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getConnectionPoolSize(), 5);
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getConnectionMaxIdleTime(), 10000L);
+        Assert.assertEquals(sftpClient.getEndpointConfiguration().getKeepAliveInterval(), 5000L);
         Assert.assertFalse(sftpClient.getEndpointConfiguration().isLocalPassiveMode());
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPrivateKeyPath(), "classpath:com/consol/citrus/sftp/citrus.priv");
         Assert.assertEquals(sftpClient.getEndpointConfiguration().getPrivateKeyPassword(), "consol");
@@ -129,6 +129,32 @@ public class ExecuteSQLBuilder extends AbstractTestActionBuilder<ExecuteSQLActio
         return this;
     }
 
+    /**
+     * Adds parameterized statement with a row of arguments. Statement is added to the list of SQL executions
+     * only once and gets executed for each row of arguments.
+     * @param sql
+     * @param arguments
+     * @return
+     */
+    public ExecuteSQLBuilder statement(String sql, Object... arguments) {
+        if (!action.getStatements().contains(sql)) {
+            action.getStatements().add(sql);
+        }
+
+        action.addBatchArguments(sql, arguments);
+        return this;
+    }
+
+    /**
+     * Executes statements as JDBC batch updates with given batch size.
+     * @param batchSize
+     * @return
+     */
+    public ExecuteSQLBuilder batchSize(int batchSize) {
+        action.setBatchSize(batchSize);
+        return this;
+    }
+
     /**
      * Setter for external file resource containing the SQL statements to execute.
      * @param sqlResource
@@ -233,6 +233,26 @@ public class ExecuteSQLQueryBuilder extends AbstractTestActionBuilder<ExecuteSQL
 		return this;
 	}
 	
+	/**
+     * Enables streaming mode validating the result set row by row.
+     * @param streaming
+     * @return
+     */
+	public ExecuteSQLQueryBuilder streaming(boolean streaming) {
+		action.setStreaming(streaming);
+		return this;
+	}
+
+	/**
+     * Sets the JDBC fetch size used in streaming mode.
+     * @param fetchSize
+     * @return
+     */
+	public ExecuteSQLQueryBuilder fetchSize(int fetchSize) {
+		action.setFetchSize(fetchSize);
+		return this;
+	}
+
 	/**
      * Sets an explicit validator implementation for this action.
      * @param validator the validator to set
@@ -26,10 +26,11 @@ import com.consol.citrus.jmx.model.ManagedBeanInvocation;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.message.correlation.CorrelationManager;
-import com.consol.citrus.message.correlation.PollingCorrelationManager;
+import com.consol.citrus.message.correlation.WaitingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.StringUtils;
 
 import javax.management.*;
@@ -38,13 +39,19 @@ import javax.management.remote.*;
 import java.io.IOException;
 import java.lang.management.ManagementFactory;
 import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
+ * JMX client invokes operations and reads or writes attributes on local platform or remote MBean servers. Remote connections use a single
+ * JMX connector per client that is reused for all invocations. Connector gets replaced on connection loss either with scheduled reconnect
+ * or lazily on next invocation.
+ *
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener {
+public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsumer, NotificationListener, DisposableBean {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(JmxClient.class);
@@ -58,8 +65,14 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** MBean object name */
     private ObjectName objectName;
 
+    /** Cached MBean object names */
+    private final Map<String, ObjectName> objectNames = new ConcurrentHashMap<>();
+
+    /** Shared network connector */
+    private JMXConnector networkConnector;
+
     /** Optional notification listener */
-    private NotificationListener notificationListener;
+    private volatile NotificationListener notificationListener;
 
     /** Scheduler */
     private ScheduledExecutorService scheduledExecutor = new ScheduledThreadPoolExecutor(1);
@@ -78,7 +91,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
     public JmxClient(JmxEndpointConfiguration endpointConfiguration) {
         super(endpointConfiguration);
 
-        this.correlationManager = new PollingCorrelationManager<>(endpointConfiguration, "Reply message did not arrive yet");
+        this.correlationManager = new WaitingCorrelationManager<>(endpointConfiguration);
     }
 
     @Override
@@ -106,17 +119,7 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         context.onOutboundMessage(message);
 
         ManagedBeanInvocation invocation = getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
-        try {
-            if (StringUtils.hasText(invocation.getMbean())) {
-                objectName = new ObjectName(invocation.getMbean().toString());
-            } else if (StringUtils.hasText(invocation.getObjectKey())) {
-                objectName = new ObjectName(invocation.getObjectDomain(), invocation.getObjectKey(), invocation.getObjectValue());
-            } else {
-                objectName = new ObjectName(invocation.getObjectDomain(), "name", invocation.getObjectName());
-            }
-        } catch (MalformedObjectNameException e) {
-            throw new CitrusRuntimeException("Failed to create object name", e);
-        }
+        objectName = getObjectName(invocation);
 
         try {
             if (invocation.getOperation() != null) {
@@ -158,28 +161,109 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         } catch (JMException e) {
             throw new CitrusRuntimeException("Failed to execute MBean operation", e);
         } catch (IOException e) {
+            closeNetworkConnector();
             throw new CitrusRuntimeException("Failed to execute MBean operation", e);
         }
     }
 
     /**
-     * Establish network connection to remote mBean server.
+     * Gets object name for MBean invocation. Object names are cached as parsing and validating the name is costly
+     * when the same MBean is invoked many times.
+     * @param invocation
      * @return
      */
-    private MBeanServerConnection getNetworkConnection() {
+    private ObjectName getObjectName(ManagedBeanInvocation invocation) {
+        String name;
+        if (StringUtils.hasText(invocation.getMbean())) {
+            name = invocation.getMbean();
+        } else if (StringUtils.hasText(invocation.getObjectKey())) {
+            name = invocation.getObjectDomain() + ":" + invocation.getObjectKey() + "=" + invocation.getObjectValue();
+        } else {
+            name = invocation.getObjectDomain() + ":name=" + invocation.getObjectName();
+        }
+
+        return objectNames.computeIfAbsent(name, key -> {
+            try {
+                if (StringUtils.hasText(invocation.getMbean())) {
+                    return new ObjectName(invocation.getMbean());
+                } else if (StringUtils.hasText(invocation.getObjectKey())) {
+                    return new ObjectName(invocation.getObjectDomain(), invocation.getObjectKey(), invocation.getObjectValue());
+                } else {
+                    return new ObjectName(invocation.getObjectDomain(), "name", invocation.getObjectName());
+                }
+            } catch (MalformedObjectNameException e) {
+                throw new CitrusRuntimeException("Failed to create object name", e);
+            }
+        });
+    }
+
+    /**
+     * Gets network connection to remote mBean server. Reuses the open network connector
+     * and establishes a new connector only if no connector is open yet.
+     * @return
+     */
+    private synchronized MBeanServerConnection getNetworkConnection() {
+        if (networkConnector != null) {
+            try {
+                return networkConnector.getMBeanServerConnection();
+            } catch (IOException e) {
+                log.warn("Failed to reuse JMX connection - reconnecting", e);
+                closeNetworkConnector();
+            }
+        }
+
         try {
             JMXServiceURL url = new JMXServiceURL(getEndpointConfiguration().getServerUrl());
             String[] creds = {getEndpointConfiguration().getUsername(), getEndpointConfiguration().getPassword()};
-            JMXConnector networkConnector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
-            connectionId = networkConnector.getConnectionId();
+            JMXConnector connector = JMXConnectorFactory.connect(url, Collections.singletonMap(JMXConnector.CREDENTIALS, creds));
+            connectionId = connector.getConnectionId();
 
-            networkConnector.addConnectionNotificationListener(this, null, null);
+            connector.addConnectionNotificationListener(this, null, null);
+            networkConnector = connector;
             return networkConnector.getMBeanServerConnection();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to connect to network MBean server", e);
         }
     }
 
+    /**
+     * Closes current network connector so next invocation reconnects.
+     */
+    private void closeNetworkConnector() {
+        JMXConnector connector = detachNetworkConnector();
+        if (connector != null) {
+            close(connector);
+        }
+    }
+
+    /**
+     * Removes current network connector from this client.
+     * @return the detached connector or null if no connector was open
+     */
+    private synchronized JMXConnector detachNetworkConnector() {
+        JMXConnector connector = networkConnector;
+        networkConnector = null;
+        return connector;
+    }
+
+    /**
+     * Closes given network connector ignoring errors.
+     * @param connector
+     */
+    private void close(JMXConnector connector) {
+        try {
+            connector.removeConnectionNotificationListener(this);
+        } catch (ListenerNotFoundException e) {
+            log.debug("Connection notification listener already removed", e);
+        }
+
+        try {
+            connector.close();
+        } catch (IOException e) {
+            log.warn("Failed to close JMX connection", e);
+        }
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -213,12 +297,36 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         JMXConnectionNotification connectionNotification = (JMXConnectionNotification) notification;
         if (connectionNotification.getConnectionId().equals(getConnectionId()) && connectionLost(connectionNotification)) {
             log.warn("JmxClient lost JMX connection for : {}", getEndpointConfiguration().getServerUrl());
-            if (getEndpointConfiguration().isAutoReconnect()) {
-                scheduleReconnect();
+
+            JMXConnector lostConnector = detachNetworkConnector();
+            if (lostConnector != null) {
+                // close connector outside of the connector's notification thread
+                runAsync(() -> close(lostConnector));
+
+                if (getEndpointConfiguration().isAutoReconnect() && !scheduledExecutor.isShutdown()) {
+                    scheduleReconnect();
+                }
             }
         }
     }
 
+    /**
+     * Runs task with scheduler. Runs task in current thread when scheduler has already been shut down.
+     * @param task
+     */
+    private void runAsync(Runnable task) {
+        if (!scheduledExecutor.isShutdown()) {
+            try {
+                scheduledExecutor.execute(task);
+                return;
+            } catch (RejectedExecutionException e) {
+                log.debug("Scheduler has been shut down - running task in current thread");
+            }
+        }
+
+        task.run();
+    }
+
     /**
      * Finds connection lost type notifications.
      * @param connectionNotification
@@ -258,12 +366,19 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
      * @param correlationKey
      * @param serverConnection
      */
-    private void addNotificationListener(ObjectName objectName, final String correlationKey, MBeanServerConnection serverConnection) {
+    private void addNotificationListener(final ObjectName objectName, final String correlationKey, final MBeanServerConnection serverConnection) {
         try {
+            final AtomicBoolean completed = new AtomicBoolean(false);
             notificationListener = new NotificationListener() {
                 @Override
                 public void handleNotification(Notification notification, Object handback) {
-                    correlationManager.store(correlationKey, new DefaultMessage(notification.getMessage()));
+                    if (completed.compareAndSet(false, true)) {
+                        correlationManager.store(correlationKey, new DefaultMessage(notification.getMessage()));
+
+                        // reply is complete so remove listener outside of the notification thread
+                        final NotificationListener listener = this;
+                        runAsync(() -> removeNotificationListener(objectName, listener, serverConnection));
+                    }
                 }
             };
 
@@ -275,6 +390,31 @@ public class JmxClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    /**
+     * Removes notification listener after reply has been received. Errors are ignored as the listener
+     * is removed anyway when the connection gets closed.
+     * @param objectName
+     * @param listener
+     * @param serverConnection
+     */
+    private void removeNotificationListener(ObjectName objectName, NotificationListener listener, MBeanServerConnection serverConnection) {
+        if (notificationListener == listener) {
+            notificationListener = null;
+        }
+
+        try {
+            serverConnection.removeNotificationListener(objectName, listener);
+        } catch (InstanceNotFoundException | ListenerNotFoundException | IOException e) {
+            log.debug("Failed to remove notification listener", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        scheduledExecutor.shutdownNow();
+        closeNetworkConnector();
+    }
+
     /**
      * Creates a message producer for this endpoint for sending messages
      * to this endpoint.
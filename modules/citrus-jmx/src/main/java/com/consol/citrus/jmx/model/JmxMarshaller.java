@@ -16,30 +16,16 @@
 
 package com.consol.citrus.jmx.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class JmxMarshaller extends Jaxb2Marshaller {
-
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(JmxMarshaller.class);
+public class JmxMarshaller extends PooledJaxb2Marshaller {
 
     public JmxMarshaller() {
-        setClassesToBeBound(ManagedBeanInvocation.class,
-                ManagedBeanResult.class);
-
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-jmx-message.xsd"));
-
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup jmx message marshaller", e);
-        }
+        super(new ClassPathResource("com/consol/citrus/schema/citrus-jmx-message.xsd"), ManagedBeanInvocation.class, ManagedBeanResult.class);
     }
 }
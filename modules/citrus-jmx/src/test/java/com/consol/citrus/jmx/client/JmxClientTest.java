@@ -0,0 +1,160 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.jmx.client;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.jmx.endpoint.JmxEndpointConfiguration;
+import com.consol.citrus.jmx.mbean.HelloBean;
+import com.consol.citrus.jmx.mbean.HelloBeanImpl;
+import com.consol.citrus.jmx.message.JmxMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import javax.management.*;
+import javax.management.remote.*;
+import java.lang.management.ManagementFactory;
+import java.rmi.registry.LocateRegistry;
+import java.rmi.registry.Registry;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class JmxClientTest extends AbstractTestNGUnitTest {
+
+    private static final String SERVER_URL = "service:jmx:rmi:///jndi/rmi://localhost:11099/jmxrmi";
+
+    private ObjectName helloBeanName;
+
+    private Registry registry;
+    private JMXConnectorServer connectorServer;
+
+    @BeforeClass
+    public void setupServer() throws Exception {
+        helloBeanName = new ObjectName("com.consol.citrus.jmx.mbean:type=HelloBean,name=JmxClientTest");
+
+        HelloBeanImpl helloBean = new HelloBeanImpl();
+        helloBean.setHelloMessage("Hello %s!");
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardMBean(helloBean, HelloBean.class), helloBeanName);
+
+        registry = LocateRegistry.createRegistry(11099);
+        connectorServer = JMXConnectorServerFactory.newJMXConnectorServer(new JMXServiceURL(SERVER_URL), null, ManagementFactory.getPlatformMBeanServer());
+        connectorServer.start();
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() throws Exception {
+        connectorServer.stop();
+        UnicastRemoteObject.unexportObject(registry, true);
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(helloBeanName);
+    }
+
+    @Test
+    public void testReuseConnection() throws Exception {
+        JmxClient jmxClient = createClient();
+
+        try {
+            for (int i = 0; i < 10; i++) {
+                jmxClient.send(JmxMessage.invocation(helloBeanName.toString()).operation("hello").parameter("user" + i), context);
+
+                Message reply = jmxClient.receive(context);
+                Assert.assertTrue(reply.getPayload(String.class).contains("Hello user" + i + "!"));
+            }
+
+            Assert.assertEquals(connectorServer.getConnectionIds().length, 1L);
+            Assert.assertEquals(connectorServer.getConnectionIds()[0], jmxClient.getConnectionId());
+        } finally {
+            jmxClient.destroy();
+        }
+
+        Assert.assertEquals(connectorServer.getConnectionIds().length, 0L);
+    }
+
+    @Test
+    public void testReconnectOnConnectionLost() throws Exception {
+        JmxClient jmxClient = createClient();
+
+        try {
+            jmxClient.send(JmxMessage.invocation(helloBeanName.toString()).attribute("HelloMessage"), context);
+            Assert.assertTrue(jmxClient.receive(context).getPayload(String.class).contains("Hello %s!"));
+
+            String connectionId = jmxClient.getConnectionId();
+            jmxClient.handleNotification(new JMXConnectionNotification(JMXConnectionNotification.FAILED, this, connectionId, 1L, "Connection lost", null), null);
+
+            jmxClient.send(JmxMessage.invocation(helloBeanName.toString()).attribute("HelloMessage"), context);
+            Assert.assertTrue(jmxClient.receive(context).getPayload(String.class).contains("Hello %s!"));
+            Assert.assertNotEquals(jmxClient.getConnectionId(), connectionId);
+        } finally {
+            jmxClient.destroy();
+        }
+    }
+
+    @Test
+    public void testRemoveNotificationListenerOnReply() throws Exception {
+        final CountDownLatch removed = new CountDownLatch(1);
+        NotificationBroadcasterSupport emitter = new NotificationBroadcasterSupport() {
+            @Override
+            public void removeNotificationListener(NotificationListener listener) throws ListenerNotFoundException {
+                super.removeNotificationListener(listener);
+                removed.countDown();
+            }
+        };
+
+        ObjectName emitterName = new ObjectName("com.consol.citrus.jmx.mbean:type=HelloBean,name=JmxClientTestEmitter");
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new StandardEmitterMBean(new HelloBeanImpl(), HelloBean.class, emitter), emitterName);
+
+        JmxEndpointConfiguration endpointConfiguration = new JmxEndpointConfiguration();
+        endpointConfiguration.setServerUrl("platform");
+        endpointConfiguration.setTimeout(500L);
+        JmxClient jmxClient = new JmxClient(endpointConfiguration);
+
+        try {
+            jmxClient.send(JmxMessage.invocation(emitterName.toString()), context);
+
+            emitter.sendNotification(new Notification("hello", emitterName, 1L, "Hello Citrus!"));
+            Assert.assertEquals(jmxClient.receive(context).getPayload(String.class), "Hello Citrus!");
+            Assert.assertTrue(removed.await(5, TimeUnit.SECONDS));
+
+            emitter.sendNotification(new Notification("hello", emitterName, 2L, "Hello again!"));
+            try {
+                jmxClient.receive(context);
+                Assert.fail("Missing timeout exception as notification listener should be removed");
+            } catch (ActionTimeoutException e) {
+                Assert.assertTrue(e.getMessage().contains("MBean server"));
+            }
+        } finally {
+            jmxClient.destroy();
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(emitterName);
+        }
+    }
+
+    private JmxClient createClient() {
+        JmxEndpointConfiguration endpointConfiguration = new JmxEndpointConfiguration();
+        endpointConfiguration.setServerUrl(SERVER_URL);
+        endpointConfiguration.setTimeout(5000L);
+
+        return new JmxClient(endpointConfiguration);
+    }
+}
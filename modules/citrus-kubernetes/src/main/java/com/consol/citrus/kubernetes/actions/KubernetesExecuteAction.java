@@ -21,6 +21,7 @@ import com.consol.citrus.context.TestContext;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.exceptions.ValidationException;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.kubernetes.command.CommandResult;
 import com.consol.citrus.kubernetes.command.KubernetesCommand;
 import com.consol.citrus.message.DefaultMessage;
@@ -82,7 +83,14 @@ public class KubernetesExecuteAction extends AbstractTestAction {
             }
             command.execute(kubernetesClient, context);
 
-            validateCommandResult(command, context);
+            try {
+                validateCommandResult(command, context);
+            } finally {
+                if (command instanceof AbstractWatchCommand) {
+                    // action consumes a single watch result so buffered watches must not stay open
+                    ((AbstractWatchCommand) command).closeWatch();
+                }
+            }
 
             log.info(String.format("Kubernetes command execution successful: '%s'", command.getName()));
         } catch (CitrusRuntimeException e) {
@@ -19,6 +19,7 @@ package com.consol.citrus.kubernetes.client;
 import com.consol.citrus.context.TestContext;
 import com.consol.citrus.endpoint.AbstractEndpoint;
 import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.kubernetes.command.KubernetesCommand;
 import com.consol.citrus.kubernetes.endpoint.KubernetesEndpointConfiguration;
 import com.consol.citrus.message.Message;
@@ -27,6 +28,10 @@ import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Kubernetes client uses Java kubernetes client implementation for executing kubernetes commands.
@@ -34,7 +39,7 @@ import org.slf4j.LoggerFactory;
  * @author Christoph Deppisch
  * @since 2.7
  */
-public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class KubernetesClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
 
     /** Logger */
     private static Logger log = LoggerFactory.getLogger(KubernetesClient.class);
@@ -42,6 +47,9 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
     /** Store of reply messages */
     private CorrelationManager<KubernetesCommand> correlationManager;
 
+    /** Buffered watch commands still open and waiting for next receive */
+    private final Map<String, AbstractWatchCommand> openWatches = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -107,11 +115,38 @@ public class KubernetesClient extends AbstractEndpoint implements Producer, Repl
             throw new ActionTimeoutException("Action timeout while receiving synchronous reply message from http server");
         }
 
+        openWatches.remove(selector);
+
         if (command.getResultCallback() != null) {
             command.getResultCallback().validateCommandResult(command.getCommandResult(), context);
         }
 
-        return getEndpointConfiguration().getMessageConverter().convertInbound(command, getEndpointConfiguration(), context);
+        Message response = getEndpointConfiguration().getMessageConverter().convertInbound(command, getEndpointConfiguration(), context);
+
+        if (command instanceof AbstractWatchCommand && ((AbstractWatchCommand) command).nextResult()) {
+            // watch is still delivering events so next receive consumes next event from same watch
+            openWatches.put(selector, (AbstractWatchCommand) command);
+            correlationManager.store(selector, command);
+        }
+
+        return response;
+    }
+
+    /**
+     * Closes all buffered watches that are still open and removes their commands from the correlation manager.
+     */
+    public void closeWatches() {
+        for (Map.Entry<String, AbstractWatchCommand> openWatch : openWatches.entrySet()) {
+            if (openWatches.remove(openWatch.getKey(), openWatch.getValue())) {
+                correlationManager.getObjectStore().remove(openWatch.getKey());
+                openWatch.getValue().closeWatch();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        closeWatches();
     }
 
     @Override
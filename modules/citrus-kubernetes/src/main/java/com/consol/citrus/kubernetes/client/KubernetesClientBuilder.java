@@ -17,6 +17,7 @@
 package com.consol.citrus.kubernetes.client;
 
 import com.consol.citrus.endpoint.AbstractEndpointBuilder;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.kubernetes.message.KubernetesMessageConverter;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.fabric8.kubernetes.client.ConfigBuilder;
@@ -121,4 +122,24 @@ public class KubernetesClientBuilder extends AbstractEndpointBuilder<KubernetesC
         endpoint.getEndpointConfiguration().setObjectMapper(objectMapper);
         return this;
     }
+
+    /**
+     * Sets the watch buffer size.
+     * @param watchBufferSize
+     * @return
+     */
+    public KubernetesClientBuilder watchBufferSize(int watchBufferSize) {
+        endpoint.getEndpointConfiguration().setWatchBufferSize(watchBufferSize);
+        return this;
+    }
+
+    /**
+     * Sets the watch overflow policy.
+     * @param watchOverflowPolicy
+     * @return
+     */
+    public KubernetesClientBuilder watchOverflowPolicy(AbstractWatchCommand.OverflowPolicy watchOverflowPolicy) {
+        endpoint.getEndpointConfiguration().setWatchOverflowPolicy(watchOverflowPolicy);
+        return this;
+    }
 }
@@ -26,6 +26,11 @@ import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
 import java.util.concurrent.*;
 
 /**
+ * Watch command collects events from a watch on the Kubernetes API server. By default the first event is returned as command
+ * result and the watch gets closed afterwards. When buffer size is greater than one the watch stays open and events are buffered
+ * so subsequent results are taken from the same long-lived watch. Overflow policy decides which events to drop when the buffer is full.
+ * The close event of the watch is never dropped so consumers always learn that the watch has ended.
+ *
  * @author Christoph Deppisch
  * @since 2.7
  */
@@ -37,9 +42,18 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
     /** Timeout to wait for watch result */
     private long timeout = 5000L;
 
-    private BlockingQueue<WatchEventResult<R>> results = new ArrayBlockingQueue<>(1);
+    /** Maximum number of buffered watch events, endpoint default is used when not set */
+    private Integer bufferSize;
+
+    /** Policy for handling events when buffer is full, endpoint default is used when not set */
+    private OverflowPolicy overflowPolicy;
+
+    private BlockingQueue<WatchEventResult<R>> results;
     private WatchEventResult<R> cachedResult;
 
+    /** Watch closed either by client or by server */
+    private volatile boolean closed = false;
+
     /**
      * Default constructor initializing the command name.
      *
@@ -51,10 +65,14 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
 
     @Override
     public void execute(ClientNonNamespaceOperation operation, TestContext context) {
+        results = new ArrayBlockingQueue<>(Math.max(getEffectiveBufferSize(), 1));
+
         watch = (Watch) operation.watch(new Watcher<R>() {
             @Override
             public void eventReceived(Action action, R resource) {
-                if (results.isEmpty() && cachedResult == null) {
+                if (isBuffered()) {
+                    buffer(new WatchEventResult<>(resource, action), false);
+                } else if (results.isEmpty() && cachedResult == null) {
                     results.add(new WatchEventResult<>(resource, action));
                 } else {
                     log.debug("Ignoring watch result: " + action.name());
@@ -63,13 +81,40 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
 
             @Override
             public void onClose(KubernetesClientException cause) {
-                if (results.isEmpty()&& cachedResult == null) {
+                if (isBuffered()) {
+                    if (!closed) {
+                        buffer(new WatchEventResult<>(cause), true);
+                        closed = true;
+                    }
+                } else if (results.isEmpty()&& cachedResult == null) {
                     results.add(new WatchEventResult<>(cause));
                 }
             }
         });
     }
 
+    /**
+     * Adds watch event to the buffer applying the overflow policy when buffer is full. Mandatory events such as the close event
+     * always replace the oldest buffered event regardless of the overflow policy.
+     * @param result
+     * @param mandatory
+     */
+    private void buffer(WatchEventResult<R> result, boolean mandatory) {
+        synchronized (results) {
+            if (results.offer(result)) {
+                return;
+            }
+
+            if (mandatory || getOverflowPolicy() == OverflowPolicy.DROP_OLDEST) {
+                WatchEventResult<R> dropped = results.poll();
+                log.warn("Watch event buffer full - dropping oldest watch result" + (dropped != null && dropped.getAction() != null ? ": " + dropped.getAction().name() : ""));
+                results.offer(result);
+            } else {
+                log.warn("Watch event buffer full - ignoring watch result" + (result.getAction() != null ? ": " + result.getAction().name() : ""));
+            }
+        }
+    }
+
     @Override
     public WatchEventResult<R> getCommandResult() {
         if (cachedResult != null) {
@@ -79,13 +124,12 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
         try {
             WatchEventResult<R> watchEventResult = results.poll(timeout, TimeUnit.MILLISECONDS);
             if (watchEventResult == null) {
+                closeWatch();
                 throw new ActionTimeoutException("Failed to get watch result");
             }
 
-            try {
-                watch.close();
-            } catch (KubernetesClientException e) {
-                log.warn("Failed to gracefully close watch", e);
+            if (!isBuffered()) {
+                closeWatch();
             }
 
             watchEventResult.setWatch(watch);
@@ -96,6 +140,58 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
         }
     }
 
+    /**
+     * Advances to the next buffered watch event. Next call to {@link #getCommandResult()} takes the next event from the buffer.
+     * @return false if the watch is closed and no more events are buffered
+     */
+    public boolean nextResult() {
+        if (!hasMoreResults()) {
+            return false;
+        }
+
+        cachedResult = null;
+        return true;
+    }
+
+    /**
+     * Checks if more watch events can be consumed from this command either because events are buffered or the watch is still open.
+     * @return
+     */
+    public boolean hasMoreResults() {
+        return isBuffered() && results != null && (!closed || !results.isEmpty());
+    }
+
+    /**
+     * Closes the watch. Already buffered events can still be consumed.
+     */
+    public void closeWatch() {
+        if (watch != null && !closed) {
+            closed = true;
+
+            try {
+                watch.close();
+            } catch (KubernetesClientException e) {
+                log.warn("Failed to gracefully close watch", e);
+            }
+        }
+    }
+
+    /**
+     * Watch keeps running and buffers events when buffer size is greater than one.
+     * @return
+     */
+    private boolean isBuffered() {
+        return getEffectiveBufferSize() > 1;
+    }
+
+    /**
+     * Gets the buffer size falling back to a single event when not set.
+     * @return
+     */
+    private int getEffectiveBufferSize() {
+        return bufferSize != null ? bufferSize : 1;
+    }
+
     /**
      * Gets the watch handle.
      * @return
@@ -121,4 +217,51 @@ public abstract class AbstractWatchCommand<R extends KubernetesResource, T exten
     public long getTimeout() {
         return timeout;
     }
+
+    /**
+     * Sets the bufferSize.
+     *
+     * @param bufferSize
+     */
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Gets the bufferSize. Returns null when not explicitly set on this command.
+     *
+     * @return
+     */
+    public Integer getBufferSize() {
+        return bufferSize;
+    }
+
+    /**
+     * Sets the overflowPolicy.
+     *
+     * @param overflowPolicy
+     */
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Gets the overflowPolicy. Returns null when not explicitly set on this command.
+     *
+     * @return
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Policy for handling new watch events when event buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Keep buffered events and ignore the new event */
+        DROP_NEWEST,
+
+        /** Drop the oldest buffered event in favor of the new event */
+        DROP_OLDEST
+    }
 }
@@ -17,6 +17,7 @@
 package com.consol.citrus.kubernetes.config.annotation;
 
 import com.consol.citrus.annotations.CitrusEndpointConfig;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 
 import java.lang.annotation.*;
 
@@ -77,4 +78,16 @@ public @interface KubernetesClientConfig {
      */
     String objectMapper() default  "";
 
+    /**
+     * Watch event buffer size.
+     * @return
+     */
+    int watchBufferSize() default 1;
+
+    /**
+     * Watch event buffer overflow policy.
+     * @return
+     */
+    AbstractWatchCommand.OverflowPolicy watchOverflowPolicy() default AbstractWatchCommand.OverflowPolicy.DROP_NEWEST;
+
 }
@@ -74,6 +74,9 @@ public class KubernetesClientConfigParser extends AbstractAnnotationConfigParser
             builder.objectMapper(getReferenceResolver().resolve(annotation.objectMapper(), ObjectMapper.class));
         }
 
+        builder.watchBufferSize(annotation.watchBufferSize());
+        builder.watchOverflowPolicy(annotation.watchOverflowPolicy());
+
         return builder.build();
     }
 }
@@ -54,6 +54,8 @@ public class KubernetesClientParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("message-converter"), "messageConverter");
         BeanDefinitionParserUtils.setPropertyReference(endpointConfiguration, element.getAttribute("object-mapper"), "objectMapper");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("watch-buffer-size"), "watchBufferSize");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("watch-overflow-policy"), "watchOverflowPolicy");
     }
 
     @Override
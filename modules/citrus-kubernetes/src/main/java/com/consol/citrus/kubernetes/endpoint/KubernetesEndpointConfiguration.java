@@ -17,6 +17,7 @@
 package com.consol.citrus.kubernetes.endpoint;
 
 import com.consol.citrus.endpoint.AbstractPollableEndpointConfiguration;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.kubernetes.message.KubernetesMessageConverter;
 import com.consol.citrus.message.DefaultMessageCorrelator;
 import com.consol.citrus.message.MessageCorrelator;
@@ -44,6 +45,12 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     /** Kubernetes message converter */
     private KubernetesMessageConverter messageConverter = new KubernetesMessageConverter();
 
+    /** Number of buffered events per watch command, one closes the watch after the first event */
+    private int watchBufferSize = 1;
+
+    /** Handling of new watch events when event buffer is full */
+    private AbstractWatchCommand.OverflowPolicy watchOverflowPolicy = AbstractWatchCommand.OverflowPolicy.DROP_NEWEST;
+
     /**
      * Creates new Kubernetes client instance with configuration.
      * @return
@@ -140,4 +147,36 @@ public class KubernetesEndpointConfiguration extends AbstractPollableEndpointCon
     public void setObjectMapper(ObjectMapper objectMapper) {
         this.objectMapper = objectMapper;
     }
+
+    /**
+     * Gets the watch buffer size.
+     * @return
+     */
+    public int getWatchBufferSize() {
+        return watchBufferSize;
+    }
+
+    /**
+     * Sets the watch buffer size.
+     * @param watchBufferSize
+     */
+    public void setWatchBufferSize(int watchBufferSize) {
+        this.watchBufferSize = watchBufferSize;
+    }
+
+    /**
+     * Gets the watch overflow policy.
+     * @return
+     */
+    public AbstractWatchCommand.OverflowPolicy getWatchOverflowPolicy() {
+        return watchOverflowPolicy;
+    }
+
+    /**
+     * Sets the watch overflow policy.
+     * @param watchOverflowPolicy
+     */
+    public void setWatchOverflowPolicy(AbstractWatchCommand.OverflowPolicy watchOverflowPolicy) {
+        this.watchOverflowPolicy = watchOverflowPolicy;
+    }
 }
@@ -46,6 +46,16 @@ public class KubernetesMessageConverter implements MessageConverter<KubernetesCo
 
     @Override
     public void convertOutbound(KubernetesCommand<?> command, Message message, KubernetesEndpointConfiguration endpointConfiguration, TestContext context) {
+        if (command instanceof AbstractWatchCommand) {
+            AbstractWatchCommand<?, ?> watchCommand = (AbstractWatchCommand<?, ?>) command;
+            if (watchCommand.getBufferSize() == null) {
+                watchCommand.setBufferSize(endpointConfiguration.getWatchBufferSize());
+            }
+
+            if (watchCommand.getOverflowPolicy() == null) {
+                watchCommand.setOverflowPolicy(endpointConfiguration.getWatchOverflowPolicy());
+            }
+        }
     }
 
     @Override
@@ -70,7 +80,7 @@ public class KubernetesMessageConverter implements MessageConverter<KubernetesCo
                 response.setError(commandResult.getError().getMessage());
             }
 
-            if (commandResult instanceof WatchEventResult) {
+            if (commandResult instanceof WatchEventResult && ((WatchEventResult) commandResult).getAction() != null) {
                 response.setAction(((WatchEventResult) commandResult).getAction().name());
                 message.setHeader(KubernetesMessageHeaders.ACTION, ((WatchEventResult) commandResult).getAction().name());
             }
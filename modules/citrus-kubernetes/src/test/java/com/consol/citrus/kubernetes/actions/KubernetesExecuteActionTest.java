@@ -18,10 +18,13 @@ package com.consol.citrus.kubernetes.actions;
 
 import com.consol.citrus.kubernetes.client.KubernetesClient;
 import com.consol.citrus.kubernetes.command.ListPods;
+import com.consol.citrus.kubernetes.command.WatchPods;
 import com.consol.citrus.kubernetes.message.KubernetesMessageHeaders;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import io.fabric8.kubernetes.api.model.Pod;
 import io.fabric8.kubernetes.api.model.PodList;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
 import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
 import org.mockito.Mockito;
 import org.mockito.invocation.InvocationOnMock;
@@ -32,6 +35,7 @@ import org.testng.annotations.Test;
 
 import java.util.Map;
 
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyMap;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.verify;
@@ -73,6 +77,37 @@ public class KubernetesExecuteActionTest extends AbstractTestNGUnitTest {
         verify(clientOperation).inAnyNamespace();
     }
 
+    @Test
+    public void testWatchPodsClosesBufferedWatch() throws Exception {
+        final ClientMixedOperation clientOperation = Mockito.mock(ClientMixedOperation.class);
+        final Watch watch = Mockito.mock(Watch.class);
+
+        reset(kubernetesClient, clientOperation);
+
+        when(kubernetesClient.pods()).thenReturn(clientOperation);
+        when(clientOperation.inAnyNamespace()).thenReturn(clientOperation);
+        when(clientOperation.watch(any(Watcher.class))).thenAnswer(new Answer<Watch>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Watch answer(InvocationOnMock invocation) throws Throwable {
+                ((Watcher<Pod>) invocation.getArguments()[0]).eventReceived(Watcher.Action.ADDED, new Pod());
+                return watch;
+            }
+        });
+
+        WatchPods command = new WatchPods();
+        command.setBufferSize(5);
+
+        KubernetesExecuteAction action = new KubernetesExecuteAction();
+        action.setCommand(command);
+        action.setKubernetesClient(client);
+
+        action.execute(context);
+
+        Assert.assertEquals(command.getCommandResult().getAction(), Watcher.Action.ADDED);
+        verify(watch).close();
+    }
+
     @Test
     public void testListPodsInNamespace() throws Exception {
         final ClientMixedOperation clientOperation = Mockito.mock(ClientMixedOperation.class);
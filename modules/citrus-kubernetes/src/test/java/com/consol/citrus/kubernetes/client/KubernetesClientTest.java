@@ -0,0 +1,108 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.kubernetes.client;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.kubernetes.command.WatchPods;
+import com.consol.citrus.kubernetes.message.KubernetesMessageHeaders;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.Watch;
+import io.fabric8.kubernetes.client.Watcher;
+import io.fabric8.kubernetes.client.dsl.ClientMixedOperation;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class KubernetesClientTest extends AbstractTestNGUnitTest {
+
+    private io.fabric8.kubernetes.client.KubernetesClient kubernetesClient = mock(io.fabric8.kubernetes.client.KubernetesClient.class);
+    private ClientMixedOperation operation = mock(ClientMixedOperation.class);
+    private Watch watch = mock(Watch.class);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCloseBufferedWatchOnDestroy() {
+        KubernetesClient client = new KubernetesClient();
+        client.getEndpointConfiguration().setKubernetesClient(kubernetesClient);
+        client.getEndpointConfiguration().setWatchBufferSize(5);
+
+        reset(kubernetesClient, operation, watch);
+        ArgumentCaptor<Watcher> watcher = ArgumentCaptor.forClass(Watcher.class);
+        when(kubernetesClient.pods()).thenReturn(operation);
+        when(operation.inAnyNamespace()).thenReturn(operation);
+        when(operation.watch(watcher.capture())).thenReturn(watch);
+
+        client.send(new DefaultMessage(new WatchPods()), context);
+        watcher.getValue().eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.getValue().eventReceived(Watcher.Action.MODIFIED, pod("pod-1"));
+
+        Message response = client.receive(context);
+        Assert.assertEquals(response.getHeader(KubernetesMessageHeaders.ACTION), Watcher.Action.ADDED.name());
+        verify(watch, never()).close();
+
+        client.destroy();
+        verify(watch).close();
+
+        try {
+            client.receive(context, 100L);
+            Assert.fail("Missing exception due to closed watch");
+        } catch (ActionTimeoutException e) {
+            Assert.assertTrue(e.getMessage().contains("Action timeout"));
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testCommandBufferSizeOverridesEndpointDefault() {
+        KubernetesClient client = new KubernetesClient();
+        client.getEndpointConfiguration().setKubernetesClient(kubernetesClient);
+
+        reset(kubernetesClient, operation, watch);
+        ArgumentCaptor<Watcher> watcher = ArgumentCaptor.forClass(Watcher.class);
+        when(kubernetesClient.pods()).thenReturn(operation);
+        when(operation.inAnyNamespace()).thenReturn(operation);
+        when(operation.watch(watcher.capture())).thenReturn(watch);
+
+        WatchPods command = new WatchPods();
+        command.setBufferSize(2);
+        client.send(new DefaultMessage(command), context);
+        Assert.assertEquals(command.getBufferSize(), Integer.valueOf(2));
+        Assert.assertEquals(command.getOverflowPolicy(), client.getEndpointConfiguration().getWatchOverflowPolicy());
+
+        watcher.getValue().eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        client.receive(context);
+        verify(watch, never()).close();
+
+        client.destroy();
+        verify(watch).close();
+    }
+
+    private Pod pod(String name) {
+        return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.kubernetes.command;
+
+import com.consol.citrus.exceptions.ActionTimeoutException;
+import com.consol.citrus.testng.AbstractTestNGUnitTest;
+import io.fabric8.kubernetes.api.model.Pod;
+import io.fabric8.kubernetes.api.model.PodBuilder;
+import io.fabric8.kubernetes.client.*;
+import io.fabric8.kubernetes.client.dsl.ClientNonNamespaceOperation;
+import org.mockito.ArgumentCaptor;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class WatchPodsTest extends AbstractTestNGUnitTest {
+
+    private ClientNonNamespaceOperation operation = mock(ClientNonNamespaceOperation.class);
+    private Watch watch = mock(Watch.class);
+
+    @Test
+    public void testSingleResult() {
+        WatchPods command = new WatchPods();
+        Watcher<Pod> watcher = watch(command);
+
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, pod("pod-1"));
+
+        WatchEventResult<Pod> result = command.getCommandResult();
+        Assert.assertEquals(result.getAction(), Watcher.Action.ADDED);
+        Assert.assertEquals(result.getResult().getMetadata().getName(), "pod-1");
+        Assert.assertSame(command.getCommandResult(), result);
+
+        Assert.assertFalse(command.hasMoreResults());
+        Assert.assertFalse(command.nextResult());
+        verify(watch).close();
+    }
+
+    @Test
+    public void testBufferedResults() {
+        WatchPods command = new WatchPods();
+        command.setBufferSize(5);
+        Watcher<Pod> watcher = watch(command);
+
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.MODIFIED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.DELETED, pod("pod-1"));
+
+        Assert.assertEquals(command.getCommandResult().getAction(), Watcher.Action.ADDED);
+        Assert.assertTrue(command.nextResult());
+        Assert.assertEquals(command.getCommandResult().getAction(), Watcher.Action.MODIFIED);
+        Assert.assertTrue(command.nextResult());
+        Assert.assertEquals(command.getCommandResult().getAction(), Watcher.Action.DELETED);
+        verify(watch, never()).close();
+
+        watcher.onClose(new KubernetesClientException("Watch closed"));
+        Assert.assertTrue(command.nextResult());
+        Assert.assertTrue(command.getCommandResult().hasError());
+        Assert.assertFalse(command.nextResult());
+    }
+
+    @Test
+    public void testOverflowDropNewest() {
+        WatchPods command = new WatchPods();
+        command.setBufferSize(2);
+        Watcher<Pod> watcher = watch(command);
+
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-2"));
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-3"));
+
+        Assert.assertEquals(command.getCommandResult().getResult().getMetadata().getName(), "pod-1");
+        Assert.assertTrue(command.nextResult());
+        Assert.assertEquals(command.getCommandResult().getResult().getMetadata().getName(), "pod-2");
+
+        command.closeWatch();
+        verify(watch).close();
+        Assert.assertFalse(command.nextResult());
+    }
+
+    @Test
+    public void testCloseEventNotDropped() {
+        WatchPods command = new WatchPods();
+        command.setBufferSize(2);
+        Watcher<Pod> watcher = watch(command);
+
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-2"));
+        watcher.onClose(new KubernetesClientException("Watch closed"));
+
+        Assert.assertEquals(command.getCommandResult().getResult().getMetadata().getName(), "pod-2");
+        Assert.assertTrue(command.nextResult());
+        Assert.assertTrue(command.getCommandResult().hasError());
+        Assert.assertFalse(command.nextResult());
+    }
+
+    @Test
+    public void testOverflowDropOldest() {
+        WatchPods command = new WatchPods();
+        command.setBufferSize(2);
+        command.setOverflowPolicy(AbstractWatchCommand.OverflowPolicy.DROP_OLDEST);
+        Watcher<Pod> watcher = watch(command);
+
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-1"));
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-2"));
+        watcher.eventReceived(Watcher.Action.ADDED, pod("pod-3"));
+
+        Assert.assertEquals(command.getCommandResult().getResult().getMetadata().getName(), "pod-2");
+        Assert.assertTrue(command.nextResult());
+        Assert.assertEquals(command.getCommandResult().getResult().getMetadata().getName(), "pod-3");
+    }
+
+    @Test(expectedExceptions = ActionTimeoutException.class)
+    public void testTimeout() {
+        WatchPods command = new WatchPods();
+        command.setBufferSize(2);
+        command.setTimeout(100L);
+        watch(command);
+
+        try {
+            command.getCommandResult();
+        } finally {
+            verify(watch).close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Watcher<Pod> watch(WatchPods command) {
+        reset(operation, watch);
+        ArgumentCaptor<Watcher> watcher = ArgumentCaptor.forClass(Watcher.class);
+        when(operation.watch(watcher.capture())).thenReturn(watch);
+
+        command.execute(operation, context);
+        return watcher.getValue();
+    }
+
+    private Pod pod(String name) {
+        return new PodBuilder().withNewMetadata().withName(name).endMetadata().build();
+    }
+}
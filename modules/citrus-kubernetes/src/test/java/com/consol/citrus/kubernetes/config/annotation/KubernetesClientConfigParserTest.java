@@ -20,6 +20,7 @@ import com.consol.citrus.annotations.CitrusAnnotations;
 import com.consol.citrus.annotations.CitrusEndpoint;
 import com.consol.citrus.context.SpringBeanReferenceResolver;
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.kubernetes.message.KubernetesMessageConverter;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -48,7 +49,9 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
             password="s!cr!t",
             namespace="user_namespace",
             messageConverter="messageConverter",
-            objectMapper="objectMapper")
+            objectMapper="objectMapper",
+            watchBufferSize=10,
+            watchOverflowPolicy=AbstractWatchCommand.OverflowPolicy.DROP_OLDEST)
     private KubernetesClient client2;
 
     @Mock
@@ -76,6 +79,8 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
 
         // 1st client
         Assert.assertNotNull(client1.getClient());
+        Assert.assertEquals(client1.getEndpointConfiguration().getWatchBufferSize(), 1);
+        Assert.assertEquals(client1.getEndpointConfiguration().getWatchOverflowPolicy(), AbstractWatchCommand.OverflowPolicy.DROP_NEWEST);
 
         // 2nd client
         Assert.assertNotNull(client2.getClient());
@@ -86,5 +91,7 @@ public class KubernetesClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(client2.getEndpointConfiguration().getKubernetesClientConfig().getNamespace(), "user_namespace");
         Assert.assertEquals(client2.getEndpointConfiguration().getMessageConverter(), messageConverter);
         Assert.assertEquals(client2.getEndpointConfiguration().getObjectMapper(), objectMapper);
+        Assert.assertEquals(client2.getEndpointConfiguration().getWatchBufferSize(), 10);
+        Assert.assertEquals(client2.getEndpointConfiguration().getWatchOverflowPolicy(), AbstractWatchCommand.OverflowPolicy.DROP_OLDEST);
     }
 }
@@ -17,6 +17,7 @@
 package com.consol.citrus.kubernetes.config.xml;
 
 import com.consol.citrus.kubernetes.client.KubernetesClient;
+import com.consol.citrus.kubernetes.command.AbstractWatchCommand;
 import com.consol.citrus.message.MessageConverter;
 import com.consol.citrus.testng.AbstractBeanDefinitionParserTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -39,6 +40,8 @@ public class KubernetesClientParserTest extends AbstractBeanDefinitionParserTest
         // 1st client
         KubernetesClient client = clients.get("k8sClient1");
         Assert.assertNotNull(client.getClient());
+        Assert.assertEquals(client.getEndpointConfiguration().getWatchBufferSize(), 1);
+        Assert.assertEquals(client.getEndpointConfiguration().getWatchOverflowPolicy(), AbstractWatchCommand.OverflowPolicy.DROP_NEWEST);
 
         // 2nd client
         client = clients.get("k8sClient2");
@@ -50,6 +53,8 @@ public class KubernetesClientParserTest extends AbstractBeanDefinitionParserTest
         Assert.assertEquals(client.getEndpointConfiguration().getKubernetesClientConfig().getNamespace(), "user_namespace");
         Assert.assertEquals(client.getEndpointConfiguration().getMessageConverter(), beanDefinitionContext.getBean("messageConverter", MessageConverter.class));
         Assert.assertEquals(client.getEndpointConfiguration().getObjectMapper(), beanDefinitionContext.getBean("objectMapper", ObjectMapper.class));
+        Assert.assertEquals(client.getEndpointConfiguration().getWatchBufferSize(), 10);
+        Assert.assertEquals(client.getEndpointConfiguration().getWatchOverflowPolicy(), AbstractWatchCommand.OverflowPolicy.DROP_OLDEST);
 
     }
 }
@@ -26,9 +26,9 @@ import com.consol.citrus.message.correlation.CorrelationManager;
 import com.consol.citrus.message.correlation.PollingCorrelationManager;
 import com.consol.citrus.messaging.*;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
+import com.consol.citrus.rmi.message.RmiMessage;
 import com.consol.citrus.rmi.message.RmiMessageHeaders;
-import com.consol.citrus.rmi.model.RmiServiceInvocation;
-import com.consol.citrus.rmi.model.RmiServiceResult;
+import com.consol.citrus.rmi.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.*;
@@ -37,7 +37,8 @@ import org.springframework.xml.transform.StringResult;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.rmi.*;
-import java.rmi.registry.Registry;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * @author Christoph Deppisch
@@ -51,6 +52,12 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
+    /** Cached remote target stubs by binding name */
+    private final Map<String, Remote> stubs = new ConcurrentHashMap<>();
+
+    /** Cached remote target methods by target type, method name and argument types */
+    private final Map<String, Method> methods = new ConcurrentHashMap<>();
+
     /**
      * Default constructor initializing endpoint configuration.
      */
@@ -81,32 +88,8 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         String binding = message.getHeader(RmiMessageHeaders.RMI_BINDING) != null ? message.getHeader(RmiMessageHeaders.RMI_BINDING).toString() : getEndpointConfiguration().getBinding();
         try {
             RmiServiceInvocation invocation = getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
-            Registry registry = getEndpointConfiguration().getRegistry();
-            final Remote remoteTarget = registry.lookup(binding);
-
-            final Method[] method = new Method[1];
-            if (StringUtils.hasText(invocation.getMethod())) {
-                method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
-            } else {
-                ReflectionUtils.doWithMethods(remoteTarget.getClass(), new ReflectionUtils.MethodCallback() {
-                    @Override
-                    public void doWith(Method declaredMethod) throws IllegalArgumentException, IllegalAccessException {
-                        if (method[0] == null) {
-                            method[0] = declaredMethod;
-                        }
-                    }
-                }, new ReflectionUtils.MethodFilter() {
-                    @Override
-                    public boolean matches(Method declaredMethod) {
-                        return CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
-                                declaredMethod.getDeclaringClass().equals(remoteTarget.getClass());
-                    }
-                });
-            }
-
-            if (method[0] == null) {
-                throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
-            }
+            Remote remoteTarget = getRemoteTarget(binding);
+            Method method = getMethod(remoteTarget, invocation);
 
             if (log.isDebugEnabled()) {
                 log.debug("Sending message to RMI server: '" + binding + "'");
@@ -114,19 +97,45 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
             }
             context.onOutboundMessage(message);
 
-            Object result = method[0].invoke(remoteTarget, invocation.getArgValues(context.getApplicationContext()));
-            RmiServiceResult serviceResult = new RmiServiceResult();
+            Object[] args = invocation.getArgValues(context.getApplicationContext());
+            Object result;
+            try {
+                result = method.invoke(remoteTarget, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof NoSuchObjectException)) {
+                    if (e.getCause() instanceof RemoteException) {
+                        stubs.remove(binding);
+                    }
+
+                    throw e;
+                }
 
-            if (result != null) {
-                RmiServiceResult.Object serviceResultObject = new RmiServiceResult.Object();
-                serviceResultObject.setType(result.getClass().getName());
-                serviceResultObject.setValueObject(result);
-                serviceResult.setObject(serviceResultObject);
+                // cached stub refers to an unexported remote object - lookup binding again and retry once
+                log.warn("Remote object for binding '" + binding + "' no longer exists - looking up binding again");
+                stubs.remove(binding);
+                remoteTarget = getRemoteTarget(binding);
+                result = getMethod(remoteTarget, invocation).invoke(remoteTarget, args);
+            }
+
+            Message response;
+            if (getEndpointConfiguration().isMarshalResult()) {
+                RmiServiceResult serviceResult = new RmiServiceResult();
+
+                if (result != null) {
+                    RmiServiceResult.Object serviceResultObject = new RmiServiceResult.Object();
+                    serviceResultObject.setType(result.getClass().getName());
+                    serviceResultObject.setValueObject(result);
+                    serviceResult.setObject(serviceResultObject);
+                }
+
+                StringResult payload = new StringResult();
+                getEndpointConfiguration().getMarshaller().marshal(serviceResult, payload);
+                response = new DefaultMessage(payload.toString());
+            } else {
+                response = (result != null ? RmiMessage.result(result) : RmiMessage.result())
+                        .marshaller(getEndpointConfiguration().getMarshaller());
             }
 
-            StringResult payload = new StringResult();
-            getEndpointConfiguration().getMarshaller().marshal(serviceResult, payload);
-            Message response = new DefaultMessage(payload.toString());
             correlationManager.store(correlationKey, response);
 
             log.info("Message was sent to RMI server: '" + binding + "'");
@@ -146,6 +155,77 @@ public class RmiClient extends AbstractEndpoint implements Producer, ReplyConsum
         log.info("Message was sent to RMI server: '" + binding + "'");
     }
 
+    /**
+     * Gets remote target stub for binding. Stubs are looked up in the registry once and cached
+     * for subsequent invocations.
+     * @param binding
+     * @return
+     * @throws RemoteException
+     * @throws NotBoundException
+     */
+    private Remote getRemoteTarget(String binding) throws RemoteException, NotBoundException {
+        Remote remoteTarget = stubs.get(binding);
+
+        if (remoteTarget == null) {
+            remoteTarget = getEndpointConfiguration().getRegistry().lookup(binding);
+            stubs.put(binding, remoteTarget);
+        }
+
+        return remoteTarget;
+    }
+
+    /**
+     * Resolves service method on remote target. Resolved methods are cached by remote target type, method name and
+     * argument types so reflective lookup is done only once.
+     * @param remoteTarget
+     * @param invocation
+     * @return
+     */
+    private Method getMethod(final Remote remoteTarget, RmiServiceInvocation invocation) {
+        StringBuilder methodKey = new StringBuilder(remoteTarget.getClass().getName()).append('#');
+        if (StringUtils.hasText(invocation.getMethod())) {
+            methodKey.append(invocation.getMethod()).append('(');
+            if (invocation.getArgs() != null) {
+                for (MethodArg arg : invocation.getArgs().getArgs()) {
+                    methodKey.append(arg.getType()).append(',');
+                }
+            }
+            methodKey.append(')');
+        }
+
+        Method cached = methods.get(methodKey.toString());
+        if (cached != null) {
+            return cached;
+        }
+
+        final Method[] method = new Method[1];
+        if (StringUtils.hasText(invocation.getMethod())) {
+            method[0] = ReflectionUtils.findMethod(remoteTarget.getClass(), invocation.getMethod(), invocation.getArgTypes());
+        } else {
+            ReflectionUtils.doWithMethods(remoteTarget.getClass(), new ReflectionUtils.MethodCallback() {
+                @Override
+                public void doWith(Method declaredMethod) throws IllegalArgumentException, IllegalAccessException {
+                    if (method[0] == null) {
+                        method[0] = declaredMethod;
+                    }
+                }
+            }, new ReflectionUtils.MethodFilter() {
+                @Override
+                public boolean matches(Method declaredMethod) {
+                    return CollectionUtils.arrayToList(declaredMethod.getExceptionTypes()).contains(RemoteException.class) &&
+                            declaredMethod.getDeclaringClass().equals(remoteTarget.getClass());
+                }
+            });
+        }
+
+        if (method[0] == null) {
+            throw new CitrusRuntimeException("Unable to find proper method declaration on remote target object");
+        }
+
+        methods.put(methodKey.toString(), method[0]);
+        return method[0];
+    }
+
     @Override
     public Message receive(TestContext context) {
         return receive(correlationManager.getCorrelationKey(
@@ -123,4 +123,14 @@ public class RmiClientBuilder extends AbstractEndpointBuilder<RmiClient> {
         endpoint.getEndpointConfiguration().setTimeout(timeout);
         return this;
     }
+
+    /**
+     * Sets the marshal result property.
+     * @param marshalResult
+     * @return
+     */
+    public RmiClientBuilder marshalResult(boolean marshalResult) {
+        endpoint.getEndpointConfiguration().setMarshalResult(marshalResult);
+        return this;
+    }
 }
@@ -84,6 +84,12 @@ public @interface RmiClientConfig {
      */
     long timeout() default 5000L;
 
+    /**
+     * Marshal service results to XML.
+     * @return
+     */
+    boolean marshalResult() default true;
+
     /**
      * Test actor.
      * @return
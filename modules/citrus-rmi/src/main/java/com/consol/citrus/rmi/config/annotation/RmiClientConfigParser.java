@@ -73,6 +73,8 @@ public class RmiClientConfigParser extends AbstractAnnotationConfigParser<RmiCli
 
         builder.timeout(annotation.timeout());
 
+        builder.marshalResult(annotation.marshalResult());
+
         if (StringUtils.hasText(annotation.actor())) {
             builder.actor(getReferenceResolver().resolve(annotation.actor(), TestActor.class));
         }
@@ -39,6 +39,7 @@ public class RmiClientParser extends AbstractEndpointParser {
 
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("server-url"), "serverUrl");
         BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("method"), "method");
+        BeanDefinitionParserUtils.setPropertyValue(endpointConfiguration, element.getAttribute("marshal-result"), "marshalResult");
     }
 
     @Override
@@ -55,6 +55,9 @@ public class RmiEndpointConfiguration extends AbstractPollableEndpointConfigurat
     /** Marshaller converts from XML to RMI model objects */
     private RmiMarshaller marshaller = new RmiMarshaller();
 
+    /** Should client marshal service results to XML right away */
+    private boolean marshalResult = true;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -158,4 +161,12 @@ public class RmiEndpointConfiguration extends AbstractPollableEndpointConfigurat
     public void setMarshaller(RmiMarshaller marshaller) {
         this.marshaller = marshaller;
     }
+
+    public boolean isMarshalResult() {
+        return marshalResult;
+    }
+
+    public void setMarshalResult(boolean marshalResult) {
+        this.marshalResult = marshalResult;
+    }
 }
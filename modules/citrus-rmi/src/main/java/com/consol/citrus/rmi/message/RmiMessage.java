@@ -33,7 +33,11 @@ public class RmiMessage extends DefaultMessage {
     private RmiServiceInvocation serviceInvocation;
     private RmiServiceResult serviceResult;
 
-    private RmiMarshaller marshaller = new RmiMarshaller();
+    /** Marshaller lazily created on first access to the XML payload unless set explicitly */
+    private RmiMarshaller marshaller;
+
+    /** Marshalled XML payload, reset when model objects change */
+    private String marshalledPayload;
 
     /**
      * Prevent traditional instantiation.
@@ -103,6 +107,7 @@ public class RmiMessage extends DefaultMessage {
         methodArg.setValueObject(arg);
         methodArg.setType(argType.getName());
         serviceInvocation.getArgs().getArgs().add(methodArg);
+        marshalledPayload = null;
         return this;
     }
 
@@ -112,15 +117,30 @@ public class RmiMessage extends DefaultMessage {
         }
 
         serviceResult.setException(message);
+        marshalledPayload = null;
 
         return this;
     }
 
+    /**
+     * Sets the marshaller used to create the XML payload, usually the marshaller of the endpoint configuration.
+     * @param marshaller
+     * @return
+     */
+    public RmiMessage marshaller(RmiMarshaller marshaller) {
+        this.marshaller = marshaller;
+        marshalledPayload = null;
+        return this;
+    }
+
     @Override
     public <T> T getPayload(Class<T> type) {
         if (RmiServiceInvocation.class.equals(type) && serviceInvocation != null) {
+            // model object may get modified by caller
+            marshalledPayload = null;
             return (T) serviceInvocation;
         } else if (RmiServiceResult.class.equals(type) && serviceResult != null) {
+            marshalledPayload = null;
             return (T) serviceResult;
         } else if (String.class.equals(type)) {
             return (T) getPayload();
@@ -131,15 +151,28 @@ public class RmiMessage extends DefaultMessage {
 
     @Override
     public Object getPayload() {
-        StringResult payloadResult = new StringResult();
-        if (serviceInvocation != null) {
-            marshaller.marshal(serviceInvocation, payloadResult);
-            return payloadResult.toString();
-        } else if (serviceResult != null) {
-            marshaller.marshal(serviceResult, payloadResult);
-            return payloadResult.toString();
+        if (serviceInvocation == null && serviceResult == null) {
+            return super.getPayload();
+        }
+
+        if (marshalledPayload == null) {
+            StringResult payloadResult = new StringResult();
+            getMarshaller().marshal(serviceInvocation != null ? serviceInvocation : serviceResult, payloadResult);
+            marshalledPayload = payloadResult.toString();
+        }
+
+        return marshalledPayload;
+    }
+
+    /**
+     * Gets the marshaller and creates it on first access.
+     * @return
+     */
+    private RmiMarshaller getMarshaller() {
+        if (marshaller == null) {
+            marshaller = new RmiMarshaller();
         }
 
-        return super.getPayload();
+        return marshaller;
     }
 }
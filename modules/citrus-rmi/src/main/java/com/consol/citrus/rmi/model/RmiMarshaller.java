@@ -16,30 +16,16 @@
 
 package com.consol.citrus.rmi.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.5
  */
-public class RmiMarshaller extends Jaxb2Marshaller {
-
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(RmiMarshaller.class);
+public class RmiMarshaller extends PooledJaxb2Marshaller {
 
     public RmiMarshaller() {
-        setClassesToBeBound(RmiServiceInvocation.class,
-                            RmiServiceResult.class);
-
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-rmi-message.xsd"));
-
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup rmi message marshaller", e);
-        }
+        super(new ClassPathResource("com/consol/citrus/schema/citrus-rmi-message.xsd"), RmiServiceInvocation.class, RmiServiceResult.class);
     }
 }
@@ -20,6 +20,8 @@ import com.consol.citrus.message.Message;
 import com.consol.citrus.message.MessageCorrelator;
 import com.consol.citrus.rmi.endpoint.RmiEndpointConfiguration;
 import com.consol.citrus.rmi.message.RmiMessage;
+import com.consol.citrus.rmi.model.RmiServiceInvocation;
+import com.consol.citrus.rmi.model.RmiServiceResult;
 import com.consol.citrus.rmi.remote.HelloService;
 import com.consol.citrus.testng.AbstractTestNGUnitTest;
 import org.mockito.Mockito;
@@ -30,6 +32,7 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.InputStreamReader;
+import java.rmi.NoSuchObjectException;
 import java.rmi.registry.Registry;
 
 import static org.mockito.Mockito.*;
@@ -133,4 +136,98 @@ public class RmiClientTest extends AbstractTestNGUnitTest {
                 StringUtils.trimAllWhitespace(responseBody));
     }
 
+    @Test
+    public void testCachedRemoteTarget() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(100);
+
+        for (int i = 0; i < 3; i++) {
+            rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+            rmiClient.receive(context, endpointConfiguration.getTimeout());
+        }
+
+        verify(registry, times(1)).lookup(binding);
+        verify(remoteInterface, times(3)).getHelloCount();
+    }
+
+    @Test
+    public void testStaleRemoteTarget() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        final String responseBody = FileCopyUtils.copyToString(new InputStreamReader(new ClassPathResource("service-result.xml",
+                RmiClient.class).getInputStream()));
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        HelloService staleRemoteInterface = Mockito.mock(HelloService.class);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(staleRemoteInterface).thenReturn(remoteInterface);
+        when(staleRemoteInterface.getHelloCount()).thenThrow(new NoSuchObjectException("no such object in table"));
+        when(remoteInterface.getHelloCount()).thenReturn(100);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+
+        Message responseMessage = rmiClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertEquals(StringUtils.trimAllWhitespace(responseMessage.getPayload(String.class)),
+                StringUtils.trimAllWhitespace(responseBody));
+
+        verify(registry, times(2)).lookup(binding);
+    }
+
+    @Test
+    public void testSkipResultMarshalling() throws Exception {
+        RmiEndpointConfiguration endpointConfiguration = new RmiEndpointConfiguration();
+        endpointConfiguration.setMarshalResult(false);
+        RmiClient rmiClient = new RmiClient(endpointConfiguration);
+        String binding = "helloService";
+
+        final String responseBody = FileCopyUtils.copyToString(new InputStreamReader(new ClassPathResource("service-result.xml",
+                RmiClient.class).getInputStream()));
+
+        endpointConfiguration.setBinding(binding);
+        endpointConfiguration.setRegistry(registry);
+
+        reset(registry, remoteInterface);
+
+        when(registry.lookup(binding)).thenReturn(remoteInterface);
+        when(remoteInterface.getHelloCount()).thenReturn(100);
+
+        rmiClient.send(RmiMessage.invocation("getHelloCount"), context);
+
+        Message responseMessage = rmiClient.receive(context, endpointConfiguration.getTimeout());
+        Assert.assertTrue(responseMessage instanceof RmiMessage);
+        Assert.assertEquals(responseMessage.getPayload(RmiServiceResult.class).getResultObject(null), 100);
+        Assert.assertEquals(StringUtils.trimAllWhitespace(responseMessage.getPayload(String.class)),
+                StringUtils.trimAllWhitespace(responseBody));
+        Assert.assertSame(responseMessage.getPayload(), responseMessage.getPayload());
+    }
+
+    @Test
+    public void testMessagePayloadCache() throws Exception {
+        RmiMessage message = RmiMessage.invocation("sayHello").marshaller(new RmiEndpointConfiguration().getMarshaller());
+
+        String payload = message.getPayload(String.class);
+        Assert.assertSame(message.getPayload(String.class), payload);
+        Assert.assertFalse(payload.contains("Christoph"));
+
+        message.argument("Christoph");
+        Assert.assertTrue(message.getPayload(String.class).contains("Christoph"));
+
+        message.getPayload(RmiServiceInvocation.class).setMethod("sayGoodbye");
+        Assert.assertTrue(message.getPayload(String.class).contains("sayGoodbye"));
+    }
 }
@@ -51,6 +51,7 @@ public class RmiClientConfigParserTest extends AbstractTestNGUnitTest {
             binding="newsService",
             method="getNews",
             timeout=10000L,
+            marshalResult=false,
             messageConverter="messageConverter",
             correlator="messageCorrelator")
     private RmiClient rmiClient2;
@@ -94,6 +95,7 @@ public class RmiClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(rmiClient1.getEndpointConfiguration().getBinding(), "helloService");
         Assert.assertEquals(rmiClient1.getEndpointConfiguration().getMethod(), "sayHello");
         Assert.assertEquals(rmiClient1.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertTrue(rmiClient1.getEndpointConfiguration().isMarshalResult());
 
         // 2nd client
         Assert.assertEquals(rmiClient2.getEndpointConfiguration().getMessageConverter(), messageConverter);
@@ -102,6 +104,7 @@ public class RmiClientConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(rmiClient2.getEndpointConfiguration().getBinding(), "newsService");
         Assert.assertEquals(rmiClient2.getEndpointConfiguration().getMethod(), "getNews");
         Assert.assertEquals(rmiClient2.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertFalse(rmiClient2.getEndpointConfiguration().isMarshalResult());
 
         // 3rd client
         Assert.assertNotNull(rmiClient3.getActor());
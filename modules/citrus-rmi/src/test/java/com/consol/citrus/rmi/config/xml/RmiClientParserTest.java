@@ -45,6 +45,7 @@ public class RmiClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getBinding(), "helloService");
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getMethod(), "sayHello");
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getTimeout(), 5000L);
+        Assert.assertTrue(rmiClient.getEndpointConfiguration().isMarshalResult());
 
         // 2nd client
         rmiClient = endpoints.get("rmiClient2");
@@ -54,6 +55,7 @@ public class RmiClientParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getBinding(), "newsService");
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getMethod(), "getNews");
         Assert.assertEquals(rmiClient.getEndpointConfiguration().getTimeout(), 10000L);
+        Assert.assertFalse(rmiClient.getEndpointConfiguration().isMarshalResult());
 
         // 3rd client
         rmiClient = endpoints.get("rmiClient3");
@@ -17,8 +17,10 @@
 package com.consol.citrus.ssh;
 
 import com.consol.citrus.endpoint.EndpointAdapter;
+import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.ssh.client.SshEndpointConfiguration;
+import com.consol.citrus.ssh.message.SshMessageHeaders;
 import com.consol.citrus.ssh.model.SshRequest;
 import com.consol.citrus.ssh.model.SshResponse;
 import com.consol.citrus.util.FileUtils;
@@ -28,8 +30,12 @@ import org.apache.sshd.server.ExitCallback;
 import org.apache.sshd.server.command.Command;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.util.StreamUtils;
 
 import java.io.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * A command for delegation to a endpoint adapter
@@ -51,6 +57,12 @@ public class SshCommand implements Command, Runnable {
     /** Command to execute **/
     private final String command;
 
+    /** Optional executor running the command, if not set a new thread is created for each command **/
+    private final Executor executor;
+
+    /** Pass standard input and output as streams to and from the endpoint adapter **/
+    private final boolean streaming;
+
     /** standard input/output/error streams; **/
     private InputStream stdin;
     private OutputStream stdout, stderr;
@@ -68,19 +80,49 @@ public class SshCommand implements Command, Runnable {
      * @param endpointConfiguration
      */
     public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration) {
+        this(command, endpointAdapter, endpointConfiguration, null, false);
+    }
+
+    /**
+     * Constructor taking a command, the endpoint adapter and the executor running the command as arguments. In streaming mode the endpoint adapter
+     * receives the standard input stream as message payload and the command and user as message headers. Response payloads of type
+     * input stream, byte array or resource are written to standard output without buffering.
+     * @param command command performed
+     * @param endpointAdapter endpoint adapter
+     * @param endpointConfiguration
+     * @param executor executor running the command
+     * @param streaming
+     */
+    public SshCommand(String command, EndpointAdapter endpointAdapter, SshEndpointConfiguration endpointConfiguration, Executor executor, boolean streaming) {
         this.endpointAdapter = endpointAdapter;
         this.command = command;
         this.endpointConfiguration = endpointConfiguration;
+        this.executor = executor;
+        this.streaming = streaming;
     }
 
     @Override
     public void start(Environment env) throws IOException {
         user = env.getEnv().get(Environment.ENV_USER);
-        new Thread(this, "CitrusSshCommand: " + command).start();
+
+        if (executor == null) {
+            new Thread(this, "CitrusSshCommand: " + command).start();
+        } else {
+            try {
+                executor.execute(this);
+            } catch (RejectedExecutionException e) {
+                throw new IOException("Unable to execute command '" + command + "' - too many pending commands", e);
+            }
+        }
     }
 
     @Override
     public void run() {
+        if (streaming) {
+            runStreaming();
+            return;
+        }
+
         try {
             String input = FileUtils.readToString(stdin);
             SshRequest sshRequest = new SshRequest(command, input);
@@ -101,6 +143,64 @@ public class SshCommand implements Command, Runnable {
         }
     }
 
+    /**
+     * Runs command passing standard input as stream to the endpoint adapter. Standard input is drained after the endpoint adapter has
+     * handled the request so the client is able to finish writing.
+     */
+    private void runStreaming() {
+        try {
+            Message request = new DefaultMessage(stdin)
+                    .setHeader(SshMessageHeaders.SSH_COMMAND, command)
+                    .setHeader("user", user);
+
+            Message response = endpointAdapter.handleMessage(request);
+            StreamUtils.drain(stdin);
+
+            exitCallback.onExit(writeResponse(response));
+        } catch (IOException exp) {
+            exitCallback.onExit(1, exp.getMessage());
+        } finally {
+            IoUtils.closeQuietly(stderr);
+            IoUtils.closeQuietly(stdout);
+        }
+    }
+
+    /**
+     * Writes response message to standard output and error. Stream, byte array and resource payloads are copied to standard output
+     * as is with exit code taken from message header. All other payloads are converted to a ssh response.
+     * @param response
+     * @return the exit code
+     * @throws IOException
+     */
+    private int writeResponse(Message response) throws IOException {
+        if (response == null || response.getPayload() == null) {
+            return 0;
+        }
+
+        Object payload = response.getPayload();
+        if (payload instanceof InputStream || payload instanceof byte[] || payload instanceof Resource) {
+            if (payload instanceof InputStream) {
+                try (InputStream is = (InputStream) payload) {
+                    StreamUtils.copy(is, stdout);
+                }
+            } else if (payload instanceof byte[]) {
+                stdout.write((byte[]) payload);
+            } else {
+                try (InputStream is = ((Resource) payload).getInputStream()) {
+                    StreamUtils.copy(is, stdout);
+                }
+            }
+
+            Object exit = response.getHeader(SshMessageHeaders.SSH_EXIT);
+            return exit != null ? Integer.parseInt(exit.toString()) : 0;
+        }
+
+        SshResponse sshResponse = (SshResponse) endpointConfiguration.getMessageConverter().convertOutbound(response, endpointConfiguration, null);
+        copyToStream(sshResponse.getStderr(), stderr);
+        copyToStream(sshResponse.getStdout(), stdout);
+        return sshResponse.getExit();
+    }
+
     @Override
     public void destroy() {
         log.warn("Destroy has been called");
@@ -29,23 +29,34 @@ import com.consol.citrus.ssh.model.SshResponse;
 import com.consol.citrus.util.FileUtils;
 import com.jcraft.jsch.*;
 import org.apache.sshd.client.keyverifier.KnownHostsServerKeyVerifier;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.util.*;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.*;
 
 /**
  * Ssh client connects to ssh server and sends commands to that server.
  *
+ * By default each command uses its own session. With session reuse enabled the client keeps one connected session per remote
+ * user and opens a new exec channel on that session for each command. Reused sessions get closed when the client is destroyed.
+ * Session threads are daemon threads so open sessions never block JVM exit.
+ *
  * @author Roland Huss, Christoph Deppisch
  * @since 1.4
  */
-public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer {
+public class SshClient extends AbstractEndpoint implements Producer, ReplyConsumer, DisposableBean {
 
     /** Store of reply messages */
     private CorrelationManager<Message> correlationManager;
 
-    // Session for the SSH communication
-    private Session session;
+    // Connected sessions for the SSH communication per remote user
+    private final Map<String, Session> sessions = new ConcurrentHashMap<>();
+
+    // Private key identity has been added to SSH implementation
+    private boolean identityAdded = false;
 
     // SSH implementation
     private JSch jsch = new JSch();
@@ -86,32 +97,43 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
 
         SshRequest request = (SshRequest) getEndpointConfiguration().getMessageConverter().convertOutbound(message, getEndpointConfiguration(), context);
 
-        if (getEndpointConfiguration().isStrictHostChecking()) {
-            setKnownHosts();
-        }
-
         String rUser = getRemoteUser(message);
-        connect(rUser);
+        Session session = connect(rUser);
         ChannelExec channelExec = null;
         ByteArrayOutputStream outStream = new ByteArrayOutputStream();
         ByteArrayOutputStream errStream = new ByteArrayOutputStream();
+        CountDownLatch channelClosed = new CountDownLatch(1);
         int rc;
         try {
-            channelExec = openChannelExec();
-            channelExec.setErrStream(errStream);
+            channelExec = openChannelExec(session, rUser);
+            channelExec.setErrStream(new FilterOutputStream(errStream) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    super.close();
+                    channelClosed.countDown();
+                }
+            });
             channelExec.setOutputStream(outStream);
             channelExec.setCommand(request.getCommand());
             doConnect(channelExec);
             if (request.getStdin() != null) {
                 sendStandardInput(channelExec, request.getStdin());
             }
-            waitCommandToFinish(channelExec);
+            waitCommandToFinish(channelExec, channelClosed);
             rc = channelExec.getExitStatus();
         } finally {
             if (channelExec != null && channelExec.isConnected()) {
                 channelExec.disconnect();
             }
-            disconnect();
+
+            if (!getEndpointConfiguration().isReuseSession()) {
+                disconnect(rUser);
+            }
         }
         SshResponse sshResp = new SshResponse(outStream.toString(),errStream.toString(),rc);
         Message response = getEndpointConfiguration().getMessageConverter().convertInbound(sshResp, getEndpointConfiguration(), context)
@@ -158,57 +180,119 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         return this;
     }
 
-    private void connect(String rUser) {
-        if (session == null || !session.isConnected()) {
-            try {
-                if (StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
-                    jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
-                }
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
-            } catch (IOException e) {
-                throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+    /**
+     * Gets connected session for remote user. When session reuse is enabled the session is kept open and shared by all
+     * commands of this remote user. Each command uses its own exec channel on that session.
+     * @param rUser
+     * @return
+     */
+    private Session connect(String rUser) {
+        Session session = sessions.get(rUser);
+        if (session != null && session.isConnected()) {
+            return session;
+        }
+
+        synchronized (sessions) {
+            session = sessions.get(rUser);
+            if (session == null || !session.isConnected()) {
+                session = createSession(rUser);
+                sessions.put(rUser, session);
             }
 
-            try {
-                session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
-                if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
-                    session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
-                    session.setPassword(getEndpointConfiguration().getPassword());
-                }
-                session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
-                session.connect();
-            } catch (JSchException e) {
-                throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
+            return session;
+        }
+    }
+
+    /**
+     * Creates and connects new session for remote user. Performs the key exchange and user authentication.
+     * @param rUser
+     * @return
+     */
+    private Session createSession(String rUser) {
+        if (getEndpointConfiguration().isStrictHostChecking()) {
+            setKnownHosts();
+        }
+
+        try {
+            if (!identityAdded && StringUtils.hasText(getEndpointConfiguration().getPrivateKeyPath())) {
+                jsch.addIdentity(getPrivateKeyPath(), getEndpointConfiguration().getPrivateKeyPassword());
+                identityAdded = true;
+            }
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot add private key " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        } catch (IOException e) {
+            throw new CitrusRuntimeException("Cannot open private key file " + getEndpointConfiguration().getPrivateKeyPath() + ": " + e,e);
+        }
+
+        try {
+            Session session = jsch.getSession(rUser, getEndpointConfiguration().getHost(), getEndpointConfiguration().getPort());
+            session.setDaemonThread(true);
+            if (StringUtils.hasText(getEndpointConfiguration().getPassword())) {
+                session.setUserInfo(new UserInfoWithPlainPassword(getEndpointConfiguration().getPassword()));
+                session.setPassword(getEndpointConfiguration().getPassword());
             }
+            session.setConfig(KnownHostsServerKeyVerifier.STRICT_CHECKING_OPTION, getEndpointConfiguration().isStrictHostChecking() ? "yes" : "no");
+            if (getEndpointConfiguration().getKeepAliveInterval() > 0) {
+                session.setServerAliveInterval(getEndpointConfiguration().getKeepAliveInterval());
+            }
+            session.connect();
+            return session;
+        } catch (JSchException e) {
+            throw new CitrusRuntimeException("Cannot connect via SSH: " + e,e);
         }
     }
 
-    private void disconnect() {
-        if (session.isConnected()) {
+    /**
+     * Disconnects session of given remote user.
+     * @param rUser
+     */
+    private void disconnect(String rUser) {
+        Session session = sessions.remove(rUser);
+        if (session != null && session.isConnected()) {
             session.disconnect();
         }
     }
 
-    private ChannelExec openChannelExec() throws CitrusRuntimeException {
+    /**
+     * Opens new exec channel on given session. Pooled sessions might have been closed by the server in the meantime so
+     * in case of errors the session is reconnected once.
+     * @param session
+     * @param rUser
+     * @return
+     */
+    private ChannelExec openChannelExec(Session session, String rUser) throws CitrusRuntimeException {
         ChannelExec channelExec;
         try {
             channelExec = (ChannelExec) session.openChannel("exec");
         } catch (JSchException e) {
-            throw new CitrusRuntimeException("Cannot open EXEC SSH channel: " + e,e);
+            if (!getEndpointConfiguration().isReuseSession()) {
+                throw new CitrusRuntimeException("Cannot open EXEC SSH channel: " + e,e);
+            }
+
+            disconnect(rUser);
+            try {
+                channelExec = (ChannelExec) connect(rUser).openChannel("exec");
+            } catch (JSchException retryError) {
+                throw new CitrusRuntimeException("Cannot open EXEC SSH channel: " + retryError, retryError);
+            }
         }
         return channelExec;
     }
 
-    private void waitCommandToFinish(ChannelExec pCh) {
-        final long until = System.currentTimeMillis() + getEndpointConfiguration().getCommandTimeout();
-
+    /**
+     * Waits for channel to be closed. Channel closes its error stream after the remote side has sent the exit status and
+     * closed the channel, so the given latch is released without polling.
+     * @param pCh
+     * @param channelClosed
+     */
+    private void waitCommandToFinish(ChannelExec pCh, CountDownLatch channelClosed) {
         try {
-            while (!pCh.isClosed() && System.currentTimeMillis() < until) {
-                Thread.sleep(250);
+            if (!pCh.isClosed()) {
+                channelClosed.await(getEndpointConfiguration().getCommandTimeout(), TimeUnit.MILLISECONDS);
             }
         } catch (InterruptedException e) {
-            throw new RuntimeException("Interrupted", e);
+            Thread.currentThread().interrupt();
+            throw new CitrusRuntimeException("Interrupted while waiting for command to finish", e);
         }
 
         if (!pCh.isClosed()) {
@@ -324,6 +408,13 @@ public class SshClient extends AbstractEndpoint implements Producer, ReplyConsum
         }
     }
 
+    @Override
+    public void destroy() {
+        synchronized (sessions) {
+            new ArrayList<>(sessions.keySet()).forEach(this::disconnect);
+        }
+    }
+
     /**
      * Gets the JSch implementation.
      * @return
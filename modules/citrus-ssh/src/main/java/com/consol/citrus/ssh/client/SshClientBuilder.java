@@ -134,6 +134,26 @@ public class SshClientBuilder extends AbstractEndpointBuilder<SshClient> {
         return this;
     }
 
+    /**
+     * Sets the reuseSession property.
+     * @param reuseSession
+     * @return
+     */
+    public SshClientBuilder reuseSession(boolean reuseSession) {
+        endpoint.getEndpointConfiguration().setReuseSession(reuseSession);
+        return this;
+    }
+
+    /**
+     * Sets the keepAliveInterval property.
+     * @param keepAliveInterval
+     * @return
+     */
+    public SshClientBuilder keepAliveInterval(int keepAliveInterval) {
+        endpoint.getEndpointConfiguration().setKeepAliveInterval(keepAliveInterval);
+        return this;
+    }
+
     /**
      * Sets the message converter.
      * @param messageConverter
@@ -57,6 +57,12 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
      /** Timeout how long to wait for a connection to connect */
     private int connectionTimeout = 1000 * 60 * 1; // 1 minute
 
+    /** Keep session open and reuse it for subsequent commands of the same user */
+    private boolean reuseSession = false;
+
+    /** Interval in milliseconds for sending keep alive messages on idle sessions, zero disables keep alive */
+    private int keepAliveInterval = 0;
+
     /** Reply message correlator */
     private MessageCorrelator correlator = new DefaultMessageCorrelator();
 
@@ -226,6 +232,38 @@ public class SshEndpointConfiguration extends AbstractPollableEndpointConfigurat
         this.connectionTimeout = connectionTimeout;
     }
 
+    /**
+     * Gets the reuse session flag.
+     * @return
+     */
+    public boolean isReuseSession() {
+        return reuseSession;
+    }
+
+    /**
+     * Sets the reuse session flag.
+     * @param reuseSession
+     */
+    public void setReuseSession(boolean reuseSession) {
+        this.reuseSession = reuseSession;
+    }
+
+    /**
+     * Gets the keep alive interval.
+     * @return
+     */
+    public int getKeepAliveInterval() {
+        return keepAliveInterval;
+    }
+
+    /**
+     * Sets the keep alive interval.
+     * @param keepAliveInterval
+     */
+    public void setKeepAliveInterval(int keepAliveInterval) {
+        this.keepAliveInterval = keepAliveInterval;
+    }
+
     /**
      * Gets the message correlator.
      * @return
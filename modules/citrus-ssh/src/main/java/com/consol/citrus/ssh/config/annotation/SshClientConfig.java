@@ -89,6 +89,18 @@ public @interface SshClientConfig {
      */
     int connectionTimeout() default 1000 * 60 * 1;
 
+    /**
+     * ReuseSession.
+     * @return
+     */
+    boolean reuseSession() default false;
+
+    /**
+     * KeepAliveInterval.
+     * @return
+     */
+    int keepAliveInterval() default 0;
+
     /**
      * Message converter.
      * @return
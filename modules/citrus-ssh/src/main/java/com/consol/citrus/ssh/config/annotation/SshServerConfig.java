@@ -65,6 +65,24 @@ public @interface SshServerConfig {
      */
     String allowedKeyPath() default "";
 
+    /**
+     * CommandPoolSize.
+     * @return
+     */
+    int commandPoolSize() default 0;
+
+    /**
+     * CommandQueueCapacity.
+     * @return
+     */
+    int commandQueueCapacity() default 100;
+
+    /**
+     * Streaming.
+     * @return
+     */
+    boolean streaming() default false;
+
     /**
      * Message converter.
      * @return
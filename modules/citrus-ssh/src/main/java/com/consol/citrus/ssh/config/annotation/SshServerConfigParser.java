@@ -65,6 +65,10 @@ public class SshServerConfigParser extends AbstractAnnotationConfigParser<SshSer
             builder.allowedKeyPath(annotation.allowedKeyPath());
         }
 
+        builder.commandPoolSize(annotation.commandPoolSize());
+        builder.commandQueueCapacity(annotation.commandQueueCapacity());
+        builder.streaming(annotation.streaming());
+
         if (StringUtils.hasText(annotation.messageConverter())) {
             builder.messageConverter(getReferenceResolver().resolve(annotation.messageConverter(), SshMessageConverter.class));
         }
@@ -39,6 +39,9 @@ public class SshServerParser extends AbstractServerParser {
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("user"), "user");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("password"), "password");
         BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("allowed-key-path"), "allowedKeyPath");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("command-pool-size"), "commandPoolSize");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("command-queue-capacity"), "commandQueueCapacity");
+        BeanDefinitionParserUtils.setPropertyValue(builder, element.getAttribute("streaming"), "streaming");
 
         BeanDefinitionParserUtils.setPropertyReference(builder, element.getAttribute("message-converter"), "messageConverter");
     }
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.consol.citrus.ssh.message;
+
+import com.consol.citrus.message.MessageHeaders;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public final class SshMessageHeaders {
+
+    /**
+     * Prevent instantiation.
+     */
+    private SshMessageHeaders() {
+    }
+
+    /** Special header prefix for ssh transport headers */
+    public static final String SSH_PREFIX = MessageHeaders.PREFIX + "ssh_";
+
+    /** Command headers */
+    public static final String SSH_COMMAND = SSH_PREFIX + "command";
+
+    /** Reply headers */
+    public static final String SSH_EXIT = SSH_PREFIX + "exit";
+
+}
@@ -16,30 +16,16 @@
 
 package com.consol.citrus.ssh.model;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import com.consol.citrus.xml.PooledJaxb2Marshaller;
 import org.springframework.core.io.ClassPathResource;
-import org.springframework.oxm.jaxb.Jaxb2Marshaller;
 
 /**
  * @author Christoph Deppisch
  * @since 2.1
  */
-public class SshMarshaller extends Jaxb2Marshaller {
-
-    /** Logger */
-    private static Logger log = LoggerFactory.getLogger(SshMarshaller.class);
+public class SshMarshaller extends PooledJaxb2Marshaller {
 
     public SshMarshaller() {
-        setClassesToBeBound(SshRequest.class,
-                SshResponse.class);
-
-        setSchema(new ClassPathResource("com/consol/citrus/schema/citrus-ssh-message.xsd"));
-
-        try {
-            afterPropertiesSet();
-        } catch (Exception e) {
-            log.warn("Failed to setup mail message marshaller", e);
-        }
+        super(new ClassPathResource("com/consol/citrus/schema/citrus-ssh-message.xsd"), SshRequest.class, SshResponse.class);
     }
 }
@@ -39,6 +39,8 @@ import org.springframework.util.StringUtils;
 import java.io.IOException;
 import java.nio.file.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * SSH Server implemented with Apache SSHD (http://mina.apache.org/sshd/).
@@ -62,6 +64,12 @@ import java.util.*;
  *   <stderr>warning: no tty</stderr>
  * </ssh-response>
  *
+ * In streaming mode the incoming message payload is the standard input stream and the command is set as message header.
+ * Reply payloads of type input stream, byte array or resource are written to standard output as is.
+ *
+ * By default each command is executed in its own thread. Setting a positive command pool size opts in to a bounded worker
+ * pool instead, commands exceeding the pool queue capacity are then rejected.
+ *
  * @author Roland Huss
  * @since 04.09.12
  */
@@ -90,6 +98,18 @@ public class SshServer extends AbstractServer {
     /** Ssh message converter **/
     private SshMessageConverter messageConverter = new SshMessageConverter();
 
+    /** Maximum number of commands executed in parallel, zero or less starts a new thread for each command **/
+    private int commandPoolSize = 0;
+
+    /** Maximum number of commands waiting for execution when command pool is enabled **/
+    private int commandQueueCapacity = 100;
+
+    /** Pass standard input and output as streams to and from the endpoint adapter **/
+    private boolean streaming = false;
+
+    /** Executor running commands **/
+    private ThreadPoolExecutor commandExecutor;
+
     /** SSH server used **/
     private org.apache.sshd.server.SshServer sshd;
 
@@ -168,9 +188,19 @@ public class SshServer extends AbstractServer {
             throw new CitrusRuntimeException("Neither 'password' nor 'allowed-key-path' is set. Please provide at least one");
         }
 
+        if (commandPoolSize > 0) {
+            AtomicInteger threadCount = new AtomicInteger();
+            commandExecutor = new ThreadPoolExecutor(commandPoolSize, commandPoolSize, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(commandQueueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "CitrusSshCommand-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            commandExecutor.allowCoreThreadTimeOut(true);
+        }
+
         // Setup endpoint adapter
         ScpCommandFactory commandFactory = new ScpCommandFactory.Builder()
-                .withDelegate(command -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration))
+                .withDelegate(command -> new SshCommand(command, getEndpointAdapter(), endpointConfiguration, commandExecutor, streaming))
                 .build();
 
         commandFactory.addEventListener(getScpTransferEventListener());
@@ -212,6 +242,11 @@ public class SshServer extends AbstractServer {
             sshd.stop();
         } catch (IOException e) {
             throw new CitrusRuntimeException("Failed to stop SSH server - " + e.getMessage(), e);
+        } finally {
+            if (commandExecutor != null) {
+                commandExecutor.shutdown();
+                commandExecutor = null;
+            }
         }
     }
 
@@ -321,6 +356,54 @@ public class SshServer extends AbstractServer {
         this.userHomePath = userHomePath;
     }
 
+    /**
+     * Gets the commandPoolSize.
+     * @return
+     */
+    public int getCommandPoolSize() {
+        return commandPoolSize;
+    }
+
+    /**
+     * Sets the commandPoolSize.
+     * @param commandPoolSize
+     */
+    public void setCommandPoolSize(int commandPoolSize) {
+        this.commandPoolSize = commandPoolSize;
+    }
+
+    /**
+     * Gets the commandQueueCapacity.
+     * @return
+     */
+    public int getCommandQueueCapacity() {
+        return commandQueueCapacity;
+    }
+
+    /**
+     * Sets the commandQueueCapacity.
+     * @param commandQueueCapacity
+     */
+    public void setCommandQueueCapacity(int commandQueueCapacity) {
+        this.commandQueueCapacity = commandQueueCapacity;
+    }
+
+    /**
+     * Gets the streaming.
+     * @return
+     */
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    /**
+     * Sets the streaming.
+     * @param streaming
+     */
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
     /**
      * Gets the message converter.
      * @return
@@ -84,6 +84,36 @@ public class SshServerBuilder extends AbstractEndpointBuilder<SshServer> {
         return this;
     }
 
+    /**
+     * Sets the commandPoolSize property.
+     * @param commandPoolSize
+     * @return
+     */
+    public SshServerBuilder commandPoolSize(int commandPoolSize) {
+        endpoint.setCommandPoolSize(commandPoolSize);
+        return this;
+    }
+
+    /**
+     * Sets the commandQueueCapacity property.
+     * @param commandQueueCapacity
+     * @return
+     */
+    public SshServerBuilder commandQueueCapacity(int commandQueueCapacity) {
+        endpoint.setCommandQueueCapacity(commandQueueCapacity);
+        return this;
+    }
+
+    /**
+     * Sets the streaming property.
+     * @param streaming
+     * @return
+     */
+    public SshServerBuilder streaming(boolean streaming) {
+        endpoint.setStreaming(streaming);
+        return this;
+    }
+
     /**
      * Sets the allowedKeyPath property.
      * @param allowedKeyPath
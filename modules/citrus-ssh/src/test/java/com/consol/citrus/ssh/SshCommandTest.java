@@ -20,11 +20,13 @@ import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.message.DefaultMessage;
 import com.consol.citrus.message.Message;
 import com.consol.citrus.ssh.client.SshEndpointConfiguration;
+import com.consol.citrus.ssh.message.SshMessageHeaders;
 import com.consol.citrus.ssh.model.*;
 import org.apache.sshd.server.Environment;
 import org.apache.sshd.server.ExitCallback;
 import org.mockito.ArgumentMatcher;
 import org.mockito.Mockito;
+import org.springframework.util.FileCopyUtils;
 import org.springframework.xml.transform.StringResult;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -32,9 +34,11 @@ import org.testng.annotations.Test;
 import java.io.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.*;
 
 import static org.mockito.Mockito.*;
 import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
 
 /**
  * @author Roland Huss
@@ -105,6 +109,82 @@ public class SshCommandTest {
         cmd.run();
     }
     
+    @Test
+    public void startWithExecutor() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), executor, false);
+            cmd.setErrorStream(stderr);
+            cmd.setOutputStream(stdout);
+            cmd.setExitCallback(exitCallback);
+
+            Environment env = Mockito.mock(Environment.class);
+            when(env.getEnv()).thenReturn(new HashMap<>());
+            when(adapter.handleMessage(any(Message.class))).thenReturn(new DefaultMessage(new SshResponse("output", null, 0)));
+            cmd.setInputStream(new ByteArrayInputStream("input".getBytes()));
+            cmd.start(env);
+
+            verify(exitCallback, timeout(5000L)).onExit(0);
+            assertEquals(stdout.toString(), "output");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expectedExceptions = IOException.class, expectedExceptionsMessageRegExp = ".*too many pending commands")
+    public void startRejected() throws IOException {
+        Executor executor = command -> {
+            throw new RejectedExecutionException();
+        };
+
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), executor, false);
+        Environment env = Mockito.mock(Environment.class);
+        when(env.getEnv()).thenReturn(new HashMap<>());
+        cmd.start(env);
+    }
+
+    @Test
+    public void streaming() throws IOException {
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), null, true);
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+
+        InputStream input = new ByteArrayInputStream("Hello world".getBytes());
+        cmd.setInputStream(input);
+
+        when(adapter.handleMessage(any(Message.class))).thenAnswer(invocation -> {
+            Message request = invocation.getArgument(0);
+            assertEquals(request.getHeader(SshMessageHeaders.SSH_COMMAND), COMMAND);
+            assertTrue(request.getPayload() instanceof InputStream);
+            return new DefaultMessage(new ByteArrayInputStream(FileCopyUtils.copyToByteArray((InputStream) request.getPayload())))
+                    .setHeader(SshMessageHeaders.SSH_EXIT, 3);
+        });
+
+        cmd.run();
+
+        assertEquals(stdout.toString(), "Hello world");
+        assertEquals(stderr.size(), 0);
+        verify(exitCallback).onExit(3);
+    }
+
+    @Test
+    public void streamingWithSshResponse() throws IOException {
+        cmd = new SshCommand(COMMAND, adapter, new SshEndpointConfiguration(), null, true);
+        cmd.setErrorStream(stderr);
+        cmd.setOutputStream(stdout);
+        cmd.setExitCallback(exitCallback);
+        cmd.setInputStream(new ByteArrayInputStream("Hello world".getBytes()));
+
+        when(adapter.handleMessage(any(Message.class))).thenReturn(new DefaultMessage(new SshResponse("output", "error", 12)));
+
+        cmd.run();
+
+        assertEquals(stdout.toString(), "output");
+        assertEquals(stderr.toString(), "error");
+        verify(exitCallback).onExit(12);
+    }
+
     /**
      * Prepare actions.
      * @param pInput
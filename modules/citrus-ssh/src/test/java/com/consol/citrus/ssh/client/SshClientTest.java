@@ -157,6 +157,56 @@ public class SshClientTest extends AbstractTestNGUnitTest {
         standardChannelPrepAndSend();
     }
 
+    @Test
+    public void reuseSession() throws JSchException, IOException {
+        client.getEndpointConfiguration().setReuseSession(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(1)).getSession("roland","planck",1968);
+        verify(session).setDaemonThread(true);
+        verify(session, times(1)).connect();
+        verify(session, times(2)).openChannel("exec");
+        verify(session, never()).disconnect();
+
+        client.destroy();
+        verify(session).disconnect();
+    }
+
+    @Test
+    public void noSessionReuse() throws JSchException, IOException {
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenReturn(channel);
+
+        send();
+        send();
+
+        verify(jsch, times(2)).getSession("roland","planck",1968);
+        verify(session, times(2)).setDaemonThread(true);
+        verify(session, times(2)).disconnect();
+    }
+
+    @Test
+    public void reconnectClosedSession() throws JSchException, IOException {
+        client.getEndpointConfiguration().setReuseSession(true);
+        strictHostChecking(false, null);
+        prepareChannel(COMMAND, 0);
+        when(session.isConnected()).thenReturn(true);
+        when(session.openChannel("exec")).thenThrow(new JSchException("session is down")).thenReturn(channel);
+
+        send();
+
+        verify(jsch, times(2)).getSession("roland","planck",1968);
+        verify(session, times(2)).connect();
+    }
+
     private void send() {
         client.send(createMessage(COMMAND, STDIN), context);
     }
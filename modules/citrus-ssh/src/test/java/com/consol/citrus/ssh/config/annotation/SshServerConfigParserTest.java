@@ -48,6 +48,9 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
     @SshServerConfig(autoStart= false,
             port=10022,
             allowedKeyPath="classpath:com/consol/citrus/ssh/citrus_pub.pem",
+            commandPoolSize=20,
+            commandQueueCapacity=50,
+            streaming=true,
             hostKeyPath="classpath:com/consol/citrus/ssh/citrus.pem",
             userHomePath="/home/user",
             user="foo",
@@ -94,6 +97,9 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshServer1.getPort(), 22);
         Assert.assertFalse(sshServer1.isAutoStart());
         Assert.assertNull(sshServer1.getAllowedKeyPath());
+        Assert.assertEquals(sshServer1.getCommandPoolSize(), 0);
+        Assert.assertEquals(sshServer1.getCommandQueueCapacity(), 100);
+        Assert.assertFalse(sshServer1.isStreaming());
         Assert.assertNull(sshServer1.getHostKeyPath());
         Assert.assertNull(sshServer1.getUserHomePath());
         Assert.assertNull(sshServer1.getUser());
@@ -107,6 +113,9 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshServer2.getPort(), 10022);
         Assert.assertFalse(sshServer2.isAutoStart());
         Assert.assertEquals(sshServer2.getAllowedKeyPath(), "classpath:com/consol/citrus/ssh/citrus_pub.pem");
+        Assert.assertEquals(sshServer2.getCommandPoolSize(), 20);
+        Assert.assertEquals(sshServer2.getCommandQueueCapacity(), 50);
+        Assert.assertTrue(sshServer2.isStreaming());
         Assert.assertEquals(sshServer2.getHostKeyPath(), "classpath:com/consol/citrus/ssh/citrus.pem");
         Assert.assertEquals(sshServer2.getUserHomePath(), "/home/user");
         Assert.assertEquals(sshServer2.getUser(), "foo");
@@ -120,6 +129,9 @@ public class SshServerConfigParserTest extends AbstractTestNGUnitTest {
         Assert.assertEquals(sshServer3.getPort(), 22);
         Assert.assertFalse(sshServer3.isAutoStart());
         Assert.assertNull(sshServer3.getAllowedKeyPath());
+        Assert.assertEquals(sshServer3.getCommandPoolSize(), 0);
+        Assert.assertEquals(sshServer3.getCommandQueueCapacity(), 100);
+        Assert.assertFalse(sshServer3.isStreaming());
         Assert.assertNull(sshServer3.getHostKeyPath());
         Assert.assertNull(sshServer3.getUser());
         Assert.assertNull(sshServer3.getPassword());
@@ -41,6 +41,9 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPort(), 22);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertNull(server.getAllowedKeyPath());
+        Assert.assertEquals(server.getCommandPoolSize(), 0);
+        Assert.assertEquals(server.getCommandQueueCapacity(), 100);
+        Assert.assertFalse(server.isStreaming());
         Assert.assertNull(server.getHostKeyPath());
         Assert.assertNull(server.getUserHomePath());
         Assert.assertNull(server.getUser());
@@ -55,6 +58,9 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPort(), 10022);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertEquals(server.getAllowedKeyPath(), "classpath:com/consol/citrus/ssh/citrus_pub.pem");
+        Assert.assertEquals(server.getCommandPoolSize(), 20);
+        Assert.assertEquals(server.getCommandQueueCapacity(), 50);
+        Assert.assertTrue(server.isStreaming());
         Assert.assertEquals(server.getHostKeyPath(), "classpath:com/consol/citrus/ssh/citrus.pem");
         Assert.assertEquals(server.getUserHomePath(), "/home/user");
         Assert.assertEquals(server.getUser(), "foo");
@@ -69,6 +75,9 @@ public class SshServerParserTest extends AbstractBeanDefinitionParserTest {
         Assert.assertEquals(server.getPort(), 22);
         Assert.assertFalse(server.isAutoStart());
         Assert.assertNull(server.getAllowedKeyPath());
+        Assert.assertEquals(server.getCommandPoolSize(), 10);
+        Assert.assertEquals(server.getCommandQueueCapacity(), 100);
+        Assert.assertFalse(server.isStreaming());
         Assert.assertNull(server.getHostKeyPath());
         Assert.assertNull(server.getUser());
         Assert.assertNull(server.getPassword());
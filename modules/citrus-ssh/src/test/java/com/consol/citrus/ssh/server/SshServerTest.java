@@ -16,20 +16,31 @@
 
 package com.consol.citrus.ssh.server;
 
+import com.consol.citrus.endpoint.EndpointAdapter;
 import com.consol.citrus.exceptions.CitrusRuntimeException;
+import com.consol.citrus.message.DefaultMessage;
+import com.consol.citrus.message.Message;
 import com.consol.citrus.ssh.SshCommand;
+import com.consol.citrus.ssh.model.SshResponse;
 import org.apache.sshd.common.keyprovider.FileKeyPairProvider;
 import org.apache.sshd.common.keyprovider.KeyPairProvider;
+import org.apache.sshd.server.Environment;
+import org.apache.sshd.server.ExitCallback;
 import org.apache.sshd.server.command.Command;
 import org.apache.sshd.server.command.CommandFactory;
+import org.mockito.Mockito;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
-import java.io.IOException;
+import java.io.*;
 import java.net.*;
 import java.security.KeyPair;
+import java.util.HashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
+import static org.mockito.Mockito.*;
 import static org.testng.Assert.*;
 
 /**
@@ -127,6 +138,60 @@ public class SshServerTest {
         }
     }
 
+    @Test
+    public void threadPerCommandByDefault() {
+        prepareServer(true);
+        server.start();
+        try {
+            assertEquals(server.getCommandPoolSize(), 0);
+            assertNull(ReflectionTestUtils.getField(server, "commandExecutor"));
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void commandPoolSaturation() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        EndpointAdapter endpointAdapter = Mockito.mock(EndpointAdapter.class);
+        when(endpointAdapter.handleMessage(any(Message.class))).thenAnswer(invocation -> {
+            running.countDown();
+            release.await(5000L, TimeUnit.MILLISECONDS);
+            return new DefaultMessage(new SshResponse("output", null, 0));
+        });
+
+        prepareServer(true);
+        server.setEndpointAdapter(endpointAdapter);
+        server.setCommandPoolSize(1);
+        server.setCommandQueueCapacity(1);
+        server.start();
+        try {
+            org.apache.sshd.server.SshServer sshd = (org.apache.sshd.server.SshServer) ReflectionTestUtils.getField(server, "sshd");
+            ExitCallback runningCallback = Mockito.mock(ExitCallback.class);
+            ExitCallback queuedCallback = Mockito.mock(ExitCallback.class);
+
+            startCommand(sshd.getCommandFactory().createCommand("shutdown now"), runningCallback);
+            assertTrue(running.await(5000L, TimeUnit.MILLISECONDS));
+            startCommand(sshd.getCommandFactory().createCommand("shutdown now"), queuedCallback);
+
+            try {
+                startCommand(sshd.getCommandFactory().createCommand("shutdown now"), Mockito.mock(ExitCallback.class));
+                fail("Missing exception due to saturated command pool");
+            } catch (IOException e) {
+                assertTrue(e.getMessage().endsWith("too many pending commands"));
+            }
+
+            release.countDown();
+            verify(runningCallback, timeout(5000L)).onExit(0);
+            verify(queuedCallback, timeout(5000L)).onExit(0);
+        } finally {
+            release.countDown();
+            server.stop();
+        }
+    }
+
     @Test(expectedExceptions = CitrusRuntimeException.class,expectedExceptionsMessageRegExp = ".*Address already in use.*")
     public void doubleStart() throws IOException {
         prepareServer(true);
@@ -139,6 +204,20 @@ public class SshServerTest {
         }
     }
 
+    /**
+     * Starts command with input and output streams.
+     */
+    private void startCommand(Command command, ExitCallback exitCallback) throws IOException {
+        command.setInputStream(new ByteArrayInputStream("input".getBytes()));
+        command.setOutputStream(new ByteArrayOutputStream());
+        command.setErrorStream(new ByteArrayOutputStream());
+        command.setExitCallback(exitCallback);
+
+        Environment env = Mockito.mock(Environment.class);
+        when(env.getEnv()).thenReturn(new HashMap<>());
+        command.start(env);
+    }
+
     /**
      * Prepare server instance.
      */
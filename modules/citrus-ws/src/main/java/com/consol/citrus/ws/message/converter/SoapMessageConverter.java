@@ -22,6 +22,7 @@ import com.consol.citrus.exceptions.CitrusRuntimeException;
 import com.consol.citrus.message.*;
 import com.consol.citrus.ws.client.WebServiceEndpointConfiguration;
 import com.consol.citrus.ws.message.*;
+import com.consol.citrus.xml.TransformerPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.StringUtils;
@@ -69,6 +70,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
     /** Default payload source encoding */
     private String charset = Citrus.CITRUS_FILE_ENCODING;
+
+    /** Shared identity transformers used for payload and header conversion */
+    private TransformerPool transformerPool = new TransformerPool();
     
     @Override
     public WebServiceMessage convertOutbound(Message internalMessage, WebServiceEndpointConfiguration endpointConfiguration, TestContext context) {
@@ -89,11 +93,8 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
         }
 
         // Copy payload into soap-body:
-        TransformerFactory transformerFactory = TransformerFactory.newInstance();
-
         try {
-            Transformer transformer = transformerFactory.newTransformer();
-            transformer.transform(new StringSource(soapMessage.getPayload(String.class)), soapRequest.getSoapBody().getPayloadResult());
+            transformerPool.transform(new StringSource(soapMessage.getPayload(String.class)), soapRequest.getSoapBody().getPayloadResult());
         } catch (TransformerException e) {
             throw new CitrusRuntimeException("Failed to write SOAP body payload", e);
         }
@@ -125,10 +126,9 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
         for (String headerData : soapMessage.getHeaderData()) {
             try {
-                Transformer transformer = transformerFactory.newTransformer();
-                transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
-                transformer.transform(new StringSource(headerData),
-                        soapRequest.getSoapHeader().getResult());
+                transformerPool.transform(new StringSource(headerData),
+                        soapRequest.getSoapHeader().getResult(),
+                        Collections.singletonMap(OutputKeys.OMIT_XML_DECLARATION, "yes"));
             } catch (TransformerException e) {
                 throw new CitrusRuntimeException("Failed to write SOAP header content", e);
             }
@@ -169,10 +169,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
                 payload = bos.toString(charset);
             } else if (webServiceMessage.getPayloadSource() != null) {
                 StringResult payloadResult = new StringResult();
-
-                TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                Transformer transformer = transformerFactory.newTransformer();
-                transformer.transform(webServiceMessage.getPayloadSource(), payloadResult);
+                transformerPool.transform(webServiceMessage.getPayloadSource(), payloadResult);
 
                 payload = payloadResult.toString();
             }
@@ -310,9 +307,7 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
 
                 if (soapHeader.getSource() != null) {
                     StringResult headerData = new StringResult();
-                    TransformerFactory transformerFactory = TransformerFactory.newInstance();
-                    Transformer transformer = transformerFactory.newTransformer();
-                    transformer.transform(soapHeader.getSource(), headerData);
+                    transformerPool.transform(soapHeader.getSource(), headerData);
 
                     message.addHeaderData(headerData.toString());
                 }
@@ -459,4 +454,22 @@ public class SoapMessageConverter implements WebServiceMessageConverter {
     public void setCharset(String charset) {
         this.charset = charset;
     }
+
+    /**
+     * Gets the transformerPool.
+     *
+     * @return
+     */
+    public TransformerPool getTransformerPool() {
+        return transformerPool;
+    }
+
+    /**
+     * Sets the transformerPool.
+     *
+     * @param transformerPool
+     */
+    public void setTransformerPool(TransformerPool transformerPool) {
+        this.transformerPool = transformerPool;
+    }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.mvn.plugin;
+
+import com.consol.citrus.main.scan.TestIndex;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.*;
+
+import java.io.File;
+import java.net.*;
+import java.util.*;
+
+/**
+ * Generates test index for compiled test classes. Index is written to the test output directory and gets packaged with
+ * the test jar. Citrus test engines use the index to find tests instead of scanning the classpath or the test jar on startup.
+ *
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+@Mojo(name = "generate-test-index", defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES, requiresDependencyResolution = ResolutionScope.TEST)
+public class GenerateTestIndexMojo extends AbstractCitrusMojo {
+
+    @Parameter(property = "citrus.skip.generate.test.index", defaultValue = "false")
+    protected boolean skipGenerateTestIndex;
+
+    /**
+     * Directory holding compiled test classes. Test index is written to this directory, too.
+     */
+    @Parameter(property = "citrus.test.output.directory", defaultValue = "${project.build.testOutputDirectory}")
+    private File testOutputDirectory;
+
+    /**
+     * Test classpath used to read metadata of test super classes.
+     */
+    @Parameter(defaultValue = "${project.testClasspathElements}", readonly = true)
+    private List<String> testClasspathElements = new ArrayList<>();
+
+    /**
+     * Test annotation types to index (default: TestNG and JUnit4 test annotations).
+     */
+    @Parameter(property = "citrus.test.index.annotations")
+    private List<String> annotationTypes = new ArrayList<>(Arrays.asList("org.testng.annotations.Test", "org.junit.Test"));
+
+    @Override
+    public void doExecute() throws MojoExecutionException {
+        if (skipGenerateTestIndex) {
+            return;
+        }
+
+        if (testOutputDirectory == null || !testOutputDirectory.isDirectory()) {
+            getLog().info("Skip test index generation as test output directory is not available: " + testOutputDirectory);
+            return;
+        }
+
+        List<URL> classpath = new ArrayList<>();
+        try {
+            classpath.add(testOutputDirectory.toURI().toURL());
+            for (String element : testClasspathElements) {
+                classpath.add(new File(element).toURI().toURL());
+            }
+        } catch (MalformedURLException e) {
+            throw new MojoExecutionException("Failed to resolve test classpath", e);
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(classpath.toArray(new URL[classpath.size()]), null)) {
+            TestIndex index = TestIndex.create(testOutputDirectory, classLoader, annotationTypes.toArray(new String[annotationTypes.size()]));
+            index.store(new File(testOutputDirectory, TestIndex.INDEX_LOCATION));
+
+            getLog().info(String.format("Successfully created test index with %s test classes: outputFile='%s'",
+                    index.getTestClasses().size(), new File(testOutputDirectory, TestIndex.INDEX_LOCATION)));
+        } catch (Exception e) {
+            throw new MojoExecutionException("Failed to generate test index", e);
+        }
+    }
+
+    /**
+     * Sets the testOutputDirectory.
+     *
+     * @param testOutputDirectory
+     */
+    public void setTestOutputDirectory(File testOutputDirectory) {
+        this.testOutputDirectory = testOutputDirectory;
+    }
+
+    /**
+     * Gets the testOutputDirectory.
+     *
+     * @return
+     */
+    public File getTestOutputDirectory() {
+        return testOutputDirectory;
+    }
+
+    /**
+     * Sets the testClasspathElements.
+     *
+     * @param testClasspathElements
+     */
+    public void setTestClasspathElements(List<String> testClasspathElements) {
+        this.testClasspathElements = testClasspathElements;
+    }
+
+    /**
+     * Sets the annotationTypes.
+     *
+     * @param annotationTypes
+     */
+    public void setAnnotationTypes(List<String> annotationTypes) {
+        this.annotationTypes = annotationTypes;
+    }
+
+    /**
+     * Gets the annotationTypes.
+     *
+     * @return
+     */
+    public List<String> getAnnotationTypes() {
+        return annotationTypes;
+    }
+}
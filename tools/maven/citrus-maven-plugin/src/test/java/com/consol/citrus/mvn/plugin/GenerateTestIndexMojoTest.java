@@ -0,0 +1,69 @@
+/*
+ * Copyright 2006-2018 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.consol.citrus.mvn.plugin;
+
+import com.consol.citrus.main.scan.TestIndex;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.util.FileCopyUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.util.Collections;
+
+/**
+ * @author Christoph Deppisch
+ * @since 2.8
+ */
+public class GenerateTestIndexMojoTest {
+
+    @Test
+    public void testGenerateTestIndex() throws Exception {
+        File testOutputDirectory = Files.createTempDirectory("citrus-test-classes").toFile();
+        testOutputDirectory.deleteOnExit();
+
+        String classFile = GenerateDocsMojoTest.class.getName().replace('.', '/') + ".class";
+        File target = new File(testOutputDirectory, classFile);
+        Assert.assertTrue(target.getParentFile().mkdirs());
+        FileCopyUtils.copy(new ClassPathResource(classFile).getInputStream(), new FileOutputStream(target));
+
+        GenerateTestIndexMojo mojo = new GenerateTestIndexMojo();
+        mojo.setTestOutputDirectory(testOutputDirectory);
+        mojo.setTestClasspathElements(Collections.singletonList(new File(Test.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath()));
+        mojo.execute();
+
+        TestIndex index = new TestIndex();
+        try (InputStream inputStream = new FileInputStream(new File(testOutputDirectory, TestIndex.INDEX_LOCATION))) {
+            index.read(inputStream);
+        }
+
+        Assert.assertEquals(index.getTestClasses("org.testng.annotations.Test"), Collections.singleton(GenerateDocsMojoTest.class.getName()));
+        Assert.assertTrue(index.isIndexed("org.junit.Test"));
+        Assert.assertTrue(index.getTestClasses("org.junit.Test").isEmpty());
+    }
+
+    @Test
+    public void testMissingTestOutputDirectory() throws Exception {
+        GenerateTestIndexMojo mojo = new GenerateTestIndexMojo();
+        mojo.setTestOutputDirectory(new File("target/unknown-test-classes"));
+        mojo.execute();
+
+        Assert.assertFalse(new File("target/unknown-test-classes").exists());
+    }
+}